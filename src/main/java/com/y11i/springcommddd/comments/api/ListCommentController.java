@@ -1,11 +1,14 @@
 package com.y11i.springcommddd.comments.api;
 
+import com.y11i.springcommddd.comments.application.port.in.GetCommentTreeUseCase;
 import com.y11i.springcommddd.comments.application.port.in.ListCommentUseCase;
 import com.y11i.springcommddd.comments.domain.CommentId;
 import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+import com.y11i.springcommddd.comments.dto.response.CommentTreeResponseDTO;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,7 @@ import static com.y11i.springcommddd.posts.api.support.CurrentMemberResolver.res
 @RequestMapping("/api/posts")
 public class ListCommentController {
     private final ListCommentUseCase listCommentUseCase;
+    private final GetCommentTreeUseCase getCommentTreeUseCase;
 
     /**
      * 댓글 목록 조회 (루트 + 대댓글 공통).
@@ -28,7 +32,8 @@ public class ListCommentController {
      * <p>
      * - GET /api/posts/{postId}/comments<br>
      * - parentId 파라미터가 없으면 루트 댓글 목록<br>
-     * - parentId 파라미터가 있으면 해당 댓글의 대댓글 목록
+     * - parentId 파라미터가 있으면 해당 댓글의 대댓글 목록<br>
+     * - sort: new(기본) | old | top | best | controversial
      * </p>
      *
      * 예)
@@ -74,4 +79,96 @@ public class ListCommentController {
 
         return listCommentUseCase.listComment(query);
     }
+
+    /**
+     * 댓글 목록을 커서(키셋) 방식으로 조회한다. (루트 + 대댓글 공통)
+     * <p>
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 {@code nextCursor}를 그대로 전달한다.
+     * 큰 스레드의 깊은 페이지에서도 OFFSET/COUNT 없이 일정한 비용으로 조회된다.
+     * <p>
+     * 예:
+     * GET /api/posts/{postId}/comments/scroll?sort=best&size=20
+     * GET /api/posts/{postId}/comments/scroll?parentId={commentId}&sort=new&size=20&cursor=djF8bmV3fDB8...
+     *
+     * @param sort   정렬 기준 (new | old | top | best | controversial – 미지정/기타 값은 new)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     */
+    @GetMapping(path = "/{postId}/comments/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<CommentSummaryDTO> scrollComments(
+            @PathVariable("postId") String postId,
+            @RequestParam(value = "parentId", required = false) String parentIdRaw,
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var parentId = (parentIdRaw != null && !parentIdRaw.isBlank())
+                ? CommentId.objectify(parentIdRaw)
+                : null;
+
+        var query = new ListCommentUseCase.ScrollQuery(
+                PostId.objectify(postId),
+                parentId,
+                viewerId,
+                sort,
+                cursor,
+                size
+        );
+
+        return listCommentUseCase.scrollComments(query);
+    }
+
+    /**
+     * 댓글 트리 조회.
+     *
+     * <p>
+     * - GET /api/posts/{postId}/comments/tree<br>
+     * - rootId 파라미터가 없으면 게시글 전체 댓글 트리, 있으면 해당 댓글의 하위 트리<br>
+     * - depth: 기준으로부터 내려갈 깊이, children: 댓글당 최대 자식 수, limit: 최대 댓글 수
+     * </p>
+     *
+     * 예)
+     * <ul>
+     *   <li>전체 트리: GET /api/posts/{postId}/comments/tree?depth=5&children=20</li>
+     *   <li>하위 트리: GET /api/posts/{postId}/comments/tree?rootId={commentId}&depth=3</li>
+     * </ul>
+     */
+    @GetMapping(path = "/{postId}/comments/tree", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public CommentTreeResponseDTO getCommentTree(
+            @PathVariable("postId") String postId,
+            @RequestParam(value = "rootId", required = false) String rootIdRaw,
+            @RequestParam(name = "depth", defaultValue = "10") int depth,
+            @RequestParam(name = "children", defaultValue = "50") int children,
+            @RequestParam(name = "limit", defaultValue = "500") int limit
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var rootId = (rootIdRaw != null && !rootIdRaw.isBlank())
+                ? CommentId.objectify(rootIdRaw)
+                : null;
+
+        var query = new GetCommentTreeUseCase.Query(
+                PostId.objectify(postId),
+                rootId,
+                viewerId,
+                depth,
+                children,
+                limit
+        );
+
+        log.debug("Loading comment tree for post={}, rootId={}, viewer={}, depth={}, children={}, limit={}",
+                postId,
+                rootIdRaw,
+                viewerId != null ? viewerId.stringify() : "ANONYMOUS",
+                depth,
+                children,
+                limit
+        );
+
+        return getCommentTreeUseCase.getTree(query);
+    }
 }
@@ -0,0 +1,25 @@
+package com.y11i.springcommddd.comments.application.port.in;
+
+/**
+ * 보존 기간이 지난 삭제 댓글을 정리하는 유스케이스.
+ *
+ * <p>
+ * 본문을 비우고, 자식이 없는 댓글은 투표와 함께 물리 삭제한 뒤 부모의 자식 수를 줄인다.
+ * </p>
+ */
+public interface CompactDeletedCommentsUseCase {
+
+    /**
+     * 정리 결과.
+     *
+     * @param scanned 확인한 삭제 댓글 수
+     * @param cleared 본문을 비운 댓글 수
+     * @param removed 물리 삭제한 댓글 수
+     */
+    record Result(long scanned, long cleared, long removed) {}
+
+    /**
+     * 보존 기간이 지난 삭제 댓글 전체를 정리한다.
+     */
+    Result compact();
+}
@@ -0,0 +1,22 @@
+package com.y11i.springcommddd.comments.application.port.in;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.dto.response.CommentTreeResponseDTO;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+/**
+ * 게시글의 댓글 트리(또는 특정 댓글의 하위 트리)를 한 번에 조회하는 유스케이스.
+ */
+public interface GetCommentTreeUseCase {
+    CommentTreeResponseDTO getTree(Query q);
+
+    record Query(
+            PostId postId,
+            CommentId rootCommentId, // nullable -> 게시글 전체 트리
+            MemberId viewerId,       // null이면 비로그인
+            int maxDepth,            // 기준(루트 또는 rootCommentId)으로부터 내려갈 깊이
+            int maxChildren,         // 댓글 하나당 포함할 최대 자식 수
+            int limit                // 최대 댓글 수 (경로 순으로 자름)
+    ){}
+}
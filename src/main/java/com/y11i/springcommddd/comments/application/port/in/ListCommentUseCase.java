@@ -5,10 +5,17 @@ import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
+import jakarta.annotation.Nullable;
 
 public interface ListCommentUseCase {
     PageResultDTO<CommentSummaryDTO> listComment(Query q);
 
+    /**
+     * 댓글 목록을 커서(키셋) 방식으로 조회한다. 전체 개수를 세지 않는다.
+     */
+    SliceResultDTO<CommentSummaryDTO> scrollComments(ScrollQuery q);
+
     record Query(
             PostId postId,
             CommentId parentCommentId, // nullable -> 루트/대댓글 구분
@@ -17,4 +24,16 @@ public interface ListCommentUseCase {
             int page,
             int size
     ){}
+
+    /**
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    record ScrollQuery(
+            PostId postId,
+            @Nullable CommentId parentCommentId, // null 이면 루트 댓글
+            @Nullable MemberId viewerId,
+            String sort,
+            @Nullable String cursor,
+            int size
+    ){}
 }
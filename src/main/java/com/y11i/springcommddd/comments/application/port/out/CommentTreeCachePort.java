@@ -0,0 +1,124 @@
+package com.y11i.springcommddd.comments.application.port.out;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 단위 댓글 트리 캐시 포트.
+ *
+ * <p>
+ * 게시글의 댓글 전체를 경로(materialized path) 순서와 함께 뷰어와 무관한 요약(= {@code mine} / {@code myVote} 가 비어 있는 노드)으로 저장한다.
+ * 뷰어별 값과 중첩 구조는 호출자가 캐시 결과 위에 덧씌운다.
+ * </p>
+ *
+ * <p><b>갱신</b></p>
+ * <ul>
+ *   <li>조회 시 비어 있으면 {@link #beginFill} 로 잠금을 잡은 노드만 DB 에서 읽어 {@link #finishFill} 로 채운다.</li>
+ *   <li>댓글 작성/수정/삭제는 {@link #put} 으로, 정리 작업의 물리 삭제는 {@link #remove} 로 해당 노드만 고친다. (커밋 이후 반영)</li>
+ *   <li>추천/비추천 수와 자식 수는 {@link #updateVotes} / {@link #recordReply} / {@link #removeReplies} 로 증감분만 더한다.
+ *       커밋 순서와 반영 순서가 달라도 이전 집계가 나중 집계를 덮어쓰지 않는다.</li>
+ *   <li>채우는 중에 들어온 노드 patch 는 채우기 값보다 우선한다. (채우기는 비어 있는 노드만 기록)</li>
+ *   <li>채우는 중에 들어온 집계 patch 는 더하지 않고 해당 댓글만 표시해 두며, 채우기는 그 댓글을 DB 에서 다시 읽어 덮어쓴다.
+ *       (DB 조회 결과와 patch 가 같은 변경을 두 번 세지 않도록 집계는 DB 값만 기준으로 삼는다)</li>
+ * </ul>
+ */
+public interface CommentTreeCachePort {
+
+    /**
+     * 캐시 노드.
+     *
+     * @param path    댓글 경로
+     * @param summary 뷰어와 무관한 요약 (children 은 비움)
+     */
+    record Node(String path, CommentSummaryDTO summary) {}
+
+    /**
+     * {@link #finishFill} 결과.
+     *
+     * @param finished 채우기가 끝났으면(조회 가능 상태가 됐거나 포기했으면) true
+     * @param changed  채우는 중에 집계가 바뀌어 DB 에서 다시 읽어야 하는 댓글 (끝났으면 비어 있음)
+     */
+    record FillProgress(boolean finished, List<CommentId> changed) {
+        public static final FillProgress FINISHED = new FillProgress(true, List.of());
+    }
+
+    /**
+     * 캐시된 트리에서 (하위) 트리를 경로 순으로 읽는다.
+     *
+     * @param pathPrefix 하위 트리 기준 댓글 경로 (전체면 null)
+     * @param maxDepth   포함할 최대 깊이 (절대값)
+     * @param limit      최대 노드 수
+     * @return 캐시가 준비되지 않았거나 읽을 수 없으면 empty
+     */
+    Optional<List<CommentSummaryDTO>> findSubtree(PostId postId, @Nullable String pathPrefix, int maxDepth, int limit);
+
+    /**
+     * 게시글 트리 채우기를 시작한다. 잠금을 잡고 남아 있던 데이터를 비운다.
+     *
+     * <p>
+     * true 를 받은 호출자는 이 호출 <b>이후</b>에 DB 를 읽어 {@link #finishFill} 또는 {@link #abandonFill} 를 호출해야 한다.
+     * </p>
+     *
+     * @return 다른 노드가 채우는 중이거나 캐시하지 않는 게시글이면 false
+     */
+    boolean beginFill(PostId postId);
+
+    /**
+     * 읽어 온 노드로 트리를 채우고, 채우는 중에 집계가 바뀐 댓글이 없으면 조회 가능 상태로 만든다.
+     *
+     * <p>
+     * 집계는 넘겨받은 값으로 덮어쓴다. 결과가 끝나지 않았으면 호출자는 {@code changed} 댓글을 (새 트랜잭션에서) 다시 읽어
+     * 그 노드만으로 다시 호출하거나, {@link #abandonFill} 로 포기해야 한다.
+     * </p>
+     *
+     * @param nodes 처음에는 게시글의 댓글 전체 (경로 순), 이후에는 다시 읽은 댓글
+     */
+    FillProgress finishFill(PostId postId, List<Node> nodes);
+
+    /**
+     * 채우기를 포기하고 잠금을 푼다.
+     *
+     * @param tooLarge 캐시 최대 노드 수를 넘는 게시글이면 true (한동안 채우기를 시도하지 않는다)
+     */
+    void abandonFill(PostId postId, boolean tooLarge);
+
+    /**
+     * 노드 하나를 추가하거나 교체한다. (작성/수정/삭제, 커밋 이후 반영)
+     *
+     * @param node 커밋 이후에 호출되어 노드를 만든다. (flush 시점에 채워지는 수정 시각까지 반영되도록)
+     */
+    void put(PostId postId, Supplier<Node> node);
+
+    /**
+     * 노드 하나의 추천/비추천 수에 증감분을 더한다. (커밋 이후 반영)
+     */
+    void updateVotes(PostId postId, CommentId commentId, int upDelta, int downDelta);
+
+    /**
+     * 부모 노드의 자식 수를 하나 늘리고, 최근 자식 작성 시각을 더 늦은 값으로만 바꾼다. (커밋 이후 반영)
+     */
+    void recordReply(PostId postId, CommentId parentId, Instant repliedAt);
+
+    /**
+     * 부모 노드의 자식 수를 물리 삭제된 만큼 줄인다. (커밋 이후 반영)
+     */
+    void removeReplies(PostId postId, CommentId parentId, int removed);
+
+    /**
+     * 물리 삭제된 노드 하나를 뺀다. (커밋 이후 반영)
+     *
+     * <p>
+     * 채우기와 겹치면 DB 를 먼저 읽은 채우기가 노드를 다시 넣을 수 있다. 이 노드는 이미 삭제 표시로 보이던 노드이므로 TTL 까지 남겨 둔다.
+     * </p>
+     *
+     * @param path 지워진 댓글의 경로
+     */
+    void remove(PostId postId, CommentId commentId, String path);
+}
@@ -0,0 +1,44 @@
+package com.y11i.springcommddd.comments.application.port.out;
+
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 삭제된 댓글 정리(compaction) 작업용 포트.
+ *
+ * <p>
+ * 보존 기간이 지난 삭제 댓글의 본문을 비우고, 자식이 없는 삭제 댓글은 투표와 함께 물리 삭제한다.
+ * </p>
+ */
+public interface CompactCommentsPort {
+
+    /**
+     * {@code after} 다음 댓글부터 정리할 것이 남은 삭제 댓글 ID 를 ID 순으로 {@code limit} 건 읽는다. (키셋 순회)
+     *
+     * @param deletedBefore 이 시각 이전에 삭제된 댓글만
+     * @param after         이전 묶음의 마지막 댓글 ID (처음이면 null)
+     */
+    List<CommentId> loadCompactable(Instant deletedBefore, @Nullable CommentId after, int limit);
+
+    /**
+     * 삭제 상태 댓글의 본문을 비운다.
+     *
+     * @return 본문을 비운 댓글 수
+     */
+    int clearBodies(Collection<CommentId> commentIds);
+
+    /**
+     * 주어진 댓글 중 자식이 없는 삭제 상태 댓글을 잠그고 반환한다. (트랜잭션 안에서 호출)
+     */
+    List<Comment> lockRemovableLeaves(Collection<CommentId> commentIds);
+
+    /**
+     * 댓글을 그 투표와 함께 물리 삭제한다.
+     */
+    void removeAll(Collection<CommentId> commentIds);
+}
@@ -3,8 +3,13 @@ package com.y11i.springcommddd.comments.application.port.out;
 import com.y11i.springcommddd.iam.domain.Member;
 import com.y11i.springcommddd.iam.domain.MemberId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoadAuthorForCommentPort {
     Optional<Member> loadById(MemberId memberId);
+
+    /** 여러 작성자를 한 번에 로드한다. (없는 ID 는 결과에서 빠짐) */
+    List<Member> loadAuthorsByIds(Collection<MemberId> memberIds);
 }
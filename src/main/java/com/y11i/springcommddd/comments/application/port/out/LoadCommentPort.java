@@ -3,8 +3,13 @@ package com.y11i.springcommddd.comments.application.port.out;
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoadCommentPort {
     Optional<Comment> loadById(CommentId id);
+
+    /** 여러 댓글을 한 번에 로드한다. (없는 ID 는 결과에서 빠짐) */
+    List<Comment> loadAllByIds(Collection<CommentId> ids);
 }
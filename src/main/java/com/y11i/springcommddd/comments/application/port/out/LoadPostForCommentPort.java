@@ -1,10 +1,13 @@
 package com.y11i.springcommddd.comments.application.port.out;
 
-import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 
 import java.util.Optional;
 
 public interface LoadPostForCommentPort {
-    Optional<Post> loadById(PostId postId);
+    /**
+     * 댓글 작성/수정/삭제/조회 검증에 필요한 게시글 참조(ID / 커뮤니티 / 상태 / 작성자)만 로드한다. (본문을 읽지 않음)
+     */
+    Optional<PostRef> loadRefById(PostId postId);
 }
@@ -2,9 +2,14 @@ package com.y11i.springcommddd.comments.application.port.out;
 
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.dto.internal.CommentCursor;
 import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface QueryCommentPort {
     /**
@@ -18,4 +23,34 @@ public interface QueryCommentPort {
      * <p>lazy loading 이므로, 페이징/정렬을 허용한다.</p>
      */
     Page<Comment> findReplies(PostId postId, CommentId parentId, Pageable pageable);
+
+    /**
+     * 루트 댓글 또는 특정 부모 댓글의 자식 댓글을 키셋(커서) 방식으로 조회.
+     *
+     * <p>전체 개수를 세지 않으며, size + 1 건을 읽어 다음 페이지 여부를 판단한다.</p>
+     *
+     * @param postId   게시글 ID
+     * @param parentId 부모 댓글 ID (null 이면 루트 댓글)
+     * @param sortKey  정렬 키 ({@link CommentCursor#normalizeSort(String)})
+     * @param cursor   직전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 댓글 슬라이스 ({@link Slice#hasNext()} 로 다음 페이지 여부 판단)
+     */
+    Slice<Comment> scrollComments(PostId postId, @Nullable CommentId parentId, String sortKey,
+                                  @Nullable CommentCursor cursor, int size);
+
+    /**
+     * 게시글의 댓글 트리(또는 특정 댓글의 하위 트리)를 경로 순(깊이 우선, 형제는 작성 순)으로 한 번에 조회.
+     *
+     * @param postId     게시글 ID
+     * @param pathPrefix 하위 트리 루트 댓글의 경로 (null 이면 게시글 전체)
+     * @param maxDepth   포함할 최대 깊이 (절대값, 루트 = 0)
+     * @param limit      최대 댓글 수
+     */
+    List<Comment> findSubtree(PostId postId, String pathPrefix, int maxDepth, int limit);
+
+    /**
+     * 게시글에 달린 댓글 수 (삭제 상태 포함). 트리 캐시에 담을 수 있는 크기인지 엔티티를 읽기 전에 확인하는 용도.
+     */
+    long countByPostId(PostId postId);
 }
@@ -0,0 +1,85 @@
+package com.y11i.springcommddd.comments.application.port.out;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 댓글 추천/비추천 수를 애그리게잇을 로드하지 않고 갱신하기 위한 포트.
+ *
+ * <p>
+ * 버전(@Version)을 올리지 않는 단일 UPDATE({@code up_count = up_count + :d})로 반영하므로
+ * 동시에 진행 중인 댓글 편집과 낙관적 락 충돌을 일으키지 않는다.
+ * </p>
+ */
+public interface UpdateCommentCountersPort {
+
+    /**
+     * 표시(VISIBLE) 상태 댓글의 추천/비추천 수에 증감분을 더한다. (0 미만으로 내려가지 않음)
+     * score / best / controversial 정렬 점수도 함께 다시 계산한다.
+     *
+     * @param commentId 댓글 ID
+     * @param upDelta   추천 수 증감
+     * @param downDelta 비추천 수 증감
+     * @return 반영 후 집계값, 댓글이 없거나 삭제된 상태면 empty
+     */
+    Optional<VoteTally> addVoteCounts(CommentId commentId, int upDelta, int downDelta);
+
+    /**
+     * 증감분을 반영한 직후 댓글 한 건의 추천/비추천 수.
+     */
+    record VoteTally(CommentId commentId, PostId postId, int up, int down) {}
+
+    /**
+     * 부모 댓글에 자식 댓글 하나가 달렸음을 반영한다. (자식 수 +1, 최근 자식 작성 시각 갱신)
+     *
+     * @param parentId  부모 댓글 ID
+     * @param repliedAt 새 자식 댓글의 작성 시각
+     * @return 부모 댓글이 그 사이 정리 작업으로 지워졌으면 false
+     */
+    boolean recordReply(CommentId parentId, Instant repliedAt);
+
+    /**
+     * 부모 댓글들의 자식 일부가 지워졌음을 반영한다. (자식 수 감소, 자식이 남지 않으면 최근 자식 작성 시각을 비움)
+     *
+     * @param removedByParent 부모 댓글 ID → 지워진 자식 수
+     */
+    void removeReplies(Map<CommentId, Integer> removedByParent);
+
+    /**
+     * 댓글 한 건에 저장된 추천/비추천 수.
+     */
+    record VoteCounter(CommentId commentId, int up, int down) {}
+
+    /**
+     * {@code after} 다음 댓글부터 저장된 추천/비추천 수를 ID 순으로 {@code limit} 건 읽는다. (대사 작업용 키셋 순회)
+     *
+     * @param communityId 커뮤니티 한정 (null 이면 전체, 있으면 해당 커뮤니티 게시글의 댓글)
+     * @param after       이전 묶음의 마지막 댓글 ID (처음이면 null)
+     */
+    List<VoteCounter> loadVoteCounters(@Nullable CommunityId communityId, @Nullable CommentId after, int limit);
+
+    /**
+     * 주어진 댓글들에 저장된 추천/비추천 수만 읽는다. (일괄 투표 응답용, 없는 댓글은 제외)
+     */
+    List<VoteCounter> loadVoteCountersByIds(Collection<CommentId> commentIds);
+
+    /**
+     * 추천/비추천 수를 투표 행 기준으로 다시 센 값으로 바로잡는다. (대사 작업용, 상태와 무관)
+     *
+     * <p>
+     * 현재 값이 {@code expectedUp} / {@code expectedDown} 일 때만 바꾼다.
+     * 조회 이후 다른 투표가 반영됐다면 건드리지 않고 다음 대사에 맡긴다.
+     * </p>
+     *
+     * @return 바로잡았으면 true
+     */
+    boolean replaceVoteCounts(CommentId commentId, int expectedUp, int expectedDown, int up, int down);
+}
@@ -2,21 +2,23 @@ package com.y11i.springcommddd.comments.application.service;
 
 import com.y11i.springcommddd.comments.application.port.in.DeleteCommentUseCase;
 import com.y11i.springcommddd.comments.application.port.in.EditCommentUseCase;
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
 import com.y11i.springcommddd.comments.application.port.out.LoadCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.LoadPostForCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.SaveCommentPort;
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentStatus;
+import com.y11i.springcommddd.comments.domain.event.CommentVisibilityChanged;
 import com.y11i.springcommddd.comments.domain.exception.CommentNotFound;
 import com.y11i.springcommddd.comments.domain.exception.CommentStatusTransitionNotAllowed;
 import com.y11i.springcommddd.communities.application.port.internal.CommunityAuthorization;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.application.port.out.CheckCommunityBanPort;
-import com.y11i.springcommddd.posts.application.port.out.SavePostPort;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,9 +31,11 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
     private final LoadCommentPort loadCommentPort;
     private final SaveCommentPort saveCommentPort;
     private final LoadPostForCommentPort loadPostForCommentPort;
-    private final SavePostPort savePostPort;
+    private final ApplicationEventPublisher eventPublisher;
     private final CheckCommunityBanPort checkCommunityBanPort;
     private final CommunityAuthorization communityAuthorization;
+    private final CommentTreeCachePort commentTreeCachePort;
+    private final CommentSummaryAssembler commentSummaryAssembler;
 
     @Override
     @Transactional
@@ -39,7 +43,7 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
         Comment comment = loadCommentPort.loadById(cmd.commentId()).orElseThrow(() -> new CommentNotFound("Comment not found"));
 
         // 댓글이 속한 게시글 + 커뮤니티 로드
-        Post post = loadPostForCommentPort.loadById(comment.postId())
+        PostRef post = loadPostForCommentPort.loadRefById(comment.postId())
                 .orElseThrow(() -> new PostNotFound("Post not found: " + comment.postId().stringify()));
 
         // 1) 작성자 본인인지 확인
@@ -52,6 +56,7 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
         comment.edit(cmd.body());
 
         saveCommentPort.save(comment);
+        patchTreeCache(comment);
 
         log.info("Edited comment {} on post {} by actor {}",
                 comment.commentId().stringify(),
@@ -66,7 +71,7 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
                 .orElseThrow(() -> new CommentNotFound("Comment not found"));
 
         // 댓글이 속한 게시글 + 커뮤니티 로드
-        Post post = loadPostForCommentPort.loadById(comment.postId())
+        PostRef post = loadPostForCommentPort.loadRefById(comment.postId())
                 .orElseThrow(() -> new PostNotFound("Post not found: " + comment.postId().stringify()));
 
         // 1) 권한 체크
@@ -78,11 +83,11 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
         // 3) 도메인 로직: 소프트 삭제
         comment.softDelete();
         saveCommentPort.save(comment);
+        patchTreeCache(comment);
 
-        // 4) Post의 commentCount 조정 (VISIBLE → DELETED 인 경우만 감소)
+        // 4) Post의 commentCount 조정 (VISIBLE → DELETED 인 경우만 감소, 커밋 이후 이벤트로 비동기 반영)
         if (wasVisible) {
-            post.applyCommentVisibilityChange(true, false);
-            savePostPort.save(post);
+            eventPublisher.publishEvent(new CommentVisibilityChanged(comment.commentId(), post.postId(), false));
         }
 
         log.info("Soft-deleted comment {} on post {} by actor {}",
@@ -93,6 +98,14 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
 
     // ───────────────────────── 내부 공통 유틸 ─────────────────────────
 
+    /**
+     * 게시글 댓글 트리 캐시에서 이 댓글 노드만 교체한다. (커밋 이후 반영, 경로 백필 전 댓글은 제외)
+     */
+    private void patchTreeCache(Comment comment) {
+        if (comment.path() == null) return;
+        commentTreeCachePort.put(comment.postId(), commentSummaryAssembler.nodeOf(comment));
+    }
+
     /**
      * 작성자(owner) 검증: actorId가 댓글 작성자와 동일한지 확인.
      * 추후 ADMIN/MOD 권한 삭제 허용 시 여기에서 분기 추가 가능.
@@ -108,7 +121,7 @@ public class CommentMutationService implements EditCommentUseCase, DeleteComment
      * - 작성자 본인이면 허용
      * - 아니면 해당 커뮤니티의 ADMIN 또는 MOD 여야 함
      */
-    private void ensureDeletePermission(Comment comment, Post post, MemberId actorId) {
+    private void ensureDeletePermission(Comment comment, PostRef post, MemberId actorId) {
         // 작성자 본인이면 통과
         if (comment.authorId().equals(actorId)) {
             return;
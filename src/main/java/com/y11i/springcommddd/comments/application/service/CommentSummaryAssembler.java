@@ -0,0 +1,166 @@
+package com.y11i.springcommddd.comments.application.service;
+
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
+import com.y11i.springcommddd.comments.application.port.out.LoadAuthorForCommentPort;
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.CommentStatus;
+import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+import com.y11i.springcommddd.iam.domain.Member;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.iam.domain.exception.MemberNotFound;
+import com.y11i.springcommddd.votes.application.port.in.LoadMyVotesUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Comment → {@link CommentSummaryDTO} 변환기.
+ *
+ * <p>
+ * 변환은 두 단계로 나뉜다.
+ * </p>
+ * <ol>
+ *   <li>뷰어와 무관한 요약: 작성자를 댓글 묶음 전체에 대해 한 번 일괄 조회해 매핑한다. (트리 캐시에 저장되는 형태)</li>
+ *   <li>뷰어별 덧씌우기: 조회자의 투표값(myVote)을 한 번 일괄 조회해 {@code mine} / {@code myVote} 를 채운다.</li>
+ * </ol>
+ * <p>
+ * 목록(평면)과 트리(중첩) 응답이 같은 규칙으로 만들어지도록 공유한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+class CommentSummaryAssembler {
+    private final LoadAuthorForCommentPort loadAuthorForCommentPort;
+    private final LoadMyVotesUseCase loadMyVotesUseCase;
+
+    /**
+     * 댓글 목록을 순서대로 평면 DTO 로 변환한다. (children 은 비움)
+     */
+    List<CommentSummaryDTO> toSummaries(List<Comment> comments, MemberId viewerId) {
+        if (comments.isEmpty()) return List.of();
+        return forViewer(toNeutral(comments), viewerId).map(n -> n.overlay(List.of())).toList();
+    }
+
+    /**
+     * 댓글 목록을 뷰어와 무관한 요약으로 변환한다. ({@code mine} = false, {@code myVote} = null, children 은 비움)
+     */
+    List<CommentSummaryDTO> toNeutral(List<Comment> comments) {
+        if (comments.isEmpty()) return List.of();
+        Set<MemberId> authorIds = comments.stream().map(Comment::authorId).collect(Collectors.toSet());
+        Map<MemberId, Member> authors = loadAuthorForCommentPort.loadAuthorsByIds(authorIds).stream()
+                .collect(Collectors.toMap(Member::memberId, m -> m));
+        return comments.stream().map(c -> toNeutral(c, authors)).toList();
+    }
+
+    /**
+     * 댓글 목록을 트리 캐시 노드(경로 + 뷰어와 무관한 요약)로 변환한다.
+     */
+    List<CommentTreeCachePort.Node> toNodes(List<Comment> comments) {
+        List<CommentSummaryDTO> summaries = toNeutral(comments);
+        List<CommentTreeCachePort.Node> nodes = new ArrayList<>(comments.size());
+        for (int i = 0; i < comments.size(); i++) {
+            nodes.add(new CommentTreeCachePort.Node(comments.get(i).path(), summaries.get(i)));
+        }
+        return nodes;
+    }
+
+    /**
+     * 댓글 한 건의 트리 캐시 노드를 나중에 만드는 Supplier 를 반환한다.
+     * 작성자는 지금 조회하고, 댓글 필드는 Supplier 를 호출하는 시점의 값을 읽는다.
+     */
+    Supplier<CommentTreeCachePort.Node> nodeOf(Comment comment) {
+        Map<MemberId, Member> authors = loadAuthorForCommentPort.loadAuthorsByIds(List.of(comment.authorId())).stream()
+                .collect(Collectors.toMap(Member::memberId, m -> m));
+        return () -> new CommentTreeCachePort.Node(comment.path(), toNeutral(comment, authors));
+    }
+
+    /**
+     * 경로 순(부모가 자식보다 앞)으로 정렬된 요약들을 중첩 트리로 조립하고 뷰어별 값을 덧씌운다.
+     *
+     * <p>
+     * 부모가 목록에 없는 댓글이 트리의 최상위가 된다.
+     * 각 댓글의 자식은 작성 순으로 최대 {@code maxChildren} 개까지만 포함하며, 잘린 자식의 하위 트리도 제외된다.
+     * </p>
+     */
+    List<CommentSummaryDTO> toForest(List<CommentSummaryDTO> pathOrdered, MemberId viewerId, int maxChildren) {
+        if (pathOrdered.isEmpty()) return List.of();
+
+        Set<String> loaded = pathOrdered.stream().map(CommentSummaryDTO::commentId).collect(Collectors.toSet());
+        Map<String, List<ViewerNode>> childrenOf = new HashMap<>();
+        List<ViewerNode> tops = new ArrayList<>();
+        forViewer(pathOrdered, viewerId).forEach(n -> {
+            String parentId = n.neutral().parentCommentId();
+            if (parentId != null && loaded.contains(parentId)) {
+                childrenOf.computeIfAbsent(parentId, k -> new ArrayList<>()).add(n);
+            } else {
+                tops.add(n);
+            }
+        });
+
+        return tops.stream().map(n -> build(n, childrenOf, maxChildren)).toList();
+    }
+
+    private CommentSummaryDTO build(ViewerNode n, Map<String, List<ViewerNode>> childrenOf, int maxChildren) {
+        List<ViewerNode> kids = childrenOf.getOrDefault(n.neutral().commentId(), List.of());
+        List<CommentSummaryDTO> children = kids.stream()
+                .limit(maxChildren)
+                .map(k -> build(k, childrenOf, maxChildren))
+                .toList();
+        return n.overlay(children);
+    }
+
+    /**
+     * 조회자의 투표값을 한 번 일괄 조회해 각 요약에 짝지어 둔다.
+     */
+    private Stream<ViewerNode> forViewer(List<CommentSummaryDTO> neutral, MemberId viewerId) {
+        Map<CommentId, Integer> myVotes = loadMyVotesUseCase.myCommentVotes(
+                viewerId, neutral.stream().map(dto -> CommentId.objectify(dto.commentId())).toList());
+        String viewer = viewerId != null ? viewerId.stringify() : null;
+        return neutral.stream().map(dto -> new ViewerNode(
+                dto,
+                dto.authorId().equals(viewer),
+                myVotes.get(CommentId.objectify(dto.commentId()))));
+    }
+
+    private static CommentSummaryDTO toNeutral(Comment c, Map<MemberId, Member> authors) {
+        Member author = authors.get(c.authorId());
+        if (author == null) throw new MemberNotFound("Member not found: " + c.authorId().stringify());
+
+        boolean deleted = (c.status() == CommentStatus.DELETED);
+        String body = deleted ? null : c.body().value();
+
+        return CommentSummaryDTO.builder()
+                .commentId(c.commentId().stringify())
+                .postId(c.postId().stringify())
+                .parentCommentId(c.parentId() != null ? c.parentId().stringify() : null)
+                .depth(c.depth())
+                .authorId(author.memberId().stringify())
+                .authorDisplayName(author.displayName().value())
+                .mine(false)
+                .deleted(deleted)
+                .edited(c.edited()) // 도메인에 추가한 플래그 사용
+                .body(body)
+                .upCount(c.upCount())
+                .downCount(c.downCount())
+                .score(c.score())
+                .myVote(null)
+                .replyCount(c.replyCount())
+                .lastReplyAt(c.lastReplyAt())
+                .createdAt(c.createdAt())
+                .updatedAt(c.updatedAt())
+                .children(List.of())
+                .build();
+    }
+
+    private record ViewerNode(CommentSummaryDTO neutral, boolean mine, Integer myVote) {
+
+        CommentSummaryDTO overlay(List<CommentSummaryDTO> children) {
+            return neutral.withViewer(mine, myVote, children);
+        }
+    }
+}
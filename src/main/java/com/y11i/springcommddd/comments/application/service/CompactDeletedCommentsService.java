@@ -0,0 +1,157 @@
+package com.y11i.springcommddd.comments.application.service;
+
+import com.y11i.springcommddd.comments.application.port.in.CompactDeletedCommentsUseCase;
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
+import com.y11i.springcommddd.comments.application.port.out.CompactCommentsPort;
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제 댓글 정리(compaction) 서비스.
+ *
+ * <p><b>동작</b></p>
+ * <ol>
+ *   <li>삭제된 지 {@code comments.compaction.retention-days} 일이 지난 댓글 중 정리할 것이 남은 댓글을
+ *       ID 순 키셋으로 {@code comments.compaction.chunk-size} 건씩 읽는다.</li>
+ *   <li>묶음마다 한 트랜잭션에서 본문을 비우고, 자식이 없는 댓글을 잠근 뒤 투표와 함께 물리 삭제한다.</li>
+ *   <li>지운 댓글의 부모별로 자식 수를 지운 만큼 줄인다. (다른 대댓글 작성과 겹쳐도 잃지 않도록 상대값으로 반영)</li>
+ *   <li>묶음 사이에 {@code comments.compaction.pause-ms} 만큼 쉬어 운영 중 DB 부하를 제한한다.</li>
+ * </ol>
+ *
+ * <p>
+ * 자식이 남아 있는 삭제 댓글은 본문만 비우고 트리 자리를 지킨다.
+ * 자식이 모두 지워져 잎이 되면 다음 정리에서 지워지므로, 삭제된 가지는 한 번에 한 단계씩 걷힌다.
+ * 잠근 댓글에 동시에 달린 대댓글은 부모 자식 수 갱신이 0 건이 되어 작성이 되돌려진다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompactDeletedCommentsService implements CompactDeletedCommentsUseCase {
+    private final CompactCommentsPort compactCommentsPort;
+    private final UpdateCommentCountersPort updateCommentCountersPort;
+    private final CommentTreeCachePort commentTreeCachePort;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 삭제 후 본문과 행을 남겨 두는 기간 */
+    @Value("${comments.compaction.retention-days:30}")
+    private long retentionDays;
+
+    /** 한 트랜잭션에서 정리하는 댓글 수 */
+    @Value("${comments.compaction.chunk-size:500}")
+    private int chunkSize;
+
+    /** 묶음 사이 대기 시간 */
+    @Value("${comments.compaction.pause-ms:200}")
+    private long pauseMs;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Result compact() {
+        Instant deletedBefore = Instant.now().minus(Duration.ofDays(retentionDays));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long scanned = 0;
+        long cleared = 0;
+        long removed = 0;
+        CommentId after = null;
+        while (true) {
+            List<CommentId> chunk = compactCommentsPort.loadCompactable(deletedBefore, after, chunkSize);
+            if (chunk.isEmpty()) break;
+            scanned += chunk.size();
+
+            ChunkResult done = tx.execute(status -> compactChunk(chunk));
+            if (done != null) {
+                cleared += done.cleared();
+                removed += done.removed().size();
+            }
+
+            if (chunk.size() < chunkSize || !pause()) break;
+            after = chunk.get(chunk.size() - 1);
+        }
+        Result result = new Result(scanned, cleared, removed);
+        log.info("deleted comment compaction finished: {}", result);
+        return result;
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------------------------
+
+    /**
+     * 한 묶음의 정리 결과.
+     *
+     * @param cleared 본문을 비운 댓글 수
+     * @param removed 물리 삭제한 댓글 (삭제 전 값)
+     */
+    private record ChunkResult(int cleared, List<Comment> removed) {}
+
+    private ChunkResult compactChunk(List<CommentId> chunk) {
+        int cleared = compactCommentsPort.clearBodies(chunk);
+
+        List<Comment> leaves = compactCommentsPort.lockRemovableLeaves(chunk);
+        if (leaves.isEmpty()) return new ChunkResult(cleared, List.of());
+
+        compactCommentsPort.removeAll(leaves.stream().map(Comment::commentId).toList());
+        Map<CommentId, Integer> removedByParent = removedByParent(leaves);
+        if (!removedByParent.isEmpty()) updateCommentCountersPort.removeReplies(removedByParent);
+        patchTreeCache(leaves);
+        return new ChunkResult(cleared, leaves);
+    }
+
+    /**
+     * 지운 노드를 트리 캐시에서 빼고, 부모 노드의 자식 수를 지운 만큼 줄인다. (묶음 트랜잭션 안에서 등록, 커밋 이후 반영)
+     * 본문만 비운 댓글은 캐시에 이미 본문 없는 삭제 표시로 들어 있으므로 건드리지 않는다.
+     */
+    private void patchTreeCache(List<Comment> removed) {
+        if (removed.isEmpty()) return;
+        removed.stream()
+                .filter(c -> c.path() != null)
+                .forEach(c -> commentTreeCachePort.remove(c.postId(), c.commentId(), c.path()));
+
+        Map<CommentId, Integer> removedByParent = removedByParent(removed);
+        Map<CommentId, PostId> postByParent = removed.stream()
+                .filter(c -> c.parentId() != null)
+                .collect(Collectors.toMap(Comment::parentId, Comment::postId, (a, b) -> a));
+        removedByParent.forEach((parentId, count) ->
+                commentTreeCachePort.removeReplies(postByParent.get(parentId), parentId, count));
+    }
+
+    private static Map<CommentId, Integer> removedByParent(List<Comment> removed) {
+        return removed.stream()
+                .filter(c -> c.parentId() != null)
+                .collect(Collectors.toMap(Comment::parentId, c -> 1, Integer::sum));
+    }
+
+    /**
+     * 묶음 사이에 쉰다.
+     *
+     * @return 계속 진행해도 되면 true (인터럽트되면 false)
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("deleted comment compaction interrupted");
+            return false;
+        }
+    }
+}
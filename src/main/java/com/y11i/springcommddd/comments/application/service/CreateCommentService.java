@@ -1,21 +1,26 @@
 package com.y11i.springcommddd.comments.application.service;
 
 import com.y11i.springcommddd.comments.application.port.in.CreateCommentUseCase;
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
 import com.y11i.springcommddd.comments.application.port.out.LoadCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.LoadPostForCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.SaveCommentPort;
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.event.CommentCreated;
 import com.y11i.springcommddd.comments.domain.exception.CommentNotFound;
 import com.y11i.springcommddd.posts.application.port.out.CheckCommunityBanPort;
-import com.y11i.springcommddd.posts.application.port.out.SavePostPort;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -25,7 +30,10 @@ public class CreateCommentService implements CreateCommentUseCase {
     private final LoadCommentPort loadCommentPort;
     private final SaveCommentPort saveCommentPort;
     private final CheckCommunityBanPort checkCommunityBanPort;
-    private final SavePostPort savePostPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UpdateCommentCountersPort updateCommentCountersPort;
+    private final CommentTreeCachePort commentTreeCachePort;
+    private final CommentSummaryAssembler commentSummaryAssembler;
 
     /**
      * 새 댓글을 생성한다.
@@ -37,7 +45,7 @@ public class CreateCommentService implements CreateCommentUseCase {
     @Transactional
     public CommentId create(CreateCommentCommand cmd) {
         // 1. 게시글 로드 + 댓글 가능여부 검증
-        Post post = loadPostForCommentPort.loadById(cmd.postId()).orElseThrow(() -> new PostNotFound("Post not found"));
+        PostRef post = loadPostForCommentPort.loadRefById(cmd.postId()).orElseThrow(() -> new PostNotFound("Post not found"));
         // 2. 게시글 상태 기반 댓글 가능여부 검증
         post.ensureCommentable();
         // 3. 커뮤니티 밴 여부 검증
@@ -53,9 +61,21 @@ public class CreateCommentService implements CreateCommentUseCase {
                 : Comment.replyTo(cmd.postId(), cmd.authorId(), parent, cmd.body());
         // 6. 댓글 저장
         Comment saved = saveCommentPort.save(comment);
-        // 7. Post의 commentCount 갱신
-        post.commentCountIncrement();
-        savePostPort.save(post);
+        // 7. Post의 commentCount 는 커밋 이후 이벤트로 게시글별로 모아 비동기 반영 (요청 경로에서는 comments 테이블만 씀)
+        eventPublisher.publishEvent(new CommentCreated(saved.commentId(), saved.postId()));
+        // 8. 부모 댓글의 자식 수 / 최근 자식 작성 시각 갱신 (단일 UPDATE — 부모 버전 충돌 없음)
+        Instant repliedAt = saved.createdAt() != null ? saved.createdAt() : Instant.now();
+        if (parent != null) {
+            if (!updateCommentCountersPort.recordReply(parent.commentId(), repliedAt)) {
+                // 부모가 정리 작업으로 방금 지워졌다. 고아 댓글을 남기지 않도록 작성을 되돌린다.
+                throw new CommentNotFound("Parent comment not found");
+            }
+        }
+        // 9. 게시글 댓글 트리 캐시에 새 노드를 추가하고, 부모 노드는 자식 수 +1 / 최근 자식 작성 시각만 반영 (커밋 이후 반영)
+        commentTreeCachePort.put(saved.postId(), commentSummaryAssembler.nodeOf(saved));
+        if (parent != null) {
+            commentTreeCachePort.recordReply(saved.postId(), parent.commentId(), repliedAt);
+        }
 
         log.info("Created comment {} on post {} by author {} (parent={})",
                 saved.commentId().stringify(),
@@ -0,0 +1,213 @@
+package com.y11i.springcommddd.comments.application.service;
+
+import com.y11i.springcommddd.comments.application.port.in.GetCommentTreeUseCase;
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
+import com.y11i.springcommddd.comments.application.port.out.LoadCommentPort;
+import com.y11i.springcommddd.comments.application.port.out.LoadPostForCommentPort;
+import com.y11i.springcommddd.comments.application.port.out.QueryCommentPort;
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.CommentPath;
+import com.y11i.springcommddd.comments.domain.exception.CommentNotFound;
+import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+import com.y11i.springcommddd.comments.dto.response.CommentTreeResponseDTO;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 댓글 트리 조회 서비스.
+ *
+ * <p>
+ * 게시글 단위 트리 캐시({@link CommentTreeCachePort})에서 경로 순으로 정렬된 뷰어 무관 요약을 읽고,
+ * 나의 투표값만 트리 전체에 대해 한 번 일괄 조회한 뒤 메모리에서 중첩 DTO 로 조립한다.
+ * </p>
+ *
+ * <p>
+ * 캐시가 비어 있으면 채우기 잠금을 잡은 요청만 게시글의 댓글 전체를 materialized path 범위 조회 한 번으로 읽어 채운다.
+ * 잠금을 잡지 못했거나 댓글 수가 {@code comments.tree-cache.max-nodes} 를 넘는 게시글은 요청한 범위만 DB 에서 읽는다.
+ * </p>
+ *
+ * <p>
+ * 최대 노드 수를 넘는 게시글은 캐시하지 않는다. 채우기 전에 댓글 수만 세어(인덱스 COUNT) 넘으면 엔티티를 읽지 않고 포기하고,
+ * {@code comments.tree-cache.skip-ttl-ms} 동안은 채우기를 다시 시도하지 않으므로 이런 게시글의 조회 비용은 요청 범위({@code limit}) 만큼이다.
+ * </p>
+ *
+ * <p>
+ * 채우기용 조회는 잠금을 잡은 <b>뒤</b> 새 읽기 전용 트랜잭션에서 한다. (요청 트랜잭션의 스냅샷은 잠금 전에 시작됐을 수 있음)
+ * 채우는 중에 집계가 바뀐 댓글은 캐시가 알려 주는 대로 다시 읽어 덮어쓰고, {@link #MAX_FILL_ROUNDS} 번 안에 끝나지 않으면 채우기를 포기한다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class GetCommentTreeService implements GetCommentTreeUseCase {
+
+    static final int DEFAULT_MAX_DEPTH = 10;
+    static final int DEFAULT_MAX_CHILDREN = 50;
+    static final int DEFAULT_LIMIT = 500;
+    static final int MAX_LIMIT = 2000;
+    /** 채우는 중에 바뀐 댓글을 다시 읽는 최대 횟수 */
+    static final int MAX_FILL_ROUNDS = 5;
+    /** 커밋 중인 변경만 남아 다시 읽을 댓글이 없을 때 기다리는 시간 */
+    static final long FILL_RETRY_MS = 10;
+
+    private final LoadPostForCommentPort loadPostForCommentPort;
+    private final LoadCommentPort loadCommentPort;
+    private final QueryCommentPort queryCommentPort;
+    private final CommentSummaryAssembler commentSummaryAssembler;
+    private final CommentTreeCachePort commentTreeCachePort;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 트리 캐시에 담는 게시글당 최대 댓글 수 (넘으면 캐시하지 않음) */
+    @Value("${comments.tree-cache.max-nodes:10000}")
+    private int maxCachedNodes;
+
+    @Override
+    public CommentTreeResponseDTO getTree(Query q) {
+        int maxDepth = q.maxDepth() < 0 ? DEFAULT_MAX_DEPTH : Math.min(q.maxDepth(), CommentPath.MAX_DEPTH);
+        int maxChildren = q.maxChildren() <= 0 ? DEFAULT_MAX_CHILDREN : q.maxChildren();
+        int limit = q.limit() <= 0 ? DEFAULT_LIMIT : Math.min(q.limit(), MAX_LIMIT);
+
+        // 1) 게시글 존재 여부 검증
+        loadPostForCommentPort.loadRefById(q.postId())
+                .orElseThrow(() -> new PostNotFound("Post not found"));
+
+        // 2) 하위 트리 기준 댓글 (있으면 같은 게시글이어야 함)
+        String pathPrefix = null;
+        int baseDepth = 0;
+        if (q.rootCommentId() != null) {
+            Comment root = loadCommentPort.loadById(q.rootCommentId())
+                    .filter(c -> c.postId().equals(q.postId()))
+                    .orElseThrow(() -> new CommentNotFound("Comment not found"));
+            if (root.path() == null) {
+                // 경로 백필 전 댓글: 하위 트리를 경로로 찾을 수 없으므로 자기 자신만 돌려준다
+                return new CommentTreeResponseDTO(commentSummaryAssembler.toForest(
+                        commentSummaryAssembler.toNeutral(List.of(root)), q.viewerId(), maxChildren), false);
+            }
+            pathPrefix = root.path();
+            baseDepth = root.depth();
+        }
+
+        // 3) 트리 캐시 → 없으면 (post_id, path) 범위 조회 — limit + 1 건으로 잘림 여부 판단
+        int absoluteMaxDepth = Math.min(baseDepth + maxDepth, CommentPath.MAX_DEPTH);
+        String prefix = pathPrefix;
+        Optional<List<CommentSummaryDTO>> cached =
+                commentTreeCachePort.findSubtree(q.postId(), prefix, absoluteMaxDepth, limit + 1);
+        List<CommentSummaryDTO> nodes = cached
+                .orElseGet(() -> loadSubtree(q.postId(), prefix, absoluteMaxDepth, limit + 1));
+        boolean truncated = nodes.size() > limit;
+        if (truncated) nodes = nodes.subList(0, limit);
+
+        log.debug("Loaded comment tree for post {} (root={}, depth<={}, nodes={}, truncated={}, cached={})",
+                q.postId().stringify(),
+                q.rootCommentId() != null ? q.rootCommentId().stringify() : "ALL",
+                absoluteMaxDepth,
+                nodes.size(),
+                truncated,
+                cached.isPresent());
+
+        // 4) 나의 투표값을 덧씌워 중첩 DTO 조립
+        return new CommentTreeResponseDTO(
+                commentSummaryAssembler.toForest(nodes, q.viewerId(), maxChildren),
+                truncated
+        );
+    }
+
+    /**
+     * 캐시에 없는 트리를 DB 에서 읽는다. 채우기 잠금을 잡으면 게시글 전체를 읽어 캐시를 채운 뒤 요청 범위를 잘라 돌려준다.
+     */
+    private List<CommentSummaryDTO> loadSubtree(PostId postId, String pathPrefix, int maxDepth, int limit) {
+        if (!commentTreeCachePort.beginFill(postId)) {
+            return commentSummaryAssembler.toNeutral(queryCommentPort.findSubtree(postId, pathPrefix, maxDepth, limit));
+        }
+
+        List<CommentTreeCachePort.Node> nodes;
+        try {
+            if (queryCommentPort.countByPostId(postId) > maxCachedNodes) {
+                commentTreeCachePort.abandonFill(postId, true);
+                log.debug("Comment tree for post {} exceeds {} nodes; not cached", postId.stringify(), maxCachedNodes);
+                return commentSummaryAssembler.toNeutral(queryCommentPort.findSubtree(postId, pathPrefix, maxDepth, limit));
+            }
+            // 세어 본 뒤 늘어난 댓글까지 읽되, 그래도 넘으면 캐시하지 않는다.
+            List<Comment> all = inNewReadOnlyTransaction(() ->
+                    queryCommentPort.findSubtree(postId, null, CommentPath.MAX_DEPTH, maxCachedNodes + 1));
+            if (all.size() > maxCachedNodes) {
+                commentTreeCachePort.abandonFill(postId, true);
+                return commentSummaryAssembler.toNeutral(all.stream()
+                        .filter(c -> within(c.path(), pathPrefix, maxDepth))
+                        .limit(limit)
+                        .toList());
+            }
+            nodes = commentSummaryAssembler.toNodes(all);
+            fill(postId, nodes);
+        } catch (RuntimeException e) {
+            commentTreeCachePort.abandonFill(postId, false);
+            throw e;
+        }
+
+        return nodes.stream()
+                .filter(n -> within(n.path(), pathPrefix, maxDepth))
+                .limit(limit)
+                .map(CommentTreeCachePort.Node::summary)
+                .toList();
+    }
+
+    /**
+     * 읽어 온 노드로 캐시를 채운다. 채우는 중에 집계가 바뀐 댓글은 새 트랜잭션에서 다시 읽어 덮어쓴다.
+     */
+    private void fill(PostId postId, List<CommentTreeCachePort.Node> nodes) {
+        CommentTreeCachePort.FillProgress progress = commentTreeCachePort.finishFill(postId, nodes);
+        for (int round = 1; !progress.finished(); round++) {
+            if (round > MAX_FILL_ROUNDS || (progress.changed().isEmpty() && !waitForInflight())) {
+                log.debug("Comment tree fill for post {} kept changing; not cached", postId.stringify());
+                commentTreeCachePort.abandonFill(postId, false);
+                return;
+            }
+            List<CommentId> changed = progress.changed();
+            List<CommentTreeCachePort.Node> reloaded = changed.isEmpty() ? List.of() : inNewReadOnlyTransaction(() ->
+                    commentSummaryAssembler.toNodes(loadCommentPort.loadAllByIds(changed).stream()
+                            .filter(c -> postId.equals(c.postId()) && c.path() != null)
+                            .toList()));
+            progress = commentTreeCachePort.finishFill(postId, reloaded);
+        }
+    }
+
+    /**
+     * 커밋 중인 집계 변경이 patch 를 보낼 때까지 잠깐 기다린다.
+     *
+     * @return 계속 진행해도 되면 true (인터럽트되면 false)
+     */
+    private static boolean waitForInflight() {
+        try {
+            Thread.sleep(FILL_RETRY_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T inNewReadOnlyTransaction(Supplier<T> loader) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(true);
+        return tx.execute(status -> loader.get());
+    }
+
+    private static boolean within(String path, String pathPrefix, int maxDepth) {
+        return (pathPrefix == null || path.startsWith(pathPrefix)) && CommentPath.depthOf(path) <= maxDepth;
+    }
+}
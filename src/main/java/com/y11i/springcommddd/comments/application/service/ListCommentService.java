@@ -1,33 +1,26 @@
 package com.y11i.springcommddd.comments.application.service;
 
 import com.y11i.springcommddd.comments.application.port.in.ListCommentUseCase;
-import com.y11i.springcommddd.comments.application.port.out.LoadAuthorForCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.LoadPostForCommentPort;
 import com.y11i.springcommddd.comments.application.port.out.QueryCommentPort;
 import com.y11i.springcommddd.comments.domain.Comment;
-import com.y11i.springcommddd.comments.domain.CommentStatus;
+import com.y11i.springcommddd.comments.dto.internal.CommentCursor;
 import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
-import com.y11i.springcommddd.iam.domain.Member;
-import com.y11i.springcommddd.iam.domain.MemberId;
-import com.y11i.springcommddd.iam.domain.exception.MemberNotFound;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
-import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
-import com.y11i.springcommddd.votes.domain.MyCommentVote;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,8 +29,7 @@ import java.util.stream.Collectors;
 public class ListCommentService implements ListCommentUseCase {
     private final QueryCommentPort queryCommentPort;
     private final LoadPostForCommentPort loadPostForCommentPort;
-    private final LoadAuthorForCommentPort loadAuthorForCommentPort;
-    private final CommentVoteRepository commentVoteRepository;
+    private final CommentSummaryAssembler commentSummaryAssembler;
 
     @Override
     public PageResultDTO<CommentSummaryDTO> listComment(Query q) {
@@ -47,7 +39,7 @@ public class ListCommentService implements ListCommentUseCase {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         // 1) 게시글 존재 여부 검증
-        Post post = loadPostForCommentPort.loadById(q.postId())
+        PostRef post = loadPostForCommentPort.loadRefById(q.postId())
                 .orElseThrow(() -> new PostNotFound("Post not found: " + q.postId().stringify()));
 
         log.debug("Listing comments for post {} (parent={}, viewer={}, sort={}, page={}, size={})",
@@ -79,16 +71,8 @@ public class ListCommentService implements ListCommentUseCase {
             );
         }
 
-        // 3) "나의 투표값" 맵 조회
-        Map<CommentIdWrapper, Integer> myVotesMap = resolveMyVotesMap(q.viewerId(), comments);
-
-        // 4) 작성자 캐시
-        Map<MemberId, Member> authorCache = new HashMap<>();
-
-        // 5) Comment → CommentSummaryDTO 매핑
-        List<CommentSummaryDTO> content = comments.stream()
-                .map(c -> toSummaryDTO(c, post, q.viewerId(), myVotesMap, authorCache))
-                .toList();
+        // 3) 작성자 / "나의 투표값" 일괄 조회 + Comment → CommentSummaryDTO 매핑
+        List<CommentSummaryDTO> content = commentSummaryAssembler.toSummaries(comments, q.viewerId());
 
         return new PageResultDTO<>(
                 content,
@@ -100,97 +84,65 @@ public class ListCommentService implements ListCommentUseCase {
         );
     }
 
+    @Override
+    public SliceResultDTO<CommentSummaryDTO> scrollComments(ScrollQuery q) {
+        int size = q.size() <= 0 ? 20 : Math.min(q.size(), 100);
+        CommentCursor cursor = resolveCursor(q.cursor(), q.sort());
+
+        // 1) 게시글 존재 여부 검증
+        loadPostForCommentPort.loadRefById(q.postId())
+                .orElseThrow(() -> new PostNotFound("Post not found: " + q.postId().stringify()));
+
+        // 2) 커서 다음부터 size + 1 건 (COUNT 없음)
+        Slice<Comment> slice = queryCommentPort.scrollComments(q.postId(), q.parentCommentId(), q.sort(), cursor, size);
+        List<Comment> comments = slice.getContent();
+        String nextCursor = (slice.hasNext() && !comments.isEmpty())
+                ? CommentCursor.after(q.sort(), comments.get(comments.size() - 1)).encode()
+                : null;
+
+        // 3) 작성자 / "나의 투표값" 일괄 조회 + 매핑
+        return new SliceResultDTO<>(
+                commentSummaryAssembler.toSummaries(comments, q.viewerId()),
+                size,
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+
     // ----------------------------------------------------
     // 내부 유틸
     // ----------------------------------------------------
 
-    /** 정렬 기준 변환 (지금은 "new" → createdAt DESC 정도만 지원) */
+    private CommentCursor resolveCursor(String rawCursor, String sortKey) {
+        if (rawCursor == null || rawCursor.isBlank()) return null;
+        CommentCursor cursor = CommentCursor.decode(rawCursor);
+        cursor.ensureSort(sortKey);
+        return cursor;
+    }
+
+    /**
+     * 정렬 기준 변환. 동률은 댓글 ID 순으로 고정해 페이지 경계가 흔들리지 않게 한다.
+     *
+     * <ul>
+     *   <li>new / recent: 최신순</li>
+     *   <li>old: 작성순</li>
+     *   <li>top: 추천 - 비추천 순</li>
+     *   <li>best: 추천 비율의 Wilson 하한 순 (투표 수가 적은 댓글의 비율을 보수적으로 평가)</li>
+     *   <li>controversial: 추천/비추천이 많고 팽팽한 순</li>
+     * </ul>
+     * 모두 저장된 컬럼과 {@code (post_id, parent_id, ...)} 인덱스로 DB 에서 정렬한다.
+     */
     private Sort resolveSort(String rawSort) {
         String sort = (rawSort == null || rawSort.isBlank())
                 ? "new"
                 : rawSort.toLowerCase();
 
         return switch (sort) {
-            case "new", "recent" -> Sort.by(Sort.Direction.DESC, "createdAt");
-            // case "top" -> Sort.by(Sort.Direction.DESC, "score"); // 나중에 필요하면 추가
-            default -> Sort.by(Sort.Direction.DESC, "createdAt");
+            case "old" -> Sort.by(Sort.Direction.ASC, "createdAt", "commentId");
+            case "top" -> Sort.by(Sort.Direction.DESC, "score", "commentId");
+            case "best" -> Sort.by(Sort.Direction.DESC, "bestScore", "commentId");
+            case "controversial" -> Sort.by(Sort.Direction.DESC, "controversy", "commentId");
+            default -> Sort.by(Sort.Direction.DESC, "createdAt", "commentId");
         };
     }
-
-    /**
-     * 현재 로그인 유저의 "댓글 투표값"을 한 번에 조회하여 Map으로 반환.
-     */
-    private Map<CommentIdWrapper, Integer> resolveMyVotesMap(MemberId viewerId, List<Comment> comments) {
-        if (viewerId == null || comments.isEmpty()) return Map.of();
-
-        List<CommentIdWrapper> ids = comments.stream()
-                .map(c -> new CommentIdWrapper(c.commentId()))
-                .toList();
-
-        List<MyCommentVote> votes = commentVoteRepository.findMyVotesByCommentIds(
-                viewerId,
-                comments.stream().map(Comment::commentId).toList()
-        );
-
-        return votes.stream()
-                .collect(Collectors.toMap(
-                        v -> new CommentIdWrapper(v.id()),
-                        MyCommentVote::value
-                ));
-    }
-
-    /**
-     * Comment → CommentSummaryDTO 매핑.
-     */
-    private CommentSummaryDTO toSummaryDTO(
-            Comment c,
-            Post post,
-            MemberId viewerId,
-            Map<CommentIdWrapper, Integer> myVotesMap,
-            Map<MemberId, Member> authorCache
-    ) {
-        Member author = resolveAuthor(c.authorId(), authorCache);
-
-        boolean mine = viewerId != null && viewerId.equals(author.memberId());
-        boolean deleted = (c.status() == CommentStatus.DELETED);
-        String body = deleted ? null : c.body().value();
-
-        Integer myVote = myVotesMap.getOrDefault(new CommentIdWrapper(c.commentId()), null);
-
-        return CommentSummaryDTO.builder()
-                .commentId(c.commentId().stringify())
-                .postId(c.postId().stringify())
-                .parentCommentId(c.parentId() != null ? c.parentId().stringify() : null)
-                .depth(c.depth())
-                .authorId(author.memberId().stringify())
-                .authorDisplayName(author.displayName().value())
-                .mine(mine)
-                .deleted(deleted)
-                .edited(c.edited()) // 도메인에 추가한 플래그 사용
-                .body(body)
-                .upCount(c.upCount())
-                .downCount(c.downCount())
-                .score(c.score())
-                .myVote(myVote)
-                .createdAt(c.createdAt())
-                .updatedAt(c.updatedAt())
-                .children(List.of()) // lazy loading → 항상 비움
-                .build();
-    }
-
-    private Member resolveAuthor(MemberId authorId, Map<MemberId, Member> cache) {
-        Member cached = cache.get(authorId);
-        if (cached != null) return cached;
-
-        Member loaded = loadAuthorForCommentPort.loadById(authorId)
-                .orElseThrow(() -> new MemberNotFound("Member not found: " + authorId.stringify()));
-        cache.put(authorId, loaded);
-        return loaded;
-    }
-
-    /**
-     * CommentId 를 Map key에서 쓰기 위한 래퍼 (equals/hashCode 명시).
-     * record CommentId 자체에 equals/hashCode가 이미 구현되어 있다면 이 래퍼는 생략 가능.
-     */
-    private record CommentIdWrapper(com.y11i.springcommddd.comments.domain.CommentId id) {}
 }
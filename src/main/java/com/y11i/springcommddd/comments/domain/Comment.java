@@ -5,6 +5,7 @@ import com.y11i.springcommddd.comments.domain.exception.InvalidCommentDepth;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.PostId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,25 +30,40 @@ import java.util.Objects;
  *       <li>{@code post_id}</li>
  *       <li>{@code parent_id}</li>
  *       <li>{@code (post_id, parent_id, created_at)} — 루트 및 자식 댓글의 시간순 조회 최적화</li>
+ *       <li>{@code (post_id, path)} — 게시글 전체 / 특정 댓글 하위 트리를 범위 조회 한 번으로 로드 ({@link CommentPath})</li>
+ *       <li>{@code (post_id, parent_id, score|best_score|controversy, comment_id)} — top/best/controversial 정렬</li>
+ *       <li>{@code (status, comment_id)} — 삭제 댓글 정리 작업의 키셋 순회</li>
  *     </ul>
  *   </li>
  *   <li>감사 필드: {@link #createdAt}, {@link #updatedAt}</li>
  *   <li>낙관적 락 버전: {@link #version}</li>
+ *   <li>변경된 컬럼만 UPDATE ({@link DynamicUpdate}) — 투표 집계를 단일 UPDATE 로 더하는 동안 편집 저장이 이전 집계값을 덮어쓰지 않도록</li>
  * </ul>
  *
  * <p><b>불변식/규칙</b></p>
  * <ul>
- *   <li>{@code depth &gt;= 0}</li>
+ *   <li>{@code 0 &lt;= depth &lt;= }{@link CommentPath#MAX_DEPTH}</li>
+ *   <li>{@link #replyCount} 는 바로 아래 자식 댓글 수(삭제 상태 포함) — 대댓글 페이지의 총 개수로 쓰여 COUNT 쿼리가 필요 없음</li>
+ *   <li>{@link #lastReplyAt} 은 바로 아래 자식 댓글 중 가장 최근 작성 시각 (정리 작업으로 지워진 자식 포함, 자식이 남지 않으면 null)</li>
+ *   <li>{@link #path} 는 부모 경로 + 자기 세그먼트 (생성 시 한 번 정해지고 바뀌지 않음)</li>
  *   <li>삭제 상태({@link CommentStatus#DELETED})인 댓글은 편집/재삭제 불가</li>
+ *   <li>삭제 후 보존 기간이 지나면 정리 작업이 본문을 비우고({@link #body} = null), 자식이 없으면 행을 지운다</li>
  *   <li>투표 집계는 0 미만으로 내려가지 않음</li>
+ *   <li>{@link #score}, {@link #bestScore}, {@link #controversy} 는 투표 변경 시 {@link CommentRanking} 으로 함께 갱신</li>
  * </ul>
  */
 @Entity
 @Table(name = "comments", indexes = {
         @Index(name = "idx_comments_post", columnList = "post_id"),
         @Index(name = "idx_comments_parent", columnList = "parent_id"),
-        @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, created_at")
+        @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, created_at"),
+        @Index(name = "idx_comments_post_path", columnList = "post_id, path"),
+        @Index(name = "idx_comments_post_parent_score", columnList = "post_id, parent_id, score, comment_id"),
+        @Index(name = "idx_comments_post_parent_best", columnList = "post_id, parent_id, best_score, comment_id"),
+        @Index(name = "idx_comments_post_parent_controversy", columnList = "post_id, parent_id, controversy, comment_id"),
+        @Index(name = "idx_comments_status", columnList = "status, comment_id")
 })
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 @Access(AccessType.FIELD)
 public class Comment {
@@ -70,6 +86,11 @@ public class Comment {
     @Column(name = "depth", nullable = false)
     private int depth;
 
+    /** 트리 경로 (materialized path, {@link CommentPath}) */
+    @Column(name = "path", length = CommentPath.MAX_LENGTH)
+    private String path;
+
+    /** 본문. 삭제 후 보존 기간이 지나 정리된 댓글은 null */
     @Embedded
     private CommentBody body;
 
@@ -97,16 +118,37 @@ public class Comment {
     @Column(name="down_count", nullable=false)
     private int downCount = 0;
 
+    /** 추천 수 - 비추천 수 (비정규화, top 정렬용) */
+    @Column(name="score", nullable=false)
+    private int score = 0;
+
+    /** best 정렬 점수 (비정규화, {@link CommentRanking#best}). 컬럼 도입 이전에 저장된 댓글은 null 이며 기동 시 채워진다. */
+    @Column(name="best_score")
+    private Double bestScore = 0d;
+
+    /** controversial 정렬 점수 (비정규화, {@link CommentRanking#controversy}) */
+    @Column(name="controversy", nullable=false)
+    private double controversy = 0d;
+
+    /** 자식 댓글 수. 컬럼 도입 이전에 저장된 댓글은 null 이며 기동 시 채워진다. */
+    @Column(name="reply_count")
+    private Integer replyCount = 0;
+
+    /** 가장 최근 자식 댓글 작성 시각. 자식 수와 함께 단일 UPDATE 로 갱신된다. */
+    @Column(name="last_reply_at")
+    private Instant lastReplyAt;
+
     /** JPA 기본 생성자. 외부에서 직접 호출하지 않습니다. */
     protected  Comment() {}
 
-    private Comment(PostId postId, MemberId authorId, CommentId parentId, int depth, CommentBody body) {
+    private Comment(PostId postId, MemberId authorId, Comment parent, int depth, CommentBody body) {
         this.commentId = CommentId.newId();
         this.postId = Objects.requireNonNull(postId);
         this.authorId = Objects.requireNonNull(authorId);
-        this.parentId = parentId; // nullable
-        if (depth < 0) throw new InvalidCommentDepth(depth);
+        this.parentId = parent != null ? parent.commentId() : null; // nullable
+        if (depth < 0 || depth > CommentPath.MAX_DEPTH) throw new InvalidCommentDepth(depth);
         this.depth = depth;
+        this.path = CommentPath.childOf(parent != null ? parent.path() : null, Instant.now(), this.commentId);
         this.body = Objects.requireNonNull(body);
         this.status = CommentStatus.VISIBLE;
         this.isEdited = false;
@@ -137,7 +179,7 @@ public class Comment {
         return new Comment(
                 postId,
                 authorId,
-                parent.commentId(),
+                parent,
                 parent.depth() + 1,
                 new CommentBody(body)
         );
@@ -199,6 +241,7 @@ public class Comment {
         if (newValue == -1) downCount++;
         if (upCount < 0) upCount = 0;
         if (downCount < 0) downCount = 0;
+        recalculateRanking();
     }
 
     // -----------------------------------------------------
@@ -214,6 +257,12 @@ public class Comment {
         if (status == CommentStatus.DELETED) throw new CommentDeletedModificationNotAllowed(msg);
     }
 
+    private void recalculateRanking() {
+        this.score = upCount - downCount;
+        this.bestScore = CommentRanking.best(upCount, downCount);
+        this.controversy = CommentRanking.controversy(upCount, downCount);
+    }
+
     // -----------------------------------------------------
     // 접근자 (게터 섹션)
     // -----------------------------------------------------
@@ -228,7 +277,9 @@ public class Comment {
     public CommentId parentId() { return parentId; }
     /** 댓글 깊이(루트=0) */
     public int depth() { return depth; }
-    /** 댓글 본문 값 객체 */
+    /** 트리 경로 ({@link CommentPath}) */
+    public String path() { return path; }
+    /** 댓글 본문 값 객체 (정리된 삭제 댓글은 {@code null}) */
     public CommentBody body() { return body; }
     /** 댓글 상태 */
     public CommentStatus status() { return status; }
@@ -242,8 +293,16 @@ public class Comment {
     public int upCount(){ return upCount; }
     /** 비추천 수를 반환합니다. */
     public int downCount(){ return downCount; }
-    /** 점수(추천 - 비추천)를 계산해 반환합니다. */
+    /** 점수(추천 - 비추천)를 계산해 반환합니다. ({@link #score} 컬럼과 같음) */
     public int score(){ return upCount - downCount; }
+    /** best 정렬 점수를 반환합니다. (아직 채워지지 않았으면 0) */
+    public double bestScore(){ return bestScore != null ? bestScore : 0d; }
+    /** controversial 정렬 점수를 반환합니다. */
+    public double controversy(){ return controversy; }
+    /** 자식 댓글 수를 반환합니다. (아직 채워지지 않았으면 0) */
+    public int replyCount(){ return replyCount != null ? replyCount : 0; }
+    /** 가장 최근 자식 댓글 작성 시각을 반환합니다. (자식이 없으면 null) */
+    public Instant lastReplyAt(){ return lastReplyAt; }
 
     public boolean edited() { return isEdited; }
 }
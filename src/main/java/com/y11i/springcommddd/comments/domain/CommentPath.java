@@ -0,0 +1,66 @@
+package com.y11i.springcommddd.comments.domain;
+
+import java.time.Instant;
+
+/**
+ * 댓글 트리의 materialized path 규칙.
+ *
+ * <p>
+ * 각 댓글의 경로는 "부모 경로 + 자기 세그먼트" 이며, 세그먼트는 고정 길이({@value #SEGMENT_LENGTH}자)다.
+ * </p>
+ * <ul>
+ *   <li>세그먼트 = 작성 시각(epoch ms, base36 8자) + 댓글 ID 에서 뽑은 값(base36 4자)</li>
+ *   <li>경로 문자열 순으로 정렬하면 트리를 깊이 우선(형제는 작성 순)으로 순회한 순서가 된다</li>
+ *   <li>어떤 댓글의 하위 트리 전체 = 같은 게시글에서 그 댓글의 경로로 시작하는 댓글들
+ *       → {@code (post_id, path)} 인덱스 범위 조회 한 번으로 읽을 수 있다</li>
+ * </ul>
+ */
+public final class CommentPath {
+
+    /** 세그먼트 하나의 길이 */
+    public static final int SEGMENT_LENGTH = 12;
+
+    /** 경로 컬럼 최대 길이 ({@code (post_id, path)} 인덱스 키 길이 제한 안쪽) */
+    public static final int MAX_LENGTH = 750;
+
+    /** 허용하는 최대 깊이 (루트 = 0) */
+    public static final int MAX_DEPTH = MAX_LENGTH / SEGMENT_LENGTH - 1;
+
+    private static final int TIME_LENGTH = 8;
+    private static final int SUFFIX_LENGTH = SEGMENT_LENGTH - TIME_LENGTH;
+    private static final long SUFFIX_MODULUS = 36L * 36 * 36 * 36;
+
+    private CommentPath() {}
+
+    /**
+     * 부모 경로 아래에 새 댓글의 경로를 만든다.
+     *
+     * @param parentPath 부모 댓글 경로 (루트 댓글이면 null)
+     * @param createdAt  작성 시각
+     * @param commentId  새 댓글 ID
+     */
+    public static String childOf(String parentPath, Instant createdAt, CommentId commentId) {
+        return (parentPath == null ? "" : parentPath) + segment(createdAt, commentId);
+    }
+
+    /**
+     * 세그먼트 하나를 만든다. 같은 부모 아래에서 작성 시각 순으로 정렬된다.
+     */
+    static String segment(Instant createdAt, CommentId commentId) {
+        String time = pad(Long.toString(createdAt.toEpochMilli(), 36), TIME_LENGTH);
+        long suffix = (commentId.id().getLeastSignificantBits() >>> 1) % SUFFIX_MODULUS;
+        return time + pad(Long.toString(suffix, 36), SUFFIX_LENGTH);
+    }
+
+    /**
+     * 경로가 나타내는 깊이. (루트 = 0)
+     */
+    public static int depthOf(String path) {
+        return path.length() / SEGMENT_LENGTH - 1;
+    }
+
+    private static String pad(String s, int length) {
+        if (s.length() >= length) return s.substring(s.length() - length);
+        return "0".repeat(length - s.length()) + s;
+    }
+}
@@ -0,0 +1,65 @@
+package com.y11i.springcommddd.comments.domain;
+
+/**
+ * 댓글 정렬 점수 계산기.
+ *
+ * <p><b>best</b> — 추천 비율의 Wilson score 신뢰구간 하한 (신뢰수준 80%)</p>
+ * <pre>
+ * n     = up + down
+ * p     = up / n
+ * best  = (p + z²/2n - z·sqrt(p(1-p)/n + z²/4n²)) / (1 + z²/n)
+ * </pre>
+ * <p>
+ * 표본이 적은 댓글의 비율을 보수적으로 낮춰, 1추천 0비추천이 100추천 10비추천보다 앞서지 않게 한다.
+ * </p>
+ *
+ * <p><b>controversial</b> — 추천/비추천이 많으면서 팽팽할수록 큰 값</p>
+ * <pre>
+ * controversy = (up + down) ^ (min(up, down) / max(up, down))   (한쪽이 0이면 0)
+ * </pre>
+ *
+ * <p>
+ * 두 값 모두 추천/비추천 수에만 의존하므로 투표가 바뀔 때만 다시 계산해 컬럼에 저장하고 인덱스로 정렬한다.
+ * </p>
+ */
+public final class CommentRanking {
+
+    /** 신뢰수준 80% 에 해당하는 z 값 */
+    private static final double Z = 1.281551565545;
+
+    private CommentRanking() {}
+
+    /**
+     * best 점수(Wilson score 하한)를 계산합니다.
+     *
+     * @param up   추천 수
+     * @param down 비추천 수
+     * @return 0 이상 1 이하의 값 (투표가 없으면 0)
+     */
+    public static double best(int up, int down) {
+        int n = up + down;
+        if (n <= 0) return 0d;
+
+        double p = (double) up / n;
+        double z2 = Z * Z;
+        double left = p + z2 / (2d * n);
+        double right = Z * Math.sqrt(p * (1 - p) / n + z2 / (4d * n * n));
+        double under = 1 + z2 / n;
+        return (left - right) / under;
+    }
+
+    /**
+     * controversial 점수를 계산합니다.
+     *
+     * @param up   추천 수
+     * @param down 비추천 수
+     * @return 0 이상의 값 (추천 또는 비추천이 없으면 0)
+     */
+    public static double controversy(int up, int down) {
+        if (up <= 0 || down <= 0) return 0d;
+
+        int magnitude = up + down;
+        double balance = up > down ? (double) down / up : (double) up / down;
+        return Math.pow(magnitude, balance);
+    }
+}
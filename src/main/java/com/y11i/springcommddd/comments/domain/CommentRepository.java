@@ -4,6 +4,7 @@ import com.y11i.springcommddd.posts.domain.PostId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,11 +49,19 @@ public interface CommentRepository {
      */
     Optional<Comment> findById(CommentId id);
 
+    /**
+     * 여러 댓글을 한 번에 조회합니다.
+     *
+     * @param ids 조회할 댓글 식별자 목록
+     * @return 존재하는 {@link Comment} 목록 (순서 보장 없음)
+     */
+    List<Comment> findAllById(Collection<CommentId> ids);
+
     /**
      * 특정 게시글에 속한 루트 댓글(부모가 없는 댓글)을 페이징하여 조회합니다.
      *
      * @param postId   조회할 게시글의 식별자
-     * @param pageable 페이지 및 정렬 정보
+     * @param pageable 페이지 및 정렬 정보 (정렬이 없으면 작성 순)
      * @return 루트 댓글의 {@link Page}
      */
     Page<Comment> findRootsByPostId(PostId postId, Pageable pageable);
@@ -68,6 +77,46 @@ public interface CommentRepository {
      */
     List<Comment> findByParentId(CommentId parentId);
 
+    /**
+     * 특정 부모 댓글의 자식 댓글 한 페이지를 조회합니다.
+     * <p>
+     * {@code (post_id, parent_id, ...)} 인덱스 순서대로 필요한 행만 읽으며, 총 개수는 세지 않습니다.
+     * 총 개수는 {@link #countReplies(CommentId)} 를 사용합니다.
+     * </p>
+     *
+     * @param postId   게시글의 식별자
+     * @param parentId 부모 댓글의 식별자
+     * @param pageable 페이지 및 정렬 정보 (정렬이 없으면 작성 순)
+     * @return 해당 페이지의 자식 댓글 목록
+     */
+    List<Comment> findRepliesByParentId(PostId postId, CommentId parentId, Pageable pageable);
+
+    /**
+     * 특정 부모 댓글의 자식 댓글 수를 반환합니다.
+     * <p>
+     * 부모에 저장된 자식 수를 읽으며, 아직 채워지지 않은 댓글만 직접 셉니다.
+     * </p>
+     *
+     * @param parentId 부모 댓글의 식별자
+     * @return 자식 댓글 수 (부모가 없으면 0)
+     */
+    long countReplies(CommentId parentId);
+
+    /**
+     * 게시글의 댓글 트리(또는 특정 댓글의 하위 트리)를 경로 순으로 조회합니다.
+     * <p>
+     * {@code (post_id, path)} 인덱스 범위 조회 한 번으로 읽으며,
+     * 결과는 깊이 우선 순회 순서(형제는 작성 순)입니다. 부모는 항상 자식보다 앞에 옵니다.
+     * </p>
+     *
+     * @param postId     게시글 식별자
+     * @param pathPrefix 하위 트리 루트의 경로 (null 이면 게시글 전체)
+     * @param maxDepth   포함할 최대 깊이 (절대값, 루트 = 0)
+     * @param limit      최대 댓글 수
+     * @return 경로 순 댓글 목록
+     */
+    List<Comment> findSubtree(PostId postId, String pathPrefix, int maxDepth, int limit);
+
     /**
      * 특정 게시글의 모든 댓글을 계층 관계와 상관없이 조회합니다.
      * <p>
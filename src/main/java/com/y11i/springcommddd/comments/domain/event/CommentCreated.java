@@ -0,0 +1,16 @@
+package com.y11i.springcommddd.comments.domain.event;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+/**
+ * 댓글이 작성되었음을 알리는 도메인 이벤트.
+ *
+ * <p>
+ * 게시글의 댓글 수처럼 다른 애그리게잇에 속한 집계는 이 이벤트를 받아 커밋 이후 비동기로 맞춘다.
+ * </p>
+ *
+ * @param commentId 새 댓글 ID
+ * @param postId    댓글이 달린 게시글 ID
+ */
+public record CommentCreated(CommentId commentId, PostId postId) {}
@@ -0,0 +1,13 @@
+package com.y11i.springcommddd.comments.domain.event;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+/**
+ * 댓글이 보이는 상태(VISIBLE)에 들어가거나 벗어났음을 알리는 도메인 이벤트.
+ *
+ * @param commentId 댓글 ID
+ * @param postId    댓글이 달린 게시글 ID
+ * @param visible   VISIBLE 이 되었으면 true, VISIBLE 에서 벗어났으면(삭제 등) false
+ */
+public record CommentVisibilityChanged(CommentId commentId, PostId postId, boolean visible) {}
@@ -0,0 +1,8 @@
+package com.y11i.springcommddd.comments.domain.exception;
+
+import com.y11i.springcommddd.common.api.ErrorCode;
+import com.y11i.springcommddd.common.exception.BaseException;
+
+public class InvalidCommentCursor extends BaseException {
+    public InvalidCommentCursor(String message) { super(ErrorCode.COMMENT_CURSOR_INVALID, message); }
+}
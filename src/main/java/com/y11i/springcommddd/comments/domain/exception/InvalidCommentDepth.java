@@ -1,10 +1,11 @@
 package com.y11i.springcommddd.comments.domain.exception;
 
+import com.y11i.springcommddd.comments.domain.CommentPath;
 import com.y11i.springcommddd.common.api.ErrorCode;
 import com.y11i.springcommddd.common.exception.BaseException;
 
 public class InvalidCommentDepth extends BaseException {
     public InvalidCommentDepth(int value) {
-        super(ErrorCode.COMMENT_DEPTH_INVALID, "depth must be >= 0, but was " + value);
+        super(ErrorCode.COMMENT_DEPTH_INVALID, "depth must be between 0 and " + CommentPath.MAX_DEPTH + ", but was " + value);
     }
 }
@@ -0,0 +1,133 @@
+package com.y11i.springcommddd.comments.dto.internal;
+
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.exception.InvalidCommentCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 댓글 목록 키셋(커서) 페이지네이션용 커서.
+ *
+ * <p>
+ * 마지막으로 내려준 댓글의 정렬 값과 {@code commentId}를 담는다.
+ * 클라이언트에는 {@link #encode()} 결과(불투명 문자열)만 노출하며,
+ * 다음 요청에서 {@link #decode(String)}로 복원해 해당 위치 "다음"부터 바로 조회한다.
+ * </p>
+ *
+ * <p><b>정렬별 키</b></p>
+ * <ul>
+ *   <li>{@code new}: (createdAt DESC, commentId DESC)</li>
+ *   <li>{@code old}: (createdAt ASC, commentId ASC)</li>
+ *   <li>{@code top}: (score DESC, commentId DESC)</li>
+ *   <li>{@code best}: (bestScore DESC, commentId DESC)</li>
+ *   <li>{@code controversial}: (controversy DESC, commentId DESC)</li>
+ * </ul>
+ *
+ * @param sort        정규화된 정렬 키
+ * @param score       마지막 댓글의 점수 (top 정렬에서만 사용)
+ * @param bestScore   마지막 댓글의 best 점수 (best 정렬에서만 사용)
+ * @param controversy 마지막 댓글의 controversial 점수 (controversial 정렬에서만 사용)
+ * @param createdAt   마지막 댓글의 작성 시각 (new / old 정렬에서만 사용)
+ * @param commentId   마지막 댓글 ID (동순위 tie-breaker)
+ */
+public record CommentCursor(
+        String sort,
+        int score,
+        double bestScore,
+        double controversy,
+        Instant createdAt,
+        UUID commentId
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 키를 커서가 지원하는 값으로 정규화한다. (미지원 값은 "new")
+     */
+    public static String normalizeSort(String sortKey) {
+        if (sortKey == null || sortKey.isBlank()) return "new";
+        return switch (sortKey.toLowerCase()) {
+            case "old" -> "old";
+            case "top" -> "top";
+            case "best" -> "best";
+            case "controversial" -> "controversial";
+            default -> "new";
+        };
+    }
+
+    /**
+     * 페이지의 마지막 댓글로부터 다음 페이지용 커서를 만든다.
+     */
+    public static CommentCursor after(String sortKey, Comment last) {
+        return new CommentCursor(
+                normalizeSort(sortKey),
+                last.score(),
+                last.bestScore(),
+                last.controversy(),
+                last.createdAt(),
+                last.commentId().id()
+        );
+    }
+
+    /**
+     * 커서를 URL-safe 불투명 문자열로 인코딩한다.
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                sort,
+                Integer.toString(score),
+                Double.toString(bestScore),
+                Double.toString(controversy),
+                Long.toString(createdAt.getEpochSecond()),
+                Integer.toString(createdAt.getNano()),
+                commentId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 복원한다.
+     *
+     * @param encoded {@link #encode()} 로 만든 문자열
+     * @return 복원된 커서
+     * @throws InvalidCommentCursor 형식이 잘못된 경우
+     */
+    public static CommentCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 8 || !VERSION.equals(parts[0])) {
+                throw new InvalidCommentCursor("Malformed comment cursor");
+            }
+            String sort = parts[1];
+            if (!sort.equals(normalizeSort(sort))) {
+                throw new InvalidCommentCursor("Unsupported cursor sort: " + sort);
+            }
+            return new CommentCursor(
+                    sort,
+                    Integer.parseInt(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Double.parseDouble(parts[4]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[5]), Integer.parseInt(parts[6])),
+                    UUID.fromString(parts[7])
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCommentCursor("Malformed comment cursor");
+        }
+    }
+
+    /**
+     * 커서가 요청된 정렬과 같은 정렬로 만들어졌는지 검증한다.
+     *
+     * @throws InvalidCommentCursor 정렬이 다른 경우
+     */
+    public void ensureSort(String sortKey) {
+        if (!sort.equals(normalizeSort(sortKey))) {
+            throw new InvalidCommentCursor("Cursor was issued for sort '" + sort + "'");
+        }
+    }
+}
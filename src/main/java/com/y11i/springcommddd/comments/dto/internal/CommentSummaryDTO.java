@@ -38,6 +38,9 @@ public record CommentSummaryDTO(
         int score,                 // upCount - downCount
         Integer myVote,            // 현재 유저의 투표값: -1 / 0 / 1 (미투표면 null)
 
+        int replyCount,            // 바로 아래 자식 댓글 수 (삭제 상태 포함) — "N개의 답글" / 더 보기 판단용
+        Instant lastReplyAt,       // 가장 최근 자식 댓글 작성 시각 (자식이 없으면 null)
+
         Instant createdAt,
         Instant updatedAt,
 
@@ -45,4 +48,30 @@ public record CommentSummaryDTO(
 ) {
     @Builder
     public CommentSummaryDTO{}
+
+    /**
+     * 추천/비추천 수와 자식 수를 바꾼 사본을 반환한다. (캐시된 노드 + 별도로 갱신되는 집계)
+     */
+    public CommentSummaryDTO withCounters(int upCount, int downCount, int replyCount, Instant lastReplyAt) {
+        return new CommentSummaryDTO(
+                commentId, postId, parentCommentId, depth, authorId, authorDisplayName,
+                mine, deleted, edited, body, upCount, downCount, upCount - downCount, myVote,
+                replyCount, lastReplyAt, createdAt, updatedAt, children
+        );
+    }
+
+    /**
+     * 뷰어별 값과 자식 목록을 덧씌운 사본을 반환한다. (뷰어와 무관한 공용 노드 + 뷰어별 mine / myVote)
+     *
+     * @param mine     뷰어가 작성자인지
+     * @param myVote   1 / -1, 투표하지 않았으면 null
+     * @param children 자식 노드 목록
+     */
+    public CommentSummaryDTO withViewer(boolean mine, Integer myVote, List<CommentSummaryDTO> children) {
+        return new CommentSummaryDTO(
+                commentId, postId, parentCommentId, depth, authorId, authorDisplayName,
+                mine, deleted, edited, body, upCount, downCount, score, myVote,
+                replyCount, lastReplyAt, createdAt, updatedAt, children
+        );
+    }
 }
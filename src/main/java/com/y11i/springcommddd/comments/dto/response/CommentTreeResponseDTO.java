@@ -0,0 +1,16 @@
+package com.y11i.springcommddd.comments.dto.response;
+
+import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+
+import java.util.List;
+
+/**
+ * 댓글 트리 응답.
+ *
+ * @param comments  최상위 댓글 목록 (각 항목의 children 에 하위 트리가 중첩된다)
+ * @param truncated 댓글 수 제한(limit)에 걸려 뒤쪽 트리가 잘렸는지
+ */
+public record CommentTreeResponseDTO(
+        List<CommentSummaryDTO> comments,
+        boolean truncated
+) {}
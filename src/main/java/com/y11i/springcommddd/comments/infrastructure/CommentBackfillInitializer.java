@@ -0,0 +1,167 @@
+package com.y11i.springcommddd.comments.infrastructure;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.CommentPath;
+import com.y11i.springcommddd.comments.domain.CommentRanking;
+import com.y11i.springcommddd.common.lock.JobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 컬럼이 생기기 전에 저장된 댓글의 파생 컬럼을 기동 직후 채운다.
+ *
+ * <ul>
+ *   <li>경로(path): 얕은 깊이부터 500건씩 처리하므로 부모 경로가 항상 먼저 채워진다.
+ *       부모가 없어진 댓글은 루트 위치의 경로를 받는다.</li>
+ *   <li>정렬 점수(score, best_score, controversy): 현재 추천/비추천 수로 500건씩 계산해 채운다.</li>
+ *   <li>자식 수(reply_count), 최근 자식 작성 시각(last_reply_at): 500건씩 부모별 GROUP BY 한 번으로 세어 채운다.
+ *       채워지기 전 댓글에는 대댓글 작성 시의 증감이 반영되지 않으므로 나중에 세어도 정확하다.</li>
+ *   <li>자식 수는 있지만 최근 자식 작성 시각이 없는 댓글(컬럼 도입 이전)은 ID 순 키셋으로 500건씩 같은 방식으로 채운다.</li>
+ * </ul>
+ * <p>
+ * 엔티티를 올리지 않고 필요한 컬럼만 읽어, 비어 있는 경우에만 쓰는 벌크 UPDATE 로 채운다.
+ * 버전(@Version)을 올리지 않으므로 기동 직후 들어온 수정/투표와 낙관적 락 충돌을 일으키지 않는다.
+ * 여러 노드가 동시에 떠도 {@link JobLock} 으로 한 노드만 수행하며, 채울 댓글이 없으면 각각 쿼리 한 번으로 끝난다.
+ * 실패하면 기록만 하고 다음 기동에 남은 댓글부터 다시 채운다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentBackfillInitializer {
+    private static final int BATCH_SIZE = 500;
+    /** 키셋 순회 시작점 (가장 작은 UUID) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final String LOCK_NAME = "commentBackfill";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final JpaCommentRepository jpaCommentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobLock jobLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            jobLock.runExclusive(LOCK_NAME, LOCK_TTL, () -> {
+                backfillPaths();
+                backfillRankings();
+                backfillReplyCounts();
+                backfillLastReplyTimes();
+            });
+        } catch (DataAccessException e) {
+            log.warn("comment backfill failed; remaining rows are filled on the next startup", e);
+        }
+    }
+
+    private void backfillPaths() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<JpaCommentRepository.PathBackfillRow> batch = jpaCommentRepository.findPathBackfillRows(page);
+                // 같은 배치에서 먼저 채운 부모의 경로 (깊이 순이므로 부모가 항상 앞선다)
+                Map<UUID, String> assigned = new HashMap<>();
+                for (JpaCommentRepository.PathBackfillRow row : batch) {
+                    String parentPath = row.getParentId() == null
+                            ? null
+                            : assigned.getOrDefault(row.getParentId(), row.getParentPath());
+                    Instant at = row.getCreatedAt() != null ? row.getCreatedAt() : Instant.now();
+                    CommentId commentId = new CommentId(row.getId());
+                    String path = CommentPath.childOf(parentPath, at, commentId);
+                    jpaCommentRepository.backfillPath(commentId, path);
+                    assigned.put(row.getId(), path);
+                }
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("comment paths backfilled: {}", filled);
+    }
+
+    private void backfillRankings() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<JpaCommentRepository.VoteCounterRow> batch = jpaCommentRepository.findVoteCountersWithoutRanking(page);
+                for (JpaCommentRepository.VoteCounterRow row : batch) {
+                    jpaCommentRepository.backfillRanking(new CommentId(row.getId()),
+                            CommentRanking.best(row.getUp(), row.getDown()),
+                            CommentRanking.controversy(row.getUp(), row.getDown()));
+                }
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("comment rankings backfilled: {}", filled);
+    }
+
+    private void backfillReplyCounts() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<CommentId> batch = jpaCommentRepository.findIdsWithoutReplyCount(page);
+                if (batch.isEmpty()) return 0;
+                Map<UUID, JpaCommentRepository.ReplyCountRow> counts = countReplies(batch);
+                for (CommentId id : batch) {
+                    JpaCommentRepository.ReplyCountRow row = counts.get(id.id());
+                    jpaCommentRepository.backfillReplyCount(id,
+                            row != null ? (int) row.getCnt() : 0, row != null ? row.getLastAt() : null);
+                }
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("comment reply counts backfilled: {}", filled);
+    }
+
+    private void backfillLastReplyTimes() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        UUID[] after = {MIN_ID};
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<CommentId> batch = jpaCommentRepository.findRepliedIdsWithoutLastReplyAtAfter(after[0], page);
+                if (batch.isEmpty()) return 0;
+                Map<UUID, JpaCommentRepository.ReplyCountRow> counts = countReplies(batch);
+                for (CommentId id : batch) {
+                    JpaCommentRepository.ReplyCountRow row = counts.get(id.id());
+                    if (row != null && row.getLastAt() != null) jpaCommentRepository.backfillLastReplyAt(id, row.getLastAt());
+                }
+                after[0] = batch.get(batch.size() - 1).id();
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("comment last reply times backfilled: {}", filled);
+    }
+
+    private Map<UUID, JpaCommentRepository.ReplyCountRow> countReplies(List<CommentId> parentIds) {
+        return jpaCommentRepository.countRepliesByParentIds(parentIds).stream()
+                .collect(Collectors.toMap(JpaCommentRepository.ReplyCountRow::getId, r -> r));
+    }
+}
@@ -0,0 +1,59 @@
+package com.y11i.springcommddd.comments.infrastructure;
+
+import com.y11i.springcommddd.comments.application.port.out.CompactCommentsPort;
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link CompactCommentsPort} 의 JPA 기반 구현체.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentCompactionAdapter implements CompactCommentsPort {
+    /** 키셋 순회 시작점 (가장 작은 UUID) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final JpaCommentRepository jpaCommentRepository;
+    private final CommentVoteRepository commentVoteRepository;
+
+    @Override
+    public List<CommentId> loadCompactable(Instant deletedBefore, CommentId after, int limit) {
+        return jpaCommentRepository.findCompactableAfter(
+                        deletedBefore, after == null ? MIN_ID : after.id(), PageRequest.of(0, limit)).stream()
+                .map(CommentId::new)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int clearBodies(Collection<CommentId> commentIds) {
+        if (commentIds.isEmpty()) return 0;
+        return jpaCommentRepository.clearDeletedBodies(commentIds);
+    }
+
+    @Override
+    @Transactional
+    public List<Comment> lockRemovableLeaves(Collection<CommentId> commentIds) {
+        if (commentIds.isEmpty()) return List.of();
+        return jpaCommentRepository.lockDeletedLeaves(commentIds);
+    }
+
+    @Override
+    @Transactional
+    public void removeAll(Collection<CommentId> commentIds) {
+        if (commentIds.isEmpty()) return;
+        commentVoteRepository.deleteAllByCommentIds(commentIds);
+        jpaCommentRepository.deleteAllByIds(commentIds);
+    }
+}
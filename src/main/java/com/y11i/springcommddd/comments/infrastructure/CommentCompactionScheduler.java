@@ -0,0 +1,43 @@
+package com.y11i.springcommddd.comments.infrastructure;
+
+import com.y11i.springcommddd.comments.application.port.in.CompactDeletedCommentsUseCase;
+import com.y11i.springcommddd.common.lock.JobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 보존 기간이 지난 삭제 댓글을 주기적으로 정리하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code comments.compaction.cron} (기본 매일 05:00, {@code "-"} 면 비활성화)<br>
+ * - 보존 기간, 묶음 크기, 묶음 사이 대기 시간은 {@code comments.compaction.retention-days} /
+ *   {@code comments.compaction.chunk-size} / {@code comments.compaction.pause-ms}<br>
+ * - 모든 노드에서 cron 이 돌지만 {@link JobLock} 을 잡은 한 노드만 정리한다.
+ *   (여러 노드가 같은 잎 댓글을 두고 잠금 경쟁을 하거나 트리 캐시를 중복으로 고치지 않도록)<br>
+ * - 묶음 사이 대기 동안 스케줄러 스레드를 잡고 있으므로, 다른 주기 작업은 스케줄러 풀의 다른 스레드에서 돈다.
+ *   ({@code SchedulingConfig} 참고)
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCompactionScheduler {
+    private static final String LOCK_NAME = "commentCompaction";
+    private static final Duration LOCK_TTL = Duration.ofHours(3);
+
+    private final CompactDeletedCommentsUseCase compactDeletedCommentsUseCase;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${comments.compaction.cron:0 0 5 * * *}")
+    public void compact() {
+        try {
+            jobLock.runExclusive(LOCK_NAME, LOCK_TTL, compactDeletedCommentsUseCase::compact);
+        } catch (RuntimeException e) {
+            log.warn("deleted comment compaction failed", e);
+        }
+    }
+}
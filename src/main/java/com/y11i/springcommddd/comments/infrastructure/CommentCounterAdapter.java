@@ -0,0 +1,98 @@
+package com.y11i.springcommddd.comments.infrastructure;
+
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.CommentRanking;
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UpdateCommentCountersPort} 의 JPA 기반 구현체.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentCounterAdapter implements UpdateCommentCountersPort {
+    /** 키셋 순회 시작점 (가장 작은 UUID) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final JpaCommentRepository jpaCommentRepository;
+
+    @Override
+    @Transactional
+    public Optional<VoteTally> addVoteCounts(CommentId commentId, int upDelta, int downDelta) {
+        if (jpaCommentRepository.addVoteCounts(commentId, upDelta, downDelta) == 0) return Optional.empty();
+        return refreshRanking(commentId)
+                .map(r -> new VoteTally(commentId, new PostId(r.getPostId()), r.getUp(), r.getDown()));
+    }
+
+    @Override
+    @Transactional
+    public boolean recordReply(CommentId parentId, Instant repliedAt) {
+        return jpaCommentRepository.recordReply(parentId, repliedAt) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void removeReplies(Map<CommentId, Integer> removedByParent) {
+        // 지워진 자식 수가 같은 부모끼리 묶어 UPDATE 한 번으로 반영한다. (대부분 1)
+        removedByParent.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, parentIds) -> jpaCommentRepository.removeReplies(parentIds, count));
+    }
+
+    @Override
+    public List<VoteCounter> loadVoteCounters(CommunityId communityId, CommentId after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        UUID from = after == null ? MIN_ID : after.id();
+        List<JpaCommentRepository.VoteCounterRow> rows = communityId == null
+                ? jpaCommentRepository.findVoteCountersAfter(from, page)
+                : jpaCommentRepository.findVoteCountersInCommunityAfter(communityId, from, page);
+        return rows.stream()
+                .map(r -> new VoteCounter(new CommentId(r.getId()), r.getUp(), r.getDown()))
+                .toList();
+    }
+
+    @Override
+    public List<VoteCounter> loadVoteCountersByIds(Collection<CommentId> commentIds) {
+        if (commentIds.isEmpty()) return List.of();
+        return jpaCommentRepository.findVoteCountersByIds(commentIds).stream()
+                .map(r -> new VoteCounter(new CommentId(r.getId()), r.getUp(), r.getDown()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean replaceVoteCounts(CommentId commentId, int expectedUp, int expectedDown, int up, int down) {
+        if (jpaCommentRepository.replaceVoteCounts(commentId, expectedUp, expectedDown, up, down) == 0) return false;
+        refreshRanking(commentId);
+        return true;
+    }
+
+    /**
+     * 추천/비추천 수가 바뀐 댓글의 best / controversial 점수를 다시 계산한다. (엔티티를 올리지 않도록 프로젝션으로 조회)
+     *
+     * @return 다시 계산에 쓴 집계값
+     */
+    private Optional<JpaCommentRepository.VoteTallyRow> refreshRanking(CommentId commentId) {
+        Optional<JpaCommentRepository.VoteTallyRow> row = jpaCommentRepository.findVoteTallyById(commentId);
+        row.ifPresent(r -> jpaCommentRepository.updateRanking(
+                commentId,
+                CommentRanking.best(r.getUp(), r.getDown()),
+                CommentRanking.controversy(r.getUp(), r.getDown())));
+        return row;
+    }
+}
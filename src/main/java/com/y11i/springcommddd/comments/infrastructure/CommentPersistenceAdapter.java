@@ -4,29 +4,45 @@ import com.y11i.springcommddd.comments.application.port.out.*;
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
 import com.y11i.springcommddd.comments.domain.CommentRepository;
+import com.y11i.springcommddd.comments.dto.internal.CommentCursor;
+import com.y11i.springcommddd.iam.application.port.out.LoadMemberPort;
 import com.y11i.springcommddd.iam.domain.Member;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.iam.domain.MemberRepository;
-import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.PostRepository;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CommentPersistenceAdapter implements LoadCommentPort, SaveCommentPort, LoadPostForCommentPort, LoadAuthorForCommentPort, QueryCommentPort {
+    /** 키셋 시작 위치 (오름차순 / 내림차순 정렬의 첫 페이지) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    private static final Instant MAX_TIME = Instant.parse("9999-12-31T23:59:59Z");
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final LoadMemberPort loadMemberPort;
+    private final JpaCommentRepository jpaCommentRepository;
 
     @Override
     public Optional<Comment> loadById(CommentId id) {
@@ -34,8 +50,14 @@ public class CommentPersistenceAdapter implements LoadCommentPort, SaveCommentPo
     }
 
     @Override
-    public Optional<Post> loadById(PostId postId) {
-        return postRepository.findById(postId);
+    public List<Comment> loadAllByIds(Collection<CommentId> ids) {
+        if (ids.isEmpty()) return List.of();
+        return commentRepository.findAllById(ids);
+    }
+
+    @Override
+    public Optional<PostRef> loadRefById(PostId postId) {
+        return postRepository.findRefById(postId);
     }
 
     @Override
@@ -58,7 +80,7 @@ public class CommentPersistenceAdapter implements LoadCommentPort, SaveCommentPo
     /**
      * 특정 부모 댓글의 자식 댓글 목록 조회.
      *
-     * <p>lazy loading 이므로, 페이징/정렬을 허용한다.</p>
+     * <p>요청한 페이지의 행만 DB 에서 읽고, 총 개수는 부모에 저장된 자식 수를 사용한다.</p>
      *
      * @param postId 게시글 ID
      * @param parentId 부모 ID
@@ -66,33 +88,85 @@ public class CommentPersistenceAdapter implements LoadCommentPort, SaveCommentPo
      */
     @Override
     public Page<Comment> findReplies(PostId postId, CommentId parentId, Pageable pageable) {
-        // 1) 부모 기준 전체 자식 댓글 로드
-        List<Comment> allReplies = commentRepository.findByParentId(parentId);
-
-        if (allReplies.isEmpty()) {
-            return Page.empty(pageable);
-        }
+        List<Comment> content = commentRepository.findRepliesByParentId(postId, parentId, pageable);
+        long total = commentRepository.countReplies(parentId);
+        return new PageImpl<>(content, pageable, total);
+    }
 
-        // 2) 인메모리 페이징 계산
-        int page = pageable.getPageNumber();
-        int size = pageable.getPageSize();
-        int total = allReplies.size();
+    /**
+     * 루트 댓글 또는 자식 댓글을 키셋(커서) 방식으로 조회.
+     *
+     * <p>
+     * 첫 페이지는 어떤 댓글보다도 앞서는 시작 위치를 커서로 써서 같은 쿼리로 읽는다.
+     * </p>
+     */
+    @Override
+    public Slice<Comment> scrollComments(PostId postId, @Nullable CommentId parentId, String sortKey,
+                                         @Nullable CommentCursor cursor, int size) {
+        String sort = CommentCursor.normalizeSort(sortKey);
+        Pageable limit = PageRequest.of(0, size + 1);
 
-        int fromIndex = page * size;
-        if (fromIndex >= total) {
-            // 요청한 페이지가 범위를 벗어나면 빈 페이지 반환
-            return new PageImpl<>(List.of(), pageable, total);
+        List<Comment> rows;
+        if (parentId == null) {
+            rows = switch (sort) {
+                case "old" -> jpaCommentRepository.scrollRootsOrderByOldAfter(
+                        postId, cursor != null ? cursor.createdAt() : Instant.EPOCH, afterId(cursor, MIN_ID), limit);
+                case "top" -> jpaCommentRepository.scrollRootsOrderByTopAfter(
+                        postId, cursor != null ? cursor.score() : Integer.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                case "best" -> jpaCommentRepository.scrollRootsOrderByBestAfter(
+                        postId, cursor != null ? cursor.bestScore() : Double.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                case "controversial" -> jpaCommentRepository.scrollRootsOrderByControversialAfter(
+                        postId, cursor != null ? cursor.controversy() : Double.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                default -> jpaCommentRepository.scrollRootsOrderByNewAfter(
+                        postId, cursor != null ? cursor.createdAt() : MAX_TIME, afterId(cursor, MAX_ID), limit);
+            };
+        } else {
+            rows = switch (sort) {
+                case "old" -> jpaCommentRepository.scrollRepliesOrderByOldAfter(
+                        postId, parentId, cursor != null ? cursor.createdAt() : Instant.EPOCH, afterId(cursor, MIN_ID), limit);
+                case "top" -> jpaCommentRepository.scrollRepliesOrderByTopAfter(
+                        postId, parentId, cursor != null ? cursor.score() : Integer.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                case "best" -> jpaCommentRepository.scrollRepliesOrderByBestAfter(
+                        postId, parentId, cursor != null ? cursor.bestScore() : Double.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                case "controversial" -> jpaCommentRepository.scrollRepliesOrderByControversialAfter(
+                        postId, parentId, cursor != null ? cursor.controversy() : Double.MAX_VALUE, afterId(cursor, MAX_ID), limit);
+                default -> jpaCommentRepository.scrollRepliesOrderByNewAfter(
+                        postId, parentId, cursor != null ? cursor.createdAt() : MAX_TIME, afterId(cursor, MAX_ID), limit);
+            };
         }
 
-        int toIndex = Math.min(fromIndex + size, total);
-        List<Comment> pageContent = allReplies.subList(fromIndex, toIndex);
+        boolean hasNext = rows.size() > size;
+        List<Comment> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
 
-        // 3) PageImpl로 래핑
-        return new PageImpl<>(pageContent, pageable, total);
+    private static UUID afterId(@Nullable CommentCursor cursor, UUID start) {
+        return cursor != null ? cursor.commentId() : start;
     }
 
     @Override
     public Optional<Member> loadById(MemberId memberId) {
         return memberRepository.findById(memberId);
     }
+
+    @Override
+    public List<Member> loadAuthorsByIds(Collection<MemberId> memberIds) {
+        return loadMemberPort.loadAllByIds(memberIds);
+    }
+
+    /**
+     * 게시글의 댓글 트리(또는 하위 트리)를 경로 순으로 조회.
+     */
+    @Override
+    public List<Comment> findSubtree(PostId postId, String pathPrefix, int maxDepth, int limit) {
+        return commentRepository.findSubtree(postId, pathPrefix, maxDepth, limit);
+    }
+
+    /**
+     * 게시글에 달린 댓글 수.
+     */
+    @Override
+    public long countByPostId(PostId postId) {
+        return commentRepository.countByPostId(postId);
+    }
 }
@@ -6,11 +6,16 @@ import com.y11i.springcommddd.comments.domain.CommentRepository;
 import com.y11i.springcommddd.posts.application.port.out.LoadCommentCountPort;
 import com.y11i.springcommddd.posts.domain.PostId;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -51,10 +56,14 @@ public class CommentRepositoryAdapter implements CommentRepository, LoadCommentC
     @Override
     public Optional<Comment> findById(CommentId id) { return jpa.findById(id); }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Comment> findAllById(Collection<CommentId> ids) { return jpa.findAllById(ids); }
+
     /** {@inheritDoc} */
     @Override
     public Page<Comment> findRootsByPostId(PostId postId, Pageable pageable) {
-        return jpa.findByPostIdAndParentIdIsNullOrderByCreatedAtAsc(postId, pageable);
+        return jpa.findByPostIdAndParentIdIsNull(postId, withDefaultSort(pageable));
     }
 
     /** {@inheritDoc} */
@@ -63,12 +72,41 @@ public class CommentRepositoryAdapter implements CommentRepository, LoadCommentC
         return jpa.findByParentIdOrderByCreatedAtAsc(parentId);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Comment> findRepliesByParentId(PostId postId, CommentId parentId, Pageable pageable) {
+        return jpa.findReplies(postId, parentId, withDefaultSort(pageable));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long countReplies(CommentId parentId) {
+        int stored = jpa.findReplyCountById(parentId).orElse(0);
+        return stored >= 0 ? stored : jpa.countByParentId(parentId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Comment> findSubtree(PostId postId, String pathPrefix, int maxDepth, int limit) {
+        String pattern = (pathPrefix == null ? "" : pathPrefix) + "%";
+        return jpa.findSubtree(postId, pattern, maxDepth, PageRequest.of(0, limit));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Page<Comment> findByPostId(PostId postId, Pageable pageable) {
         return jpa.findByPostId(postId, pageable);
     }
 
+    /**
+     * 정렬이 지정되지 않았으면 작성 순(동률은 ID 순)으로 정렬한다.
+     */
+    private static Pageable withDefaultSort(Pageable pageable) {
+        if (pageable.getSort().isSorted()) return pageable;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.ASC, "createdAt", "commentId"));
+    }
+
     /**
      * 특정 게시글에 달린 댓글 수를 반환합니다.
      *
@@ -79,4 +117,15 @@ public class CommentRepositoryAdapter implements CommentRepository, LoadCommentC
     public long countByPostId(PostId postId) {
         return jpa.countByPostId(postId);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<PostId, Integer> countVisibleByPostIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<PostId, Integer> result = new HashMap<>();
+        for (JpaCommentRepository.VisibleCountRow row : jpa.countVisibleByPostIds(postIds)) {
+            result.put(new PostId(row.getId()), (int) row.getCnt());
+        }
+        return result;
+    }
 }
@@ -2,12 +2,22 @@ package com.y11i.springcommddd.comments.infrastructure;
 
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Spring Data JPA 기반의 댓글 리포지토리.
@@ -29,13 +39,13 @@ import java.util.List;
 public interface JpaCommentRepository extends JpaRepository<Comment, CommentId> {
 
     /**
-     * 특정 게시글의 루트 댓글(부모가 없는 댓글)을 작성일 순으로 페이징 조회합니다.
+     * 특정 게시글의 루트 댓글(부모가 없는 댓글)을 페이징 조회합니다.
      *
      * @param postId   게시글 식별자
      * @param pageable 페이지 및 정렬 정보
      * @return 루트 댓글 목록을 포함한 {@link Page}
      */
-    Page<Comment> findByPostIdAndParentIdIsNullOrderByCreatedAtAsc(PostId postId, Pageable pageable);
+    Page<Comment> findByPostIdAndParentIdIsNull(PostId postId, Pageable pageable);
 
     /**
      * 특정 부모 댓글의 자식 댓글을 작성일 순으로 조회합니다.
@@ -45,6 +55,245 @@ public interface JpaCommentRepository extends JpaRepository<Comment, CommentId>
      */
     List<Comment> findByParentIdOrderByCreatedAtAsc(CommentId parentId);
 
+    /**
+     * 특정 부모 댓글의 자식 댓글을 한 페이지만 조회합니다.
+     * <p>
+     * 정렬 기준에 맞는 {@code (post_id, parent_id, ...)} 인덱스를 순서대로 읽으며, COUNT 쿼리를 실행하지 않습니다.
+     * </p>
+     */
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+           """)
+    List<Comment> findReplies(@Param("postId") PostId postId,
+                              @Param("parentId") CommentId parentId,
+                              Pageable pageable);
+
+    // -------------------- 키셋(커서) 목록 --------------------
+    // 정렬 값과 댓글 ID 가 (value, id) 보다 "뒤"인 댓글을 정렬 순서대로 읽는다.
+    // 정렬마다 (post_id, parent_id, <정렬 값>, ...) 인덱스를 타며, OFFSET / COUNT 가 없다.
+    // 첫 페이지는 어떤 댓글보다도 앞서는 위치(CommentCursor 의 시작값)를 넘긴다.
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId is null
+             and (c.createdAt < :value
+                  or (c.createdAt = :value and c.commentId.id < :commentId))
+           order by c.createdAt desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRootsOrderByNewAfter(
+            @Param("postId") PostId postId,
+            @Param("value") Instant value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+             and (c.createdAt < :value
+                  or (c.createdAt = :value and c.commentId.id < :commentId))
+           order by c.createdAt desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRepliesOrderByNewAfter(
+            @Param("postId") PostId postId,
+            @Param("parentId") CommentId parentId,
+            @Param("value") Instant value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId is null
+             and (c.createdAt > :value
+                  or (c.createdAt = :value and c.commentId.id > :commentId))
+           order by c.createdAt asc, c.commentId.id asc
+           """)
+    List<Comment> scrollRootsOrderByOldAfter(
+            @Param("postId") PostId postId,
+            @Param("value") Instant value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+             and (c.createdAt > :value
+                  or (c.createdAt = :value and c.commentId.id > :commentId))
+           order by c.createdAt asc, c.commentId.id asc
+           """)
+    List<Comment> scrollRepliesOrderByOldAfter(
+            @Param("postId") PostId postId,
+            @Param("parentId") CommentId parentId,
+            @Param("value") Instant value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId is null
+             and (c.score < :value
+                  or (c.score = :value and c.commentId.id < :commentId))
+           order by c.score desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRootsOrderByTopAfter(
+            @Param("postId") PostId postId,
+            @Param("value") int value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+             and (c.score < :value
+                  or (c.score = :value and c.commentId.id < :commentId))
+           order by c.score desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRepliesOrderByTopAfter(
+            @Param("postId") PostId postId,
+            @Param("parentId") CommentId parentId,
+            @Param("value") int value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId is null
+             and (c.bestScore < :value
+                  or (c.bestScore = :value and c.commentId.id < :commentId))
+           order by c.bestScore desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRootsOrderByBestAfter(
+            @Param("postId") PostId postId,
+            @Param("value") double value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+             and (c.bestScore < :value
+                  or (c.bestScore = :value and c.commentId.id < :commentId))
+           order by c.bestScore desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRepliesOrderByBestAfter(
+            @Param("postId") PostId postId,
+            @Param("parentId") CommentId parentId,
+            @Param("value") double value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId is null
+             and (c.controversy < :value
+                  or (c.controversy = :value and c.commentId.id < :commentId))
+           order by c.controversy desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRootsOrderByControversialAfter(
+            @Param("postId") PostId postId,
+            @Param("value") double value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.parentId = :parentId
+             and (c.controversy < :value
+                  or (c.controversy = :value and c.commentId.id < :commentId))
+           order by c.controversy desc, c.commentId.id desc
+           """)
+    List<Comment> scrollRepliesOrderByControversialAfter(
+            @Param("postId") PostId postId,
+            @Param("parentId") CommentId parentId,
+            @Param("value") double value,
+            @Param("commentId") UUID commentId,
+            Pageable limit
+    );
+
+    /**
+     * 댓글에 저장된 자식 수를 조회합니다. (댓글이 없으면 빈 값, 아직 채워지지 않았으면 -1)
+     */
+    @Query("select coalesce(c.replyCount, -1) from Comment c where c.commentId = :commentId")
+    Optional<Integer> findReplyCountById(@Param("commentId") CommentId commentId);
+
+    long countByParentId(CommentId parentId);
+
+    /**
+     * 자식 수가 비어 있는 댓글의 ID 를 조회합니다. (자식 수 보정용)
+     */
+    @Query("select c.commentId from Comment c where c.replyCount is null")
+    List<CommentId> findIdsWithoutReplyCount(Pageable pageable);
+
+    /**
+     * 비어 있는 자식 수와 최근 자식 작성 시각을 채웁니다. (자식 수 보정용, 버전을 올리지 않는 벌크 UPDATE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.replyCount = :replyCount,
+                  c.lastReplyAt = :lastReplyAt
+            where c.commentId = :commentId
+              and c.replyCount is null
+           """)
+    int backfillReplyCount(@Param("commentId") CommentId commentId,
+                           @Param("replyCount") int replyCount,
+                           @Param("lastReplyAt") Instant lastReplyAt);
+
+    /**
+     * 비어 있는 최근 자식 작성 시각을 채웁니다. (최근 자식 작성 시각 보정용, 버전을 올리지 않는 벌크 UPDATE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.lastReplyAt = :lastReplyAt
+            where c.commentId = :commentId
+              and c.lastReplyAt is null
+           """)
+    int backfillLastReplyAt(@Param("commentId") CommentId commentId, @Param("lastReplyAt") Instant lastReplyAt);
+
+    /**
+     * 주어진 부모 댓글들의 자식 수를 부모별로 셉니다.
+     */
+    @Query("""
+           select c.parentId.id as id, count(c) as cnt, max(c.createdAt) as lastAt
+           from Comment c
+           where c.parentId in :parentIds
+           group by c.parentId.id
+           """)
+    List<ReplyCountRow> countRepliesByParentIds(@Param("parentIds") Collection<CommentId> parentIds);
+
+    /**
+     * 자식이 있지만 최근 자식 작성 시각이 비어 있는 댓글의 ID 를 ID 순으로 조회합니다. (최근 자식 작성 시각 보정용 키셋 순회)
+     */
+    @Query("""
+           select c.commentId from Comment c
+           where c.replyCount > 0
+             and c.lastReplyAt is null
+             and c.commentId.id > :after
+           order by c.commentId.id
+           """)
+    List<CommentId> findRepliedIdsWithoutLastReplyAtAfter(@Param("after") UUID after, Pageable pageable);
+
     /**
      * 특정 게시글의 모든 댓글을 페이징하여 조회합니다.
      * <p>
@@ -58,4 +307,283 @@ public interface JpaCommentRepository extends JpaRepository<Comment, CommentId>
     Page<Comment> findByPostId(PostId postId, Pageable pageable); // 선택
 
     long countByPostId(PostId postId);
+
+    /**
+     * 경로가 {@code pathPattern}(접두사 + '%')으로 시작하는 댓글을 경로 순으로 조회합니다.
+     * {@code (post_id, path)} 인덱스를 범위로 읽습니다.
+     */
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId
+             and c.path like :pathPattern
+             and c.depth <= :maxDepth
+           order by c.path
+           """)
+    List<Comment> findSubtree(@Param("postId") PostId postId,
+                              @Param("pathPattern") String pathPattern,
+                              @Param("maxDepth") int maxDepth,
+                              Pageable pageable);
+
+    /**
+     * 경로가 비어 있는 댓글을 얕은 깊이부터 부모 경로와 함께 조회합니다. (경로 보정용, 부모가 없어졌으면 parentPath 는 null)
+     */
+    @Query("""
+           select c.commentId.id as id, c.parentId.id as parentId, c.createdAt as createdAt, p.path as parentPath
+           from Comment c
+           left join Comment p on p.commentId.id = c.parentId.id
+           where c.path is null
+           order by c.depth
+           """)
+    List<PathBackfillRow> findPathBackfillRows(Pageable pageable);
+
+    /**
+     * 비어 있는 경로를 채웁니다. (경로 보정용, 버전을 올리지 않는 벌크 UPDATE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Comment c set c.path = :path where c.commentId = :commentId and c.path is null")
+    int backfillPath(@Param("commentId") CommentId commentId, @Param("path") String path);
+
+    /**
+     * 표시 상태 댓글의 추천/비추천 수에 증감분을 더합니다.
+     *
+     * <p>
+     * JPQL 벌크 UPDATE 이므로 버전이 증가하지 않고, 각 카운터는 0 미만으로 내려가지 않습니다.
+     * 영속성 컨텍스트에 남은 이전 값을 읽지 않도록 실행 후 비웁니다.
+     * (MariaDB 는 SET 을 왼쪽부터 평가하므로 score 를 먼저 두어 이전 추천/비추천 수로 계산합니다)
+     * </p>
+     *
+     * @return 갱신된 행 수 (댓글이 없거나 삭제 상태면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.score = (case when c.upCount + :up < 0 then 0 else c.upCount + :up end)
+                          - (case when c.downCount + :down < 0 then 0 else c.downCount + :down end),
+                  c.upCount = case when c.upCount + :up < 0 then 0 else c.upCount + :up end,
+                  c.downCount = case when c.downCount + :down < 0 then 0 else c.downCount + :down end
+            where c.commentId = :commentId
+              and c.status = com.y11i.springcommddd.comments.domain.CommentStatus.VISIBLE
+           """)
+    int addVoteCounts(@Param("commentId") CommentId commentId, @Param("up") int up, @Param("down") int down);
+
+    /**
+     * 자식 댓글 하나가 달렸음을 반영합니다. 자식 수에 1을 더하고 최근 자식 작성 시각을 앞으로만 옮깁니다.
+     * (JPQL 벌크 UPDATE 이므로 버전이 증가하지 않으며, 자식 수가 아직 채워지지 않은 댓글은 자식 수를 그대로 둡니다)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.replyCount = c.replyCount + 1,
+                  c.lastReplyAt = case when c.lastReplyAt is null or c.lastReplyAt < :repliedAt
+                                       then :repliedAt else c.lastReplyAt end
+            where c.commentId = :commentId
+           """)
+    int recordReply(@Param("commentId") CommentId commentId, @Param("repliedAt") Instant repliedAt);
+
+    /**
+     * 자식 댓글 {@code count} 개가 지워졌음을 반영합니다. 자식 수에서 빼고(0 미만으로 내려가지 않음), 자식이 남지 않으면 최근 자식 작성 시각을 비웁니다.
+     * (MariaDB 는 SET 을 왼쪽부터 평가하므로 최근 자식 작성 시각을 먼저 두어 둘 다 이전 자식 수로 판단하며, 자식 수가 아직 채워지지 않은 댓글은 건드리지 않습니다)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.lastReplyAt = case when c.replyCount > :count then c.lastReplyAt else null end,
+                  c.replyCount = case when c.replyCount > :count then c.replyCount - :count else 0 end
+            where c.commentId in :commentIds
+              and c.replyCount is not null
+           """)
+    int removeReplies(@Param("commentIds") Collection<CommentId> commentIds, @Param("count") int count);
+
+    /**
+     * 보존 기간이 지난 삭제 댓글 중 정리할 것이 남은(본문이 남아 있거나 자식이 없는) 댓글 ID 를 ID 순으로 조회합니다. (정리 작업용 키셋 순회)
+     * 삭제된 댓글은 더 이상 편집되지 않으므로 마지막 수정 시각을 삭제 시각으로 봅니다.
+     */
+    @Query("""
+           select c.commentId.id from Comment c
+           where c.status = com.y11i.springcommddd.comments.domain.CommentStatus.DELETED
+             and c.updatedAt < :deletedBefore
+             and (c.body.value is not null or c.replyCount = 0)
+             and c.commentId.id > :after
+           order by c.commentId.id
+           """)
+    List<UUID> findCompactableAfter(@Param("deletedBefore") Instant deletedBefore,
+                                    @Param("after") UUID after,
+                                    Pageable pageable);
+
+    /**
+     * 삭제 상태 댓글의 본문을 비웁니다. (이미 비운 댓글은 건너뜀)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.body.value = null
+            where c.commentId in :commentIds
+              and c.status = com.y11i.springcommddd.comments.domain.CommentStatus.DELETED
+              and c.body.value is not null
+           """)
+    int clearDeletedBodies(@Param("commentIds") Collection<CommentId> commentIds);
+
+    /**
+     * 자식이 없는 삭제 상태 댓글을 쓰기 잠금과 함께 조회합니다.
+     * 잠근 동안 같은 댓글에 달리는 대댓글은 {@link #recordReply} 에서 기다렸다가 댓글이 지워졌으면 0 을 받습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           select c from Comment c
+           where c.commentId in :commentIds
+             and c.status = com.y11i.springcommddd.comments.domain.CommentStatus.DELETED
+             and c.replyCount = 0
+           """)
+    List<Comment> lockDeletedLeaves(@Param("commentIds") Collection<CommentId> commentIds);
+
+    /**
+     * 주어진 댓글들을 지웁니다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from Comment c where c.commentId in :commentIds")
+    int deleteAllByIds(@Param("commentIds") Collection<CommentId> commentIds);
+
+    /**
+     * 추천/비추천 수를 주어진 값으로 바꿉니다.
+     * 현재 값이 기대값과 같을 때만 바뀌므로, 그 사이 반영된 증감분을 덮어쓰지 않습니다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.upCount = :up,
+                  c.downCount = :down,
+                  c.score = :up - :down
+            where c.commentId = :commentId
+              and c.upCount = :expectedUp
+              and c.downCount = :expectedDown
+           """)
+    int replaceVoteCounts(@Param("commentId") CommentId commentId,
+                          @Param("expectedUp") int expectedUp,
+                          @Param("expectedDown") int expectedDown,
+                          @Param("up") int up,
+                          @Param("down") int down);
+
+    /**
+     * 댓글 한 건의 게시글 ID 와 추천/비추천 수만 조회합니다. (정렬 점수 재계산 / 트리 캐시 갱신용)
+     */
+    @Query("""
+           select c.commentId.id as id, c.postId.id as postId, c.upCount as up, c.downCount as down
+           from Comment c
+           where c.commentId = :commentId
+           """)
+    Optional<VoteTallyRow> findVoteTallyById(@Param("commentId") CommentId commentId);
+
+    /**
+     * best / controversial 정렬 점수만 갱신합니다. (JPQL 벌크 UPDATE 이므로 버전이 증가하지 않습니다)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.bestScore = :bestScore,
+                  c.controversy = :controversy
+            where c.commentId = :commentId
+           """)
+    int updateRanking(@Param("commentId") CommentId commentId,
+                      @Param("bestScore") double bestScore,
+                      @Param("controversy") double controversy);
+
+    /**
+     * 정렬 점수가 비어 있는 댓글의 추천/비추천 수를 조회합니다. (정렬 점수 보정용)
+     */
+    @Query("select c.commentId.id as id, c.upCount as up, c.downCount as down from Comment c where c.bestScore is null")
+    List<VoteCounterRow> findVoteCountersWithoutRanking(Pageable pageable);
+
+    /**
+     * 비어 있는 정렬 점수를 채웁니다. (정렬 점수 보정용, 버전을 올리지 않는 벌크 UPDATE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Comment c
+              set c.score = c.upCount - c.downCount,
+                  c.bestScore = :bestScore,
+                  c.controversy = :controversy
+            where c.commentId = :commentId
+              and c.bestScore is null
+           """)
+    int backfillRanking(@Param("commentId") CommentId commentId,
+                        @Param("bestScore") double bestScore,
+                        @Param("controversy") double controversy);
+
+    /**
+     * {@code after} 보다 큰 ID 의 댓글 추천/비추천 수를 ID 순으로 조회합니다. (대사 작업용 키셋 순회)
+     */
+    @Query("""
+           select c.commentId.id as id, c.upCount as up, c.downCount as down
+           from Comment c
+           where c.commentId.id > :after
+           order by c.commentId.id
+           """)
+    List<VoteCounterRow> findVoteCountersAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * {@link #findVoteCountersAfter} 의 커뮤니티 한정 버전. (커뮤니티에 속한 게시글의 댓글)
+     */
+    @Query("""
+           select c.commentId.id as id, c.upCount as up, c.downCount as down
+           from Comment c
+           where c.commentId.id > :after
+             and c.postId in (select p.postId from Post p where p.communityId = :communityId)
+           order by c.commentId.id
+           """)
+    List<VoteCounterRow> findVoteCountersInCommunityAfter(@Param("communityId") CommunityId communityId,
+                                                          @Param("after") UUID after,
+                                                          Pageable pageable);
+
+    /**
+     * 주어진 댓글들의 추천/비추천 수를 조회합니다. (일괄 투표 응답용, 엔티티를 올리지 않음)
+     */
+    @Query("""
+           select c.commentId.id as id, c.upCount as up, c.downCount as down
+           from Comment c
+           where c.commentId in :ids
+           """)
+    List<VoteCounterRow> findVoteCountersByIds(@Param("ids") Collection<CommentId> ids);
+
+    interface ReplyCountRow {
+        UUID getId();
+        long getCnt();
+        Instant getLastAt();
+    }
+
+    interface PathBackfillRow {
+        UUID getId();
+        UUID getParentId();
+        Instant getCreatedAt();
+        String getParentPath();
+    }
+
+    interface VoteCounterRow {
+        UUID getId();
+        int getUp();
+        int getDown();
+    }
+
+    interface VoteTallyRow {
+        UUID getId();
+        UUID getPostId();
+        int getUp();
+        int getDown();
+    }
+
+    /**
+     * 게시글별 보이는(삭제되지 않은) 댓글 수를 셉니다. (게시글 댓글 수 대사용, 댓글이 없는 게시글은 결과에 없음)
+     */
+    @Query("""
+           select c.postId.id as id, count(c) as cnt
+           from Comment c
+           where c.postId in :postIds
+             and c.status = com.y11i.springcommddd.comments.domain.CommentStatus.VISIBLE
+           group by c.postId.id
+           """)
+    List<VisibleCountRow> countVisibleByPostIds(@Param("postIds") Collection<PostId> postIds);
+
+    interface VisibleCountRow {
+        UUID getId();
+        long getCnt();
+    }
 }
@@ -0,0 +1,549 @@
+package com.y11i.springcommddd.comments.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.comments.domain.CommentPath;
+import com.y11i.springcommddd.comments.dto.internal.CommentSummaryDTO;
+import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 게시글 단위 댓글 트리 캐시 ({@link CommentTreeCachePort} 구현체).
+ *
+ * <p><b>키</b> (게시글마다)</p>
+ * <ul>
+ *   <li>{@code commentTree:{postId}:order} — 정렬 집합 (score 0, member = "path|commentId").
+ *       사전순 = 경로순이므로 하위 트리는 ZRANGEBYLEX 범위 하나로 읽는다</li>
+ *   <li>{@code commentTree:{postId}:nodes} — 뷰어와 무관한 요약 JSON 해시 (field = commentId, 집계 값은 아래 키가 우선)</li>
+ *   <li>{@code commentTree:{postId}:counters} — 집계 해시 (field = "{commentId}:u" / ":d" / ":r", 추천 / 비추천 / 자식 수)</li>
+ *   <li>{@code commentTree:{postId}:lastReply} — 최근 자식 작성 시각 정렬 집합 (member = commentId, score = epoch ms)</li>
+ *   <li>{@code commentTree:{postId}:ready} — 채우기가 끝나 조회해도 되는지 (TTL {@code comments.tree-cache.ttl-ms})</li>
+ *   <li>{@code commentTree:{postId}:filling} — 채우기 잠금 (TTL)</li>
+ *   <li>{@code commentTree:{postId}:dirty} — 채우는 중에 집계가 바뀐 댓글 집합 (member = commentId)</li>
+ *   <li>{@code commentTree:{postId}:inflight} — 커밋 중인 집계 변경 (member = 변경마다 임의 토큰, score = 만료 epoch ms)</li>
+ *   <li>{@code commentTree:{postId}:skip} — 최대 노드 수를 넘어 캐시하지 않는 게시글 표시 (TTL)</li>
+ * </ul>
+ *
+ * <p><b>채우기와 patch 의 경합</b><br>
+ * 채우기는 잠금 후 데이터 키를 지우고 나서 DB 를 읽으며, 노드는 HSETNX 로 비어 있는 항목만 기록한다.
+ * 노드 patch 는 커밋 이후 HSET 으로 덮어쓴다. 따라서 DB 조회 전에 커밋된 변경은 조회 결과에, 이후 커밋된 변경은 patch 에 담기고
+ * 채우기가 patch 를 이전 값으로 되돌리지 않는다. (노드는 통째로 덮어쓰므로 두 번 반영돼도 같다)
+ * </p>
+ *
+ * <p><b>집계</b><br>
+ * 준비된 트리에서는 추천/비추천/자식 수를 patch 의 HINCRBY 로 더하고, 최근 자식 작성 시각은 ZADD GT 로 더 늦은 값만 남긴다. (Redis 6.2 이상)
+ * 두 트랜잭션의 patch 가 커밋과 다른 순서로 도착해도 결과가 같다.
+ * 채우는 중에는 patch 가 집계를 더하지 않고 댓글 ID 를 {@code dirty} 에 넣기만 한다. (준비 여부 확인과 반영은 Lua 스크립트 하나로 원자적)
+ * 채우기는 DB 에서 읽은 값으로 집계를 덮어쓰고, {@code dirty} 에 든 댓글을 다시 읽어 덮어쓰기를 {@code dirty} 가 빌 때까지 반복한 뒤에야
+ * ready 를 세운다. 그래서 DB 조회 결과에 이미 담긴 변경이 patch 로 한 번 더 더해지지 않고, 조회 이후 커밋된 변경도 잃지 않는다.
+ * </p>
+ *
+ * <p>
+ * 커밋 직후 patch 가 늦게 도착하면(커밋은 DB 조회 전, patch 는 ready 이후) 같은 변경이 두 번 더해질 수 있다.
+ * 이를 막기 위해 집계 patch 는 커밋 직전에 {@code inflight} 에 토큰을 넣고 patch 와 함께 뺀다.
+ * ready 는 {@code inflight} 가 비어 있을 때만 세우므로, ready 이후 HINCRBY 되는 변경은 모두 채우기의 DB 조회 이후에 커밋된 것이다.
+ * 토큰은 노드가 죽어도 {@code FILL_LOCK_TTL} 이 지나면 무시된다.
+ * </p>
+ *
+ * <p>
+ * patch 는 캐시가 준비됐거나 채우는 중인 게시글에만 적용한다. 데이터 키는 ready 보다 조금 더 오래 살아
+ * ready 가 남아 있는 동안 데이터가 먼저 사라지지 않는다.
+ * 작성자 표시 이름 변경이나 대사 작업의 집계 보정은 patch 하지 않고 TTL 로 반영된다.
+ * 댓글 수가 {@code comments.tree-cache.max-nodes} 를 넘는 게시글은 캐시하지 않는다. ({@code skip} 표시 동안 요청 범위만 DB 에서 읽음)
+ * 정리 작업의 노드 제거(ZREM / HDEL)는 채우기와 겹치면 되살아날 수 있지만, 이미 삭제 표시로 보이던 노드이므로 TTL 로 정리된다.
+ * Redis 오류 시 조회는 "캐시 없음"으로 응답해 DB 조회로 대체된다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCommentTreeCache implements CommentTreeCachePort {
+
+    private static final String KEY_PREFIX = "commentTree:";
+    private static final Duration FILL_LOCK_TTL = Duration.ofSeconds(30);
+    /** 트리가 준비됐으면 집계에 증감분을 더하고, 채우는 중이면 댓글만 dirty 로 표시한다. (커밋 중 표시도 함께 뺀다) */
+    private static final RedisScript<Long> PATCH_COUNTERS = new DefaultRedisScript<>("""
+            -- KEYS: ready, filling, dirty, inflight, counters, lastReply, order, nodes
+            -- ARGV: inflight token, commentId, up, down, replies, repliedAt ms, data ttl ms, fill lock ttl ms
+            if ARGV[1] ~= '' then redis.call('ZREM', KEYS[4], ARGV[1]) end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              if ARGV[3] ~= '0' then redis.call('HINCRBY', KEYS[5], ARGV[2] .. ':u', ARGV[3]) end
+              if ARGV[4] ~= '0' then redis.call('HINCRBY', KEYS[5], ARGV[2] .. ':d', ARGV[4]) end
+              if ARGV[5] ~= '0' then redis.call('HINCRBY', KEYS[5], ARGV[2] .. ':r', ARGV[5]) end
+              if ARGV[6] ~= '' then redis.call('ZADD', KEYS[6], 'GT', ARGV[6], ARGV[2]) end
+              for i = 5, 8 do redis.call('PEXPIRE', KEYS[i], ARGV[7]) end
+              return 1
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('SADD', KEYS[3], ARGV[2])
+              redis.call('PEXPIRE', KEYS[3], ARGV[8])
+              return 2
+            end
+            return 0
+            """, Long.class);
+    /** 채우는 중에 바뀐 댓글과 커밋 중인 변경이 없으면 ready 를 세운다. 아니면 바뀐 댓글을 꺼내 돌려준다. */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FINISH_FILL = new DefaultRedisScript<>("""
+            -- KEYS: filling, dirty, inflight, ready
+            -- ARGV: ready ttl ms, ready value, now ms
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {'lost'} end
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[3])
+            if redis.call('SCARD', KEYS[2]) == 0 and redis.call('ZCARD', KEYS[3]) == 0 then
+              redis.call('SET', KEYS[4], ARGV[2], 'PX', ARGV[1])
+              redis.call('DEL', KEYS[1])
+              return {'ready'}
+            end
+            local changed = redis.call('SMEMBERS', KEYS[2])
+            redis.call('DEL', KEYS[2])
+            table.insert(changed, 1, 'pending')
+            return changed
+            """, List.class);
+    /** 데이터 키가 ready 키보다 더 살아 있는 시간 */
+    private static final long DATA_TTL_SLACK_MS = 60_000;
+    /** 깊이 조건으로 걸러 가며 ZRANGEBYLEX 를 나눠 읽는 단위 */
+    private static final int SCAN_BATCH = 500;
+    /** counters 해시 field 접미사 (추천 / 비추천 / 자식 수) */
+    private static final String UP = ":u";
+    private static final String DOWN = ":d";
+    private static final String REPLIES = ":r";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 채운 트리를 조회에 쓰는 시간 */
+    @Value("${comments.tree-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    /** 최대 노드 수를 넘은 게시글을 다시 채우려 하지 않는 시간 */
+    @Value("${comments.tree-cache.skip-ttl-ms:300000}")
+    private long skipTtlMs;
+
+    // ----------------------------------------------------
+    // 조회
+    // ----------------------------------------------------
+
+    @Override
+    public Optional<List<CommentSummaryDTO>> findSubtree(PostId postId, String pathPrefix, int maxDepth, int limit) {
+        String id = postId.stringify();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(id)))) return Optional.empty();
+
+            Range<String> range = pathPrefix == null
+                    ? Range.unbounded()
+                    : Range.closed(pathPrefix, pathPrefix + "~"); // '|' < '~' 이므로 기준 댓글 자신도 포함
+            int batch = Math.max(limit, SCAN_BATCH);
+
+            List<String> commentIds = new ArrayList<>();
+            int offset = 0;
+            while (commentIds.size() < limit) {
+                Set<String> members = redisTemplate.opsForZSet()
+                        .rangeByLex(orderKey(id), range, Limit.limit().offset(offset).count(batch));
+                if (members == null || members.isEmpty()) break;
+                for (String member : members) {
+                    int sep = member.indexOf('|');
+                    if (CommentPath.depthOf(member.substring(0, sep)) > maxDepth) continue;
+                    commentIds.add(member.substring(sep + 1));
+                    if (commentIds.size() == limit) break;
+                }
+                if (members.size() < batch) break;
+                offset += batch;
+            }
+            if (commentIds.isEmpty()) return Optional.of(List.of());
+
+            // 노드 / 집계 / 최근 자식 작성 시각을 한 번에 읽는다.
+            String[] fields = commentIds.toArray(String[]::new);
+            String[] counterFields = new String[fields.length * 3];
+            for (int i = 0; i < fields.length; i++) {
+                counterFields[i * 3] = fields[i] + UP;
+                counterFields[i * 3 + 1] = fields[i] + DOWN;
+                counterFields[i * 3 + 2] = fields[i] + REPLIES;
+            }
+            List<Object> read = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.hMGet(nodesKey(id), fields);
+                conn.hMGet(countersKey(id), counterFields);
+                conn.zMScore(lastReplyKey(id), fields);
+                return null;
+            });
+            List<?> nodes = (List<?>) read.get(0);
+            List<?> counters = (List<?>) read.get(1);
+            List<?> lastReplies = (List<?>) read.get(2);
+
+            List<CommentSummaryDTO> result = new ArrayList<>(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                Object json = nodes.get(i);
+                if (json == null) return Optional.empty(); // 만료 도중 등 불완전한 상태 — DB 로 대체
+                CommentSummaryDTO node = objectMapper.readValue(json.toString(), CommentSummaryDTO.class);
+                Object lastReply = lastReplies.get(i);
+                result.add(node.withCounters(
+                        counter(counters.get(i * 3)),
+                        counter(counters.get(i * 3 + 1)),
+                        counter(counters.get(i * 3 + 2)),
+                        lastReply == null ? null : Instant.ofEpochMilli(((Number) lastReply).longValue())));
+            }
+            return Optional.of(result);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("comment tree cache read failed for post {}", id, e);
+            return Optional.empty();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 채우기
+    // ----------------------------------------------------
+
+    @Override
+    public boolean beginFill(PostId postId) {
+        String id = postId.stringify();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(skipKey(id)))) return false;
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(fillingKey(id), "1", FILL_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) return false;
+
+            // 이전 세대의 노드가 채우기 결과에 섞이지 않도록 비운다. (이후 patch 는 잠금을 보고 계속 기록된다)
+            redisTemplate.delete(List.of(readyKey(id), orderKey(id), nodesKey(id), countersKey(id), lastReplyKey(id),
+                    dirtyKey(id)));
+            return true;
+        } catch (DataAccessException e) {
+            log.debug("comment tree cache fill lock failed for post {}", id, e);
+            return false;
+        }
+    }
+
+    @Override
+    public FillProgress finishFill(PostId postId, List<Node> nodes) {
+        String id = postId.stringify();
+        try {
+            List<String> jsons = new ArrayList<>(nodes.size());
+            for (Node node : nodes) jsons.add(objectMapper.writeValueAsString(node.summary()));
+
+            pipelined(conn -> {
+                for (int i = 0; i < nodes.size(); i++) {
+                    CommentSummaryDTO summary = nodes.get(i).summary();
+                    String field = summary.commentId();
+                    conn.zAdd(orderKey(id), 0, member(nodes.get(i)));
+                    // HSETNX: 채우는 중에 커밋된 patch 를 DB 에서 읽은 이전 값으로 덮어쓰지 않는다.
+                    conn.hSetNX(nodesKey(id), field, jsons.get(i));
+                    // 집계는 덮어쓴다: 채우는 중의 patch 는 더하지 않으므로 DB 값이 기준이다.
+                    setCounter(conn, id, field + UP, summary.upCount());
+                    setCounter(conn, id, field + DOWN, summary.downCount());
+                    setCounter(conn, id, field + REPLIES, summary.replyCount());
+                    if (summary.lastReplyAt() != null) {
+                        conn.zAdd(lastReplyKey(id), summary.lastReplyAt().toEpochMilli(), field, ZAddArgs.empty().gt());
+                    }
+                }
+                expireData(conn, id);
+            });
+
+            List<?> result = redisTemplate.execute(FINISH_FILL,
+                    List.of(fillingKey(id), dirtyKey(id), inflightKey(id), readyKey(id)),
+                    String.valueOf(ttlMs), Instant.now().toString(), String.valueOf(System.currentTimeMillis()));
+            if (result == null || result.isEmpty() || !"pending".equals(result.get(0).toString())) {
+                // ready 를 세웠거나, 잠금 TTL 이 지나 다른 채우기에 넘어갔다. (이 경우 ready 를 세우지 않는다)
+                return FillProgress.FINISHED;
+            }
+            List<CommentId> changed = result.subList(1, result.size()).stream()
+                    .map(v -> CommentId.objectify(v.toString()))
+                    .toList();
+            return new FillProgress(false, changed);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("comment tree cache fill failed for post {}", id, e);
+            abandonFill(postId, false);
+            return FillProgress.FINISHED;
+        }
+    }
+
+    @Override
+    public void abandonFill(PostId postId, boolean tooLarge) {
+        String id = postId.stringify();
+        try {
+            if (tooLarge) redisTemplate.opsForValue().set(skipKey(id), "1", Duration.ofMillis(skipTtlMs));
+            redisTemplate.delete(List.of(fillingKey(id), dirtyKey(id)));
+        } catch (DataAccessException e) {
+            log.debug("comment tree cache fill release failed for post {}", id, e);
+        }
+    }
+
+    // ----------------------------------------------------
+    // patch
+    // ----------------------------------------------------
+
+    @Override
+    public void put(PostId postId, Supplier<Node> nodeSupplier) {
+        String id = postId.stringify();
+        afterCommit(() -> {
+            if (!isCachedOrFilling(id)) return;
+            Node node = nodeSupplier.get();
+            CommentSummaryDTO summary = node.summary();
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(summary);
+            } catch (JsonProcessingException e) {
+                redisTemplate.delete(readyKey(id));
+                log.warn("comment tree cache node serialization failed for post {}", id, e);
+                return;
+            }
+            patch(id, conn -> {
+                conn.zAdd(orderKey(id), 0, member(node));
+                // 집계는 counters / lastReply 가 따로 들고 있으므로 노드만 바꾼다. (새 댓글의 집계는 0 에서 시작)
+                conn.hSet(nodesKey(id), summary.commentId(), json);
+                expireData(conn, id);
+            });
+        });
+    }
+
+    @Override
+    public void updateVotes(PostId postId, CommentId commentId, int upDelta, int downDelta) {
+        if (upDelta == 0 && downDelta == 0) return;
+        patchCounters(postId.stringify(), commentId.stringify(), upDelta, downDelta, 0, null);
+    }
+
+    @Override
+    public void recordReply(PostId postId, CommentId parentId, Instant repliedAt) {
+        patchCounters(postId.stringify(), parentId.stringify(), 0, 0, 1, repliedAt);
+    }
+
+    @Override
+    public void removeReplies(PostId postId, CommentId parentId, int removed) {
+        if (removed == 0) return;
+        patchCounters(postId.stringify(), parentId.stringify(), 0, 0, -removed, null);
+    }
+
+    @Override
+    public void remove(PostId postId, CommentId commentId, String path) {
+        String id = postId.stringify();
+        afterCommit(() -> {
+            if (!isCachedOrFilling(id)) return;
+            String field = commentId.stringify();
+            patch(id, conn -> {
+                conn.zRem(orderKey(id), member(path, field));
+                conn.hDel(nodesKey(id), field);
+                conn.hDel(countersKey(id), field + UP, field + DOWN, field + REPLIES);
+                conn.zRem(lastReplyKey(id), field);
+            });
+        });
+    }
+
+    // ----------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------
+
+    private boolean isCachedOrFilling(String id) {
+        Long n = redisTemplate.countExistingKeys(List.of(readyKey(id), fillingKey(id)));
+        return n != null && n > 0;
+    }
+
+    /**
+     * 집계 patch 를 커밋 이후에 보낸다.
+     *
+     * <p>
+     * 트랜잭션 안이면 커밋 직전에 {@code inflight} 토큰을 넣어 두고, 커밋되면 patch 와 함께, 롤백되면 따로 뺀다.
+     * 토큰을 넣지 못해도(Redis 오류) 커밋은 막지 않는다.
+     * </p>
+     */
+    private void patchCounters(String id, String field, int upDelta, int downDelta, int replyDelta,
+                               @Nullable Instant repliedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCounters(id, field, upDelta, downDelta, replyDelta, repliedAt, null);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private String token;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                token = markInflight(id);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    applyCounters(id, field, upDelta, downDelta, replyDelta, repliedAt, token);
+                } else if (token != null) {
+                    releaseInflight(id, token);
+                }
+            }
+        });
+    }
+
+    private void applyCounters(String id, String field, int upDelta, int downDelta, int replyDelta,
+                               @Nullable Instant repliedAt, @Nullable String token) {
+        try {
+            redisTemplate.execute(PATCH_COUNTERS,
+                    List.of(readyKey(id), fillingKey(id), dirtyKey(id), inflightKey(id),
+                            countersKey(id), lastReplyKey(id), orderKey(id), nodesKey(id)),
+                    token == null ? "" : token,
+                    field,
+                    String.valueOf(upDelta),
+                    String.valueOf(downDelta),
+                    String.valueOf(replyDelta),
+                    repliedAt == null ? "" : String.valueOf(repliedAt.toEpochMilli()),
+                    String.valueOf(ttlMs + DATA_TTL_SLACK_MS),
+                    String.valueOf(FILL_LOCK_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            // 캐시 갱신 실패가 이미 커밋된 변경을 실패시키지 않도록 기록만 하고, 이전 값이 조회되지 않도록 ready 를 지운다.
+            log.warn("comment tree cache update failed", e);
+            try {
+                redisTemplate.delete(readyKey(id));
+            } catch (DataAccessException ignored) {
+                // ready 도 지우지 못하면 TTL 로 사라진다.
+            }
+        }
+    }
+
+    /**
+     * 커밋 중인 집계 변경을 표시한다. 채우기는 표시가 남아 있는 동안 ready 를 세우지 않는다.
+     *
+     * @return 넣은 토큰 (Redis 오류면 null)
+     */
+    @Nullable
+    private String markInflight(String id) {
+        String token = UUID.randomUUID().toString();
+        try {
+            pipelined(conn -> {
+                conn.zAdd(inflightKey(id), System.currentTimeMillis() + FILL_LOCK_TTL.toMillis(), token);
+                conn.pExpire(inflightKey(id), FILL_LOCK_TTL.toMillis());
+            });
+            return token;
+        } catch (DataAccessException e) {
+            log.debug("comment tree cache inflight mark failed for post {}", id, e);
+            return null;
+        }
+    }
+
+    private void releaseInflight(String id, String token) {
+        try {
+            redisTemplate.opsForZSet().remove(inflightKey(id), token);
+        } catch (DataAccessException e) {
+            log.debug("comment tree cache inflight release failed for post {}", id, e);
+        }
+    }
+
+    private void setCounter(StringRedisConnection conn, String id, String field, int value) {
+        if (value != 0) conn.hSet(countersKey(id), field, String.valueOf(value));
+        else conn.hDel(countersKey(id), field);
+    }
+
+    /**
+     * 노드 patch 를 보낸다. 실패하면 이전 값이 계속 조회되지 않도록 ready 를 지워 다음 조회가 다시 채우게 한다.
+     */
+    private void patch(String id, Consumer<StringRedisConnection> commands) {
+        try {
+            pipelined(commands);
+        } catch (DataAccessException e) {
+            redisTemplate.delete(readyKey(id));
+            throw e;
+        }
+    }
+
+    private void expireData(StringRedisConnection conn, String id) {
+        long dataTtl = ttlMs + DATA_TTL_SLACK_MS;
+        conn.pExpire(orderKey(id), dataTtl);
+        conn.pExpire(nodesKey(id), dataTtl);
+        conn.pExpire(countersKey(id), dataTtl);
+        conn.pExpire(lastReplyKey(id), dataTtl);
+    }
+
+    private static String member(Node node) {
+        return member(node.path(), node.summary().commentId());
+    }
+
+    private static String member(String path, String commentId) {
+        return path + "|" + commentId;
+    }
+
+    private static int counter(Object value) {
+        return value == null ? 0 : Integer.parseInt(value.toString());
+    }
+
+    private static String orderKey(String postId) {
+        return KEY_PREFIX + postId + ":order";
+    }
+
+    private static String nodesKey(String postId) {
+        return KEY_PREFIX + postId + ":nodes";
+    }
+
+    private static String countersKey(String postId) {
+        return KEY_PREFIX + postId + ":counters";
+    }
+
+    private static String lastReplyKey(String postId) {
+        return KEY_PREFIX + postId + ":lastReply";
+    }
+
+    private static String readyKey(String postId) {
+        return KEY_PREFIX + postId + ":ready";
+    }
+
+    private static String fillingKey(String postId) {
+        return KEY_PREFIX + postId + ":filling";
+    }
+
+    private static String dirtyKey(String postId) {
+        return KEY_PREFIX + postId + ":dirty";
+    }
+
+    private static String inflightKey(String postId) {
+        return KEY_PREFIX + postId + ":inflight";
+    }
+
+    private static String skipKey(String postId) {
+        return KEY_PREFIX + postId + ":skip";
+    }
+
+    private void pipelined(Consumer<StringRedisConnection> commands) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                // 캐시 갱신 실패가 이미 커밋된 변경을 실패시키지 않도록 기록만 한다.
+                log.warn("comment tree cache update failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
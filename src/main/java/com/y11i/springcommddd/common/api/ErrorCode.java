@@ -10,6 +10,7 @@ public enum ErrorCode {
     POST_ARCHIVED_MODIFICATION_FORBIDDEN("post.archived_modification_forbidden", HttpStatus.CONFLICT),
     POST_STATUS_TRANSITION_FORBIDDEN("post.status_transition_forbidden", HttpStatus.CONFLICT),
     MEMBER_BANNED_FROM_COMMUNITY("member_banned.from_community", HttpStatus.UNAUTHORIZED),
+    POST_FEED_CURSOR_INVALID("post.feed_cursor_invalid", HttpStatus.BAD_REQUEST),
 
     // --- media (posts.media)
     MEDIA_URL_INVALID("media.url_invalid", HttpStatus.BAD_REQUEST),
@@ -23,6 +24,7 @@ public enum ErrorCode {
     COMMENT_UNAVAILABLE("comment.unavailable", HttpStatus.BAD_REQUEST),
     COMMENT_NOT_FOUND("comment.not_found", HttpStatus.NOT_FOUND),
     COMMENT_STATUS_TRANSITION_FORBIDDEN("comment.status_transition_forbidden", HttpStatus.CONFLICT),
+    COMMENT_CURSOR_INVALID("comment.cursor_invalid", HttpStatus.BAD_REQUEST),
 
     // --- Community
     COMMUNITY_NAME_INVALID("community.name_invalid", HttpStatus.BAD_REQUEST),
@@ -146,6 +146,7 @@ public class GlobalExceptionHandler {
             case POST_CONTENT_INVALID -> "Invalid Post Content";
             case POST_ARCHIVED_MODIFICATION_FORBIDDEN -> "Archived Post Modification Forbidden";
             case POST_STATUS_TRANSITION_FORBIDDEN -> "Post Status Transition Forbidden";
+            case POST_FEED_CURSOR_INVALID -> "Invalid Feed Cursor";
             case COMMENT_BODY_INVALID -> "Invalid Comment Body";
             case COMMENT_DELETED_MODIFICATION_FORBIDDEN -> "Deleted Comment Modification Forbidden";
             case COMMENT_DEPTH_INVALID -> "Invalid Comment Depth";
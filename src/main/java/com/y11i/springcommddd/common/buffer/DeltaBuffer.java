@@ -0,0 +1,89 @@
+package com.y11i.springcommddd.common.buffer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * 키별 증감분을 노드 메모리에 모아 두었다가 한 번에 꺼내는 write-behind 버퍼.
+ *
+ * <p>
+ * 누적은 {@link ConcurrentHashMap#merge} 로 하므로 잠금은 해시 버킷 단위(stripe)로만 걸리고,
+ * 서로 다른 키에 대한 누적끼리는 경합하지 않는다.
+ * {@link #drain()} 은 항목을 하나씩 원자적으로 꺼내므로(remove) 그 사이에 들어온 증감분은
+ * 새 항목으로 쌓여 다음 flush 에 반영되고, 잃어버리지 않는다.
+ * </p>
+ *
+ * <p>
+ * 버퍼는 노드 메모리에만 있으므로 flush 전에 노드가 죽으면 남은 증감분은 사라진다.
+ * 잃은 증감분은 원본 행을 다시 세는 대사 작업이 복구한다.
+ * </p>
+ *
+ * @param <K> 키 (게시글 ID 등)
+ * @param <D> 증감분
+ */
+public class DeltaBuffer<K, D> {
+
+    private final ConcurrentHashMap<K, D> deltas = new ConcurrentHashMap<>();
+    private final BinaryOperator<D> merge;
+    private final Predicate<D> isZero;
+
+    /**
+     * @param merge  같은 키의 증감분을 합치는 함수
+     * @param isZero 반영할 것이 없는 증감분인지 판별하는 함수
+     */
+    public DeltaBuffer(BinaryOperator<D> merge, Predicate<D> isZero) {
+        this.merge = merge;
+        this.isZero = isZero;
+    }
+
+    /**
+     * 증감분을 바로 누적한다. (이미 커밋된 변경만 넘긴다)
+     */
+    public void add(K key, D delta) {
+        if (isZero.test(delta)) return;
+        deltas.merge(key, delta, merge);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 누적하고, 트랜잭션 밖이면 바로 누적한다.
+     * (롤백된 변경이 집계에 섞이지 않도록)
+     */
+    public void addAfterCommit(K key, D delta) {
+        if (isZero.test(delta)) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(key, delta);
+                }
+            });
+        } else {
+            add(key, delta);
+        }
+    }
+
+    /**
+     * 지금까지 누적된 증감분을 꺼내고 그만큼 비운다. (합쳐서 0 이 된 항목은 제외)
+     */
+    public Map<K, D> drain() {
+        Map<K, D> drained = new LinkedHashMap<>();
+        for (K key : deltas.keySet()) {
+            D delta = deltas.remove(key);
+            if (delta != null && !isZero.test(delta)) drained.put(key, delta);
+        }
+        return drained;
+    }
+
+    /**
+     * 아직 꺼내지 않은 증감분이 있는지.
+     */
+    public boolean hasPending(K key) {
+        return deltas.containsKey(key);
+    }
+}
@@ -0,0 +1,43 @@
+package com.y11i.springcommddd.common.buffer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.IntSupplier;
+
+/**
+ * {@link DeltaBuffer} 에 모인 증감분을 주기적으로 반영하는 스케줄러의 공통 부분.
+ *
+ * <p>
+ * 하위 클래스는 자기 주기 설정으로 {@code @Scheduled} 메서드만 두고 {@link #runFlush()} 를 부른다.
+ * 종료(정상 종료로 빈이 파괴될 때) 시 남은 증감분을 한 번 더 반영한다.
+ * 강제 종료나 장애로 이 단계를 거치지 못하면 남은 증감분은 사라지고, 대사 작업이 복구한다.
+ * </p>
+ */
+@Slf4j
+public abstract class DeltaFlushScheduler {
+    private final String name;
+    private final IntSupplier flush;
+
+    /**
+     * @param name  로그에 남길 집계 이름
+     * @param flush 버퍼를 비우고 반영하는 작업 (반영한 증감분 수 반환)
+     */
+    protected DeltaFlushScheduler(String name, IntSupplier flush) {
+        this.name = name;
+        this.flush = flush;
+    }
+
+    protected void runFlush() {
+        try {
+            flush.getAsInt();
+        } catch (RuntimeException e) {
+            log.warn("{} flush failed", name, e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        runFlush();
+    }
+}
@@ -0,0 +1,46 @@
+package com.y11i.springcommddd.common.buffer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link DeltaBuffer} 에서 꺼낸 증감분을 묶음 단위 트랜잭션으로 반영하는 도우미.
+ *
+ * <p>
+ * 증감분을 {@code chunkSize} 건씩 한 트랜잭션으로 묶어 반영하고,
+ * 반영에 실패한 묶음은 버퍼에 되돌려 다음 주기에 다시 시도한다. (한 묶음의 실패가 다른 묶음을 막지 않음)
+ * </p>
+ */
+@Slf4j
+public final class DeltaFlusher {
+
+    private DeltaFlusher() {}
+
+    /**
+     * @param name      로그에 남길 집계 이름
+     * @param deltas    버퍼에서 꺼낸 증감분
+     * @param chunkSize 한 트랜잭션에서 반영하는 증감분 수
+     * @param tx        묶음마다 쓸 트랜잭션 템플릿
+     * @param apply     한 묶음을 반영하는 작업 (트랜잭션 안에서 호출)
+     * @param requeue   실패한 묶음의 증감분을 버퍼에 되돌리는 작업
+     * @return 반영한 증감분 수
+     */
+    public static <T> int flushInChunks(String name, List<T> deltas, int chunkSize, TransactionTemplate tx,
+                                        Consumer<List<T>> apply, Consumer<T> requeue) {
+        int flushed = 0;
+        for (int from = 0; from < deltas.size(); from += chunkSize) {
+            List<T> chunk = deltas.subList(from, Math.min(from + chunkSize, deltas.size()));
+            try {
+                tx.executeWithoutResult(status -> apply.accept(chunk));
+                flushed += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("{} flush failed, {} deltas requeued", name, chunk.size(), e);
+                chunk.forEach(requeue);
+            }
+        }
+        return flushed;
+    }
+}
@@ -0,0 +1,24 @@
+package com.y11i.springcommddd.common.lock;
+
+import java.time.Duration;
+
+/**
+ * 여러 노드에서 같은 작업(스케줄러, 기동 시 보정)이 동시에 돌지 않도록 하는 노드 간 잠금.
+ *
+ * <p>
+ * 잠금은 {@code ttl} 이 지나면 풀리므로 노드가 죽어도 남지 않는다.
+ * 작업이 {@code ttl} 보다 오래 걸리면 다른 노드가 잠금을 잡을 수 있으므로 넉넉하게 준다.
+ * </p>
+ */
+public interface JobLock {
+
+    /**
+     * 잠금을 잡은 경우에만 작업을 실행하고, 끝나면(예외 포함) 잠금을 푼다.
+     *
+     * @param name 잠금 이름 (작업마다 고유)
+     * @param ttl  잠금 유지 시간 상한
+     * @param job  실행할 작업
+     * @return 잠금을 잡아 실행했으면 true, 다른 노드가 잡고 있거나 잠금 저장소를 쓸 수 없으면 false
+     */
+    boolean runExclusive(String name, Duration ttl, Runnable job);
+}
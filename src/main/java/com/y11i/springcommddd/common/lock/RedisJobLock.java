@@ -0,0 +1,60 @@
+package com.y11i.springcommddd.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Redis 기반 {@link JobLock} 구현체.
+ *
+ * <p>
+ * {@code jobLock:{name}} 키를 SET NX PX 로 잡고, 값으로 잡은 쪽의 토큰을 둔다.
+ * 풀 때는 토큰이 그대로일 때만 지워 TTL 이 지나 다른 노드가 잡은 잠금을 지우지 않는다.
+ * (GET 과 DEL 사이의 짧은 틈은 Lua 스크립트 없이 명령 단위 원자성만 쓰는 대가로 감수한다)
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock implements JobLock {
+
+    private static final String KEY_PREFIX = "jobLock:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean runExclusive(String name, Duration ttl, Runnable job) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("job lock {} is held by another node", name);
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("job lock {} unavailable, skipping", name, e);
+            return false;
+        }
+
+        try {
+            job.run();
+            return true;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            if (token.equals(redisTemplate.opsForValue().get(key))) redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("job lock {} release failed, it expires by ttl", key, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.y11i.springcommddd.communities.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,6 +55,15 @@ public interface CommunityRepository {
      */
     Optional<Community> findByCommunityNameKey(CommunityNameKey key);
 
+    /**
+     * 여러 식별자로 커뮤니티를 한 번에 조회합니다.
+     * 존재하지 않는 식별자는 결과에서 빠지며, 반환 순서는 보장하지 않습니다.
+     *
+     * @param ids 커뮤니티 식별자 목록
+     * @return 조회된 {@link Community} 목록
+     */
+    List<Community> findAllById(Collection<CommunityId> ids);
+
     Optional<Community> findByCommunityName(CommunityName communityName);
 
     /**
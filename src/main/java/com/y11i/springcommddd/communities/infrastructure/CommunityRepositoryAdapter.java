@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,6 +61,13 @@ public class CommunityRepositoryAdapter implements CommunityRepository {
         return jpaCommunityRepository.findByCommunityNameKey(key);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Community> findAllById(Collection<CommunityId> ids) {
+        if (ids.isEmpty()) return List.of();
+        return jpaCommunityRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Community> findByCommunityName(CommunityName communityName) {
         return jpaCommunityRepository.findByCommunityName(communityName);
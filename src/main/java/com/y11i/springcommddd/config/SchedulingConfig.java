@@ -0,0 +1,41 @@
+package com.y11i.springcommddd.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 기반 주기 작업을 활성화하는 설정 클래스.
+ *
+ * <p><b>등록된 작업:</b></p>
+ * <ul>
+ *     <li>게시글 hot 점수 보정 ({@code HotScoreRefreshScheduler})</li>
+ *     <li>기간별 top 랭킹 만료 행 정리 ({@code PostWindowRankingPruneScheduler})</li>
+ *     <li>게시글 투표 수 / 댓글 수 write-behind 반영 ({@code PostVoteCountFlushScheduler}, {@code PostCommentCountFlushScheduler})</li>
+ *     <li>투표 집계 대사 ({@code VoteTallyReconcileScheduler})</li>
+ *     <li>투표자 필터 복구 / 재구성 ({@code VoterFilterRepairScheduler})</li>
+ *     <li>삭제 댓글 정리 ({@code CommentCompactionScheduler})</li>
+ *     <li>게시글 검색 색인 커밋 ({@code LucenePostSearchEngine#commit})</li>
+ * </ul>
+ *
+ * <p>
+ * 기본 스케줄러는 스레드가 하나라서, 몇 시간씩 도는 대사/정리 작업이 그 스레드를 잡고 있으면
+ * 1초 주기 write-behind 반영이 멈추고 버퍼가 쌓인다. (대사의 settle 대기도 반영이 계속 된다고 가정한다)
+ * 그래서 작업마다 스레드를 하나씩 쓸 수 있도록 풀 크기를 등록된 작업 수 이상으로 둔다.
+ * ({@code scheduling.pool-size}, 기본 10)
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:10}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -105,10 +105,14 @@ public class WebSecurityConfig {
 
                         // 피드 / 커뮤니티 피드 → 인증 불필요
                         .requestMatchers(HttpMethod.GET, "/api/posts/feed").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/feed/scroll").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/communities/*/posts").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/posts/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/c/{nameKey}/posts/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/members/{memberId}/posts/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/search/scroll").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/c/{nameKey}/posts/search/scroll").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/members/{memberId}/posts/search/scroll").permitAll()
 
                         // 게시글 상세 조회 → 인증 불필요 (GET /api/posts/{postId})
                         .requestMatchers(HttpMethod.GET, "/api/posts/*").permitAll()
@@ -132,6 +136,8 @@ public class WebSecurityConfig {
                                 "/api/posts/*/vote/down"
                         ).authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/posts/*/vote").authenticated()
+                        // 일괄 투표 (오프라인 큐 재전송) → 인증 필요
+                        .requestMatchers(HttpMethod.POST, "/api/votes/batch").authenticated()
 
                         // 모더레이터 BAN 기능
                         .requestMatchers(HttpMethod.GET, "/api/c/*/bans", "/api/c/*/bans/**", "/api/c/*/bans/history").authenticated()
@@ -157,6 +163,8 @@ public class WebSecurityConfig {
                         // 댓글 관련 기능
                         .requestMatchers(HttpMethod.POST, "/api/posts/{postId}/comments").authenticated()  // 댓글 달기
                         .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments").permitAll()       // 댓글 조회
+                        .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments/tree").permitAll()  // 댓글 트리 조회
+                        .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments/scroll").permitAll()  // 댓글 커서 조회
                         .requestMatchers(HttpMethod.PATCH, "/api/comments/{commentId}").authenticated()    // 댓글 수정
                         .requestMatchers(HttpMethod.DELETE, "/api/comments/{commentId}").authenticated()   // 댓글 삭제
                         .requestMatchers(HttpMethod.POST,
@@ -4,6 +4,8 @@ import com.y11i.springcommddd.iam.domain.Email;
 import com.y11i.springcommddd.iam.domain.Member;
 import com.y11i.springcommddd.iam.domain.MemberId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,6 +42,19 @@ public interface LoadMemberPort {
      */
     Optional<Member> loadById(MemberId id);
 
+    /**
+     * 여러 회원을 식별자 목록으로 한 번에 조회한다.
+     *
+     * <p>
+     * 목록 화면(피드 등)에서 작성자 정보를 회원마다 따로 조회하지 않도록 사용한다.
+     * 존재하지 않는 식별자는 결과에서 빠지며, 반환 순서는 보장하지 않는다.
+     * </p>
+     *
+     * @param ids 회원 식별자 목록
+     * @return 조회된 {@link Member} 목록
+     */
+    List<Member> loadAllByIds(Collection<MemberId> ids);
+
     /**
      * 이메일 주소로 회원을 조회한다.
      *
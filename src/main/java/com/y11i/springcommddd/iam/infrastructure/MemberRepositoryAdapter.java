@@ -9,6 +9,8 @@ import com.y11i.springcommddd.iam.domain.MemberRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -70,6 +72,13 @@ public class MemberRepositoryAdapter implements MemberRepository, LoadMemberPort
         return findById(id);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Member> loadAllByIds(Collection<MemberId> ids) {
+        if (ids.isEmpty()) return List.of();
+        return jpaMemberRepository.findAllById(ids);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<Member> loadByEmail(Email email) {
@@ -0,0 +1,34 @@
+package com.y11i.springcommddd.posts.api;
+
+import com.y11i.springcommddd.iam.api.support.AuthenticatedMember;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.application.port.in.RebuildPostRankingIndexUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 게시글 운영용 관리자 API.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/posts")
+public class PostAdminController {
+    private final RebuildPostRankingIndexUseCase rebuildPostRankingIndexUseCase;
+
+    /**
+     * 피드 정렬 인덱스(Redis)를 DB 기준으로 다시 만든다.
+     * <p>
+     * 예: POST /api/admin/posts/ranking-index/rebuild
+     * <p>
+     * 재구성하는 동안 피드는 DB 쿼리로 조회된다. 다른 노드가 이미 재구성 중이면 아무 것도 하지 않는다.
+     */
+    @PostMapping("/ranking-index/rebuild")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void rebuildRankingIndex(@AuthenticatedMember MemberId actorId) {
+        long indexed = rebuildPostRankingIndexUseCase.rebuild();
+        log.info("Post ranking index rebuild requested by {}: indexed={}", actorId, indexed);
+    }
+}
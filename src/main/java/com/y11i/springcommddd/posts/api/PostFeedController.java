@@ -6,6 +6,7 @@ import com.y11i.springcommddd.posts.application.port.in.ListCommunityPostsUseCas
 import com.y11i.springcommddd.posts.application.port.in.ListDraftsUseCase;
 import com.y11i.springcommddd.posts.application.port.in.ListHomeFeedPostsUseCase;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -32,30 +33,70 @@ public class PostFeedController {
      * <p>
      * 예:
      * GET /api/posts/feed?sort=new&page=0&size=20
+     * GET /api/posts/feed?sort=top&t=week&page=0&size=20
      *
      * @param sort 정렬 기준 ("new", "top", "hot" 등 – 미지정 시 "new")
+     * @param t    top 정렬 기간 ("day", "week", "month", "year", "all" – 미지정 시 "all", top 외 정렬에서는 무시)
      * @param page 페이지 번호 (0-base)
      * @param size 페이지 크기
+     * @param count 전체 개수 방식 ("exact" – 짧게 캐시된 COUNT, "none" – 세지 않고 hasNext 만 제공)
      */
     @GetMapping(path = "/posts/feed", produces = "application/json")
     @ResponseStatus(HttpStatus.OK)
     public PageResultDTO<PostSummaryResponseDTO> getHomeFeed(
             @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "t", defaultValue = "all") String t,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count
     ) {
         MemberId viewerId = resolveCurrentMemberIdOrNull();
 
         var query = new ListHomeFeedPostsUseCase.Query(
                 viewerId,
                 sort,
+                t,
                 page,
-                size
+                size,
+                count
         );
 
         return listHomeFeedPostsUseCase.listHomeFeed(query);
     }
 
+    /**
+     * 홈 피드를 커서(키셋) 방식으로 조회한다.
+     * <p>
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 {@code nextCursor}를 그대로 전달한다.
+     * 깊은 페이지에서도 OFFSET/COUNT 없이 일정한 비용으로 조회된다.
+     * <p>
+     * 예:
+     * GET /api/posts/feed/scroll?sort=new&size=20
+     * GET /api/posts/feed/scroll?sort=new&size=20&cursor=djF8bmV3fDB8...
+     *
+     * @param sort   정렬 기준 ("new", "top", "hot" – 미지정/기타 값은 "new")
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     */
+    @GetMapping(path = "/posts/feed/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollHomeFeed(
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var query = new ListHomeFeedPostsUseCase.ScrollQuery(
+                viewerId,
+                sort,
+                cursor,
+                size
+        );
+
+        return listHomeFeedPostsUseCase.scrollHomeFeed(query);
+    }
+
     // ----------------------------------------------------
     // 특정 커뮤니티 피드
     // ----------------------------------------------------
@@ -65,19 +106,24 @@ public class PostFeedController {
      * <p>
      * 예:
      * GET /api/communities/{communityId}/posts?sort=new&page=0&size=20
+     * GET /api/communities/{communityId}/posts?sort=top&t=day&page=0&size=20
      *
      * @param nameKey 커뮤니티 ID (UUID 문자열)
      * @param sort 정렬 기준 ("new", "top", "hot" 등 – 미지정 시 "new")
+     * @param t    top 정렬 기간 ("day", "week", "month", "year", "all" – 미지정 시 "all", top 외 정렬에서는 무시)
      * @param page 페이지 번호 (0-base)
      * @param size 페이지 크기
+     * @param count 전체 개수 방식 ("exact" – 짧게 캐시된 COUNT, "none" – 세지 않고 hasNext 만 제공)
      */
     @GetMapping(path = "/communities/{nameKey}/posts", produces = "application/json")
     @ResponseStatus(HttpStatus.OK)
     public PageResultDTO<PostSummaryResponseDTO> getCommunityFeed(
             @PathVariable String nameKey,
             @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "t", defaultValue = "all") String t,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count
     ) {
         MemberId viewerId = resolveCurrentMemberIdOrNull();
 
@@ -85,13 +131,47 @@ public class PostFeedController {
                 nameKey,
                 viewerId,
                 sort,
+                t,
                 page,
-                size
+                size,
+                count
         );
 
         return listCommunityPostsUseCase.listCommunityPosts(query);
     }
 
+    /**
+     * 특정 커뮤니티 피드를 커서(키셋) 방식으로 조회한다.
+     * <p>
+     * 예:
+     * GET /api/communities/{nameKey}/posts/scroll?sort=top&size=20&cursor=...
+     *
+     * @param nameKey 커뮤니티 이름 키
+     * @param sort    정렬 기준 ("new", "top", "hot" – 미지정/기타 값은 "new")
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size    페이지 크기
+     */
+    @GetMapping(path = "/communities/{nameKey}/posts/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollCommunityFeed(
+            @PathVariable String nameKey,
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var query = new ListCommunityPostsUseCase.ScrollQuery(
+                nameKey,
+                viewerId,
+                sort,
+                cursor,
+                size
+        );
+
+        return listCommunityPostsUseCase.scrollCommunityPosts(query);
+    }
+
     @GetMapping(path = "/posts/drafts", produces = "application/json")
     @ResponseStatus(HttpStatus.OK)
     public PageResultDTO<PostSummaryResponseDTO> getDrafts(
@@ -5,6 +5,7 @@ import com.y11i.springcommddd.posts.application.port.in.SearchAuthorPostsUseCase
 import com.y11i.springcommddd.posts.application.port.in.SearchCommunityPostsUseCase;
 import com.y11i.springcommddd.posts.application.port.in.SearchHomePostsUseCase;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -30,6 +31,11 @@ public class PostSearchController {
      * <p>
      * 예:
      * GET /api/posts/search?q=java&sort=new&page=0&size=20
+     * <p>
+     * sort: relevance(검색어 적합도) / new / top. 응답의 highlight 에는 일치 구간이 {@code <em>} 으로 표시된
+     * HTML 이스케이프된 조각이 담긴다.
+     * <p>
+     * count: approximate(기본, 많은 결과에서는 하한값) / exact / none(개수 생략). 응답의 countMode 로 실제 방식을 알 수 있다.
      */
     @GetMapping(path = "/posts/search", produces = "application/json")
     @ResponseStatus(HttpStatus.OK)
@@ -37,7 +43,8 @@ public class PostSearchController {
             @RequestParam(name = "q") String keyword,
             @RequestParam(name = "sort", defaultValue = "new") String sort,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "count", defaultValue = "approximate") String count
     ){
         MemberId viewerId = resolveCurrentMemberIdOrNull();
 
@@ -46,12 +53,47 @@ public class PostSearchController {
                 keyword,
                 sort,
                 page,
-                size
+                size,
+                count
         );
 
         return searchHomePostsUseCase.search(query);
     }
 
+    /**
+     * 전체 게시글 검색 (커서 기반 무한 스크롤).
+     * <p>
+     * 마지막 결과의 정렬 위치 다음부터 이어서 찾으므로 깊은 위치도 첫 페이지와 비용이 같다. (전체 개수 없음)
+     * <p>
+     * 예:
+     * GET /api/posts/search/scroll?q=java&sort=new&size=20
+     * GET /api/posts/search/scroll?q=java&sort=new&size=20&cursor=czF8bmV3fDAuMHww...
+     *
+     * @param sort   정렬 기준 ("relevance", "new", "top" – 미지정/기타 값은 "new")
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     */
+    @GetMapping(path = "/posts/search/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollSearchHome(
+            @RequestParam(name = "q") String keyword,
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var query = new SearchHomePostsUseCase.ScrollQuery(
+                viewerId,
+                keyword,
+                sort,
+                cursor,
+                size
+        );
+
+        return searchHomePostsUseCase.scroll(query);
+    }
+
     // ----------------------------------------------------
     // 특정 커뮤니티 내 검색
     // ----------------------------------------------------
@@ -68,7 +110,8 @@ public class PostSearchController {
             @RequestParam(name = "q") String keyword,
             @RequestParam(name = "sort", defaultValue = "new") String sort,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "count", defaultValue = "approximate") String count
     ) {
         MemberId viewerId = resolveCurrentMemberIdOrNull();
 
@@ -78,12 +121,42 @@ public class PostSearchController {
                 keyword,
                 sort,
                 page,
-                size
+                size,
+                count
         );
 
         return searchCommunityPostsUseCase.search(query);
     }
 
+    /**
+     * 특정 커뮤니티 내 게시글 검색 (커서 기반 무한 스크롤).
+     * <p>
+     * 예:
+     * GET /api/c/{nameKey}/posts/search/scroll?q=spring&sort=top&size=20&cursor=...
+     */
+    @GetMapping(path = "/c/{nameKey}/posts/search/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollSearchCommunity(
+            @PathVariable String nameKey,
+            @RequestParam(name = "q") String keyword,
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+
+        var query = new SearchCommunityPostsUseCase.ScrollQuery(
+                nameKey,
+                viewerId,
+                keyword,
+                sort,
+                cursor,
+                size
+        );
+
+        return searchCommunityPostsUseCase.scroll(query);
+    }
+
     /**
      * 특정 작성자의 게시글 검색.
      * <p>
@@ -97,7 +170,8 @@ public class PostSearchController {
             @RequestParam(name = "q", required = false) String keyword,
             @RequestParam(name = "sort", defaultValue = "new") String sort,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "count", defaultValue = "approximate") String count
     ) {
         // 현재 로그인 유저 (없으면 null)
         MemberId viewerId = resolveCurrentMemberIdOrNull();
@@ -111,9 +185,42 @@ public class PostSearchController {
                 keyword,
                 sort,
                 page,
-                size
+                size,
+                count
         );
 
         return searchAuthorPostsUseCase.searchByAuthor(query);
     }
+
+    /**
+     * 특정 작성자의 게시글 조회/검색 (커서 기반 무한 스크롤).
+     * <p>
+     * q 가 없으면 작성자 피드(new / top, 그 외 정렬은 new)를 키셋으로 조회한다.
+     * <p>
+     * 예:
+     * GET /api/members/{memberId}/posts/search/scroll?sort=new&size=20&cursor=...
+     */
+    @GetMapping(path = "/members/{memberId}/posts/search/scroll", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollSearchByAuthor(
+            @PathVariable("memberId") String memberIdString,
+            @RequestParam(name = "q", required = false) String keyword,
+            @RequestParam(name = "sort", defaultValue = "new") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        MemberId viewerId = resolveCurrentMemberIdOrNull();
+        MemberId authorId = MemberId.objectify(memberIdString);
+
+        var query = new SearchAuthorPostsUseCase.ScrollQuery(
+                authorId,
+                viewerId,
+                keyword,
+                sort,
+                cursor,
+                size
+        );
+
+        return searchAuthorPostsUseCase.scrollByAuthor(query);
+    }
 }
@@ -0,0 +1,12 @@
+package com.y11i.springcommddd.posts.application.port.in;
+
+/**
+ * 버퍼에 모인 게시글 댓글 수 증감분을 DB 에 반영하는 유스케이스.
+ */
+public interface FlushPostCommentCountsUseCase {
+
+    /**
+     * @return 반영한 게시글 수
+     */
+    int flush();
+}
@@ -2,16 +2,35 @@ package com.y11i.springcommddd.posts.application.port.in;
 
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
+import jakarta.annotation.Nullable;
 
 public interface ListCommunityPostsUseCase {
     record Query(
             String nameKey,     // or CommunityId
             MemberId viewerId,
             String sort,            // "new", "top", "hot"
+            @Nullable String window, // top 정렬 기간: "day", "week", "month", "year", "all"(기본)
             int page,
+            int size,
+            @Nullable String count // 전체 개수 방식: "exact"(기본, 캐시) / "none"
+    ) {}
+
+    /**
+     * 커서(키셋) 기반 커뮤니티 피드 조회 쿼리.
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    record ScrollQuery(
+            String nameKey,
+            MemberId viewerId,
+            String sort,
+            @Nullable String cursor,
             int size
     ) {}
 
     PageResultDTO<PostSummaryResponseDTO> listCommunityPosts(Query q);
+
+    SliceResultDTO<PostSummaryResponseDTO> scrollCommunityPosts(ScrollQuery q);
 }
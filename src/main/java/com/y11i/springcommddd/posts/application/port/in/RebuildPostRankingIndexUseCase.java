@@ -0,0 +1,13 @@
+package com.y11i.springcommddd.posts.application.port.in;
+
+/**
+ * 피드 정렬 인덱스를 DB 기준으로 다시 만드는 유스케이스.
+ */
+public interface RebuildPostRankingIndexUseCase {
+    /**
+     * 게시된 글 전체로 인덱스를 재구성한다.
+     *
+     * @return 색인한 게시글 수, 다른 노드가 재구성 중이면 -1
+     */
+    long rebuild();
+}
@@ -0,0 +1,16 @@
+package com.y11i.springcommddd.posts.application.port.in;
+
+import java.time.Duration;
+
+/**
+ * 최근 게시글의 hot 점수를 다시 계산하는 유스케이스.
+ */
+public interface RefreshHotScoresUseCase {
+    /**
+     * 최근 {@code window} 동안 게시된 글의 hot 점수를 현재 집계값 기준으로 재계산한다.
+     *
+     * @param window 대상 기간 (현재 시각 기준)
+     * @return 실제로 값이 바뀐 게시글 수
+     */
+    int refreshRecentlyPublished(Duration window);
+}
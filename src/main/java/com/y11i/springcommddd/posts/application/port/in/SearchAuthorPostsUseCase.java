@@ -2,6 +2,7 @@ package com.y11i.springcommddd.posts.application.port.in;
 
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
 import jakarta.annotation.Nullable;
 
@@ -13,8 +14,26 @@ public interface SearchAuthorPostsUseCase {
             @Nullable String keyword,    // null/blank면 키워드 없이 전체
             String sort,                 // "new", "top" ...
             int page,
+            int size,
+            @Nullable String count // 전체 개수 방식: "approximate"(기본) / "exact" / "none"
+    ) {}
+
+    /**
+     * 커서(키셋) 기반 작성자 글 조회/검색 쿼리. (전체 개수는 세지 않음)
+     *
+     * @param keyword null/blank면 키워드 없이 작성자 피드 (new / top)
+     * @param cursor  직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    record ScrollQuery(
+            MemberId authorId,
+            @Nullable MemberId viewerId,
+            @Nullable String keyword,
+            String sort,
+            @Nullable String cursor,
             int size
     ) {}
 
     PageResultDTO<PostSummaryResponseDTO> searchByAuthor(Query q);
+
+    SliceResultDTO<PostSummaryResponseDTO> scrollByAuthor(ScrollQuery q);
 }
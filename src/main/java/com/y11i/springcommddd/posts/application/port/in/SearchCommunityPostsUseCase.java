@@ -2,7 +2,9 @@ package com.y11i.springcommddd.posts.application.port.in;
 
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
+import jakarta.annotation.Nullable;
 
 public interface SearchCommunityPostsUseCase {
     record Query(
@@ -11,8 +13,25 @@ public interface SearchCommunityPostsUseCase {
             String keyword,
             String sort,
             int page,
-            int size
+            int size,
+            @Nullable String count // 전체 개수 방식: "approximate"(기본) / "exact" / "none"
     ){}
 
+    /**
+     * 커서(키셋) 기반 검색 쿼리. (전체 개수는 세지 않음)
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    record ScrollQuery(
+            String nameKey,
+            @Nullable MemberId viewerId,
+            String keyword,
+            String sort,
+            @Nullable String cursor,
+            int size
+    ) {}
+
     PageResultDTO<PostSummaryResponseDTO> search(Query q);
+
+    SliceResultDTO<PostSummaryResponseDTO> scroll(ScrollQuery q);
 }
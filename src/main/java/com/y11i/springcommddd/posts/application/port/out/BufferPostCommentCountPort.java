@@ -0,0 +1,36 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.PostId;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 수 증감분을 모아 두었다가 한 번에 반영(write-behind)하기 위한 버퍼 포트.
+ *
+ * <p>
+ * 댓글 트랜잭션은 {@code comments} 테이블만 쓰고, 커밋된 댓글 이벤트의 증감분이 이 버퍼에 모인다.
+ * 주기적인 flush 가 {@link #drain()} 으로 누적분을 꺼내 게시글별 UPDATE 한 번으로 반영한다.
+ * </p>
+ */
+public interface BufferPostCommentCountPort {
+
+    /**
+     * 게시글 한 건의 댓글 수 증감분.
+     */
+    record CommentCountDelta(PostId postId, int delta) {}
+
+    /**
+     * 증감분을 누적한다. (이미 커밋된 변경만 넘긴다)
+     */
+    void add(PostId postId, int delta);
+
+    /**
+     * 지금까지 누적된 증감분을 꺼내고 그만큼 비운다. (0 인 항목은 제외)
+     */
+    List<CommentCountDelta> drain();
+
+    /**
+     * 아직 반영되지 않은 증감분이 있는지. (집계 대사가 반영 대기 중인 게시글을 건너뛰는 데 쓴다)
+     */
+    boolean hasPending(PostId postId);
+}
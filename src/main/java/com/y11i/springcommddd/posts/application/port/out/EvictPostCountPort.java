@@ -0,0 +1,15 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.Post;
+
+/**
+ * 피드 전체 개수 캐시를 게시글 상태 변경에 맞춰 비우기 위한 포트.
+ *
+ * <p>
+ * 게시/보관/복구처럼 PUBLISHED 집합이 바뀌는 경우에 호출한다.
+ * 게시글이 속한 범위(홈, 커뮤니티, 작성자)의 개수만 무효화하며, 실제 제거는 트랜잭션 커밋 이후에 일어난다.
+ * </p>
+ */
+public interface EvictPostCountPort {
+    void evict(Post post);
+}
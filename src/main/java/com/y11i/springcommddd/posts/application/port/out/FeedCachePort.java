@@ -0,0 +1,81 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
+import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
+import jakarta.annotation.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * 피드 목록 응답 캐시 포트.
+ *
+ * <p>
+ * 뷰어와 무관한 부분(= {@code myVote} 가 비어 있는 요약 목록)만 저장한다.
+ * 뷰어별 {@code myVote} 는 호출자가 캐시 결과 위에 덧씌운다.
+ * </p>
+ *
+ * <p>
+ * 범위(scope)는 홈 피드 또는 커뮤니티 하나이며, 게시글의 게시/보관/복구/수정 시
+ * {@link #evict(Post)} 로 해당 범위를 통째로 무효화한다.
+ * 투표로 인한 점수 변화는 짧은 TTL 로만 반영한다.
+ * </p>
+ */
+public interface FeedCachePort {
+
+    /**
+     * 캐시 키.
+     *
+     * @param nameKey  커뮤니티 nameKey (홈 피드면 null)
+     * @param view     "page" (페이지 번호) / "scroll" (커서)
+     * @param sort     정렬 키
+     * @param window   top 기간 (top 외 정렬이면 "all")
+     * @param position 페이지 번호 또는 커서 (첫 커서 페이지는 "-")
+     * @param size     페이지 크기
+     * @param count    전체 개수 방식 (page 뷰만 의미 있음)
+     */
+    record Key(
+            @Nullable String nameKey,
+            String view,
+            String sort,
+            String window,
+            String position,
+            int size,
+            String count
+    ) {
+        /**
+         * 무효화 단위. "home" 또는 "c:{nameKey}"
+         */
+        public String scope() {
+            return nameKey == null ? "home" : "c:" + nameKey;
+        }
+
+        /**
+         * 범위 안에서의 식별자.
+         */
+        public String id() {
+            return String.join(":", view, sort, window, position, Integer.toString(size), count);
+        }
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 {@code loader} 로 읽어 캐시에 넣고 반환한다.
+     *
+     * <p>
+     * 읽는 도중 {@link #evict(Post)} 가 일어나면 읽은 값은 이전 상태일 수 있으므로
+     * 읽기 전에 확인한 세대로 저장해 다음 조회에서 미스가 되게 한다.
+     * </p>
+     */
+    PageResultDTO<PostSummaryResponseDTO> getPage(Key key, Supplier<PageResultDTO<PostSummaryResponseDTO>> loader);
+
+    /**
+     * 캐시된 슬라이스를 반환하고, 없으면 {@code loader} 로 읽어 캐시에 넣고 반환한다. ({@link #getPage} 와 같은 방식)
+     */
+    SliceResultDTO<PostSummaryResponseDTO> getSlice(Key key, Supplier<SliceResultDTO<PostSummaryResponseDTO>> loader);
+
+    /**
+     * 게시글이 속한 홈/커뮤니티 범위의 캐시를 무효화한다. (트랜잭션 커밋 이후 반영)
+     */
+    void evict(Post post);
+}
@@ -3,6 +3,8 @@ package com.y11i.springcommddd.posts.application.port.out;
 import com.y11i.springcommddd.iam.domain.Member;
 import com.y11i.springcommddd.iam.domain.MemberId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,4 +12,9 @@ import java.util.Optional;
  */
 public interface LoadAuthorForPostPort {
     Optional<Member> loadById(MemberId authorId);
+
+    /**
+     * 여러 작성자를 한 번에 조회한다. (피드 목록 조립용)
+     */
+    List<Member> loadAllByIds(Collection<MemberId> authorIds);
 }
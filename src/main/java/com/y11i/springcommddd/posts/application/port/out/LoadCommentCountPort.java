@@ -2,6 +2,9 @@ package com.y11i.springcommddd.posts.application.port.out;
 
 import com.y11i.springcommddd.posts.domain.PostId;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * 게시글에 달린 댓글 수를 조회하기 위한 포트.
  * <p>
@@ -19,4 +22,12 @@ public interface LoadCommentCountPort {
      * @return 댓글 개수
      */
     long countByPostId(PostId postId);
+
+    /**
+     * 주어진 게시글들의 보이는(삭제되지 않은) 댓글 수를 GROUP BY 한 번으로 셉니다. (댓글 수 대사용)
+     *
+     * @param postIds 게시글 식별자들
+     * @return 게시글별 댓글 수 (댓글이 없는 게시글은 결과에 없음)
+     */
+    Map<PostId, Integer> countVisibleByPostIds(Collection<PostId> postIds);
 }
@@ -4,6 +4,8 @@ import com.y11i.springcommddd.communities.domain.Community;
 import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.communities.domain.CommunityNameKey;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +20,9 @@ public interface LoadCommunityForPostPort {
      */
     Optional<Community> loadByNameKey(CommunityNameKey nameKey);
     Optional<Community> loadById(CommunityId communityId);
+
+    /**
+     * 여러 커뮤니티를 한 번에 조회한다. (피드 목록 조립용)
+     */
+    List<Community> loadAllByIds(Collection<CommunityId> communityIds);
 }
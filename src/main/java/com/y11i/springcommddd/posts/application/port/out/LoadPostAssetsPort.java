@@ -4,11 +4,22 @@ import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.media.domain.PostAsset;
 import com.y11i.springcommddd.posts.media.domain.PostAssetId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LoadPostAssetsPort {
     Optional<PostAsset> loadById(PostAssetId assetId);
 
     List<PostAsset> loadByPostId(PostId postId);
+
+    /**
+     * 여러 게시글의 자산을 한 번에 조회해 게시글별로 묶어 반환한다.
+     * <p>자산이 없는 게시글은 결과 맵에 포함되지 않는다. 각 목록은 표시 순서로 정렬된다.</p>
+     *
+     * @param postIds 게시글 ID 목록
+     * @return postId → 자산 목록
+     */
+    Map<PostId, List<PostAsset>> loadByPostIds(Collection<PostId> postIds);
 }
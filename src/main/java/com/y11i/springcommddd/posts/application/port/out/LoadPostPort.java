@@ -2,9 +2,21 @@ package com.y11i.springcommddd.posts.application.port.out;
 
 import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoadPostPort {
     Optional<Post> loadById(PostId postId);
+
+    /** 여러 게시글을 한 번에 로드한다. (없는 ID 는 결과에서 빠짐) */
+    List<Post> loadAllByIds(Collection<PostId> postIds);
+
+    /** 게시글 참조(ID / 커뮤니티 / 상태 / 작성자)만 로드한다. 본문을 읽지 않는 검증 전용. */
+    Optional<PostRef> loadRefById(PostId postId);
+
+    /** 여러 게시글의 참조를 한 번에 로드한다. (없는 ID 는 결과에서 빠짐) */
+    List<PostRef> loadRefsByIds(Collection<PostId> postIds);
 }
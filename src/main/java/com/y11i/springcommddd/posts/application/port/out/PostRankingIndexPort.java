@@ -0,0 +1,55 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+
+import java.util.List;
+
+/**
+ * 노드 간에 공유되는 피드 정렬 인덱스(new / top / hot)를 유지하기 위한 포트.
+ *
+ * <p>
+ * 홈 전체와 커뮤니티별로 정렬 키 순서의 게시글 ID 목록을 보관한다.
+ * 피드 조회는 이 인덱스에서 한 페이지 분량의 ID 만 꺼내고 본문은 DB 에서 ID 로 한 번에 읽는다.
+ * </p>
+ */
+public interface PostRankingIndexPort {
+
+    /**
+     * 게시글의 현재 상태를 인덱스에 반영한다. PUBLISHED 면 정렬 키를 갱신하고, 그 외에는 제거한다.
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 반영된다.</p>
+     */
+    void update(PostScoreSnapshot post);
+
+    /**
+     * 재구성을 시작한다. 다른 노드가 재구성 중이면 false.
+     * <p>시작하면 인덱스는 "준비 안 됨" 상태가 되어 조회가 DB 로 돌아가고, 기존 항목은 비워진다.</p>
+     */
+    boolean beginRebuild();
+
+    /**
+     * 재구성 중 게시글 묶음을 추가한다. (이미 있으면 정렬 키를 덮어쓴다)
+     */
+    void addAll(List<PostSummaryRow> rows);
+
+    /**
+     * 재구성 중 더 이상 게시 상태가 아닌 게시글 묶음을 제거한다.
+     */
+    void removeAll(List<PostSummaryRow> rows);
+
+    /**
+     * 재구성을 마치고 인덱스를 조회에 사용하도록 표시한다.
+     */
+    void finishRebuild();
+
+    /**
+     * 재구성 잠금을 푼다. 성공/실패와 관계없이 재구성이 끝나면 호출한다.
+     * <p>{@link #finishRebuild()} 없이 풀리면 인덱스는 "준비 안 됨" 상태로 남아 조회는 DB 로 돌아간다.</p>
+     */
+    void releaseRebuild();
+
+    /**
+     * 인덱스가 조회에 사용 가능한 상태인지.
+     */
+    boolean isReady();
+}
@@ -0,0 +1,25 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+/**
+ * 게시글 검색 색인 갱신 포트.
+ *
+ * <p>
+ * 게시/수정/보관/복구/투표 후 같은 트랜잭션 안에서 호출한다.
+ * 구현체는 트랜잭션 커밋 이후에 색인에 반영하므로, 롤백된 변경은 색인되지 않는다.
+ * </p>
+ */
+public interface PostSearchIndexPort {
+
+    /**
+     * 게시글 문서를 색인한다. PUBLISHED 가 아니면 색인에서 제거한다.
+     */
+    void index(Post post);
+
+    /**
+     * 투표로 바뀐 점수만 갱신한다. (top 정렬용, 문서 재색인 없음)
+     */
+    void updateScore(PostId postId, int score);
+}
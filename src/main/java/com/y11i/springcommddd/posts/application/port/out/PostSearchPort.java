@@ -0,0 +1,87 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.dto.internal.PostSearchCursor;
+import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색 포트.
+ *
+ * <p>
+ * 검색 엔진(역색인)에서 키워드에 맞는 게시글 ID 와 하이라이트 조각만 돌려준다.
+ * 목록 응답에 필요한 나머지 값은 호출자가 DB 에서 ID 로 조회한다.
+ * </p>
+ *
+ * <p><b>정렬</b></p>
+ * <ul>
+ *   <li>{@code relevance}: BM25 관련도</li>
+ *   <li>{@code new}: 게시 시각 내림차순 (기본)</li>
+ *   <li>{@code top}: 점수 내림차순</li>
+ * </ul>
+ *
+ * <p>
+ * 페이지 번호 조회({@link #search})는 앞 페이지 결과까지 모아야 하므로 깊은 페이지일수록 비싸다.
+ * 무한 스크롤은 커서 조회({@link #scroll})로 마지막 결과 다음부터 이어서 찾는다.
+ * </p>
+ */
+public interface PostSearchPort {
+
+    /**
+     * @param postId    게시글 ID
+     * @param highlight 키워드가 강조된 본문/제목 조각 (HTML 이스케이프 + {@code <em>} 태그, 없으면 null)
+     */
+    record Hit(PostId postId, @Nullable String highlight) {}
+
+    /**
+     * @param hits      요청한 페이지의 결과 (정렬 순서 유지)
+     * @param totalHits 전체 일치 건수
+     * @param exact     totalHits 가 정확한 값인지 (false 면 하한값)
+     */
+    record Result(List<Hit> hits, long totalHits, boolean exact) {}
+
+    /**
+     * @param hits    결과 (정렬 순서 유지)
+     * @param hasNext 이후 결과가 더 있는지
+     * @param last    마지막 결과의 정렬 위치 (다음 조회의 커서, 결과가 없으면 null)
+     */
+    record ScrollResult(List<Hit> hits, boolean hasNext, @Nullable PostSearchCursor last) {}
+
+    /**
+     * PUBLISHED 게시글을 검색한다.
+     *
+     * @param keyword     검색어
+     * @param communityId 커뮤니티 한정 (null 이면 전체)
+     * @param authorId    작성자 한정 (null 이면 전체)
+     * @param sortKey     "relevance", "new", "top"
+     * @param pageable    페이지 정보
+     * @param exactTotal  true 면 전체 일치 건수를 끝까지 센다. false 면 일정 건수 이상에서 세기를 멈춘다. (하한값)
+     */
+    Result search(String keyword,
+                  @Nullable CommunityId communityId,
+                  @Nullable MemberId authorId,
+                  String sortKey,
+                  Pageable pageable,
+                  boolean exactTotal);
+
+    /**
+     * PUBLISHED 게시글을 커서 위치 다음부터 검색한다. (전체 건수는 세지 않음)
+     *
+     * @param keyword     검색어
+     * @param communityId 커뮤니티 한정 (null 이면 전체)
+     * @param authorId    작성자 한정 (null 이면 전체)
+     * @param sortKey     "relevance", "new", "top"
+     * @param after       직전 조회의 마지막 위치 (첫 조회면 null)
+     * @param size        최대 결과 수
+     */
+    ScrollResult scroll(String keyword,
+                        @Nullable CommunityId communityId,
+                        @Nullable MemberId authorId,
+                        String sortKey,
+                        @Nullable PostSearchCursor after,
+                        int size);
+}
@@ -2,21 +2,34 @@ package com.y11i.springcommddd.posts.application.port.out;
 
 import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.iam.domain.MemberId;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
 import jakarta.annotation.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 게시글 리스트 조회용 쿼리 포트.
  *
  * <p>
  * - 홈 피드 (커뮤니티 전체 대상)<br>
- * - 특정 커뮤니티 내 게시글 목록
+ * - 특정 커뮤니티 내 게시글 목록<br>
+ * - 작성자 게시글 목록 / 검색 결과 조립용 ID 조회
  * </p>
  *
  * 실제 정렬("new", "top", "hot" 등)에 대한 구현은 인프라 계층
  * (예: JPA, QueryDSL)에서 담당한다.
+ *
+ * <p>
+ * 피드 목록은 COUNT 없이 {@link Slice} 로 조회하고, 전체 개수가 필요하면 {@code count*} 메서드로 따로 센다.
+ * {@code count*} 결과는 (범위, 상태)별로 짧게 캐시되며 게시/보관/복구 시 무효화된다.
+ * </p>
  */
 public interface QueryPostPort {
 
@@ -26,7 +39,7 @@ public interface QueryPostPort {
      * @param sortKey "new", "top", "hot" 등
      * @param pageable 페이지 정보
      */
-    Page<Post> findHomeFeed(String sortKey, Pageable pageable);
+    Slice<PostSummaryRow> findHomeFeed(String sortKey, Pageable pageable);
 
     /**
      * 특정 커뮤니티 내 게시글 페이지를 조회한다.
@@ -35,14 +48,87 @@ public interface QueryPostPort {
      * @param sortKey     정렬 키
      * @param pageable    페이지 정보
      */
-    Page<Post> findByCommunity(CommunityId communityId, String sortKey, Pageable pageable);
+    Slice<PostSummaryRow> findByCommunity(CommunityId communityId, String sortKey, Pageable pageable);
+
+    /**
+     * 기간 내 top 홈 피드를 조회한다. (사전 집계된 기간별 랭킹 사용)
+     *
+     * @param window   집계 기간 ({@link TopWindow#ALL} 이면 전체 기간 top 과 같다)
+     * @param pageable 페이지 정보
+     */
+    Slice<PostSummaryRow> findHomeFeedTop(TopWindow window, Pageable pageable);
+
+    /**
+     * 기간 내 top 커뮤니티 피드를 조회한다. (사전 집계된 기간별 랭킹 사용)
+     */
+    Slice<PostSummaryRow> findByCommunityTop(CommunityId communityId, TopWindow window, Pageable pageable);
+
+    Page<PostSummaryRow> findDraftsByAuthorId(MemberId authorId, String sortKey, Pageable pageable);
+
+    /**
+     * 특정 작성자의 게시 글 페이지를 조회한다. (키워드 없는 작성자 검색)
+     *
+     * @param authorId 작성자 ID
+     * @param sortKey  "new" / "top"
+     * @param pageable 페이지 정보
+     */
+    Slice<PostSummaryRow> findByAuthor(MemberId authorId, String sortKey, Pageable pageable);
+
+    /**
+     * 주어진 ID 들의 게시된 글 요약을 조회한다. (검색 엔진 결과 조립용)
+     *
+     * <p>반환 순서는 보장하지 않으며, 게시 상태가 아닌 글은 제외된다.</p>
+     */
+    List<PostSummaryRow> findSummariesByIds(Collection<PostId> postIds);
 
-    Page<Post> findDraftsByAuthorId(MemberId authorId, String sortKey, Pageable pageable);
+    // --- 전체 개수 (캐시) ---
 
-    // --- 검색용 ---
-    Page<Post> searchHomeFeed(String keyword, String sortKey, Pageable pageable);
+    /**
+     * 홈 피드 전체 개수.
+     *
+     * @param window top 기간 (top 외 정렬이나 전체 기간이면 {@link TopWindow#ALL})
+     */
+    long countHomeFeed(TopWindow window);
+
+    /**
+     * 특정 커뮤니티 피드 전체 개수.
+     */
+    long countByCommunity(CommunityId communityId, TopWindow window);
+
+    /**
+     * 특정 작성자의 게시 글 전체 개수.
+     */
+    long countByAuthor(MemberId authorId);
+
+    // --- 키셋(커서) 페이지네이션용 ---
+
+    /**
+     * 홈 피드를 커서 위치 다음부터 조회한다. (COUNT 없음)
+     *
+     * @param sortKey 정렬 키
+     * @param cursor  직전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size    페이지 크기
+     * @return 게시글 슬라이스 ({@link Slice#hasNext()} 로 다음 페이지 여부 판단)
+     */
+    Slice<PostSummaryRow> scrollHomeFeed(String sortKey, @Nullable PostFeedCursor cursor, int size);
 
-    Page<Post> searchByCommunity(CommunityId communityId, String keyword, String sortKey, Pageable pageable);
+    /**
+     * 특정 커뮤니티 피드를 커서 위치 다음부터 조회한다. (COUNT 없음)
+     *
+     * @param communityId 커뮤니티 ID
+     * @param sortKey     정렬 키
+     * @param cursor      직전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size        페이지 크기
+     */
+    Slice<PostSummaryRow> scrollByCommunity(CommunityId communityId, String sortKey, @Nullable PostFeedCursor cursor, int size);
 
-    Page<Post> searchByAuthor(MemberId authorId, @Nullable String keyword, String sortKey, Pageable pageable);
+    /**
+     * 특정 작성자의 게시 글을 커서 위치 다음부터 조회한다. (COUNT 없음)
+     *
+     * @param authorId 작성자 ID
+     * @param sortKey  "new" / "top" (그 외는 "new")
+     * @param cursor   직전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size     페이지 크기
+     */
+    Slice<PostSummaryRow> scrollByAuthor(MemberId authorId, String sortKey, @Nullable PostFeedCursor cursor, int size);
 }
@@ -0,0 +1,35 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+
+/**
+ * 저장된 hot 점수를 주기적으로 보정하기 위한 포트.
+ *
+ * <p>
+ * 본문 등 무거운 컬럼을 읽지 않도록 점수 계산에 필요한 값만 조회하고,
+ * 갱신은 버전(@Version)을 올리지 않는 단건 UPDATE 로 수행한다.
+ * (동시에 진행 중인 투표 트랜잭션과 낙관적 락 충돌을 일으키지 않기 위함)
+ * </p>
+ */
+public interface RefreshHotScorePort {
+
+    /**
+     * 주어진 시각 이후에 게시된 PUBLISHED 게시글의 점수 스냅샷을 조회한다.
+     *
+     * @param since    게시 시각 하한
+     * @param pageable 페이지 정보
+     */
+    Slice<PostScoreSnapshot> loadPublishedSince(Instant since, Pageable pageable);
+
+    /**
+     * 게시글의 hot 점수를 갱신한다.
+     *
+     * @return 갱신된 행 수
+     */
+    int updateHotScore(PostId postId, double hotScore);
+}
@@ -0,0 +1,15 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+
+/**
+ * 기간별 top 랭킹(사전 집계)을 게시글 상태와 맞추기 위한 포트.
+ *
+ * <p>
+ * 게시/보관/복구, 투표로 점수가 바뀐 뒤 같은 트랜잭션에서 호출한다.
+ * 기간 안의 PUBLISHED 게시글은 점수를 반영(upsert)하고, 그 외에는 랭킹에서 제거한다.
+ * </p>
+ */
+public interface SyncPostRankingPort {
+    void sync(PostScoreSnapshot post);
+}
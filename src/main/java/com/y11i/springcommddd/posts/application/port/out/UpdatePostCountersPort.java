@@ -0,0 +1,91 @@
+package com.y11i.springcommddd.posts.application.port.out;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 집계 컬럼(추천/비추천 수, 댓글 수)을 애그리게잇을 거치지 않고 갱신하기 위한 포트.
+ *
+ * <p>
+ * 갱신은 버전(@Version)을 올리지 않는 벌크 UPDATE({@code up_count = up_count + :d})로 수행한다.
+ * 동시에 진행 중인 편집과 낙관적 락 충돌을 일으키지 않고, 읽기 없이 증감분만 더한다.
+ * 랭킹 갱신에 필요한 값은 반영 후 {@link PostScoreSnapshot} 프로젝션으로 한 번만 읽는다. (본문을 읽지 않음)
+ * </p>
+ */
+public interface UpdatePostCountersPort {
+
+    /**
+     * 게시글 한 건의 추천/비추천 증감분.
+     *
+     * @param postId 게시글 ID
+     * @param up     추천 수 증감
+     * @param down   비추천 수 증감
+     */
+    record VoteCountDelta(PostId postId, int up, int down) {}
+
+    /**
+     * 게시글 한 건에 저장된 추천/비추천 수.
+     */
+    record VoteCounter(PostId postId, int up, int down) {}
+
+    /**
+     * 증감분을 한 트랜잭션에서 반영하고 score / hot 점수를 다시 맞춘다.
+     *
+     * @param deltas 게시글별 증감분
+     * @return 반영 후 점수 스냅샷 (랭킹/검색 색인 갱신용, 삭제된 게시글은 제외)
+     */
+    List<PostScoreSnapshot> applyVoteCountDeltas(List<VoteCountDelta> deltas);
+
+    /**
+     * {@code after} 다음 게시글부터 저장된 추천/비추천 수를 ID 순으로 {@code limit} 건 읽는다. (대사 작업용 키셋 순회)
+     *
+     * @param communityId 커뮤니티 한정 (null 이면 전체)
+     * @param after       이전 묶음의 마지막 게시글 ID (처음이면 null)
+     */
+    List<VoteCounter> loadVoteCounters(@Nullable CommunityId communityId, @Nullable PostId after, int limit);
+
+    /**
+     * 주어진 게시글들에 저장된 추천/비추천 수만 읽는다. (대사 작업의 재확인 / 일괄 투표 응답용, 없는 게시글은 제외)
+     */
+    List<VoteCounter> loadVoteCountersByIds(Collection<PostId> postIds);
+
+    /**
+     * 추천/비추천 수를 투표 행 기준으로 다시 센 값으로 바로잡고 score / hot 점수를 맞춘다. (대사 작업용)
+     *
+     * <p>
+     * 현재 값이 {@code expectedUp} / {@code expectedDown} 일 때만 바꾼다.
+     * 조회 이후 다른 투표가 반영됐다면 건드리지 않고 다음 대사에 맡긴다.
+     * </p>
+     *
+     * @return 바로잡은 게시글의 점수 스냅샷 (현재 값이 달라 건너뛰었으면 empty)
+     */
+    Optional<PostScoreSnapshot> replaceVoteCounts(PostId postId, int expectedUp, int expectedDown, int up, int down);
+
+    /**
+     * 댓글 수에 증감분을 더한다. (0 미만으로 내려가지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param delta  댓글 수 증감 (생성 +1, 삭제 -1)
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    int addCommentCount(PostId postId, int delta);
+
+    /**
+     * 주어진 게시글들에 저장된 댓글 수를 읽는다. (댓글 수 대사용, 없는 게시글은 제외)
+     */
+    Map<PostId, Integer> loadCommentCounts(Collection<PostId> postIds);
+
+    /**
+     * 대사 결과로 댓글 수를 바로잡는다. 현재 값이 {@code expected} 일 때만 바꾼다.
+     *
+     * @return 바로잡았으면 true (그 사이 증감분이 반영돼 값이 달라졌으면 false)
+     */
+    boolean replaceCommentCount(PostId postId, int expected, int commentCount);
+}
@@ -0,0 +1,47 @@
+package com.y11i.springcommddd.posts.application.service;
+
+import com.y11i.springcommddd.common.buffer.DeltaFlusher;
+import com.y11i.springcommddd.posts.application.port.in.FlushPostCommentCountsUseCase;
+import com.y11i.springcommddd.posts.application.port.out.BufferPostCommentCountPort;
+import com.y11i.springcommddd.posts.application.port.out.BufferPostCommentCountPort.CommentCountDelta;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 수 write-behind flush.
+ *
+ * <p>
+ * 버퍼에서 꺼낸 게시글별 누적 증감분을 {@link DeltaFlusher} 로 {@value #CHUNK_SIZE}건씩 한 트랜잭션으로 묶어
+ * 게시글마다 버전을 올리지 않는 UPDATE 한 번으로 반영한다.
+ * 반영에 실패한 묶음은 버퍼에 되돌려 다음 주기에 다시 시도한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class FlushPostCommentCountsService implements FlushPostCommentCountsUseCase {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BufferPostCommentCountPort bufferPostCommentCountPort;
+    private final UpdatePostCountersPort updatePostCountersPort;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flush() {
+        List<CommentCountDelta> deltas = bufferPostCommentCountPort.drain();
+        if (deltas.isEmpty()) return 0;
+
+        return DeltaFlusher.flushInChunks("post comment count", deltas, CHUNK_SIZE,
+                new TransactionTemplate(transactionManager),
+                chunk -> chunk.forEach(d -> updatePostCountersPort.addCommentCount(d.postId(), d.delta())),
+                d -> bufferPostCommentCountPort.add(d.postId(), d.delta()));
+    }
+}
@@ -15,8 +15,7 @@ import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
 import com.y11i.springcommddd.posts.dto.response.PostDetailResponseDTO;
 import com.y11i.springcommddd.posts.media.domain.PostAsset;
-import com.y11i.springcommddd.votes.domain.PostVote;
-import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import com.y11i.springcommddd.votes.application.port.in.LoadMyVotesUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,7 +42,7 @@ public class GetPostDetailService implements GetPostDetailUseCase {
     private final LoadCommunityForPostPort loadCommunityForPostPort;
     private final LoadAuthorForPostPort loadAuthorForPostPort;
     private final LoadPostAssetsPort loadPostAssetsPort;
-    private final PostVoteRepository postVoteRepository;
+    private final LoadMyVotesUseCase loadMyVotesUseCase;
 
     /**
      * 게시글 상세 정보를 조회한다.
@@ -69,9 +68,7 @@ public class GetPostDetailService implements GetPostDetailUseCase {
         //3. My Vote status (-1 / 0 / 1)
         Integer myVote = null;
         if (viewerId != null) {
-            myVote = postVoteRepository.findByPostIdAndVoterId(postId, viewerId)
-                    .map(PostVote::value)
-                    .orElse(0);
+            myVote = loadMyVotesUseCase.myPostVotes(viewerId, List.of(postId)).getOrDefault(postId, 0);
         }
 
         // 5. Media assets
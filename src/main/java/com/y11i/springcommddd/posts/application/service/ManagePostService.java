@@ -69,6 +69,11 @@ public class ManagePostService implements ManagePostUseCase {
     private final PostAssetFactory postAssetFactory;
     private final SavePostAssetsPort savePostAssetsPort;
     private final CheckCommunityBanPort checkCommunityBanPort;
+    private final SyncPostRankingPort syncPostRankingPort;
+    private final PostRankingIndexPort postRankingIndexPort;
+    private final PostSearchIndexPort postSearchIndexPort;
+    private final EvictPostCountPort evictPostCountPort;
+    private final FeedCachePort feedCachePort;
 
     /**
      * 게시글 액션 구분(Enum).
@@ -115,6 +120,7 @@ public class ManagePostService implements ManagePostUseCase {
         post.publish();
 
         Post saved = savePostPort.save(post);
+        propagateStatusChange(saved);
         return saved.postId();
     }
 
@@ -144,6 +150,7 @@ public class ManagePostService implements ManagePostUseCase {
         archiveTarget.archive();
         // 4. 저장
         Post saved = savePostPort.save(archiveTarget);
+        propagateStatusChange(saved);
         // 5. 반환
         return saved.postId();
     }
@@ -173,6 +180,7 @@ public class ManagePostService implements ManagePostUseCase {
         // 3. 복구
         restoreTarget.restore();
         Post saved = savePostPort.save(restoreTarget);
+        propagateStatusChange(saved);
         // 4. 반환
         return saved.postId();
     }
@@ -219,6 +227,8 @@ public class ManagePostService implements ManagePostUseCase {
 
         // 4. 저장
         Post saved = savePostPort.save(target);
+        postSearchIndexPort.index(saved);
+        feedCachePort.evict(saved);
         return saved.postId();
     }
 
@@ -291,9 +301,27 @@ public class ManagePostService implements ManagePostUseCase {
         draft.publish();
 
         Post saved = savePostPort.save(draft);
+        propagateStatusChange(saved);
         return saved.postId();
     }
 
+    // ---------------------------------------------------------------------
+    // 파생 데이터 반영
+    // ---------------------------------------------------------------------
+
+    /**
+     * 게시/보관/복구로 PUBLISHED 집합이 바뀐 게시글을 읽기 모델들에 반영한다.
+     * (기간별 랭킹, 정렬 인덱스, 개수 캐시, 검색 색인, 피드 캐시)
+     */
+    private void propagateStatusChange(Post saved) {
+        PostScoreSnapshot snapshot = saved.scoreSnapshot();
+        syncPostRankingPort.sync(snapshot);
+        postRankingIndexPort.update(snapshot);
+        evictPostCountPort.evict(saved);
+        postSearchIndexPort.index(saved);
+        feedCachePort.evict(saved);
+    }
+
     // ---------------------------------------------------------------------
     // 권한 검증
     // ---------------------------------------------------------------------
@@ -8,24 +8,36 @@ import com.y11i.springcommddd.iam.domain.Member;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.iam.domain.exception.MemberNotFound;
 import com.y11i.springcommddd.posts.application.port.in.*;
+import com.y11i.springcommddd.posts.application.port.out.FeedCachePort;
 import com.y11i.springcommddd.posts.application.port.out.LoadAuthorForPostPort;
 import com.y11i.springcommddd.posts.application.port.out.LoadCommunityForPostPort;
 import com.y11i.springcommddd.posts.application.port.out.LoadPostAssetsPort;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchPort;
 import com.y11i.springcommddd.posts.application.port.out.QueryPostPort;
-import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import com.y11i.springcommddd.posts.dto.internal.PageCountMode;
 import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSearchCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
 import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
 import com.y11i.springcommddd.posts.media.domain.PostAsset;
-import com.y11i.springcommddd.votes.domain.MyPostVote;
-import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import com.y11i.springcommddd.votes.application.port.in.LoadMyVotesUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,48 +51,122 @@ public class PostFeedQueryService implements
         SearchCommunityPostsUseCase,
         SearchAuthorPostsUseCase
 {
+    /** 피드 캐시 대상: 앞쪽 페이지 수 / 최대 페이지 크기 */
+    private static final int FEED_CACHE_MAX_PAGES = 5;
+    private static final int FEED_CACHE_MAX_SIZE = 100;
 
     private final QueryPostPort queryPostPort;
     private final LoadAuthorForPostPort loadAuthorForPostPort;
     private final LoadCommunityForPostPort loadCommunityForPostPort;
-    private final PostVoteRepository postVoteRepository;
+    private final LoadMyVotesUseCase loadMyVotesUseCase;
     private final LoadPostAssetsPort loadPostAssetsPort;
+    private final PostSearchPort postSearchPort;
+    private final FeedCachePort feedCachePort;
+    private final PlatformTransactionManager transactionManager;
 
     // ----------------------------------------------------
     // 홈 피드
     // ----------------------------------------------------
+    //
+    // 홈/커뮤니티 피드는 뷰어와 무관한 목록을 FeedCachePort 에 캐시하고, myVote 만 뷰어별로 덧씌운다.
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 캐시를 먼저 보고, 미스일 때만 읽기 트랜잭션을 연다.
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResultDTO<PostSummaryResponseDTO> listHomeFeed(ListHomeFeedPostsUseCase.Query q) {
         PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.findHomeFeed(q.sort(), pageReq);
+        TopWindow window = isTop(q.sort()) ? TopWindow.from(q.window()) : TopWindow.ALL;
+        PageCountMode countMode = feedCountMode(q.count());
+
+        PageResultDTO<PostSummaryResponseDTO> result = cachedPage(
+                pageCacheKey(null, q.sort(), window, q.page(), q.size(), countMode),
+                () -> {
+                    Slice<PostSummaryRow> slice = isTop(q.sort())
+                            ? queryPostPort.findHomeFeedTop(window, pageReq)
+                            : queryPostPort.findHomeFeed(q.sort(), pageReq);
+
+                    return buildPageResult(slice, countMode,
+                            () -> queryPostPort.countHomeFeed(window), null, null);
+                });
 
-        return buildPageResult(page, q.viewerId(), null);
+        return result.withContent(overlayMyVotes(result.content(), q.viewerId()));
     }
 
     // ----------------------------------------------------
     // 특정 커뮤니티 피드
     // ----------------------------------------------------
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResultDTO<PostSummaryResponseDTO> listCommunityPosts(ListCommunityPostsUseCase.Query q) {
         CommunityNameKey nk= new CommunityNameKey(q.nameKey());
+        PageRequest pageReq = PageRequest.of(q.page(), q.size());
+        TopWindow window = isTop(q.sort()) ? TopWindow.from(q.window()) : TopWindow.ALL;
+        PageCountMode countMode = feedCountMode(q.count());
+
+        PageResultDTO<PostSummaryResponseDTO> result = cachedPage(
+                pageCacheKey(nk.value(), q.sort(), window, q.page(), q.size(), countMode),
+                () -> {
+                    // 커뮤니티 존재 여부 검증 + 캐싱용으로 로드
+                    Community community = loadCommunityForPostPort.loadByNameKey(nk)
+                            .orElseThrow(() -> new CommunityNotFound("Community not found: " + nk.value()));
+                    CommunityId communityId = community.communityId();
+
+                    // 2) 피드 조회
+                    Slice<PostSummaryRow> slice = isTop(q.sort())
+                            ? queryPostPort.findByCommunityTop(communityId, window, pageReq)
+                            : queryPostPort.findByCommunity(communityId, q.sort(), pageReq);
+
+                    // 3) 이미 로드한 community를 fixedCommunityOrNull로 넘겨 캐시 활용
+                    return buildPageResult(slice, countMode,
+                            () -> queryPostPort.countByCommunity(communityId, window), null, community);
+                });
+
+        return result.withContent(overlayMyVotes(result.content(), q.viewerId()));
+    }
 
-        // 커뮤니티 존재 여부 검증 + 캐싱용으로 로드
-        Community community = loadCommunityForPostPort.loadByNameKey(nk)
-                .orElseThrow(() -> new CommunityNotFound("Community not found: " + nk.value()));
-        CommunityId communityId = community.communityId();
+    // ----------------------------------------------------
+    // 키셋(커서) 피드
+    // ----------------------------------------------------
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollHomeFeed(ListHomeFeedPostsUseCase.ScrollQuery q) {
+        int size = normalizeScrollSize(q.size());
+        PostFeedCursor cursor = resolveCursor(q.cursor(), q.sort());
+
+        SliceResultDTO<PostSummaryResponseDTO> result = cachedSlice(
+                scrollCacheKey(null, q.sort(), cursor, size),
+                () -> {
+                    Slice<PostSummaryRow> slice = queryPostPort.scrollHomeFeed(q.sort(), cursor, size);
+                    return buildSliceResult(slice, q.sort(), null, null);
+                });
+
+        return result.withContent(overlayMyVotes(result.content(), q.viewerId()));
+    }
 
-        // 2) 피드 조회
-        PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.findByCommunity(communityId, q.sort(), pageReq);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SliceResultDTO<PostSummaryResponseDTO> scrollCommunityPosts(ListCommunityPostsUseCase.ScrollQuery q) {
+        CommunityNameKey nk = new CommunityNameKey(q.nameKey());
+        int size = normalizeScrollSize(q.size());
+        PostFeedCursor cursor = resolveCursor(q.cursor(), q.sort());
 
-        // 3) 이미 로드한 community를 fixedCommunityOrNull로 넘겨 캐시 활용
-        return buildPageResult(page, q.viewerId(), community);
+        SliceResultDTO<PostSummaryResponseDTO> result = cachedSlice(
+                scrollCacheKey(nk.value(), q.sort(), cursor, size),
+                () -> {
+                    Community community = loadCommunityForPostPort.loadByNameKey(nk)
+                            .orElseThrow(() -> new CommunityNotFound("Community not found: " + nk.value()));
+
+                    Slice<PostSummaryRow> slice = queryPostPort.scrollByCommunity(community.communityId(), q.sort(), cursor, size);
+                    return buildSliceResult(slice, q.sort(), null, community);
+                });
+
+        return result.withContent(overlayMyVotes(result.content(), q.viewerId()));
     }
 
     @Override
     public PageResultDTO<PostSummaryResponseDTO> listDrafts(ListDraftsUseCase.Query q) {
         PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.findDraftsByAuthorId(q.memberId(), q.sort(), pageReq);
+        Page<PostSummaryRow> page = queryPostPort.findDraftsByAuthorId(q.memberId(), q.sort(), pageReq);
 
         return buildPageResult(page, q.memberId(), null);
     }
@@ -90,96 +176,244 @@ public class PostFeedQueryService implements
     // ----------------------------------------------------
 
     /**
-     * Page<Post> → PageResultDTO<PostSummaryResponseDTO> 변환 공통 로직.
+     * Page<PostSummaryRow> → PageResultDTO<PostSummaryResponseDTO> 변환 공통 로직.
      *
      * @param page             조회된 게시글 페이지
      * @param viewerId         현재 사용자 (null 허용)
      * @param fixedCommunityOrNull 커뮤니티 피드의 경우 미리 로드한 Community, 홈 피드의 경우 null
      */
     private PageResultDTO<PostSummaryResponseDTO> buildPageResult(
-            Page<Post> page,
+            Page<PostSummaryRow> page,
             MemberId viewerId,
             Community fixedCommunityOrNull
     ) {
-        List<Post> posts = page.getContent();
-        if (posts.isEmpty()) {
-            return new PageResultDTO<>(List.of(),
-                    page.getNumber(),
-                    page.getSize(),
-                    page.getTotalElements(),
-                    page.getTotalPages(),
-                    page.hasNext());
+        return new PageResultDTO<>(
+                toSummaries(page.getContent(), viewerId, fixedCommunityOrNull),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext()
+        );
+    }
+
+    /**
+     * Slice&lt;PostSummaryRow&gt; → PageResultDTO 변환. (목록 쿼리에는 COUNT 가 없다)
+     *
+     * <p>
+     * - {@link PageCountMode#NONE}: 개수를 세지 않고 hasNext 만 채운다.<br>
+     * - 그 외: 마지막 페이지면 (offset + 건수)로 바로 계산하고, 아니면 counter(캐시된 COUNT)를 사용한다.
+     * </p>
+     *
+     * @param counter 전체 개수 조회 (필요할 때만 호출)
+     */
+    private PageResultDTO<PostSummaryResponseDTO> buildPageResult(
+            Slice<PostSummaryRow> slice,
+            PageCountMode countMode,
+            LongSupplier counter,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        List<PostSummaryResponseDTO> content = toSummaries(slice.getContent(), viewerId, fixedCommunityOrNull);
+
+        if (countMode == PageCountMode.NONE) {
+            return new PageResultDTO<>(
+                    content, slice.getNumber(), slice.getSize(), null, null, slice.hasNext(), PageCountMode.NONE);
         }
 
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        long total = (!slice.hasNext() && slice.getNumberOfElements() > 0)
+                ? seen
+                : Math.max(counter.getAsLong(), seen);
+
+        return new PageResultDTO<>(
+                content,
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages(total, slice.getSize()),
+                slice.hasNext(),
+                PageCountMode.EXACT
+        );
+    }
+
+    /**
+     * Slice&lt;PostSummaryRow&gt; → SliceResultDTO&lt;PostSummaryResponseDTO&gt; 변환. 마지막 게시글로 다음 커서를 만든다.
+     */
+    private SliceResultDTO<PostSummaryResponseDTO> buildSliceResult(
+            Slice<PostSummaryRow> slice,
+            String sortKey,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        List<PostSummaryRow> posts = slice.getContent();
+        String nextCursor = (slice.hasNext() && !posts.isEmpty())
+                ? PostFeedCursor.after(sortKey, posts.get(posts.size() - 1)).encode()
+                : null;
+
+        return new SliceResultDTO<>(
+                toSummaries(posts, viewerId, fixedCommunityOrNull),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+
+    /**
+     * 게시글 목록을 요약 DTO 목록으로 변환한다. (페이지/슬라이스 공통)
+     */
+    private List<PostSummaryResponseDTO> toSummaries(
+            List<PostSummaryRow> posts,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        if (posts.isEmpty()) return List.of();
+
+        // 게시글 수와 무관하게 고정된 횟수(투표/커뮤니티/작성자/자산 각 1회)로 조회한다.
+
         // 1) 내 투표값 일괄 조회
-        Map<PostId, Integer> myVotesMap = resolveMyVotesMap(viewerId, posts);
+        List<PostId> postIds = posts.stream().map(PostSummaryRow::postId).toList();
+        Map<PostId, Integer> myVotesMap = resolveMyVotesMap(viewerId, postIds);
 
-        // 2) 커뮤니티 캐시 (홈 피드에서는 여러 커뮤니티가 섞일 수 있음)
-        Map<CommunityId, Community> communityCache = new HashMap<>();
-        if (fixedCommunityOrNull != null) {
-            communityCache.put(fixedCommunityOrNull.communityId(), fixedCommunityOrNull);
-        }
+        // 2) 커뮤니티 일괄 조회 (홈 피드에서는 여러 커뮤니티가 섞일 수 있음)
+        Map<CommunityId, Community> communities = resolveCommunities(posts, fixedCommunityOrNull);
+
+        // 3) 작성자 일괄 조회
+        Map<MemberId, Member> authors = resolveAuthors(posts);
 
-        // 3) 작성자 캐시 (동일 작성자가 여러 게시글을 쓴 경우 중복 조회 방지)
-        Map<MemberId, Member> authorCache = new HashMap<>();
+        // 4) 자산 일괄 조회 (postId 별로 묶여서 반환)
+        Map<PostId, List<PostAsset>> assetsMap = loadPostAssetsPort.loadByPostIds(postIds);
 
-        // 3) Post → PostSummaryResponseDTO 매핑
-        List<PostSummaryResponseDTO> summaries = posts.stream()
+        // 5) PostSummaryRow → PostSummaryResponseDTO 매핑
+        return posts.stream()
                 .map(post -> {
-                    Community community = resolveCommunity(post, communityCache);
-                    Member author = resolveAuthor(post, authorCache);
+                    Community community = communities.get(post.communityId());
+                    if (community == null) throw new CommunityNotFound(post.communityId().stringify());
+                    Member author = authors.get(post.authorId());
+                    if (author == null) throw new MemberNotFound("Member not found");
                     Integer myVote = myVotesMap.get(post.postId());
-                    List<PostAsset> assets = loadPostAssetsPort.loadByPostId(post.postId());
+                    List<PostAsset> assets = assetsMap.getOrDefault(post.postId(), List.of());
                     return PostSummaryResponseDTO.from(post, community, author, myVote, assets);
                 })
                 .toList();
+    }
 
-        return new PageResultDTO<>(
-                summaries,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.hasNext()
-        );
+    /**
+     * 페이지 번호 피드의 캐시 키. 앞쪽 페이지만 캐시한다. (그 외는 null → 캐시 안 함)
+     */
+    private FeedCachePort.Key pageCacheKey(String nameKeyOrNull, String sortKey, TopWindow window,
+                                           int page, int size, PageCountMode countMode) {
+        if (page < 0 || page >= FEED_CACHE_MAX_PAGES || size <= 0 || size > FEED_CACHE_MAX_SIZE) return null;
+        return new FeedCachePort.Key(nameKeyOrNull, "page", normalizeSortKey(sortKey), window.name().toLowerCase(),
+                Integer.toString(page), size, countMode.name().toLowerCase());
+    }
+
+    /**
+     * 커서 피드의 캐시 키. 첫 페이지(커서 없음)만 캐시한다.
+     */
+    private FeedCachePort.Key scrollCacheKey(String nameKeyOrNull, String sortKey, PostFeedCursor cursor, int size) {
+        if (cursor != null) return null;
+        return new FeedCachePort.Key(nameKeyOrNull, "scroll", PostFeedCursor.normalizeSort(sortKey), "all",
+                "-", size, "none");
+    }
+
+    private PageResultDTO<PostSummaryResponseDTO> cachedPage(
+            FeedCachePort.Key key, Supplier<PageResultDTO<PostSummaryResponseDTO>> loader) {
+        if (key == null) return inReadOnlyTransaction(loader);
+
+        return feedCachePort.getPage(key, () -> inReadOnlyTransaction(loader));
+    }
+
+    private SliceResultDTO<PostSummaryResponseDTO> cachedSlice(
+            FeedCachePort.Key key, Supplier<SliceResultDTO<PostSummaryResponseDTO>> loader) {
+        if (key == null) return inReadOnlyTransaction(loader);
+
+        return feedCachePort.getSlice(key, () -> inReadOnlyTransaction(loader));
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> loader) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> loader.get());
     }
 
-    private Map<PostId, Integer> resolveMyVotesMap(MemberId viewerId, List<Post> posts) {
-        if (viewerId == null || posts.isEmpty()) return Map.of();
+    /**
+     * 뷰어와 무관하게 만든(캐시된) 요약 목록에 뷰어의 myVote 를 덧씌운다. (투표 조회 1회)
+     */
+    private List<PostSummaryResponseDTO> overlayMyVotes(List<PostSummaryResponseDTO> content, MemberId viewerId) {
+        if (viewerId == null || content.isEmpty()) return content;
+
+        List<PostId> postIds = content.stream()
+                .map(dto -> PostId.objectify(dto.postId()))
+                .toList();
+        Map<PostId, Integer> myVotes = resolveMyVotesMap(viewerId, postIds);
+        if (myVotes.isEmpty()) return content;
 
-        List<PostId> postIds = posts.stream()
-                .map(Post::postId)
+        return content.stream()
+                .map(dto -> dto.withMyVote(myVotes.get(PostId.objectify(dto.postId()))))
                 .toList();
+    }
+
+    private String normalizeSortKey(String sortKey) {
+        if (sortKey == null || sortKey.isBlank()) return "new";
+        return sortKey.toLowerCase();
+    }
 
-        List<MyPostVote> votes = postVoteRepository.findMyVotesByPostIds(viewerId, postIds);
+    /**
+     * 피드의 개수 방식. 피드는 캐시된 정확한 개수를 쓰므로 approximate 도 exact 로 취급한다.
+     */
+    private PageCountMode feedCountMode(String rawCount) {
+        PageCountMode mode = PageCountMode.from(rawCount, PageCountMode.EXACT);
+        return mode == PageCountMode.NONE ? PageCountMode.NONE : PageCountMode.EXACT;
+    }
 
-        return votes.stream()
-                .collect(Collectors.toMap(
-                        MyPostVote::id,
-                        MyPostVote::value
-                ));
+    private int totalPages(long total, int size) {
+        return size <= 0 ? 0 : (int) ((total + size - 1) / size);
     }
 
-    private Community resolveCommunity(Post post, Map<CommunityId, Community> cache) {
-        CommunityId cid = post.communityId();
-        Community cached = cache.get(cid);
-        if (cached != null) return cached;
+    private boolean isTop(String sortKey) {
+        return "top".equalsIgnoreCase(sortKey);
+    }
 
-        Community loaded = loadCommunityForPostPort.loadById(cid)
-                .orElseThrow(() -> new CommunityNotFound(cid.stringify()));
-        cache.put(cid, loaded);
-        return loaded;
+    private PostFeedCursor resolveCursor(String rawCursor, String sortKey) {
+        if (rawCursor == null || rawCursor.isBlank()) return null;
+        PostFeedCursor cursor = PostFeedCursor.decode(rawCursor);
+        cursor.ensureSort(sortKey);
+        return cursor;
     }
 
-    private Member resolveAuthor(Post post, Map<MemberId, Member> cache) {
-        MemberId aid = post.authorId();
-        Member cached = cache.get(aid);
-        if (cached != null) return cached;
+    private int normalizeScrollSize(int size) {
+        return size <= 0 ? 20 : Math.min(size, 100);
+    }
 
-        Member loaded = loadAuthorForPostPort.loadById(aid)
-                .orElseThrow(() -> new MemberNotFound("Member not found"));
-        cache.put(aid, loaded);
-        return loaded;
+    private Map<PostId, Integer> resolveMyVotesMap(MemberId viewerId, List<PostId> postIds) {
+        return loadMyVotesUseCase.myPostVotes(viewerId, postIds);
+    }
+
+    private Map<CommunityId, Community> resolveCommunities(List<PostSummaryRow> posts, Community fixedCommunityOrNull) {
+        Map<CommunityId, Community> result = new HashMap<>();
+        if (fixedCommunityOrNull != null) {
+            result.put(fixedCommunityOrNull.communityId(), fixedCommunityOrNull);
+        }
+
+        Set<CommunityId> missing = posts.stream()
+                .map(PostSummaryRow::communityId)
+                .filter(cid -> !result.containsKey(cid))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            loadCommunityForPostPort.loadAllByIds(missing)
+                    .forEach(c -> result.put(c.communityId(), c));
+        }
+        return result;
+    }
+
+    private Map<MemberId, Member> resolveAuthors(List<PostSummaryRow> posts) {
+        Set<MemberId> authorIds = posts.stream()
+                .map(PostSummaryRow::authorId)
+                .collect(Collectors.toSet());
+
+        return loadAuthorForPostPort.loadAllByIds(authorIds).stream()
+                .collect(Collectors.toMap(Member::memberId, m -> m));
     }
 
     // ===========================
@@ -194,9 +428,24 @@ public class PostFeedQueryService implements
         CommunityId communityId = community.communityId();
 
         PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.searchByCommunity(communityId, q.keyword(), q.sort(), pageReq);
+        PageCountMode countMode = PageCountMode.from(q.count(), PageCountMode.APPROXIMATE);
+        PostSearchPort.Result result = postSearchPort.search(
+                q.keyword(), communityId, null, q.sort(), pageReq, countMode == PageCountMode.EXACT);
 
-        return buildPageResult(page, q.viewerId(), community);
+        return buildSearchResult(result, pageReq, countMode, q.viewerId(), community);
+    }
+
+    @Override
+    public SliceResultDTO<PostSummaryResponseDTO> scroll(SearchCommunityPostsUseCase.ScrollQuery q) {
+        CommunityNameKey nk = new CommunityNameKey(q.nameKey());
+        Community community = loadCommunityForPostPort.loadByNameKey(nk)
+                .orElseThrow(() -> new CommunityNotFound("Community not found: " + nk.value()));
+
+        int size = normalizeScrollSize(q.size());
+        PostSearchPort.ScrollResult result = postSearchPort.scroll(
+                q.keyword(), community.communityId(), null, q.sort(), resolveSearchCursor(q.cursor(), q.sort()), size);
+
+        return buildSearchSliceResult(result, size, q.viewerId(), community);
     }
 
     // ===========================
@@ -205,17 +454,145 @@ public class PostFeedQueryService implements
     @Override
     public PageResultDTO<PostSummaryResponseDTO> search(SearchHomePostsUseCase.Query q) {
         PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.searchHomeFeed(q.keyword(), q.sort(), pageReq);
+        PageCountMode countMode = PageCountMode.from(q.count(), PageCountMode.APPROXIMATE);
+        PostSearchPort.Result result = postSearchPort.search(
+                q.keyword(), null, null, q.sort(), pageReq, countMode == PageCountMode.EXACT);
 
-        return buildPageResult(page, q.viewerId(), null);
+        return buildSearchResult(result, pageReq, countMode, q.viewerId(), null);
+    }
+
+    @Override
+    public SliceResultDTO<PostSummaryResponseDTO> scroll(SearchHomePostsUseCase.ScrollQuery q) {
+        int size = normalizeScrollSize(q.size());
+        PostSearchPort.ScrollResult result = postSearchPort.scroll(
+                q.keyword(), null, null, q.sort(), resolveSearchCursor(q.cursor(), q.sort()), size);
+
+        return buildSearchSliceResult(result, size, q.viewerId(), null);
     }
 
     @Override
     public PageResultDTO<PostSummaryResponseDTO> searchByAuthor(SearchAuthorPostsUseCase.Query q) {
         PageRequest pageReq = PageRequest.of(q.page(), q.size());
-        Page<Post> page = queryPostPort.searchByAuthor(q.authorId(), q.keyword(), q.sort(), pageReq);
 
-        // 작성자 피드이므로 fixedCommunityOrNull = null
-        return buildPageResult(page, q.viewerId(), null);
+        // 키워드 없으면 "그 유저의 전체 게시글 피드" 느낌으로 (DB 조회)
+        if (q.keyword() == null || q.keyword().isBlank()) {
+            Slice<PostSummaryRow> slice = queryPostPort.findByAuthor(q.authorId(), q.sort(), pageReq);
+            // 작성자 피드이므로 fixedCommunityOrNull = null
+            return buildPageResult(slice, feedCountMode(q.count()),
+                    () -> queryPostPort.countByAuthor(q.authorId()), q.viewerId(), null);
+        }
+
+        PageCountMode countMode = PageCountMode.from(q.count(), PageCountMode.APPROXIMATE);
+        PostSearchPort.Result result = postSearchPort.search(
+                q.keyword(), null, q.authorId(), q.sort(), pageReq, countMode == PageCountMode.EXACT);
+        return buildSearchResult(result, pageReq, countMode, q.viewerId(), null);
+    }
+
+    @Override
+    public SliceResultDTO<PostSummaryResponseDTO> scrollByAuthor(SearchAuthorPostsUseCase.ScrollQuery q) {
+        int size = normalizeScrollSize(q.size());
+
+        // 키워드 없으면 작성자 피드 키셋 조회 (DB, new / top 만 지원)
+        if (q.keyword() == null || q.keyword().isBlank()) {
+            String sort = isTop(q.sort()) ? "top" : "new";
+            PostFeedCursor cursor = resolveCursor(q.cursor(), sort);
+            Slice<PostSummaryRow> slice = queryPostPort.scrollByAuthor(q.authorId(), sort, cursor, size);
+            return buildSliceResult(slice, sort, q.viewerId(), null);
+        }
+
+        PostSearchPort.ScrollResult result = postSearchPort.scroll(
+                q.keyword(), null, q.authorId(), q.sort(), resolveSearchCursor(q.cursor(), q.sort()), size);
+        return buildSearchSliceResult(result, size, q.viewerId(), null);
+    }
+
+    /**
+     * 검색 엔진 결과(ID + 하이라이트) → PageResultDTO 변환. (요약 조립은 {@link #toSearchSummaries})
+     *
+     * <p>
+     * 근사 개수(검색 엔진이 하한값만 센 경우)이면 countMode 는 APPROXIMATE 이고, 그 뒤에도 결과가 있다고 본다.
+     * </p>
+     */
+    private PageResultDTO<PostSummaryResponseDTO> buildSearchResult(
+            PostSearchPort.Result result,
+            PageRequest pageReq,
+            PageCountMode countMode,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        List<PostSummaryResponseDTO> content = toSearchSummaries(result.hits(), viewerId, fixedCommunityOrNull);
+
+        long total = result.totalHits();
+        int size = pageReq.getPageSize();
+        boolean hasNext = pageReq.getOffset() + size < total || !result.exact();
+
+        if (countMode == PageCountMode.NONE) {
+            return new PageResultDTO<>(content, pageReq.getPageNumber(), size, null, null, hasNext, PageCountMode.NONE);
+        }
+        return new PageResultDTO<>(
+                content,
+                pageReq.getPageNumber(),
+                size,
+                total,
+                totalPages(total, size),
+                hasNext,
+                result.exact() ? PageCountMode.EXACT : PageCountMode.APPROXIMATE
+        );
+    }
+
+    /**
+     * 검색 엔진 커서 결과 → SliceResultDTO 변환. 마지막 결과의 정렬 위치로 다음 커서를 만든다.
+     * (비공개로 바뀌어 빠진 글이 있어도 커서는 검색 엔진 기준이므로 다음 페이지가 어긋나지 않는다)
+     */
+    private SliceResultDTO<PostSummaryResponseDTO> buildSearchSliceResult(
+            PostSearchPort.ScrollResult result,
+            int size,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        String nextCursor = (result.hasNext() && result.last() != null) ? result.last().encode() : null;
+        return new SliceResultDTO<>(
+                toSearchSummaries(result.hits(), viewerId, fixedCommunityOrNull),
+                size,
+                result.hasNext(),
+                nextCursor
+        );
+    }
+
+    /**
+     * 검색 결과(ID + 하이라이트) → 요약 DTO 목록. (페이지/커서 공통)
+     *
+     * <p>
+     * 요약 행은 ID 목록으로 한 번에 조회하고, 검색 엔진이 정한 순서를 그대로 유지한다.
+     * 색인 반영 사이에 비공개로 바뀐 글은 조회되지 않으므로 결과에서 빠진다.
+     * </p>
+     */
+    private List<PostSummaryResponseDTO> toSearchSummaries(
+            List<PostSearchPort.Hit> hits,
+            MemberId viewerId,
+            Community fixedCommunityOrNull
+    ) {
+        List<PostId> ids = hits.stream().map(PostSearchPort.Hit::postId).toList();
+        Map<PostId, PostSummaryRow> rowsById = queryPostPort.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PostSummaryRow::postId, r -> r));
+
+        List<PostSummaryRow> rows = new ArrayList<>(ids.size());
+        Map<PostId, String> highlights = new HashMap<>();
+        for (PostSearchPort.Hit hit : hits) {
+            PostSummaryRow row = rowsById.get(hit.postId());
+            if (row == null) continue;
+            rows.add(row);
+            if (hit.highlight() != null) highlights.put(hit.postId(), hit.highlight());
+        }
+
+        return toSummaries(rows, viewerId, fixedCommunityOrNull).stream()
+                .map(dto -> dto.withHighlight(highlights.get(PostId.objectify(dto.postId()))))
+                .toList();
+    }
+
+    private PostSearchCursor resolveSearchCursor(String rawCursor, String sortKey) {
+        if (rawCursor == null || rawCursor.isBlank()) return null;
+        PostSearchCursor cursor = PostSearchCursor.decode(rawCursor);
+        cursor.ensureSort(sortKey);
+        return cursor;
     }
 }
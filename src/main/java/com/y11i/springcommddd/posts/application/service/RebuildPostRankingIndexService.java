@@ -0,0 +1,97 @@
+package com.y11i.springcommddd.posts.application.service;
+
+import com.y11i.springcommddd.posts.application.port.in.RebuildPostRankingIndexUseCase;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.QueryPostPort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 정렬 인덱스 재구성 서비스.
+ *
+ * <p>
+ * 게시된 글을 new 정렬 키셋 페이지({@value #BATCH_SIZE}건)로 끝까지 읽어 인덱스에 넣는다.
+ * 재구성 중에는 인덱스가 "준비 안 됨" 상태이므로 피드는 DB 쿼리로 조회된다.
+ * 각 배치는 리포지토리 호출 단위의 짧은 읽기 트랜잭션으로 처리한다.
+ * </p>
+ *
+ * <p>
+ * 배치를 넣은 뒤 같은 ID 들을 다시 읽어, 그 사이 보관/삭제된 글은 빼고 점수가 바뀐 글은 다시 넣는다.
+ * 배치를 읽은 뒤 커밋된 변경은 커밋 이후 증분 갱신이 배치 추가보다 먼저 반영됐더라도 이 재확인에서 보이므로,
+ * 재구성이 오래된 행으로 증분 갱신을 덮어쓴 채 남지 않는다.
+ * 실패하더라도 잠금은 풀리며, 인덱스는 "준비 안 됨" 상태로 남아 다음 재구성까지 DB 로 조회된다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RebuildPostRankingIndexService implements RebuildPostRankingIndexUseCase {
+    private static final int BATCH_SIZE = 1000;
+
+    private final QueryPostPort queryPostPort;
+    private final PostRankingIndexPort postRankingIndexPort;
+
+    @Override
+    public long rebuild() {
+        if (!postRankingIndexPort.beginRebuild()) {
+            log.info("post ranking index rebuild skipped: already running");
+            return -1;
+        }
+
+        try {
+            long indexed = 0;
+            PostFeedCursor cursor = null;
+            Slice<PostSummaryRow> slice;
+            do {
+                slice = queryPostPort.scrollHomeFeed("new", cursor, BATCH_SIZE);
+                List<PostSummaryRow> rows = slice.getContent();
+                postRankingIndexPort.addAll(rows);
+                recheck(rows);
+                indexed += rows.size();
+
+                if (!rows.isEmpty()) cursor = PostFeedCursor.after("new", rows.get(rows.size() - 1));
+            } while (slice.hasNext());
+
+            postRankingIndexPort.finishRebuild();
+            log.info("post ranking index rebuilt: {} posts", indexed);
+            return indexed;
+        } finally {
+            postRankingIndexPort.releaseRebuild();
+        }
+    }
+
+    /**
+     * 방금 넣은 배치를 다시 읽어, 게시 상태가 아니게 된 글은 빼고 점수가 바뀐 글은 다시 넣는다.
+     */
+    private void recheck(List<PostSummaryRow> rows) {
+        if (rows.isEmpty()) return;
+
+        Map<PostId, PostSummaryRow> current = queryPostPort.findSummariesByIds(
+                        rows.stream().map(PostSummaryRow::postId).toList()).stream()
+                .collect(Collectors.toMap(PostSummaryRow::postId, r -> r));
+
+        List<PostSummaryRow> gone = new ArrayList<>();
+        List<PostSummaryRow> changed = new ArrayList<>();
+        for (PostSummaryRow row : rows) {
+            PostSummaryRow now = current.get(row.postId());
+            if (now == null) {
+                gone.add(row);
+            } else if (now.score() != row.score() || Double.compare(now.hotScore(), row.hotScore()) != 0) {
+                changed.add(now);
+            }
+        }
+
+        postRankingIndexPort.removeAll(gone);
+        postRankingIndexPort.addAll(changed);
+    }
+}
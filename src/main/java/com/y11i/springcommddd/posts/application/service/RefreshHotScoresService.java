@@ -0,0 +1,63 @@
+package com.y11i.springcommddd.posts.application.service;
+
+import com.y11i.springcommddd.posts.application.port.in.RefreshHotScoresUseCase;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.RefreshHotScorePort;
+import com.y11i.springcommddd.posts.domain.HotScore;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * hot 점수 보정 서비스.
+ *
+ * <p>
+ * hot 점수는 게시/복구/투표 시 {@code Post} 안에서 즉시 갱신되지만,
+ * 벌크 UPDATE 나 운영 중 집계 보정처럼 애그리게잇을 거치지 않는 변경이 생기면 값이 어긋날 수 있다.
+ * 이 서비스는 최근 게시글만 대상으로 현재 집계값으로 다시 계산하고, 달라진 행만 갱신한다.
+ * 갱신한 게시글은 피드 정렬 인덱스의 hot 정렬 키도 함께 바로잡는다. (커밋 이후 반영)
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshHotScoresService implements RefreshHotScoresUseCase {
+    private static final int BATCH_SIZE = 500;
+    private static final double EPSILON = 1e-9;
+
+    private final RefreshHotScorePort refreshHotScorePort;
+    private final PostRankingIndexPort postRankingIndexPort;
+
+    @Override
+    public int refreshRecentlyPublished(Duration window) {
+        Instant since = Instant.now().minus(window);
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
+        int updated = 0;
+
+        Slice<PostScoreSnapshot> slice;
+        do {
+            slice = refreshHotScorePort.loadPublishedSince(since, pageable);
+            for (PostScoreSnapshot row : slice) {
+                double expected = HotScore.compute(row.score(), row.publishedAt());
+                if (Math.abs(expected - row.hotScore()) > EPSILON
+                        && refreshHotScorePort.updateHotScore(row.postId(), expected) > 0) {
+                    postRankingIndexPort.update(row.withHotScore(expected));
+                    updated++;
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.debug("hot score refreshed: since={}, updated={}", since, updated);
+        return updated;
+    }
+}
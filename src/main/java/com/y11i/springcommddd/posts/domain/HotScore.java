@@ -0,0 +1,48 @@
+package com.y11i.springcommddd.posts.domain;
+
+import java.time.Instant;
+
+/**
+ * 게시글 "hot" 정렬 점수 계산기.
+ *
+ * <p><b>공식</b> (Reddit hot ranking)</p>
+ * <pre>
+ * order   = log10(max(|score|, 1))
+ * sign    = signum(score)
+ * seconds = publishedAt(epoch sec) - EPOCH
+ * hot     = sign * order + seconds / 45000
+ * </pre>
+ *
+ * <p>
+ * 시간 항이 게시 시각에만 의존하므로 값은 시간이 흘러도 변하지 않고,
+ * 투표(score) 변경 시에만 다시 계산하면 된다. 덕분에 컬럼에 저장하고 인덱스로 정렬할 수 있다.
+ * 약 12.5시간(45000초)마다 점수 10배에 해당하는 가중치가 최신 글에 주어진다.
+ * </p>
+ */
+public final class HotScore {
+
+    /** 시간 항 기준 시각 (2005-12-08T07:46:43Z) — 값의 크기를 작게 유지하기 위한 오프셋 */
+    private static final long EPOCH_SECONDS = 1134028003L;
+
+    /** 점수 10배와 동등하게 취급되는 시간(초) */
+    private static final double DECAY_SECONDS = 45000d;
+
+    private HotScore() {}
+
+    /**
+     * hot 점수를 계산합니다.
+     *
+     * @param score       추천 수 - 비추천 수
+     * @param publishedAt 게시 시각 (미게시면 null → 0)
+     * @return hot 점수
+     */
+    public static double compute(int score, Instant publishedAt) {
+        if (publishedAt == null) return 0d;
+
+        double order = Math.log10(Math.max(Math.abs(score), 1));
+        int sign = Integer.signum(score);
+        long seconds = publishedAt.getEpochSecond() - EPOCH_SECONDS;
+
+        return sign * order + seconds / DECAY_SECONDS;
+    }
+}
@@ -8,6 +8,7 @@ import com.y11i.springcommddd.posts.domain.exception.PostNotVotable;
 import com.y11i.springcommddd.posts.domain.exception.PostStatusTransitionNotAllowed;
 import com.y11i.springcommddd.shared.domain.AggregateRoot;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -29,8 +30,14 @@ import java.util.Objects;
  * <ul>
  *   <li>테이블: {@code posts}</li>
  *   <li>본문 컬럼: {@code LONGTEXT} (Hibernate {@link SqlTypes#LONGVARCHAR} 매핑)</li>
+ *   <li>본문 미리보기: {@code content_preview} — 목록 조회가 본문을 읽지 않도록 {@link #rewrite(Content)} 시 함께 저장</li>
+ *   <li>인덱스: {@code (status, published_at, post_id)}, {@code (community_id, status, published_at, post_id)} — 최신순 피드/키셋 탐색</li>
+ *   <li>인덱스: {@code (status, hot_score, post_id)}, {@code (community_id, status, hot_score, post_id)} — hot 피드</li>
+ *   <li>인덱스: {@code (status, score, published_at, post_id)}, {@code (community_id, status, score, published_at, post_id)} — top 피드</li>
+ *   <li>인덱스: {@code (author_id, status, published_at, post_id)}, {@code (author_id, status, score, published_at, post_id)} — 작성자 피드</li>
  *   <li>감사 필드: {@link #createdAt}, {@link #updatedAt}</li>
  *   <li>낙관적 락: {@link #version}</li>
+ *   <li>변경된 컬럼만 UPDATE ({@link DynamicUpdate}) — 집계 컬럼을 벌크 UPDATE 로 더하는 동안 편집 저장이 이전 집계값을 덮어쓰지 않도록</li>
  * </ul>
  *
  * <p><b>불변식/규칙</b></p>
@@ -39,14 +46,29 @@ import java.util.Objects;
  *   <li>보관({@link PostStatus#ARCHIVED}) 상태에서는 편집/제목변경 금지</li>
  *   <li>게시(Publish)는 초안({@link PostStatus#DRAFT})에서만 가능</li>
  *   <li>투표 집계는 0 미만으로 내려가지 않음</li>
+ *   <li>{@link #score}는 항상 {@code upCount - downCount} 와 같음 (투표 변경 시 함께 갱신)</li>
+ *   <li>{@link #hotScore}는 게시/복구/투표 변경 시 {@link HotScore}로 재계산</li>
  * </ul>
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_published", columnList = "status, published_at, post_id"),
+        @Index(name = "idx_posts_community_status_published", columnList = "community_id, status, published_at, post_id"),
+        @Index(name = "idx_posts_status_hot", columnList = "status, hot_score, post_id"),
+        @Index(name = "idx_posts_community_status_hot", columnList = "community_id, status, hot_score, post_id"),
+        @Index(name = "idx_posts_status_score", columnList = "status, score, published_at, post_id"),
+        @Index(name = "idx_posts_community_status_score", columnList = "community_id, status, score, published_at, post_id"),
+        @Index(name = "idx_posts_author_status_published", columnList = "author_id, status, published_at, post_id"),
+        @Index(name = "idx_posts_author_status_score", columnList = "author_id, status, score, published_at, post_id")
+})
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 @Access(AccessType.FIELD)
 public class Post implements AggregateRoot {
 
+    /** 목록용 본문 미리보기 최대 길이 */
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+
     @EmbeddedId
     private PostId postId;
 
@@ -76,6 +98,9 @@ public class Post implements AggregateRoot {
     @AttributeOverride(name = "value", column = @Column(name = "content"))
     private Content content;
 
+    @Column(name = "content_preview", length = CONTENT_PREVIEW_LENGTH)
+    private String contentPreview;
+
     @Embedded
     @AttributeOverride(name = "value", column = @Column(name = "link_url", length = 1024))
     private LinkUrl linkUrl; // LINK 에서만 필수
@@ -104,9 +129,17 @@ public class Post implements AggregateRoot {
     @Column(name="down_count", nullable=false)
     private int downCount = 0;
 
+    /** 추천 수 - 비추천 수 (비정규화, top 정렬 인덱스용) */
+    @Column(name = "score", nullable = false)
+    private int score = 0;
+
     @Column(name = "comment_count", nullable = false)
     private int commentCount = 0;
 
+    /** hot 정렬 점수 (비정규화, {@link HotScore} 참고) */
+    @Column(name = "hot_score", nullable = false)
+    private double hotScore = 0d;
+
     /** JPA 전용 */
     protected Post() {}
 
@@ -209,6 +242,7 @@ public class Post implements AggregateRoot {
     public void rewrite(Content newContent) {
         ensureNotArchived("Cannot edit contents of an archived post");
         this.content = newContent;
+        this.contentPreview = buildContentPreview(newContent);
     }
 
     /**
@@ -249,6 +283,7 @@ public class Post implements AggregateRoot {
 
         this.status = PostStatus.PUBLISHED;
         this.publishedAt = Instant.now();
+        recalculateHotScore();
     }
 
     /**
@@ -267,6 +302,7 @@ public class Post implements AggregateRoot {
     public void restore() {
         if (status != PostStatus.ARCHIVED) throw new PostStatusTransitionNotAllowed("Only ARCHIVED status can be restored");
         this.status = PostStatus.PUBLISHED;
+        recalculateHotScore();
     }
 
     /**
@@ -288,6 +324,36 @@ public class Post implements AggregateRoot {
             upCount = Math.max(upCount, 0);
             downCount = Math.max(downCount, 0);
         }
+
+        score = upCount - downCount;
+        recalculateHotScore();
+    }
+
+    private static String buildContentPreview(Content content) {
+        if (content == null) return null;
+        return contentPreviewOf(content.value());
+    }
+
+    /**
+     * 본문에서 목록용 미리보기를 잘라냅니다. (기존 행의 {@code content_preview} 보정에도 씀)
+     *
+     * @param full 본문 (null 이면 null)
+     * @return 앞 {@value #CONTENT_PREVIEW_LENGTH}자
+     */
+    public static String contentPreviewOf(String full) {
+        if (full == null) return null;
+        if (full.length() <= CONTENT_PREVIEW_LENGTH) return full;
+        int end = CONTENT_PREVIEW_LENGTH;
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 보정
+        if (Character.isHighSurrogate(full.charAt(end - 1))) end--;
+        return full.substring(0, end);
+    }
+
+    /**
+     * 현재 집계값과 게시 시각으로 hot 점수를 다시 계산합니다.
+     */
+    private void recalculateHotScore() {
+        this.hotScore = HotScore.compute(score, publishedAt);
     }
 
     public void commentCountIncrement() {
@@ -325,7 +391,7 @@ public class Post implements AggregateRoot {
      * @throws PostNotVotable <code>PUBLISHED</code>가 아닌 경우
      */
     public void ensureVotable() {
-        if (status != PostStatus.PUBLISHED) throw new PostNotVotable("You cannot vote on " + status.toString().toLowerCase() + " posts");
+        ref().ensureVotable();
     }
 
     /**
@@ -335,7 +401,7 @@ public class Post implements AggregateRoot {
      * @throws PostNotVotable <code>PUBLISHED</code>가 아닌 경우
      */
     public void ensureCommentable() {
-        if (status != PostStatus.PUBLISHED) throw new PostNotCommentable("You cannot comment post on " + status.toString().toLowerCase() + " Posts");
+        ref().ensureCommentable();
     }
 
     public void ensureDraftStatus(String message) {
@@ -346,12 +412,16 @@ public class Post implements AggregateRoot {
     // 접근자 섹션 (읽기 전용)
     // -----------------------------------------------------
 
+    /** 게시글 참조 프로젝션 ({@link PostRef}) 과 같은 값을 반환합니다. */
+    public PostRef ref() { return new PostRef(postId, communityId, status, authorId); }
+
     public PostId postId() { return postId; }
     public CommunityId communityId() { return communityId; }
     public MemberId authorId() { return authorId; }
     public PostType type() { return type; }
     public Title title() { return title; }
     public Content content() { return content; }
+    public String contentPreview() { return contentPreview; }
     public LinkUrl linkUrl() { return linkUrl; }
     public PostStatus status() { return status; }
     public Instant publishedAt() { return publishedAt; }
@@ -360,6 +430,12 @@ public class Post implements AggregateRoot {
     public long version() { return version; }
     public int upCount(){ return upCount; }
     public int downCount(){ return downCount; }
-    public int score(){ return upCount - downCount; }
+    public int score(){ return score; }
     public int commentCount(){ return commentCount; }
+    public double hotScore(){ return hotScore; }
+
+    /** 점수 스냅샷 ({@link PostScoreSnapshot}) 과 같은 값을 반환합니다. */
+    public PostScoreSnapshot scoreSnapshot() {
+        return new PostScoreSnapshot(postId, communityId, status, score, hotScore, publishedAt);
+    }
 }
\ No newline at end of file
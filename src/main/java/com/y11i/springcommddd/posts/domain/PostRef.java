@@ -0,0 +1,45 @@
+package com.y11i.springcommddd.posts.domain;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.exception.PostNotCommentable;
+import com.y11i.springcommddd.posts.domain.exception.PostNotVotable;
+
+/**
+ * 게시글 참조 프로젝션.
+ *
+ * <p>
+ * 다른 모듈(댓글, 투표, 밴 확인)이 게시글 존재 여부 / 소속 커뮤니티 / 상태만 검증할 때 쓰는 가벼운 읽기 모델이다.
+ * JPQL 생성자 표현식으로 네 컬럼만 조회하므로 본문({@code content}, LONGTEXT)을 읽지 않고,
+ * 엔티티가 아니므로 영속성 컨텍스트 스냅샷/더티 체킹 대상도 아니다.
+ * </p>
+ *
+ * <p>
+ * 상태 기반 검증 규칙은 {@link Post} 와 공유한다. ({@link Post#ref()} 로 위임)
+ * </p>
+ */
+public record PostRef(
+        PostId postId,
+        CommunityId communityId,
+        PostStatus status,
+        MemberId authorId
+) {
+
+    /**
+     * 투표 가능한 상태(<code>PUBLISHED</code>)임을 보장합니다.
+     *
+     * @throws PostNotVotable <code>PUBLISHED</code>가 아닌 경우
+     */
+    public void ensureVotable() {
+        if (status != PostStatus.PUBLISHED) throw new PostNotVotable("You cannot vote on " + status.toString().toLowerCase() + " posts");
+    }
+
+    /**
+     * 댓글 작성 가능한 상태(<code>PUBLISHED</code>)임을 보장합니다.
+     *
+     * @throws PostNotCommentable <code>PUBLISHED</code>가 아닌 경우
+     */
+    public void ensureCommentable() {
+        if (status != PostStatus.PUBLISHED) throw new PostNotCommentable("You cannot comment post on " + status.toString().toLowerCase() + " Posts");
+    }
+}
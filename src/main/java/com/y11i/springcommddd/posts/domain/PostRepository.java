@@ -5,6 +5,7 @@ import com.y11i.springcommddd.iam.domain.MemberId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +51,30 @@ public interface PostRepository {
      */
     Optional<Post> findById(PostId id);
 
+    /**
+     * 여러 게시글을 한 번에 조회합니다.
+     *
+     * @param ids 게시글 식별자 목록
+     * @return 존재하는 {@link Post} 목록 (순서 보장 없음)
+     */
+    List<Post> findAllById(Collection<PostId> ids);
+
+    /**
+     * 게시글 참조 프로젝션({@link PostRef})만 단건 조회합니다. (본문을 읽지 않는 검증용 조회)
+     *
+     * @param id 게시글 식별자
+     * @return 존재하면 {@link PostRef}, 없으면 비어 있음
+     */
+    Optional<PostRef> findRefById(PostId id);
+
+    /**
+     * 여러 게시글의 참조 프로젝션({@link PostRef})을 한 번에 조회합니다.
+     *
+     * @param ids 게시글 식별자 목록
+     * @return 존재하는 {@link PostRef} 목록 (순서 보장 없음)
+     */
+    List<PostRef> findRefsByIds(Collection<PostId> ids);
+
     /**
      * 모든 게시글을 조회합니다.
      *
@@ -0,0 +1,35 @@
+package com.y11i.springcommddd.posts.domain;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+
+import java.time.Instant;
+
+/**
+ * 게시글 점수 스냅샷.
+ *
+ * <p>
+ * 정렬 인덱스 / 기간별 랭킹 / 검색 색인 점수처럼 점수와 게시 상태만 필요한 읽기 모델을 갱신할 때 쓰는 가벼운 읽기 모델이다.
+ * 투표 집계를 반영한 뒤 본문({@code content}, LONGTEXT)까지 다시 읽지 않도록 JPQL 생성자 표현식으로 필요한 컬럼만 조회한다.
+ * </p>
+ *
+ * @param postId      게시글 ID
+ * @param communityId 소속 커뮤니티 ID
+ * @param status      게시 상태
+ * @param score       추천 수 - 비추천 수
+ * @param hotScore    hot 정렬 점수
+ * @param publishedAt 게시 시각 (게시 전이면 null)
+ */
+public record PostScoreSnapshot(
+        PostId postId,
+        CommunityId communityId,
+        PostStatus status,
+        int score,
+        double hotScore,
+        Instant publishedAt
+) {
+
+    /** hot 점수만 바꾼 스냅샷을 반환합니다. */
+    public PostScoreSnapshot withHotScore(double hotScore) {
+        return new PostScoreSnapshot(postId, communityId, status, score, hotScore, publishedAt);
+    }
+}
@@ -0,0 +1,64 @@
+package com.y11i.springcommddd.posts.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * "top" 정렬의 집계 기간.
+ *
+ * <ul>
+ *   <li>{@link #DAY}: 최근 24시간 내 게시글</li>
+ *   <li>{@link #WEEK}: 최근 7일</li>
+ *   <li>{@link #MONTH}: 최근 30일</li>
+ *   <li>{@link #YEAR}: 최근 365일</li>
+ *   <li>{@link #ALL}: 전체 기간 (posts 테이블의 score 인덱스로 직접 조회)</li>
+ * </ul>
+ */
+public enum TopWindow {
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(30)),
+    YEAR(Duration.ofDays(365)),
+    ALL(null);
+
+    private final Duration length;
+
+    TopWindow(Duration length) {
+        this.length = length;
+    }
+
+    /**
+     * 요청 파라미터({@code t=day|week|month|year|all})를 기간으로 변환한다.
+     * null/공백/미지원 값은 {@link #ALL}.
+     */
+    public static TopWindow from(String raw) {
+        if (raw == null || raw.isBlank()) return ALL;
+        return switch (raw.toLowerCase()) {
+            case "day" -> DAY;
+            case "week" -> WEEK;
+            case "month" -> MONTH;
+            case "year" -> YEAR;
+            default -> ALL;
+        };
+    }
+
+    /** 기간 제한이 있는지 (사전 집계 대상인지) */
+    public boolean isBounded() {
+        return length != null;
+    }
+
+    /**
+     * 기준 시각에서 기간만큼 뺀 하한 시각.
+     *
+     * @throws IllegalStateException {@link #ALL}에서 호출한 경우
+     */
+    public Instant since(Instant now) {
+        if (length == null) throw new IllegalStateException("ALL window has no lower bound");
+        return now.minus(length);
+    }
+
+    /** 게시 시각이 기간 안에 있는지 */
+    public boolean contains(Instant publishedAt, Instant now) {
+        return publishedAt != null && (length == null || !publishedAt.isBefore(since(now)));
+    }
+}
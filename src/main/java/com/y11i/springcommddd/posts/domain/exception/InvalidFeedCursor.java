@@ -0,0 +1,8 @@
+package com.y11i.springcommddd.posts.domain.exception;
+
+import com.y11i.springcommddd.common.api.ErrorCode;
+import com.y11i.springcommddd.common.exception.BaseException;
+
+public class InvalidFeedCursor extends BaseException {
+    public InvalidFeedCursor(String message) { super(ErrorCode.POST_FEED_CURSOR_INVALID, message); }
+}
@@ -0,0 +1,29 @@
+package com.y11i.springcommddd.posts.dto.internal;
+
+/**
+ * 페이지 응답의 전체 개수(totalElements) 계산 방식.
+ *
+ * <ul>
+ *   <li>{@link #EXACT}: 정확한 개수. 피드는 (범위, 상태)별로 짧은 TTL 캐시를 거친 COUNT 값이다.</li>
+ *   <li>{@link #APPROXIMATE}: 근사 개수. 검색은 일정 건수 이상에서 세기를 멈추므로 하한값일 수 있다.</li>
+ *   <li>{@link #NONE}: 세지 않음. totalElements / totalPages 는 null 이고 hasNext 만 제공한다.</li>
+ * </ul>
+ */
+public enum PageCountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE;
+
+    /**
+     * 요청 파라미터 값을 변환한다. (대소문자 무시, null/미지원 값은 기본값)
+     */
+    public static PageCountMode from(String raw, PageCountMode defaultMode) {
+        if (raw == null || raw.isBlank()) return defaultMode;
+        return switch (raw.trim().toLowerCase()) {
+            case "exact" -> EXACT;
+            case "approximate", "approx" -> APPROXIMATE;
+            case "none" -> NONE;
+            default -> defaultMode;
+        };
+    }
+}
@@ -1,13 +1,36 @@
 package com.y11i.springcommddd.posts.dto.internal;
 
+import jakarta.annotation.Nullable;
+
 import java.util.List;
 
+/**
+ * 페이지 번호 기반 목록 응답.
+ *
+ * @param totalElements 전체 개수 ({@link PageCountMode#NONE} 이면 null, APPROXIMATE 이면 하한값일 수 있음)
+ * @param totalPages    전체 페이지 수 (totalElements 기준, NONE 이면 null)
+ * @param countMode     totalElements 계산 방식
+ */
 public record PageResultDTO<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
-        boolean hasNext
-) {}
+        @Nullable Long totalElements,
+        @Nullable Integer totalPages,
+        boolean hasNext,
+        PageCountMode countMode
+) {
+    /**
+     * 정확한 전체 개수를 가진 페이지 응답.
+     */
+    public PageResultDTO(List<T> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        this(content, page, size, totalElements, totalPages, hasNext, PageCountMode.EXACT);
+    }
 
+    /**
+     * 항목만 바꾼 사본을 반환한다.
+     */
+    public PageResultDTO<T> withContent(List<T> newContent) {
+        return new PageResultDTO<>(newContent, page, size, totalElements, totalPages, hasNext, countMode);
+    }
+}
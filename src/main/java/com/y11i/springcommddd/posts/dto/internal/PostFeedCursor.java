@@ -0,0 +1,123 @@
+package com.y11i.springcommddd.posts.dto.internal;
+
+import com.y11i.springcommddd.posts.domain.exception.InvalidFeedCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시글 피드 키셋(커서) 페이지네이션용 커서.
+ *
+ * <p>
+ * 마지막으로 내려준 게시글의 정렬 키(정렬 종류, 점수, 게시 시각)와 {@code postId}를 담는다.
+ * 클라이언트에는 {@link #encode()} 결과(불투명 문자열)만 노출하며,
+ * 다음 요청에서 {@link #decode(String)}로 복원해 해당 위치 "다음"부터 바로 조회한다.
+ * </p>
+ *
+ * <p><b>정렬별 키</b></p>
+ * <ul>
+ *   <li>{@code new}: (publishedAt DESC, postId DESC)</li>
+ *   <li>{@code top}: (score DESC, publishedAt DESC, postId DESC)</li>
+ *   <li>{@code hot}: (hotScore DESC, postId DESC)</li>
+ * </ul>
+ *
+ * @param sort        정규화된 정렬 키 ("new" / "top" / "hot")
+ * @param score       마지막 게시글의 점수 (top 정렬에서만 사용)
+ * @param hotScore    마지막 게시글의 hot 점수 (hot 정렬에서만 사용)
+ * @param publishedAt 마지막 게시글의 게시 시각
+ * @param postId      마지막 게시글 ID (동순위 tie-breaker)
+ */
+public record PostFeedCursor(
+        String sort,
+        int score,
+        double hotScore,
+        Instant publishedAt,
+        UUID postId
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 키를 커서가 지원하는 값으로 정규화한다. (미지원 값은 "new")
+     */
+    public static String normalizeSort(String sortKey) {
+        if (sortKey == null || sortKey.isBlank()) return "new";
+        return switch (sortKey.toLowerCase()) {
+            case "top" -> "top";
+            case "hot" -> "hot";
+            default -> "new";
+        };
+    }
+
+    /**
+     * 페이지의 마지막 게시글로부터 다음 페이지용 커서를 만든다.
+     */
+    public static PostFeedCursor after(String sortKey, PostSummaryRow last) {
+        return new PostFeedCursor(
+                normalizeSort(sortKey),
+                last.score(),
+                last.hotScore(),
+                last.publishedAt(),
+                last.postId().id()
+        );
+    }
+
+    /**
+     * 커서를 URL-safe 불투명 문자열로 인코딩한다.
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                sort,
+                Integer.toString(score),
+                Double.toString(hotScore),
+                Long.toString(publishedAt.getEpochSecond()),
+                Integer.toString(publishedAt.getNano()),
+                postId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 복원한다.
+     *
+     * @param encoded {@link #encode()} 로 만든 문자열
+     * @return 복원된 커서
+     * @throws InvalidFeedCursor 형식이 잘못된 경우
+     */
+    public static PostFeedCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 7 || !VERSION.equals(parts[0])) {
+                throw new InvalidFeedCursor("Malformed feed cursor");
+            }
+            String sort = parts[1];
+            if (!sort.equals(normalizeSort(sort))) {
+                throw new InvalidFeedCursor("Unsupported cursor sort: " + sort);
+            }
+            return new PostFeedCursor(
+                    sort,
+                    Integer.parseInt(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[4]), Integer.parseInt(parts[5])),
+                    UUID.fromString(parts[6])
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidFeedCursor("Malformed feed cursor");
+        }
+    }
+
+    /**
+     * 커서가 요청된 정렬과 같은 정렬로 만들어졌는지 검증한다.
+     *
+     * @throws InvalidFeedCursor 정렬이 다른 경우
+     */
+    public void ensureSort(String sortKey) {
+        if (!sort.equals(normalizeSort(sortKey))) {
+            throw new InvalidFeedCursor("Cursor was issued for sort '" + sort + "'");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.y11i.springcommddd.posts.dto.internal;
+
+import com.y11i.springcommddd.posts.domain.exception.InvalidFeedCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시글 검색 결과 키셋(커서) 페이지네이션용 커서.
+ *
+ * <p>
+ * 마지막으로 내려준 검색 결과의 정렬 키와 {@code postId}를 담는다. ({@link PostFeedCursor} 의 검색 버전)
+ * 검색 엔진은 이 위치 "다음"부터 바로 이어서 찾으므로 깊은 페이지도 앞 페이지 결과를 다시 모으지 않는다.
+ * </p>
+ *
+ * <p><b>정렬별 키</b></p>
+ * <ul>
+ *   <li>{@code relevance}: (BM25 점수 DESC, postId DESC)</li>
+ *   <li>{@code new}: (publishedAt DESC, postId DESC)</li>
+ *   <li>{@code top}: (score DESC, publishedAt DESC, postId DESC)</li>
+ * </ul>
+ *
+ * <p>
+ * relevance 점수는 색인이 바뀌면(문서 추가/삭제로 IDF 변화) 조금씩 달라질 수 있어,
+ * 그 사이에는 경계의 결과가 한 번 더 나오거나 빠질 수 있다.
+ * </p>
+ *
+ * @param sort            정규화된 정렬 키 ("relevance" / "new" / "top")
+ * @param relevance       마지막 결과의 BM25 점수 (relevance 정렬에서만 사용)
+ * @param score           마지막 결과의 점수 (top 정렬에서만 사용)
+ * @param publishedAtMs   마지막 결과의 게시 시각 (epoch ms, 색인에 저장된 정밀도)
+ * @param postId          마지막 결과 ID (동순위 tie-breaker)
+ */
+public record PostSearchCursor(
+        String sort,
+        float relevance,
+        long score,
+        long publishedAtMs,
+        UUID postId
+) {
+    private static final String VERSION = "s1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 키를 커서가 지원하는 값으로 정규화한다. (미지원 값은 "new", 검색 엔진의 정렬과 같다)
+     */
+    public static String normalizeSort(String sortKey) {
+        if (sortKey == null || sortKey.isBlank()) return "new";
+        return switch (sortKey.toLowerCase()) {
+            case "relevance" -> "relevance";
+            case "top" -> "top";
+            default -> "new";
+        };
+    }
+
+    /**
+     * 커서를 URL-safe 불투명 문자열로 인코딩한다.
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                sort,
+                Float.toString(relevance),
+                Long.toString(score),
+                Long.toString(publishedAtMs),
+                postId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 복원한다.
+     *
+     * @param encoded {@link #encode()} 로 만든 문자열
+     * @return 복원된 커서
+     * @throws InvalidFeedCursor 형식이 잘못된 경우
+     */
+    public static PostSearchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidFeedCursor("Malformed search cursor");
+            }
+            String sort = parts[1];
+            if (!sort.equals(normalizeSort(sort))) {
+                throw new InvalidFeedCursor("Unsupported cursor sort: " + sort);
+            }
+            return new PostSearchCursor(
+                    sort,
+                    Float.parseFloat(parts[2]),
+                    Long.parseLong(parts[3]),
+                    Long.parseLong(parts[4]),
+                    UUID.fromString(parts[5])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFeedCursor("Malformed search cursor");
+        }
+    }
+
+    /**
+     * 커서가 요청된 정렬과 같은 정렬로 만들어졌는지 검증한다.
+     *
+     * @throws InvalidFeedCursor 정렬이 다른 경우
+     */
+    public void ensureSort(String sortKey) {
+        if (!sort.equals(normalizeSort(sortKey))) {
+            throw new InvalidFeedCursor("Cursor was issued for sort '" + sort + "'");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.y11i.springcommddd.posts.dto.internal;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostType;
+
+import java.time.Instant;
+
+/**
+ * 피드/검색 목록용 게시글 요약 프로젝션.
+ *
+ * <p>
+ * JPQL 생성자 표현식으로 요약에 필요한 컬럼만 조회한다.
+ * 본문({@code content}, LONGTEXT)은 읽지 않고, 저장된 {@code content_preview}를 사용한다.
+ * 엔티티가 아니므로 영속성 컨텍스트 스냅샷/더티 체킹 대상도 아니다.
+ * </p>
+ *
+ * @param contentPreview 본문 앞부분 (본문이 없으면 null)
+ * @param linkUrl        LINK 게시글의 URL (그 외 null)
+ */
+public record PostSummaryRow(
+        PostId postId,
+        CommunityId communityId,
+        MemberId authorId,
+        PostType type,
+        String title,
+        String contentPreview,
+        String linkUrl,
+        int upCount,
+        int downCount,
+        int score,
+        double hotScore,
+        int commentCount,
+        Instant publishedAt,
+        Instant updatedAt
+) {}
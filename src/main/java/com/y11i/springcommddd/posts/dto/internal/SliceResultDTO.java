@@ -0,0 +1,27 @@
+package com.y11i.springcommddd.posts.dto.internal;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 목록 응답.
+ *
+ * <p>전체 개수를 세지 않으며, 다음 페이지 존재 여부와 다음 요청에 넘길 커서만 제공한다.</p>
+ *
+ * @param content    현재 페이지 항목
+ * @param size       요청한 페이지 크기
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (다음 페이지가 없으면 null)
+ */
+public record SliceResultDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    /**
+     * 항목만 바꾼 사본을 반환한다.
+     */
+    public SliceResultDTO<T> withContent(List<T> newContent) {
+        return new SliceResultDTO<>(newContent, size, hasNext, nextCursor);
+    }
+}
@@ -2,10 +2,10 @@ package com.y11i.springcommddd.posts.dto.response;
 
 import com.y11i.springcommddd.communities.domain.Community;
 import com.y11i.springcommddd.iam.domain.Member;
-import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.dto.internal.PostAuthorDTO;
 import com.y11i.springcommddd.posts.dto.internal.PostCommunityDTO;
 import com.y11i.springcommddd.posts.dto.internal.PostMediaAssetDTO;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
 import com.y11i.springcommddd.posts.media.domain.PostAsset;
 import lombok.Builder;
 
@@ -27,25 +27,22 @@ public record PostSummaryResponseDTO(
         int commentCount,
         Integer myVote,
         Instant publishedAt,
-        boolean isEdited
+        boolean isEdited,
+        String highlight
 ) {
     @Builder
     public PostSummaryResponseDTO{}
 
     /**
-     * Post + Community + Author + myVote 를 요약 응답 DTO로 변환한다.
+     * 요약 프로젝션 + Community + Author + myVote 를 요약 응답 DTO로 변환한다.
      */
     public static PostSummaryResponseDTO from(
-            Post post,
+            PostSummaryRow post,
             Community community,
             Member author,
             Integer myVote,
             List<PostAsset> postAssets
     ) {
-        int upCount = post.upCount();
-        int downCount = post.downCount();
-        int score = post.score();
-
         Instant publishedAt = post.publishedAt();
         boolean isEdited = publishedAt != null
                 && post.updatedAt() != null
@@ -54,25 +51,25 @@ public record PostSummaryResponseDTO(
         PostAuthorDTO authorDTO = PostAuthorDTO.from(author);
         PostCommunityDTO communityDTO = PostCommunityDTO.from(community);
 
-        String contentPreview = buildContentPreview(post);
+        // 미리보기는 게시글 저장 시 content_preview 컬럼에 미리 계산되어 있다.
+        String contentPreview = (post.contentPreview() != null) ? post.contentPreview() : "";
 
         List<PostMediaAssetDTO> mediaAssetDTOs = postAssets.stream()
                 .map(PostMediaAssetDTO::from)
                 .toList();
-        String linkUrl = (post.linkUrl() != null) ? post.linkUrl().value() : null;
 
         return PostSummaryResponseDTO.builder()
                 .author(authorDTO)
                 .community(communityDTO)
                 .postId(post.postId().stringify())
-                .title(post.title().value())
+                .title(post.title())
                 .contentPreview(contentPreview)
-                .linkUrl(linkUrl)
+                .linkUrl(post.linkUrl())
                 .assets(mediaAssetDTOs)
                 .type(post.type().name())
-                .upCount(upCount)
-                .downCount(downCount)
-                .score(score)
+                .upCount(post.upCount())
+                .downCount(post.downCount())
+                .score(post.score())
                 .commentCount(post.commentCount())
                 .myVote(myVote)
                 .publishedAt(publishedAt)
@@ -80,9 +77,27 @@ public record PostSummaryResponseDTO(
                 .build();
     }
 
-    private static String buildContentPreview(Post post) {
-        if (post.content() == null || post.content().value() == null) return "";
-        String full = post.content().value();
-        return (full.length() <= 200) ? full : full.substring(0, 200);
+    /**
+     * 뷰어의 투표값을 덧씌운 사본을 반환한다. (캐시된 공용 목록 + 뷰어별 myVote)
+     *
+     * @param myVote 1 / -1, 투표하지 않았으면 null
+     */
+    public PostSummaryResponseDTO withMyVote(Integer myVote) {
+        return new PostSummaryResponseDTO(
+                author, community, postId, title, contentPreview, linkUrl, assets, type,
+                upCount, downCount, score, commentCount, myVote, publishedAt, isEdited, highlight
+        );
+    }
+
+    /**
+     * 검색 하이라이트 조각을 붙인 사본을 반환한다.
+     *
+     * @param highlight HTML 이스케이프된 본문/제목 조각 (일치 구간은 {@code <em>}), 없으면 null
+     */
+    public PostSummaryResponseDTO withHighlight(String highlight) {
+        return new PostSummaryResponseDTO(
+                author, community, postId, title, contentPreview, linkUrl, assets, type,
+                upCount, downCount, score, commentCount, myVote, publishedAt, isEdited, highlight
+        );
     }
 }
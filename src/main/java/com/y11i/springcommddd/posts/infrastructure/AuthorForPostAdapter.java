@@ -7,6 +7,8 @@ import com.y11i.springcommddd.posts.application.port.out.LoadAuthorForPostPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -18,4 +20,9 @@ public class AuthorForPostAdapter implements LoadAuthorForPostPort {
     public Optional<Member> loadById(MemberId authorId) {
         return loadMemberPort.loadById(authorId);
     }
+
+    @Override
+    public List<Member> loadAllByIds(Collection<MemberId> authorIds) {
+        return loadMemberPort.loadAllByIds(authorIds);
+    }
 }
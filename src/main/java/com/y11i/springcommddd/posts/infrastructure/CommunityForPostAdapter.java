@@ -8,6 +8,8 @@ import com.y11i.springcommddd.posts.application.port.out.LoadCommunityForPostPor
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -30,4 +32,9 @@ public class CommunityForPostAdapter implements LoadCommunityForPostPort {
     public Optional<Community> loadById(CommunityId communityId) {
         return communityRepository.findById(communityId);
     }
+
+    @Override
+    public List<Community> loadAllByIds(Collection<CommunityId> communityIds) {
+        return communityRepository.findAllById(communityIds);
+    }
 }
@@ -0,0 +1,33 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.posts.application.port.out.RefreshHotScorePort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * {@link RefreshHotScorePort} 의 JPA 기반 구현체.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotScoreRefreshAdapter implements RefreshHotScorePort {
+    private final JpaPostRepository jpaPostRepository;
+
+    @Override
+    public Slice<PostScoreSnapshot> loadPublishedSince(Instant since, Pageable pageable) {
+        return jpaPostRepository.findScoreSnapshotsPublishedSince(since, pageable);
+    }
+
+    @Override
+    @Transactional
+    public int updateHotScore(PostId postId, double hotScore) {
+        return jpaPostRepository.updateHotScore(postId, hotScore);
+    }
+}
@@ -0,0 +1,40 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.posts.application.port.in.RefreshHotScoresUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근 게시글의 hot 점수를 주기적으로 보정하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code posts.hot-score.refresh-delay-ms} (기본 10분)<br>
+ * - 대상: 최근 {@code posts.hot-score.refresh-window-hours} 시간 내 게시글 (기본 72시간)
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotScoreRefreshScheduler {
+    private final RefreshHotScoresUseCase refreshHotScoresUseCase;
+
+    @Value("${posts.hot-score.refresh-window-hours:72}")
+    private long windowHours;
+
+    @Scheduled(
+            initialDelayString = "${posts.hot-score.refresh-delay-ms:600000}",
+            fixedDelayString = "${posts.hot-score.refresh-delay-ms:600000}"
+    )
+    public void refresh() {
+        try {
+            refreshHotScoresUseCase.refreshRecentlyPublished(Duration.ofHours(windowHours));
+        } catch (RuntimeException e) {
+            log.warn("hot score refresh failed", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.common.buffer.DeltaBuffer;
+import com.y11i.springcommddd.posts.application.port.out.BufferPostCommentCountPort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 노드 메모리에 게시글별 댓글 수 증감분을 모으는 {@link BufferPostCommentCountPort} 구현체.
+ *
+ * <p>
+ * 같은 게시글에 몰리는 댓글은 {@link DeltaBuffer} 의 한 항목에 합쳐진다.
+ * 커밋 이후 이벤트로만 호출되므로 바로 누적한다.
+ * </p>
+ */
+@Component
+public class InMemoryPostCommentCountBuffer implements BufferPostCommentCountPort {
+
+    private final DeltaBuffer<PostId, Integer> buffer = new DeltaBuffer<>(Integer::sum, d -> d == 0);
+
+    @Override
+    public void add(PostId postId, int delta) {
+        buffer.add(postId, delta);
+    }
+
+    @Override
+    public List<CommentCountDelta> drain() {
+        return buffer.drain().entrySet().stream()
+                .map(e -> new CommentCountDelta(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    @Override
+    public boolean hasPending(PostId postId) {
+        return buffer.hasPending(postId);
+    }
+}
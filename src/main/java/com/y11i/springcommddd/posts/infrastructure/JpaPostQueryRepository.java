@@ -5,222 +5,406 @@ import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * 게시글 피드/리스트 조회용 JPA 리포지토리.
  *
  * <p>
  * - 홈 피드<br>
- * - 특정 커뮤니티 내 피드
+ * - 특정 커뮤니티 내 피드<br>
+ * - 작성자 피드 / ID 목록 조회 (검색 결과 조립)<br>
+ * - 키셋(커서) 기반 홈/커뮤니티/작성자 피드<br>
+ * - 정렬: new(게시 시각), top(저장된 score), hot(저장된 hot_score)
  * </p>
  */
 public interface JpaPostQueryRepository extends JpaRepository<Post, PostId> {
 
+    /**
+     * 목록 요약 프로젝션 select 절. 본문(content)은 읽지 않는다.
+     * <p>LINK 가 아닌 게시글은 link_url 이 null 이므로 embedded 경로도 null 로 조회된다.</p>
+     */
+    String SUMMARY_SELECT = """
+           select new com.y11i.springcommddd.posts.dto.internal.PostSummaryRow(
+                  p.postId, p.communityId, p.authorId, p.type, p.title.value, p.contentPreview, p.linkUrl.value,
+                  p.upCount, p.downCount, p.score, p.hotScore, p.commentCount, p.publishedAt, p.updatedAt)
+           """;
+
     // -------------------- 홈 피드 --------------------
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
            order by p.publishedAt desc
            """)
-    Page<Post> findHomeFeedOrderByNew(@Param("status") PostStatus status, Pageable pageable);
+    Slice<PostSummaryRow> findHomeFeedOrderByNew(@Param("status") PostStatus status, Pageable pageable);
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+           order by p.score desc, p.publishedAt desc
            """)
-    Page<Post> findHomeFeedOrderByTop(@Param("status") PostStatus status, Pageable pageable);
+    Slice<PostSummaryRow> findHomeFeedOrderByTop(@Param("status") PostStatus status, Pageable pageable);
 
-    // TODO: hot 정렬 알고리즘(시간 가중치 포함) 필요 시 추가
-    // @Query(" ... ")
-    // Page<Post> findHomeFeedOrderByHot(...);
+    /**
+     * hot 정렬: 저장된 {@code hot_score} 컬럼 기준. (status, hot_score, post_id) 인덱스로 정렬 없이 탐색한다.
+     */
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    Slice<PostSummaryRow> findHomeFeedOrderByHot(@Param("status") PostStatus status, Pageable pageable);
 
 
     // -------------------- 특정 커뮤니티 피드 --------------------
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.communityId = :communityId
            order by p.publishedAt desc
            """)
-    Page<Post> findCommunityFeedOrderByNew(
+    Slice<PostSummaryRow> findCommunityFeedOrderByNew(
             @Param("communityId") CommunityId communityId,
             @Param("status") PostStatus status,
             Pageable pageable
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.communityId = :communityId
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+           order by p.score desc, p.publishedAt desc
            """)
-    Page<Post> findCommunityFeedOrderByTop(
+    Slice<PostSummaryRow> findCommunityFeedOrderByTop(
             @Param("communityId") CommunityId communityId,
             @Param("status") PostStatus status,
             Pageable pageable
     );
 
-    @Query("""
-        select p
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    Slice<PostSummaryRow> findCommunityFeedOrderByHot(
+            @Param("communityId") CommunityId communityId,
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT + """
         from Post p
         where p.status = :status
         and p.authorId = :authorId
         order by p.createdAt desc
+        """,
+        countQuery = """
+        select count(p)
+        from Post p
+        where p.status = :status
+        and p.authorId = :authorId
         """)
-    Page<Post> findByAuthorIdOrderByCreatedAtDesc(
+    Page<PostSummaryRow> findByAuthorIdOrderByCreatedAtDesc(
             @Param("authorId")MemberId authorId,
             @Param("status") PostStatus status,
             Pageable pageable
             );
-    // =====================================
-    //             홈 검색
-    // =====================================
 
-    @Query("""
-           select p
+    // ====================== 작성자 피드 ======================
+
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by p.createdAt desc
+             and p.authorId = :authorId
+           order by p.publishedAt desc
            """)
-    Page<Post> searchHomeFeedOrderByNew(
+    Slice<PostSummaryRow> findAuthorFeedOrderByNew(
+            @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
             Pageable pageable
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+             and p.authorId = :authorId
+           order by p.score desc, p.publishedAt desc
            """)
-    Page<Post> searchHomeFeedOrderByTop(
+    Slice<PostSummaryRow> findAuthorFeedOrderByTop(
+            @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
             Pageable pageable
     );
 
+    // ====================== 총 개수 ======================
+    //
+    // 목록 쿼리는 Slice 로 반환하고(COUNT 없음), 전체 개수는 필요한 경우에만 아래 쿼리로 따로 센다.
+    // 호출 측(PostQueryRepositoryAdapter)에서 짧은 TTL 로 캐시한다.
+
+    @Query("select count(p) from Post p where p.status = :status")
+    long countByStatus(@Param("status") PostStatus status);
+
+    @Query("""
+           select count(p)
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+           """)
+    long countByCommunity(@Param("communityId") CommunityId communityId, @Param("status") PostStatus status);
+
+    @Query("""
+           select count(p)
+           from Post p
+           where p.status = :status
+             and p.authorId = :authorId
+           """)
+    long countByAuthor(@Param("authorId") MemberId authorId, @Param("status") PostStatus status);
+
+    // ====================== ID 목록 조회 ======================
+
+    /**
+     * 주어진 ID 들의 요약 행을 조회한다. (검색 엔진 결과 → 목록 응답 조립용, 순서 보장 안 함)
+     */
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.postId in :postIds
+             and p.status = :status
+           """)
+    List<PostSummaryRow> findSummariesByIds(
+            @Param("postIds") Collection<PostId> postIds,
+            @Param("status") PostStatus status
+    );
+
     // =====================================
-    //           커뮤니티 검색
+    //        키셋(커서) 페이지네이션
     // =====================================
+    //
+    // - OFFSET 없이 마지막 행의 정렬 키 "다음"부터 바로 탐색한다.
+    // - 동순위 정렬을 위해 postId 를 마지막 tie-breaker 로 사용한다.
+    // - List 반환이므로 COUNT 쿼리가 실행되지 않는다. (size + 1 건을 읽어 hasNext 판단)
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+           order by p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByNew(@Param("status") PostStatus status, Pageable limit);
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and (p.publishedAt < :publishedAt
+                  or (p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByNewAfter(
+            @Param("status") PostStatus status,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
+    );
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByTop(@Param("status") PostStatus status, Pageable limit);
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and (p.score < :score
+                  or (p.score = :score and p.publishedAt < :publishedAt)
+                  or (p.score = :score and p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByTopAfter(
+            @Param("status") PostStatus status,
+            @Param("score") int score,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
+    );
+
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.communityId = :communityId
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by p.createdAt desc
+           order by p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> searchCommunityFeedOrderByNew(
+    List<PostSummaryRow> scrollCommunityFeedOrderByNew(
             @Param("communityId") CommunityId communityId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
-            Pageable pageable
+            Pageable limit
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.communityId = :communityId
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+             and (p.publishedAt < :publishedAt
+                  or (p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> searchCommunityFeedOrderByTop(
+    List<PostSummaryRow> scrollCommunityFeedOrderByNewAfter(
             @Param("communityId") CommunityId communityId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
-            Pageable pageable
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
     );
 
-    // ====================== 작성자 피드 ======================
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollCommunityFeedOrderByTop(
+            @Param("communityId") CommunityId communityId,
+            @Param("status") PostStatus status,
+            Pageable limit
+    );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+             and (p.score < :score
+                  or (p.score = :score and p.publishedAt < :publishedAt)
+                  or (p.score = :score and p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollCommunityFeedOrderByTopAfter(
+            @Param("communityId") CommunityId communityId,
+            @Param("status") PostStatus status,
+            @Param("score") int score,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
+    );
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByHot(@Param("status") PostStatus status, Pageable limit);
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and (p.hotScore < :hotScore
+                  or (p.hotScore = :hotScore and p.postId.id < :postId))
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollHomeFeedOrderByHotAfter(
+            @Param("status") PostStatus status,
+            @Param("hotScore") double hotScore,
+            @Param("postId") UUID postId,
+            Pageable limit
+    );
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollCommunityFeedOrderByHot(
+            @Param("communityId") CommunityId communityId,
+            @Param("status") PostStatus status,
+            Pageable limit
+    );
+
+    @Query(value = SUMMARY_SELECT + """
+           from Post p
+           where p.status = :status
+             and p.communityId = :communityId
+             and (p.hotScore < :hotScore
+                  or (p.hotScore = :hotScore and p.postId.id < :postId))
+           order by p.hotScore desc, p.postId.id desc
+           """)
+    List<PostSummaryRow> scrollCommunityFeedOrderByHotAfter(
+            @Param("communityId") CommunityId communityId,
+            @Param("status") PostStatus status,
+            @Param("hotScore") double hotScore,
+            @Param("postId") UUID postId,
+            Pageable limit
+    );
+
+    // 작성자 피드 키셋 (new / top 만 지원, idx_posts_author_status_published / idx_posts_author_status_score 사용)
+
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.authorId = :authorId
-           order by p.publishedAt desc
+           order by p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> findAuthorFeedOrderByNew(
+    List<PostSummaryRow> scrollAuthorFeedOrderByNew(
             @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            Pageable pageable
+            Pageable limit
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.authorId = :authorId
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+             and (p.publishedAt < :publishedAt
+                  or (p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> findAuthorFeedOrderByTop(
+    List<PostSummaryRow> scrollAuthorFeedOrderByNewAfter(
             @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            Pageable pageable
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.authorId = :authorId
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by p.createdAt desc
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> searchAuthorFeedOrderByNew(
+    List<PostSummaryRow> scrollAuthorFeedOrderByTop(
             @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
-            Pageable pageable
+            Pageable limit
     );
 
-    @Query("""
-           select p
+    @Query(value = SUMMARY_SELECT + """
            from Post p
            where p.status = :status
              and p.authorId = :authorId
-             and (
-                    p.title.value   like :keyword
-                 or p.content.value like :keyword
-                 )
-           order by (p.upCount - p.downCount) desc, p.publishedAt desc
+             and (p.score < :score
+                  or (p.score = :score and p.publishedAt < :publishedAt)
+                  or (p.score = :score and p.publishedAt = :publishedAt and p.postId.id < :postId))
+           order by p.score desc, p.publishedAt desc, p.postId.id desc
            """)
-    Page<Post> searchAuthorFeedOrderByTop(
+    List<PostSummaryRow> scrollAuthorFeedOrderByTopAfter(
             @Param("authorId") MemberId authorId,
             @Param("status") PostStatus status,
-            @Param("keyword") String keyword,
-            Pageable pageable
+            @Param("score") int score,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("postId") UUID postId,
+            Pageable limit
     );
-}
\ No newline at end of file
+}
@@ -4,11 +4,22 @@ import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Spring Data JPA 기반의 게시글 리포지토리.
@@ -67,4 +78,266 @@ public interface JpaPostRepository extends JpaRepository<Post, PostId> {
      */
     Page<Post> findByCommunityId(CommunityId communityId, Pageable pageable);
 
+    // -------------------- hot 점수 보정 --------------------
+
+    /**
+     * 주어진 시각 이후에 게시된 게시글의 점수 스냅샷만 조회합니다. (hot 점수 보정용)
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostScoreSnapshot(
+                  p.postId, p.communityId, p.status, p.score, p.hotScore, p.publishedAt)
+           from Post p
+           where p.status = com.y11i.springcommddd.posts.domain.PostStatus.PUBLISHED
+             and p.publishedAt >= :since
+           order by p.publishedAt desc, p.postId.id desc
+           """)
+    Slice<PostScoreSnapshot> findScoreSnapshotsPublishedSince(@Param("since") Instant since, Pageable pageable);
+
+    /**
+     * hot 점수만 갱신합니다. (JPQL 벌크 UPDATE 이므로 버전이 증가하지 않습니다)
+     */
+    @Modifying
+    @Query("update Post p set p.hotScore = :hotScore where p.postId = :postId")
+    int updateHotScore(@Param("postId") PostId postId, @Param("hotScore") double hotScore);
+
+    /**
+     * 본문은 있지만 미리보기가 비어 있는 게시글의 본문을 ID 순으로 조회합니다. (컬럼 도입 이전 행의 보정용 키셋 순회)
+     */
+    @Query("""
+           select p.postId.id as id, p.content.value as content
+           from Post p
+           where p.postId.id > :after
+             and p.contentPreview is null
+             and p.content.value is not null
+           order by p.postId.id
+           """)
+    List<PreviewBackfillRow> findPreviewBackfillRowsAfter(@Param("after") UUID after, Pageable pageable);
+
+    interface PreviewBackfillRow {
+        UUID getId();
+        String getContent();
+    }
+
+    /**
+     * 비어 있는 미리보기만 채웁니다. (보정용, 그 사이 본문 수정으로 채워졌으면 건너뜀)
+     */
+    @Modifying
+    @Query("update Post p set p.contentPreview = :preview where p.postId = :postId and p.contentPreview is null")
+    int backfillContentPreview(@Param("postId") PostId postId, @Param("preview") String preview);
+
+    /**
+     * 저장된 score 가 추천 수 - 비추천 수와 다른 게시글을 ID 순으로 조회합니다. (컬럼 도입 이전 행의 보정용 키셋 순회)
+     */
+    @Query("""
+           select p.postId.id as id, p.upCount as up, p.downCount as down, p.publishedAt as publishedAt
+           from Post p
+           where p.postId.id > :after
+             and p.score <> p.upCount - p.downCount
+           order by p.postId.id
+           """)
+    List<ScoreBackfillRow> findScoreBackfillRowsAfter(@Param("after") UUID after, Pageable pageable);
+
+    interface ScoreBackfillRow {
+        UUID getId();
+        int getUp();
+        int getDown();
+        Instant getPublishedAt();
+    }
+
+    /**
+     * score 와 hot 점수를 채웁니다. (보정용, 읽은 뒤 투표가 반영됐으면 투표 쪽에서 이미 맞췄으므로 건너뜀)
+     */
+    @Modifying
+    @Query("""
+           update Post p
+              set p.score = :up - :down,
+                  p.hotScore = :hotScore
+            where p.postId = :postId
+              and p.upCount = :up
+              and p.downCount = :down
+           """)
+    int backfillScore(@Param("postId") PostId postId,
+                      @Param("up") int up,
+                      @Param("down") int down,
+                      @Param("hotScore") double hotScore);
+
+    /**
+     * hot 점수가 비어 있는(0) 게시된 게시글의 점수 스냅샷을 ID 순으로 조회합니다. (컬럼 도입 이전 행의 보정용 키셋 순회)
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostScoreSnapshot(
+                  p.postId, p.communityId, p.status, p.score, p.hotScore, p.publishedAt)
+           from Post p
+           where p.postId.id > :after
+             and p.publishedAt is not null
+             and p.hotScore = 0
+           order by p.postId.id
+           """)
+    List<PostScoreSnapshot> findScoreSnapshotsWithoutHotScoreAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * 비어 있는(0) hot 점수만 채웁니다. (보정용, 그 사이 투표로 다시 계산된 값은 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("update Post p set p.hotScore = :hotScore where p.postId = :postId and p.hotScore = 0")
+    int backfillHotScore(@Param("postId") PostId postId, @Param("hotScore") double hotScore);
+
+    /**
+     * 게시글 참조 프로젝션만 조회합니다. (본문 LONGTEXT 를 읽지 않음)
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostRef(p.postId, p.communityId, p.status, p.authorId)
+           from Post p
+           where p.postId = :postId
+           """)
+    Optional<PostRef> findRefById(@Param("postId") PostId postId);
+
+    /**
+     * 주어진 게시글들의 참조 프로젝션만 조회합니다.
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostRef(p.postId, p.communityId, p.status, p.authorId)
+           from Post p
+           where p.postId in :ids
+           """)
+    List<PostRef> findRefsByIds(@Param("ids") Collection<PostId> ids);
+
+    /**
+     * 주어진 게시글들의 점수 스냅샷만 조회합니다. (본문 LONGTEXT 를 읽지 않음, 투표 집계 반영 후 랭킹 갱신용)
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostScoreSnapshot(
+                  p.postId, p.communityId, p.status, p.score, p.hotScore, p.publishedAt)
+           from Post p
+           where p.postId in :ids
+           """)
+    List<PostScoreSnapshot> findScoreSnapshotsByIds(@Param("ids") Collection<PostId> ids);
+
+    /**
+     * 상태별 게시글을 슬라이스 단위로 조회한다. (COUNT 없음, 검색 색인 재구성용)
+     */
+    Slice<Post> findByStatus(PostStatus status, Pageable pageable);
+
+    // -------------------- 집계 컬럼 --------------------
+
+    /**
+     * 추천/비추천 수와 score 에 증감분을 더합니다. (각 카운터는 0 미만으로 내려가지 않음)
+     *
+     * <p>
+     * JPQL 벌크 UPDATE 이므로 버전이 증가하지 않고, 읽지 않고 한 문장으로 반영됩니다.
+     * 영속성 컨텍스트에 남은 이전 값을 읽지 않도록 실행 후 비웁니다.
+     * (MariaDB 는 SET 을 왼쪽부터 평가하므로 score 를 먼저 두어 이전 추천/비추천 수로 계산합니다)
+     * </p>
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Post p
+              set p.score = (case when p.upCount + :up < 0 then 0 else p.upCount + :up end)
+                          - (case when p.downCount + :down < 0 then 0 else p.downCount + :down end),
+                  p.upCount = case when p.upCount + :up < 0 then 0 else p.upCount + :up end,
+                  p.downCount = case when p.downCount + :down < 0 then 0 else p.downCount + :down end
+            where p.postId = :postId
+           """)
+    int addVoteCounts(@Param("postId") PostId postId, @Param("up") int up, @Param("down") int down);
+
+    /**
+     * 추천/비추천 수와 score 를 주어진 값으로 바꿉니다.
+     * 현재 값이 기대값과 같을 때만 바뀌므로, 그 사이 반영된 증감분을 덮어쓰지 않습니다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Post p
+              set p.upCount = :up,
+                  p.downCount = :down,
+                  p.score = :up - :down
+            where p.postId = :postId
+              and p.upCount = :expectedUp
+              and p.downCount = :expectedDown
+           """)
+    int replaceVoteCounts(@Param("postId") PostId postId,
+                          @Param("expectedUp") int expectedUp,
+                          @Param("expectedDown") int expectedDown,
+                          @Param("up") int up,
+                          @Param("down") int down);
+
+    /**
+     * {@code after} 보다 큰 ID 의 게시글 추천/비추천 수를 ID 순으로 조회합니다. (대사 작업용 키셋 순회)
+     */
+    @Query("""
+           select p.postId.id as id, p.upCount as up, p.downCount as down
+           from Post p
+           where p.postId.id > :after
+           order by p.postId.id
+           """)
+    List<VoteCounterRow> findVoteCountersAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * {@link #findVoteCountersAfter} 의 커뮤니티 한정 버전.
+     */
+    @Query("""
+           select p.postId.id as id, p.upCount as up, p.downCount as down
+           from Post p
+           where p.communityId = :communityId
+             and p.postId.id > :after
+           order by p.postId.id
+           """)
+    List<VoteCounterRow> findVoteCountersInCommunityAfter(@Param("communityId") CommunityId communityId,
+                                                          @Param("after") UUID after,
+                                                          Pageable pageable);
+
+    /**
+     * 주어진 게시글들의 추천/비추천 수를 조회합니다. (대사 작업의 재확인 / 일괄 투표 응답용)
+     */
+    @Query("""
+           select p.postId.id as id, p.upCount as up, p.downCount as down
+           from Post p
+           where p.postId in :ids
+           """)
+    List<VoteCounterRow> findVoteCountersByIds(@Param("ids") Collection<PostId> ids);
+
+    interface VoteCounterRow {
+        UUID getId();
+        int getUp();
+        int getDown();
+    }
+
+    /**
+     * 댓글 수에 증감분을 더합니다. (0 미만으로 내려가지 않음, 버전 증가 없음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Post p
+              set p.commentCount = case when p.commentCount + :delta < 0 then 0 else p.commentCount + :delta end
+            where p.postId = :postId
+           """)
+    int addCommentCount(@Param("postId") PostId postId, @Param("delta") int delta);
+
+    /**
+     * 주어진 게시글들에 저장된 댓글 수를 조회합니다. (댓글 수 대사용)
+     */
+    @Query("""
+           select p.postId.id as id, p.commentCount as commentCount
+           from Post p
+           where p.postId in :ids
+           """)
+    List<CommentCountRow> findCommentCountsByIds(@Param("ids") Collection<PostId> ids);
+
+    interface CommentCountRow {
+        UUID getId();
+        int getCommentCount();
+    }
+
+    /**
+     * 현재 댓글 수가 {@code expected} 일 때만 {@code commentCount} 로 바꿉니다. (대사 작업의 조건부 보정, 버전 증가 없음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Post p
+              set p.commentCount = :commentCount
+            where p.postId = :postId
+              and p.commentCount = :expected
+           """)
+    int replaceCommentCount(@Param("postId") PostId postId,
+                            @Param("expected") int expected,
+                            @Param("commentCount") int commentCount);
 }
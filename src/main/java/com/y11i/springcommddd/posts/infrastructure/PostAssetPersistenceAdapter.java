@@ -10,8 +10,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -64,4 +68,12 @@ public class PostAssetPersistenceAdapter implements SavePostAssetsPort, LoadPost
     public List<PostAsset> loadByPostId(PostId postId) {
         return postAssetRepository.findByPostIdOrderByDisplayOrder(postId);
     }
+
+    @Override
+    public Map<PostId, List<PostAsset>> loadByPostIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        // 쿼리가 displayOrder 순으로 내려주므로 그룹 내 순서가 유지된다.
+        return postAssetRepository.findByPostIdsOrderByDisplayOrder(postIds).stream()
+                .collect(Collectors.groupingBy(PostAsset::postId, LinkedHashMap::new, Collectors.toList()));
+    }
 }
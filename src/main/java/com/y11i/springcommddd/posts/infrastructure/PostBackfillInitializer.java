@@ -0,0 +1,173 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.common.lock.JobLock;
+import com.y11i.springcommddd.posts.application.port.in.RebuildPostRankingIndexUseCase;
+import com.y11i.springcommddd.posts.application.port.out.SyncPostRankingPort;
+import com.y11i.springcommddd.posts.domain.HotScore;
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import com.y11i.springcommddd.posts.infrastructure.ranking.JpaPostWindowRankingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 컬럼이 생기기 전에 저장된 게시글의 파생 컬럼을 기동 직후 채운다.
+ * ({@code ddl-auto=update} 로 추가된 컬럼은 기존 행에서 0 이나 NULL 로 남는다)
+ *
+ * <ul>
+ *   <li>점수(score): 추천 수 - 비추천 수와 다른 게시글을 ID 순 키셋으로 500건씩 읽어 채우고, hot 점수도 그 점수로 다시 계산한다.
+ *       (읽은 뒤 투표가 반영된 게시글은 투표 쪽에서 이미 맞췄으므로 건너뛴다)</li>
+ *   <li>hot 점수(hot_score): 게시된 게시글 중 0 인 것을 ID 순 키셋으로 500건씩 읽어 점수와 게시 시각으로 계산해 채운다.
+ *       (hot 점수 보정 스케줄러는 최근 게시글만 보므로 오래된 게시글은 여기서만 채워진다)</li>
+ *   <li>기간별 top 랭킹(post_window_rankings): 테이블이 생기기 전에 게시돼 랭킹 행이 없는 최근 1년 게시글을
+ *       ID 순 키셋으로 500건씩 읽어 기간별 행을 만든다. (점수를 채운 뒤에 수행)</li>
+ *   <li>본문 미리보기(content_preview): 본문은 있지만 미리보기가 비어 있는 게시글을 ID 순 키셋으로 100건씩 읽어 채운다.
+ *       (본문을 읽어야 하므로 묶음을 작게 잡는다)</li>
+ * </ul>
+ * <p>
+ * 점수나 hot 점수를 채운 게시글이 있으면 피드 정렬 인덱스를 다시 구성한다. (채우기 전 값으로 구성됐을 수 있으므로)
+ * </p>
+ * <p>
+ * 엔티티를 올리지 않고 필요한 컬럼만 읽어, 비어 있는 경우에만 쓰는 벌크 UPDATE 로 채운다.
+ * 버전(@Version)을 올리지 않으므로 기동 직후 들어온 수정/투표와 낙관적 락 충돌을 일으키지 않는다.
+ * 여러 노드가 동시에 떠도 {@link JobLock} 으로 한 노드만 수행하며, 채울 게시글이 없으면 각각 쿼리 한 번으로 끝난다.
+ * 실패하면 기록만 하고 다음 기동에 남은 게시글부터 다시 채운다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBackfillInitializer {
+    private static final int BATCH_SIZE = 500;
+    /** 본문(LONGTEXT)을 읽는 미리보기 보정의 묶음 크기 */
+    private static final int PREVIEW_BATCH_SIZE = 100;
+    /** 키셋 순회 시작점 (가장 작은 UUID) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final String LOCK_NAME = "postBackfill";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    /** 기간별 랭킹 중 가장 긴 기간 (이 기간의 행이 없으면 어느 기간에도 없다) */
+    private static final TopWindow LONGEST_WINDOW = TopWindow.YEAR;
+
+    private final JpaPostRepository jpaPostRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobLock jobLock;
+    private final RebuildPostRankingIndexUseCase rebuildPostRankingIndexUseCase;
+    private final JpaPostWindowRankingRepository jpaPostWindowRankingRepository;
+    private final SyncPostRankingPort syncPostRankingPort;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            jobLock.runExclusive(LOCK_NAME, LOCK_TTL, () -> {
+                long filled = backfillScores() + backfillHotScores();
+                if (filled > 0) rebuildPostRankingIndexUseCase.rebuild();
+                backfillWindowRankings();
+                backfillContentPreviews();
+            });
+        } catch (DataAccessException e) {
+            log.warn("post backfill failed; remaining rows are filled on the next startup", e);
+        }
+    }
+
+    private long backfillScores() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        UUID[] after = {MIN_ID};
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<JpaPostRepository.ScoreBackfillRow> batch = jpaPostRepository.findScoreBackfillRowsAfter(after[0], page);
+                if (batch.isEmpty()) return 0;
+                for (JpaPostRepository.ScoreBackfillRow row : batch) {
+                    double hotScore = HotScore.compute(row.getUp() - row.getDown(), row.getPublishedAt());
+                    jpaPostRepository.backfillScore(new PostId(row.getId()), row.getUp(), row.getDown(), hotScore);
+                }
+                after[0] = batch.get(batch.size() - 1).getId();
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("post scores backfilled: {}", filled);
+        return filled;
+    }
+
+    private void backfillWindowRankings() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        Instant since = LONGEST_WINDOW.since(Instant.now());
+        UUID[] after = {MIN_ID};
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<PostScoreSnapshot> batch =
+                        jpaPostWindowRankingRepository.findUnrankedSnapshotsAfter(LONGEST_WINDOW, since, after[0], page);
+                if (batch.isEmpty()) return 0;
+                batch.forEach(syncPostRankingPort::sync);
+                after[0] = batch.get(batch.size() - 1).postId().id();
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("post window rankings backfilled: {}", filled);
+    }
+
+    private void backfillContentPreviews() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, PREVIEW_BATCH_SIZE);
+        UUID[] after = {MIN_ID};
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<JpaPostRepository.PreviewBackfillRow> batch = jpaPostRepository.findPreviewBackfillRowsAfter(after[0], page);
+                if (batch.isEmpty()) return 0;
+                for (JpaPostRepository.PreviewBackfillRow row : batch) {
+                    jpaPostRepository.backfillContentPreview(new PostId(row.getId()), Post.contentPreviewOf(row.getContent()));
+                }
+                after[0] = batch.get(batch.size() - 1).getId();
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("post content previews backfilled: {}", filled);
+    }
+
+    private long backfillHotScores() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, BATCH_SIZE);
+        UUID[] after = {MIN_ID};
+        long filled = 0;
+        while (true) {
+            Integer n = tx.execute(status -> {
+                List<PostScoreSnapshot> batch = jpaPostRepository.findScoreSnapshotsWithoutHotScoreAfter(after[0], page);
+                if (batch.isEmpty()) return 0;
+                for (PostScoreSnapshot row : batch) {
+                    double hotScore = HotScore.compute(row.score(), row.publishedAt());
+                    if (hotScore != 0d) jpaPostRepository.backfillHotScore(row.postId(), hotScore);
+                }
+                after[0] = batch.get(batch.size() - 1).postId().id();
+                return batch.size();
+            });
+            if (n == null || n == 0) break;
+            filled += n;
+        }
+        if (filled > 0) log.info("post hot scores backfilled: {}", filled);
+        return filled;
+    }
+}
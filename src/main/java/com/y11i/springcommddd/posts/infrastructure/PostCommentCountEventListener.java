@@ -0,0 +1,33 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.comments.domain.event.CommentCreated;
+import com.y11i.springcommddd.comments.domain.event.CommentVisibilityChanged;
+import com.y11i.springcommddd.posts.application.port.out.BufferPostCommentCountPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 댓글 이벤트를 받아 게시글 댓글 수 증감분을 버퍼에 모으는 리스너.
+ *
+ * <p>
+ * 커밋된 댓글 변경만 반영되도록 커밋 이후에 받는다. (트랜잭션 밖에서 발행되면 바로 받는다)
+ * 실제 UPDATE 는 {@link PostCommentCountFlushScheduler} 가 게시글별로 합쳐서 수행한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountEventListener {
+    private final BufferPostCommentCountPort bufferPostCommentCountPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(CommentCreated event) {
+        bufferPostCommentCountPort.add(event.postId(), +1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(CommentVisibilityChanged event) {
+        bufferPostCommentCountPort.add(event.postId(), event.visible() ? +1 : -1);
+    }
+}
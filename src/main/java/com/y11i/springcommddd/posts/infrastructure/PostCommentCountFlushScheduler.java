@@ -0,0 +1,30 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.common.buffer.DeltaFlushScheduler;
+import com.y11i.springcommddd.posts.application.port.in.FlushPostCommentCountsUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버퍼에 모인 게시글 댓글 수를 주기적으로 DB 에 반영하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code posts.comment-counter.flush-delay-ms} (기본 1초)<br>
+ * - 종료 시 남은 증감분을 한 번 더 반영한다.
+ * </p>
+ */
+@Component
+public class PostCommentCountFlushScheduler extends DeltaFlushScheduler {
+
+    public PostCommentCountFlushScheduler(FlushPostCommentCountsUseCase flushPostCommentCountsUseCase) {
+        super("post comment count", flushPostCommentCountsUseCase::flush);
+    }
+
+    @Scheduled(
+            initialDelayString = "${posts.comment-counter.flush-delay-ms:1000}",
+            fixedDelayString = "${posts.comment-counter.flush-delay-ms:1000}"
+    )
+    public void flush() {
+        runFlush();
+    }
+}
@@ -0,0 +1,110 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.posts.application.port.out.EvictPostCountPort;
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 피드 전체 개수(COUNT) 캐시.
+ *
+ * <p>
+ * (범위, 범위 ID, 상태, 기간) 단위로 COUNT 결과를 짧게 보관한다.
+ * 페이지 표시용 숫자이므로 TTL({@code posts.count-cache.ttl-ms}, 기본 30초) 동안의 오차는 허용하고,
+ * 게시/보관/복구 시에는 해당 범위를 즉시 비워 눈에 띄는 어긋남을 막는다.
+ * </p>
+ *
+ * <p>
+ * 항목은 (범위, 범위 ID) 별로 묶어 두므로 비우기는 전체를 훑지 않고 묶음 세 개(홈, 커뮤니티, 작성자)만 지운다.
+ * 묶음 수는 {@code posts.count-cache.max-scopes}(기본 10000)로 제한한다.
+ * 가득 찬 상태에서 새 범위를 넣을 때 만료된 항목을 먼저 걷어내고, 그래도 가득 차 있으면 전체를 비운다.
+ * </p>
+ */
+@Component
+public class PostCountCache implements EvictPostCountPort {
+
+    enum Scope { HOME, COMMUNITY, AUTHOR }
+
+    record Key(Scope scope, @Nullable UUID scopeId, PostStatus status, TopWindow window) {
+        ScopeKey scopeKey() {
+            return new ScopeKey(scope, scopeId);
+        }
+    }
+
+    private record ScopeKey(Scope scope, @Nullable UUID scopeId) {}
+
+    private record Entry(long count, long expiresAtNanos) {}
+
+    /** (범위, 범위 ID) → 그 범위의 (상태, 기간)별 개수 */
+    private final Map<ScopeKey, Map<Key, Entry>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxScopes;
+
+    public PostCountCache(@Value("${posts.count-cache.ttl-ms:30000}") long ttlMillis,
+                          @Value("${posts.count-cache.max-scopes:10000}") int maxScopes) {
+        this.ttlNanos = Duration.ofMillis(ttlMillis).toNanos();
+        this.maxScopes = maxScopes;
+    }
+
+    /**
+     * 캐시된 개수를 반환하고, 없거나 만료됐으면 loader 로 다시 센다.
+     */
+    long get(Key key, LongSupplier loader) {
+        long now = System.nanoTime();
+        ScopeKey scopeKey = key.scopeKey();
+        Map<Key, Entry> scope = entries.get(scopeKey);
+        Entry entry = scope != null ? scope.get(key) : null;
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            return entry.count();
+        }
+        long count = loader.getAsLong();
+        if (scope == null && entries.size() >= maxScopes) sweep(now);
+        entries.computeIfAbsent(scopeKey, k -> new ConcurrentHashMap<>()).put(key, new Entry(count, now + ttlNanos));
+        return count;
+    }
+
+    @Override
+    public void evict(Post post) {
+        ScopeKey home = new ScopeKey(Scope.HOME, null);
+        ScopeKey community = new ScopeKey(Scope.COMMUNITY, post.communityId().id());
+        ScopeKey author = new ScopeKey(Scope.AUTHOR, post.authorId().id());
+
+        Runnable eviction = () -> {
+            entries.remove(home);
+            entries.remove(community);
+            entries.remove(author);
+        };
+
+        // 커밋 전에 비우면 동시 조회가 이전 값을 다시 채울 수 있으므로 커밋 이후에 비운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    /**
+     * 만료된 항목과 빈 범위를 걷어낸다. 그래도 가득 차 있으면 전체를 비운다.
+     */
+    private void sweep(long now) {
+        entries.values().forEach(scope -> scope.values().removeIf(e -> now - e.expiresAtNanos() >= 0));
+        entries.values().removeIf(Map::isEmpty);
+        if (entries.size() >= maxScopes) entries.clear();
+    }
+}
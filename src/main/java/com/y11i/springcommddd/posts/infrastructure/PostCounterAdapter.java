@@ -0,0 +1,115 @@
+package com.y11i.springcommddd.posts.infrastructure;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import com.y11i.springcommddd.posts.domain.HotScore;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link UpdatePostCountersPort} 의 JPA 기반 구현체.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostCounterAdapter implements UpdatePostCountersPort {
+    /** 키셋 순회 시작점 (가장 작은 UUID) */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final JpaPostRepository jpaPostRepository;
+
+    @Override
+    @Transactional
+    public List<PostScoreSnapshot> applyVoteCountDeltas(List<VoteCountDelta> deltas) {
+        if (deltas.isEmpty()) return List.of();
+
+        for (VoteCountDelta delta : deltas) {
+            if (delta.up() == 0 && delta.down() == 0) continue;
+            jpaPostRepository.addVoteCounts(delta.postId(), delta.up(), delta.down());
+        }
+
+        return refreshHotScores(deltas.stream().map(VoteCountDelta::postId).toList());
+    }
+
+    @Override
+    public List<VoteCounter> loadVoteCounters(CommunityId communityId, PostId after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        UUID from = after == null ? MIN_ID : after.id();
+        List<JpaPostRepository.VoteCounterRow> rows = communityId == null
+                ? jpaPostRepository.findVoteCountersAfter(from, page)
+                : jpaPostRepository.findVoteCountersInCommunityAfter(communityId, from, page);
+        return rows.stream()
+                .map(r -> new VoteCounter(new PostId(r.getId()), r.getUp(), r.getDown()))
+                .toList();
+    }
+
+    @Override
+    public List<VoteCounter> loadVoteCountersByIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        return jpaPostRepository.findVoteCountersByIds(postIds).stream()
+                .map(r -> new VoteCounter(new PostId(r.getId()), r.getUp(), r.getDown()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<PostScoreSnapshot> replaceVoteCounts(PostId postId, int expectedUp, int expectedDown, int up, int down) {
+        if (jpaPostRepository.replaceVoteCounts(postId, expectedUp, expectedDown, up, down) == 0) {
+            return Optional.empty();
+        }
+        return refreshHotScores(List.of(postId)).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int addCommentCount(PostId postId, int delta) {
+        if (delta == 0) return 0;
+        return jpaPostRepository.addCommentCount(postId, delta);
+    }
+
+    @Override
+    public Map<PostId, Integer> loadCommentCounts(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<PostId, Integer> result = new HashMap<>();
+        for (JpaPostRepository.CommentCountRow row : jpaPostRepository.findCommentCountsByIds(postIds)) {
+            result.put(new PostId(row.getId()), row.getCommentCount());
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public boolean replaceCommentCount(PostId postId, int expected, int commentCount) {
+        return jpaPostRepository.replaceCommentCount(postId, expected, commentCount) > 0;
+    }
+
+    /**
+     * 점수가 바뀐 게시글의 hot 점수를 다시 계산한다. (엔티티를 올리지 않도록 점수 스냅샷 프로젝션으로 조회)
+     *
+     * @return 다시 계산한 hot 점수가 반영된 스냅샷
+     */
+    private List<PostScoreSnapshot> refreshHotScores(List<PostId> ids) {
+        List<PostScoreSnapshot> snapshots = new ArrayList<>();
+        for (PostScoreSnapshot row : jpaPostRepository.findScoreSnapshotsByIds(ids)) {
+            double hotScore = HotScore.compute(row.score(), row.publishedAt());
+            if (Double.compare(hotScore, row.hotScore()) != 0) {
+                jpaPostRepository.updateHotScore(row.postId(), hotScore);
+                row = row.withHotScore(hotScore);
+            }
+            snapshots.add(row);
+        }
+        return snapshots;
+    }
+}
@@ -4,11 +4,14 @@ import com.y11i.springcommddd.posts.application.port.out.LoadPostPort;
 import com.y11i.springcommddd.posts.application.port.out.SavePostPort;
 import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -27,4 +30,21 @@ public class PostPersistenceAdapter implements SavePostPort, LoadPostPort {
     public Optional<Post> loadById(PostId postId) {
         return postRepository.findById(postId);
     }
+
+    @Override
+    public List<Post> loadAllByIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        return postRepository.findAllById(postIds);
+    }
+
+    @Override
+    public Optional<PostRef> loadRefById(PostId postId) {
+        return postRepository.findRefById(postId);
+    }
+
+    @Override
+    public List<PostRef> loadRefsByIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        return postRepository.findRefsByIds(postIds);
+    }
 }
@@ -3,122 +3,266 @@ package com.y11i.springcommddd.posts.infrastructure;
 import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.application.port.out.QueryPostPort;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+import com.y11i.springcommddd.posts.infrastructure.ranking.JpaPostWindowRankingRepository;
+import com.y11i.springcommddd.posts.infrastructure.ranking.RedisPostRankingIndex;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 /**
  * {@link QueryPostPort} 의 JPA 기반 구현체.
  *
  * <p>
  * - 홈 피드<br>
  * - 특정 커뮤니티 피드<br>
+ * - 기간별 top 홈/커뮤니티 피드 (post_window_rankings)<br>
+ * - 키셋(커서) 기반 홈/커뮤니티 피드<br>
+ * - 작성자 피드 / 검색 결과 조립용 ID 조회<br>
+ * - 범위별 전체 개수 ({@link PostCountCache} 경유)<br>
  * 에 대한 읽기 쿼리를 담당한다.
  * </p>
+ *
+ * <p>
+ * 홈/커뮤니티 피드의 new/top/hot 페이지는 노드 간 공유되는 Redis 정렬 인덱스({@link RedisPostRankingIndex})에서
+ * ID 만 구하고 IN 쿼리 한 번으로 채운다. 인덱스를 쓸 수 없으면 DB 정렬 쿼리로 대체한다.
+ * </p>
  */
 @Repository
 @RequiredArgsConstructor
 public class PostQueryRepositoryAdapter implements QueryPostPort {
 
     private final JpaPostQueryRepository jpaPostQueryRepository;
+    private final JpaPostWindowRankingRepository jpaPostWindowRankingRepository;
+    private final PostCountCache postCountCache;
+    private final RedisPostRankingIndex redisPostRankingIndex;
 
     @Override
-    public Page<Post> findHomeFeed(String sortKey, Pageable pageable) {
+    public Slice<PostSummaryRow> findHomeFeed(String sortKey, Pageable pageable) {
         PostStatus status = PostStatus.PUBLISHED;
         String normalized = normalizeSortKey(sortKey);
 
+        Optional<Slice<PostSummaryRow>> ranked = fromRankingIndex(null, normalized, pageable);
+        if (ranked.isPresent()) return ranked.get();
+
         return switch (normalized) {
             case "top" -> jpaPostQueryRepository.findHomeFeedOrderByTop(status, pageable);
             case "new" -> jpaPostQueryRepository.findHomeFeedOrderByNew(status, pageable);
-            // TODO: "hot" 구현 시 분기 추가
+            case "hot" -> jpaPostQueryRepository.findHomeFeedOrderByHot(status, pageable);
             default -> jpaPostQueryRepository.findHomeFeedOrderByNew(status, pageable);
         };
     }
 
     @Override
-    public Page<Post> findByCommunity(CommunityId communityId, String sortKey, Pageable pageable) {
+    public Slice<PostSummaryRow> findByCommunity(CommunityId communityId, String sortKey, Pageable pageable) {
         PostStatus status = PostStatus.PUBLISHED;
         String normalized = normalizeSortKey(sortKey);
 
+        Optional<Slice<PostSummaryRow>> ranked = fromRankingIndex(communityId, normalized, pageable);
+        if (ranked.isPresent()) return ranked.get();
+
         return switch (normalized) {
             case "top" -> jpaPostQueryRepository.findCommunityFeedOrderByTop(communityId, status, pageable);
             case "new" -> jpaPostQueryRepository.findCommunityFeedOrderByNew(communityId, status, pageable);
-            // TODO: "hot" 구현 시 분기 추가
+            case "hot" -> jpaPostQueryRepository.findCommunityFeedOrderByHot(communityId, status, pageable);
             default -> jpaPostQueryRepository.findCommunityFeedOrderByNew(communityId, status, pageable);
         };
     }
 
     @Override
-    public Page<Post> findDraftsByAuthorId(MemberId authorId, String sortKey, Pageable pageable) {
+    public Slice<PostSummaryRow> findHomeFeedTop(TopWindow window, Pageable pageable) {
+        PostStatus status = PostStatus.PUBLISHED;
+        if (!window.isBounded()) {
+            return findHomeFeed("top", pageable);
+        }
+        return jpaPostWindowRankingRepository.findHomeTop(window, window.since(Instant.now()), status, pageable);
+    }
+
+    @Override
+    public Slice<PostSummaryRow> findByCommunityTop(CommunityId communityId, TopWindow window, Pageable pageable) {
+        PostStatus status = PostStatus.PUBLISHED;
+        if (!window.isBounded()) {
+            return findByCommunity(communityId, "top", pageable);
+        }
+        return jpaPostWindowRankingRepository.findCommunityTop(
+                window, communityId.id(), window.since(Instant.now()), status, pageable);
+    }
+
+    @Override
+    public Page<PostSummaryRow> findDraftsByAuthorId(MemberId authorId, String sortKey, Pageable pageable) {
         PostStatus status = PostStatus.DRAFT;
         String normalized = normalizeSortKey(sortKey);
         return jpaPostQueryRepository.findByAuthorIdOrderByCreatedAtDesc(authorId, status, pageable);
     }
 
     @Override
-    public Page<Post> searchHomeFeed(String keyword, String sortKey, Pageable pageable) {
+    public Slice<PostSummaryRow> findByAuthor(MemberId authorId, String sortKey, Pageable pageable) {
         PostStatus status = PostStatus.PUBLISHED;
         String normalized = normalizeSortKey(sortKey);
-        String like = "%" + keyword + "%";
 
         return switch (normalized) {
-            case "top" ->
-                    jpaPostQueryRepository.searchHomeFeedOrderByTop(status, like, pageable);
-            case "new" ->
-                    jpaPostQueryRepository.searchHomeFeedOrderByNew(status, like, pageable);
-            default ->
-                    jpaPostQueryRepository.searchHomeFeedOrderByNew(status, like, pageable);
+            case "top" -> jpaPostQueryRepository.findAuthorFeedOrderByTop(authorId, status, pageable);
+            case "new" -> jpaPostQueryRepository.findAuthorFeedOrderByNew(authorId, status, pageable);
+            default -> jpaPostQueryRepository.findAuthorFeedOrderByNew(authorId, status, pageable);
         };
     }
 
     @Override
-    public Page<Post> searchByCommunity(CommunityId communityId, String keyword, String sortKey, Pageable pageable) {
+    public List<PostSummaryRow> findSummariesByIds(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        return jpaPostQueryRepository.findSummariesByIds(postIds, PostStatus.PUBLISHED);
+    }
+
+    @Override
+    public long countHomeFeed(TopWindow window) {
         PostStatus status = PostStatus.PUBLISHED;
-        String normalized = normalizeSortKey(sortKey);
-        String like = "%" + keyword + "%";
+        var key = new PostCountCache.Key(PostCountCache.Scope.HOME, null, status, window);
 
-        return switch (normalized) {
-            case "top" ->
-                    jpaPostQueryRepository.searchCommunityFeedOrderByTop(communityId, status, like, pageable);
-            case "new" ->
-                    jpaPostQueryRepository.searchCommunityFeedOrderByNew(communityId, status, like, pageable);
-            default ->
-                    jpaPostQueryRepository.searchCommunityFeedOrderByNew(communityId, status, like, pageable);
-        };
+        return postCountCache.get(key, () -> window.isBounded()
+                ? jpaPostWindowRankingRepository.countHomeTop(window, window.since(Instant.now()))
+                : jpaPostQueryRepository.countByStatus(status));
     }
 
     @Override
-    public Page<Post> searchByAuthor(MemberId authorId, @Nullable String keyword, String sortKey, Pageable pageable) {
+    public long countByCommunity(CommunityId communityId, TopWindow window) {
         PostStatus status = PostStatus.PUBLISHED;
-        String normalized = normalizeSortKey(sortKey);
+        var key = new PostCountCache.Key(PostCountCache.Scope.COMMUNITY, communityId.id(), status, window);
+
+        return postCountCache.get(key, () -> window.isBounded()
+                ? jpaPostWindowRankingRepository.countCommunityTop(window, communityId.id(), window.since(Instant.now()))
+                : jpaPostQueryRepository.countByCommunity(communityId, status));
+    }
 
-        // 키워드 없으면 "그 유저의 전체 게시글 피드" 느낌으로
-        if (keyword == null || keyword.isBlank()) {
-            return switch (normalized) {
-                case "top" ->
-                        jpaPostQueryRepository.findAuthorFeedOrderByTop(authorId, status, pageable);
-                case "new" ->
-                        jpaPostQueryRepository.findAuthorFeedOrderByNew(authorId, status, pageable);
-                default ->
-                        jpaPostQueryRepository.findAuthorFeedOrderByNew(authorId, status, pageable);
+    @Override
+    public long countByAuthor(MemberId authorId) {
+        PostStatus status = PostStatus.PUBLISHED;
+        var key = new PostCountCache.Key(PostCountCache.Scope.AUTHOR, authorId.id(), status, TopWindow.ALL);
+
+        return postCountCache.get(key, () -> jpaPostQueryRepository.countByAuthor(authorId, status));
+    }
+
+    @Override
+    public Slice<PostSummaryRow> scrollHomeFeed(String sortKey, @Nullable PostFeedCursor cursor, int size) {
+        PostStatus status = PostStatus.PUBLISHED;
+        String normalized = PostFeedCursor.normalizeSort(sortKey);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<PostSummaryRow> rows;
+        if (cursor == null) {
+            rows = switch (normalized) {
+                case "top" -> jpaPostQueryRepository.scrollHomeFeedOrderByTop(status, limit);
+                case "hot" -> jpaPostQueryRepository.scrollHomeFeedOrderByHot(status, limit);
+                default -> jpaPostQueryRepository.scrollHomeFeedOrderByNew(status, limit);
+            };
+        } else {
+            rows = switch (normalized) {
+                case "top" -> jpaPostQueryRepository.scrollHomeFeedOrderByTopAfter(
+                        status, cursor.score(), cursor.publishedAt(), cursor.postId(), limit);
+                case "hot" -> jpaPostQueryRepository.scrollHomeFeedOrderByHotAfter(
+                        status, cursor.hotScore(), cursor.postId(), limit);
+                default -> jpaPostQueryRepository.scrollHomeFeedOrderByNewAfter(
+                        status, cursor.publishedAt(), cursor.postId(), limit);
             };
         }
+        return toSlice(rows, size);
+    }
 
-        // 키워드 있으면 like 검색
-        String like = "%" + keyword + "%";
+    @Override
+    public Slice<PostSummaryRow> scrollByCommunity(CommunityId communityId, String sortKey, @Nullable PostFeedCursor cursor, int size) {
+        PostStatus status = PostStatus.PUBLISHED;
+        String normalized = PostFeedCursor.normalizeSort(sortKey);
+        Pageable limit = PageRequest.of(0, size + 1);
 
-        return switch (normalized) {
-            case "top" ->
-                    jpaPostQueryRepository.searchAuthorFeedOrderByTop(authorId, status, like, pageable);
-            case "new" ->
-                    jpaPostQueryRepository.searchAuthorFeedOrderByNew(authorId, status, like, pageable);
-            default ->
-                    jpaPostQueryRepository.searchAuthorFeedOrderByNew(authorId, status, like, pageable);
-        };
+        List<PostSummaryRow> rows;
+        if (cursor == null) {
+            rows = switch (normalized) {
+                case "top" -> jpaPostQueryRepository.scrollCommunityFeedOrderByTop(communityId, status, limit);
+                case "hot" -> jpaPostQueryRepository.scrollCommunityFeedOrderByHot(communityId, status, limit);
+                default -> jpaPostQueryRepository.scrollCommunityFeedOrderByNew(communityId, status, limit);
+            };
+        } else {
+            rows = switch (normalized) {
+                case "top" -> jpaPostQueryRepository.scrollCommunityFeedOrderByTopAfter(
+                        communityId, status, cursor.score(), cursor.publishedAt(), cursor.postId(), limit);
+                case "hot" -> jpaPostQueryRepository.scrollCommunityFeedOrderByHotAfter(
+                        communityId, status, cursor.hotScore(), cursor.postId(), limit);
+                default -> jpaPostQueryRepository.scrollCommunityFeedOrderByNewAfter(
+                        communityId, status, cursor.publishedAt(), cursor.postId(), limit);
+            };
+        }
+        return toSlice(rows, size);
+    }
+
+    @Override
+    public Slice<PostSummaryRow> scrollByAuthor(MemberId authorId, String sortKey, @Nullable PostFeedCursor cursor, int size) {
+        PostStatus status = PostStatus.PUBLISHED;
+        boolean top = "top".equals(PostFeedCursor.normalizeSort(sortKey));
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<PostSummaryRow> rows;
+        if (cursor == null) {
+            rows = top
+                    ? jpaPostQueryRepository.scrollAuthorFeedOrderByTop(authorId, status, limit)
+                    : jpaPostQueryRepository.scrollAuthorFeedOrderByNew(authorId, status, limit);
+        } else {
+            rows = top
+                    ? jpaPostQueryRepository.scrollAuthorFeedOrderByTopAfter(
+                            authorId, status, cursor.score(), cursor.publishedAt(), cursor.postId(), limit)
+                    : jpaPostQueryRepository.scrollAuthorFeedOrderByNewAfter(
+                            authorId, status, cursor.publishedAt(), cursor.postId(), limit);
+        }
+        return toSlice(rows, size);
+    }
+
+    /**
+     * Redis 정렬 인덱스에서 페이지 ID 를 꺼내 한 번의 IN 쿼리로 요약 행을 채운다.
+     *
+     * <p>
+     * size + 1 개 ID 로 다음 페이지 여부를 판단하며, 인덱스 반영 전에 비공개가 된 글은 결과에서 빠진다.
+     * 인덱스를 쓸 수 없으면(미준비, Redis 오류, 미지원 정렬) empty.
+     * </p>
+     */
+    private Optional<Slice<PostSummaryRow>> fromRankingIndex(
+            @Nullable CommunityId communityId, String sort, Pageable pageable) {
+        return redisPostRankingIndex.pageIds(communityId, sort, pageable.getOffset(), pageable.getPageSize() + 1)
+                .map(ids -> {
+                    boolean hasNext = ids.size() > pageable.getPageSize();
+                    List<PostId> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+
+                    Map<PostId, PostSummaryRow> rowsById = findSummariesByIds(pageIds).stream()
+                            .collect(Collectors.toMap(PostSummaryRow::postId, r -> r));
+                    List<PostSummaryRow> rows = pageIds.stream()
+                            .map(rowsById::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                    return new SliceImpl<>(rows, pageable, hasNext);
+                });
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과를 size 건 슬라이스로 자르고, 초과분으로 hasNext 를 판단한다.
+     */
+    private Slice<PostSummaryRow> toSlice(List<PostSummaryRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<PostSummaryRow> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
     /**
@@ -4,12 +4,14 @@ import com.y11i.springcommddd.communities.domain.CommunityId;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.Post;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.PostRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,6 +62,24 @@ public class PostRepositoryAdapter implements PostRepository {
         return jpaPostRepository.findById(id);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Post> findAllById(Collection<PostId> ids) {
+        return jpaPostRepository.findAllById(ids);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<PostRef> findRefById(PostId id) {
+        return jpaPostRepository.findRefById(id);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PostRef> findRefsByIds(Collection<PostId> ids) {
+        return jpaPostRepository.findRefsByIds(ids);
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<Post> findAll() {
@@ -0,0 +1,234 @@
+package com.y11i.springcommddd.posts.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.y11i.springcommddd.communities.domain.Community;
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.application.port.out.FeedCachePort;
+import com.y11i.springcommddd.posts.application.port.out.LoadCommunityForPostPort;
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.dto.internal.PageResultDTO;
+import com.y11i.springcommddd.posts.dto.internal.SliceResultDTO;
+import com.y11i.springcommddd.posts.dto.response.PostSummaryResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 2단 피드 캐시 ({@link FeedCachePort} 구현체).
+ *
+ * <p><b>구성</b></p>
+ * <ul>
+ *   <li>L1: JVM 내 맵. TTL {@code posts.feed-cache.local-ttl-ms} (기본 2초), 최대 {@code posts.feed-cache.local-max-entries}</li>
+ *   <li>L2: Redis. TTL {@code posts.feed-cache.redis-ttl-ms} (기본 30초), 값은 {@code "{세대}|{JSON}"}</li>
+ * </ul>
+ *
+ * <p><b>무효화</b><br>
+ * 범위별 세대 번호({@code feedCache:gen:{scope}})를 두고, 값에는 읽기 전에 확인한 세대를 함께 저장한다.
+ * 조회는 세대와 값을 MGET 한 번으로 읽어 세대가 같을 때만 적중으로 본다.
+ * {@link #evict(Post)} 는 커밋 이후 세대를 올려 이전 값을 모두 무효화하고,
+ * 이 인스턴스의 L1 에서 해당 범위를 지운다. 다른 인스턴스의 L1 은 짧은 TTL 안에 만료된다.
+ * DB 를 읽는 도중 세대가 올라가면 읽은 값은 이전 세대로 저장되므로 다음 조회에서 미스가 된다.
+ * </p>
+ *
+ * <p>
+ * 게시글의 커뮤니티 범위({@code c:{nameKey}})는 커뮤니티 ID 별로 {@code posts.feed-cache.scope-ttl-ms} (기본 10분) 동안 기억해
+ * 게시/수정마다 커뮤니티를 다시 읽지 않는다.
+ * </p>
+ *
+ * <p>Redis 장애 시에는 캐시를 건너뛰고 DB 조회로 동작한다.</p>
+ */
+@Slf4j
+@Component
+public class TwoTierFeedCacheAdapter implements FeedCachePort {
+
+    private static final String KEY_PREFIX = "feedCache:";
+    private static final String GEN_PREFIX = KEY_PREFIX + "gen:";
+    private static final char GEN_SEPARATOR = '|';
+
+    private record LocalEntry(String scope, Object value, long expiresAtNanos) {}
+
+    private record ScopeEntry(String scope, long expiresAtNanos) {}
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoadCommunityForPostPort loadCommunityForPostPort;
+
+    private final Map<String, LocalEntry> local = new ConcurrentHashMap<>();
+    private final Map<CommunityId, ScopeEntry> communityScopes = new ConcurrentHashMap<>();
+    /** 이 인스턴스에서 무효화가 일어날 때마다 증가. 읽는 도중 바뀌면 L1 에 넣지 않는다. */
+    private final AtomicLong localEvictions = new AtomicLong();
+    private final long localTtlNanos;
+    private final int localMaxEntries;
+    private final long scopeTtlNanos;
+    private final Duration redisTtl;
+
+    private final JavaType pageType;
+    private final JavaType sliceType;
+
+    public TwoTierFeedCacheAdapter(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            LoadCommunityForPostPort loadCommunityForPostPort,
+            @Value("${posts.feed-cache.local-ttl-ms:2000}") long localTtlMillis,
+            @Value("${posts.feed-cache.local-max-entries:2000}") int localMaxEntries,
+            @Value("${posts.feed-cache.redis-ttl-ms:30000}") long redisTtlMillis,
+            @Value("${posts.feed-cache.scope-ttl-ms:600000}") long scopeTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.loadCommunityForPostPort = loadCommunityForPostPort;
+        this.localTtlNanos = Duration.ofMillis(localTtlMillis).toNanos();
+        this.localMaxEntries = localMaxEntries;
+        this.scopeTtlNanos = Duration.ofMillis(scopeTtlMillis).toNanos();
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.pageType = objectMapper.getTypeFactory()
+                .constructParametricType(PageResultDTO.class, PostSummaryResponseDTO.class);
+        this.sliceType = objectMapper.getTypeFactory()
+                .constructParametricType(SliceResultDTO.class, PostSummaryResponseDTO.class);
+    }
+
+    @Override
+    public PageResultDTO<PostSummaryResponseDTO> getPage(Key key, Supplier<PageResultDTO<PostSummaryResponseDTO>> loader) {
+        return getOrLoad(key, pageType, loader);
+    }
+
+    @Override
+    public SliceResultDTO<PostSummaryResponseDTO> getSlice(Key key, Supplier<SliceResultDTO<PostSummaryResponseDTO>> loader) {
+        return getOrLoad(key, sliceType, loader);
+    }
+
+    @Override
+    public void evict(Post post) {
+        List<String> scopes = communityScope(post.communityId())
+                .map(scope -> List.of("home", scope))
+                .orElse(List.of("home"));
+
+        Runnable eviction = () -> {
+            localEvictions.incrementAndGet();
+            local.values().removeIf(entry -> scopes.contains(entry.scope()));
+            try {
+                scopes.forEach(scope -> redisTemplate.opsForValue().increment(GEN_PREFIX + scope));
+            } catch (DataAccessException e) {
+                log.warn("feed cache eviction failed for {}", scopes, e);
+            }
+        };
+
+        // 커밋 전에 비우면 동시 조회가 이전 상태를 다시 채울 수 있으므로 커밋 이후에 비운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(Key key, JavaType type, Supplier<T> loader) {
+        String localKey = key.scope() + "|" + key.id();
+        long now = System.nanoTime();
+
+        LocalEntry entry = local.get(localKey);
+        if (entry != null) {
+            if (now - entry.expiresAtNanos() < 0) return (T) entry.value();
+            local.remove(localKey, entry);
+        }
+
+        long evictionsBefore = localEvictions.get();
+        String gen = null;
+        try {
+            // 세대와 값을 한 번에 읽는다.
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(GEN_PREFIX + key.scope(), redisKey(key)));
+            gen = generation(values == null ? null : values.get(0));
+            T cached = decode(values == null ? null : values.get(1), gen, type);
+            if (cached != null) {
+                putLocal(localKey, key.scope(), cached, now);
+                return cached;
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("feed cache read failed for {}", localKey, e);
+        }
+
+        T loaded = loader.get();
+
+        // 읽는 동안 이 인스턴스에서 무효화가 있었다면 L1 에는 넣지 않는다. (Redis 에는 이전 세대로 저장되어 미스가 됨)
+        if (localEvictions.get() == evictionsBefore) putLocal(localKey, key.scope(), loaded, System.nanoTime());
+        if (gen != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey(key), gen + GEN_SEPARATOR + objectMapper.writeValueAsString(loaded), redisTtl);
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.debug("feed cache write failed for {}", localKey, e);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 저장된 값이 현재 세대면 역직렬화하고, 없거나 이전 세대면 null.
+     */
+    private <T> T decode(String stored, String gen, JavaType type) throws JsonProcessingException {
+        if (stored == null) return null;
+        int sep = stored.indexOf(GEN_SEPARATOR);
+        if (sep < 0 || !gen.equals(stored.substring(0, sep))) return null;
+        return objectMapper.readValue(stored.substring(sep + 1), type);
+    }
+
+    private void putLocal(String localKey, String scope, Object value, long now) {
+        if (local.size() >= localMaxEntries) {
+            local.values().removeIf(e -> now - e.expiresAtNanos() >= 0);
+            if (local.size() >= localMaxEntries) local.clear();
+        }
+        local.put(localKey, new LocalEntry(scope, value, now + localTtlNanos));
+    }
+
+    /**
+     * 커뮤니티의 무효화 범위({@code c:{nameKey}}). 기억해 둔 값이 없거나 만료됐을 때만 커뮤니티를 읽는다.
+     * (커뮤니티가 없으면 empty 이며 기억하지 않는다)
+     */
+    private Optional<String> communityScope(CommunityId communityId) {
+        long now = System.nanoTime();
+        ScopeEntry entry = communityScopes.get(communityId);
+        if (entry != null && now - entry.expiresAtNanos() < 0) return Optional.of(entry.scope());
+
+        Optional<String> scope = loadCommunityForPostPort.loadById(communityId)
+                .map(Community::nameKey)
+                .map(nk -> "c:" + nk.value());
+        if (scope.isEmpty()) return scope;
+        if (communityScopes.size() >= localMaxEntries) {
+            communityScopes.values().removeIf(e -> now - e.expiresAtNanos() >= 0);
+            if (communityScopes.size() >= localMaxEntries) communityScopes.clear();
+        }
+        communityScopes.put(communityId, new ScopeEntry(scope.get(), now + scopeTtlNanos));
+        return scope;
+    }
+
+    private static String generation(String gen) {
+        return gen == null ? "0" : gen;
+    }
+
+    private static String redisKey(Key key) {
+        return KEY_PREFIX + key.scope() + ":" + key.id();
+    }
+}
@@ -0,0 +1,110 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+import com.y11i.springcommddd.posts.infrastructure.JpaPostQueryRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기간별 top 랭킹 테이블용 JPA 리포지토리.
+ *
+ * <p>
+ * 조회는 랭킹 행을 인덱스 순서로 읽고 posts 와 PK 조인만 한다.
+ * {@code publishedAt >= :since} 조건은 정리 작업 전까지 남아 있는 만료 행을 걸러낸다.
+ * </p>
+ */
+public interface JpaPostWindowRankingRepository extends JpaRepository<PostWindowRanking, PostWindowRankingKey> {
+
+    @Query(value = JpaPostQueryRepository.SUMMARY_SELECT + """
+           from PostWindowRanking r
+           join Post p on p.postId.id = r.key.postId
+           where r.key.window = :window
+             and r.publishedAt >= :since
+             and p.status = :status
+           order by r.score desc, r.publishedAt desc, r.key.postId desc
+           """)
+    Slice<PostSummaryRow> findHomeTop(
+            @Param("window") TopWindow window,
+            @Param("since") Instant since,
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    @Query(value = JpaPostQueryRepository.SUMMARY_SELECT + """
+           from PostWindowRanking r
+           join Post p on p.postId.id = r.key.postId
+           where r.key.window = :window
+             and r.communityId = :communityId
+             and r.publishedAt >= :since
+             and p.status = :status
+           order by r.score desc, r.publishedAt desc, r.key.postId desc
+           """)
+    Slice<PostSummaryRow> findCommunityTop(
+            @Param("window") TopWindow window,
+            @Param("communityId") UUID communityId,
+            @Param("since") Instant since,
+            @Param("status") PostStatus status,
+            Pageable pageable
+    );
+
+    @Query("""
+           select count(r)
+           from PostWindowRanking r
+           where r.key.window = :window
+             and r.publishedAt >= :since
+           """)
+    long countHomeTop(@Param("window") TopWindow window, @Param("since") Instant since);
+
+    @Query("""
+           select count(r)
+           from PostWindowRanking r
+           where r.key.window = :window
+             and r.communityId = :communityId
+             and r.publishedAt >= :since
+           """)
+    long countCommunityTop(
+            @Param("window") TopWindow window,
+            @Param("communityId") UUID communityId,
+            @Param("since") Instant since
+    );
+
+    /**
+     * 주어진 시각 이후 게시됐지만 랭킹 행이 없는 게시글의 점수 스냅샷을 ID 순으로 조회합니다.
+     * (테이블 도입 이전 게시글의 보정용 키셋 순회, 기간 안의 게시글은 가장 긴 기간의 행을 반드시 가지므로 그 행으로 판단)
+     */
+    @Query("""
+           select new com.y11i.springcommddd.posts.domain.PostScoreSnapshot(
+                  p.postId, p.communityId, p.status, p.score, p.hotScore, p.publishedAt)
+           from Post p
+           where p.postId.id > :after
+             and p.status = com.y11i.springcommddd.posts.domain.PostStatus.PUBLISHED
+             and p.publishedAt >= :since
+             and not exists (
+                 select 1 from PostWindowRanking r
+                 where r.key.window = :window and r.key.postId = p.postId.id)
+           order by p.postId.id
+           """)
+    List<PostScoreSnapshot> findUnrankedSnapshotsAfter(@Param("window") TopWindow window,
+                                                       @Param("since") Instant since,
+                                                       @Param("after") UUID after,
+                                                       Pageable pageable);
+
+    @Modifying
+    @Query("delete from PostWindowRanking r where r.key.postId = :postId")
+    int deleteByPostId(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("delete from PostWindowRanking r where r.key.window = :window and r.publishedAt < :since")
+    int deleteExpired(@Param("window") TopWindow window, @Param("since") Instant since);
+}
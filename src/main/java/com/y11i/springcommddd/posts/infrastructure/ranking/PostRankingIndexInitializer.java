@@ -0,0 +1,31 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.posts.application.port.in.RebuildPostRankingIndexUseCase;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 피드 정렬 인덱스가 준비되지 않았으면 재구성한다. (최초 배포, Redis 초기화 후)
+ * <p>여러 노드가 동시에 떠도 재구성 잠금으로 한 노드만 수행한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankingIndexInitializer {
+    private final PostRankingIndexPort postRankingIndexPort;
+    private final RebuildPostRankingIndexUseCase rebuildPostRankingIndexUseCase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNotReady() {
+        try {
+            if (!postRankingIndexPort.isReady()) rebuildPostRankingIndexUseCase.rebuild();
+        } catch (DataAccessException e) {
+            log.warn("post ranking index initialization failed; feeds will use the database", e);
+        }
+    }
+}
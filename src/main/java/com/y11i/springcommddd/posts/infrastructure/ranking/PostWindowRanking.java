@@ -0,0 +1,77 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 기간별 top 랭킹 사전 집계 행 (읽기 모델).
+ *
+ * <p>
+ * 기간({@link TopWindow#DAY} ~ {@link TopWindow#YEAR}) 안에 게시된 PUBLISHED 게시글마다
+ * 한 행을 두고, 투표로 점수가 바뀔 때마다 갱신한다.
+ * "이번 주 top" 같은 조회는 posts 전체가 아니라 이 작은 집합을 인덱스 순서대로 읽는다.
+ * 기간을 벗어난 행은 {@link PostWindowRankingAdapter}의 정리 작업이 삭제한다.
+ * </p>
+ *
+ * <p><b>인덱스</b></p>
+ * <ul>
+ *   <li>{@code (window_key, score, published_at, post_id)} — 홈 top</li>
+ *   <li>{@code (window_key, community_id, score, published_at, post_id)} — 커뮤니티 top</li>
+ *   <li>{@code (window_key, published_at)} — 만료 행 정리</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "post_window_rankings", indexes = {
+        @Index(name = "idx_pwr_window_score", columnList = "window_key, score, published_at, post_id"),
+        @Index(name = "idx_pwr_window_community_score", columnList = "window_key, community_id, score, published_at, post_id"),
+        @Index(name = "idx_pwr_window_published", columnList = "window_key, published_at")
+})
+@Access(AccessType.FIELD)
+public class PostWindowRanking {
+
+    @EmbeddedId
+    private PostWindowRankingKey key;
+
+    @Column(name = "community_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID communityId;
+
+    @Column(name = "score", nullable = false)
+    private int score;
+
+    @Column(name = "published_at", nullable = false)
+    private Instant publishedAt;
+
+    /** JPA 전용 */
+    protected PostWindowRanking() {}
+
+    private PostWindowRanking(PostWindowRankingKey key, UUID communityId, int score, Instant publishedAt) {
+        this.key = key;
+        this.communityId = communityId;
+        this.score = score;
+        this.publishedAt = publishedAt;
+    }
+
+    public static PostWindowRanking of(TopWindow window, PostScoreSnapshot post) {
+        return new PostWindowRanking(
+                new PostWindowRankingKey(window, post.postId().id()),
+                post.communityId().id(),
+                post.score(),
+                post.publishedAt()
+        );
+    }
+
+    /** 게시글의 현재 점수를 반영합니다. */
+    public void refresh(PostScoreSnapshot post) {
+        this.score = post.score();
+        this.publishedAt = post.publishedAt();
+    }
+
+    public PostWindowRankingKey key() { return key; }
+    public UUID communityId() { return communityId; }
+    public int score() { return score; }
+    public Instant publishedAt() { return publishedAt; }
+}
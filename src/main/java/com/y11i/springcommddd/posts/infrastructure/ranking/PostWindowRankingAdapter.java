@@ -0,0 +1,69 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.posts.application.port.out.SyncPostRankingPort;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 기간별 top 랭킹 테이블을 유지하는 어댑터.
+ *
+ * <p>
+ * - {@link #sync(PostScoreSnapshot)}: 게시글 변경 시 기간별 행을 증분 갱신<br>
+ * - {@link #pruneExpired()}: 기간을 벗어난 행을 삭제 ({@link PostWindowRankingPruneScheduler} 가 주기적으로 호출)
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostWindowRankingAdapter implements SyncPostRankingPort {
+    private final JpaPostWindowRankingRepository jpaPostWindowRankingRepository;
+
+    @Override
+    @Transactional
+    public void sync(PostScoreSnapshot post) {
+        if (post.status() != PostStatus.PUBLISHED || post.publishedAt() == null) {
+            jpaPostWindowRankingRepository.deleteByPostId(post.postId().id());
+            return;
+        }
+
+        Instant now = Instant.now();
+        for (TopWindow window : TopWindow.values()) {
+            if (!window.isBounded()) continue;
+
+            var key = new PostWindowRankingKey(window, post.postId().id());
+            var existing = jpaPostWindowRankingRepository.findById(key);
+
+            if (!window.contains(post.publishedAt(), now)) {
+                existing.ifPresent(jpaPostWindowRankingRepository::delete);
+                continue;
+            }
+
+            existing.ifPresentOrElse(
+                    row -> row.refresh(post),
+                    () -> jpaPostWindowRankingRepository.save(PostWindowRanking.of(window, post))
+            );
+        }
+    }
+
+    /**
+     * 기간을 벗어난 행을 지운다.
+     *
+     * @return 지운 행 수
+     */
+    @Transactional
+    public int pruneExpired() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        for (TopWindow window : TopWindow.values()) {
+            if (!window.isBounded()) continue;
+            deleted += jpaPostWindowRankingRepository.deleteExpired(window, window.since(now));
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,22 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.posts.domain.TopWindow;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.util.UUID;
+
+/**
+ * {@link PostWindowRanking} 복합 키: (집계 기간, 게시글 ID).
+ */
+@Embeddable
+public record PostWindowRankingKey(
+        @Enumerated(EnumType.STRING)
+        @Column(name = "window_key", nullable = false, length = 10)
+        TopWindow window,
+
+        @Column(name = "post_id", columnDefinition = "BINARY(16)", nullable = false)
+        UUID postId
+) {}
@@ -0,0 +1,34 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간을 벗어난 기간별 top 랭킹 행을 주기적으로 지우는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code posts.top-window.prune-delay-ms} (기본 10분)<br>
+ * - 조회가 게시 시각으로도 거르므로 정리가 늦어도 오래된 게시글이 섞이지 않는다. (테이블 크기 유지 용도)
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostWindowRankingPruneScheduler {
+    private final PostWindowRankingAdapter postWindowRankingAdapter;
+
+    @Scheduled(
+            initialDelayString = "${posts.top-window.prune-delay-ms:600000}",
+            fixedDelayString = "${posts.top-window.prune-delay-ms:600000}"
+    )
+    public void prune() {
+        try {
+            int deleted = postWindowRankingAdapter.pruneExpired();
+            log.debug("expired top-window rankings pruned: {}", deleted);
+        } catch (RuntimeException e) {
+            log.warn("top-window ranking prune failed", e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.y11i.springcommddd.posts.infrastructure.ranking;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.dto.internal.PostSummaryRow;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Redis sorted set 기반 피드 정렬 인덱스 ({@link PostRankingIndexPort} 구현체).
+ *
+ * <p><b>키</b></p>
+ * <ul>
+ *   <li>{@code postRank:idx:{sort}:home} — 홈 전체</li>
+ *   <li>{@code postRank:idx:{sort}:c:{communityId}} — 커뮤니티별</li>
+ *   <li>{@code postRank:meta:ready} — 재구성이 끝나 조회에 써도 되는지</li>
+ *   <li>{@code postRank:meta:rebuilding} — 재구성 잠금 (TTL)</li>
+ * </ul>
+ *
+ * <p><b>점수</b> (member 는 postId 문자열)</p>
+ * <ul>
+ *   <li>new: 게시 시각 (epoch ms)</li>
+ *   <li>top: score + 게시 시각(초) / 1e10 — 점수가 같으면 최신 글이 앞선다</li>
+ *   <li>hot: 저장된 hot 점수</li>
+ * </ul>
+ *
+ * <p>Redis 오류나 인덱스 미준비 시 조회는 {@link Optional#empty()} 를 돌려 DB 쿼리로 대체된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPostRankingIndex implements PostRankingIndexPort {
+
+    static final List<String> SORTS = List.of("new", "top", "hot");
+
+    private static final String INDEX_PREFIX = "postRank:idx:";
+    private static final String READY_KEY = "postRank:meta:ready";
+    private static final String REBUILD_LOCK_KEY = "postRank:meta:rebuilding";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // ----------------------------------------------------
+    // 조회
+    // ----------------------------------------------------
+
+    /**
+     * 정렬 순서대로 게시글 ID 를 offset 부터 limit 개 꺼낸다.
+     *
+     * @param communityId 커뮤니티 한정 (null 이면 홈)
+     * @param sort        "new" / "top" / "hot"
+     * @return 인덱스를 쓸 수 없으면 empty
+     */
+    public Optional<List<PostId>> pageIds(@Nullable CommunityId communityId, String sort, long offset, int limit) {
+        if (!SORTS.contains(sort)) return Optional.empty();
+        try {
+            if (!isReady()) return Optional.empty();
+
+            Set<String> members = redisTemplate.opsForZSet()
+                    .reverseRange(key(sort, communityId), offset, offset + limit - 1);
+            if (members == null) return Optional.empty();
+
+            List<PostId> ids = new ArrayList<>(members.size());
+            members.forEach(m -> ids.add(PostId.objectify(m)));
+            return Optional.of(ids);
+        } catch (DataAccessException e) {
+            log.debug("post ranking index read failed", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    // ----------------------------------------------------
+    // 증분 갱신
+    // ----------------------------------------------------
+
+    @Override
+    public void update(PostScoreSnapshot post) {
+        String member = post.postId().stringify();
+        CommunityId communityId = post.communityId();
+
+        if (post.status() != PostStatus.PUBLISHED || post.publishedAt() == null) {
+            afterCommit(() -> pipelined(conn -> {
+                for (String sort : SORTS) {
+                    conn.zRem(key(sort, null), member);
+                    conn.zRem(key(sort, communityId), member);
+                }
+            }));
+            return;
+        }
+
+        double[] scores = scores(post.score(), post.hotScore(), post.publishedAt());
+        afterCommit(() -> pipelined(conn -> {
+            for (int i = 0; i < SORTS.size(); i++) {
+                conn.zAdd(key(SORTS.get(i), null), scores[i], member);
+                conn.zAdd(key(SORTS.get(i), communityId), scores[i], member);
+            }
+        }));
+    }
+
+    // ----------------------------------------------------
+    // 재구성
+    // ----------------------------------------------------
+
+    @Override
+    public boolean beginRebuild() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return false;
+
+        redisTemplate.delete(READY_KEY);
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(INDEX_PREFIX + "*").count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) redisTemplate.delete(keys);
+        return true;
+    }
+
+    @Override
+    public void addAll(List<PostSummaryRow> rows) {
+        if (rows.isEmpty()) return;
+        pipelined(conn -> {
+            for (PostSummaryRow row : rows) {
+                String member = row.postId().stringify();
+                double[] scores = scores(row.score(), row.hotScore(), row.publishedAt());
+                for (int i = 0; i < SORTS.size(); i++) {
+                    conn.zAdd(key(SORTS.get(i), null), scores[i], member);
+                    conn.zAdd(key(SORTS.get(i), row.communityId()), scores[i], member);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void removeAll(List<PostSummaryRow> rows) {
+        if (rows.isEmpty()) return;
+        pipelined(conn -> {
+            for (PostSummaryRow row : rows) {
+                String member = row.postId().stringify();
+                for (String sort : SORTS) {
+                    conn.zRem(key(sort, null), member);
+                    conn.zRem(key(sort, row.communityId()), member);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void finishRebuild() {
+        redisTemplate.opsForValue().set(READY_KEY, Instant.now().toString());
+    }
+
+    @Override
+    public void releaseRebuild() {
+        try {
+            redisTemplate.delete(REBUILD_LOCK_KEY);
+        } catch (DataAccessException e) {
+            log.warn("post ranking index rebuild lock release failed, it expires by ttl", e);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------
+
+    private static String key(String sort, @Nullable CommunityId communityId) {
+        return INDEX_PREFIX + sort + (communityId == null ? ":home" : ":c:" + communityId.stringify());
+    }
+
+    /**
+     * {@link #SORTS} 순서(new, top, hot)의 정렬 점수.
+     */
+    private static double[] scores(int score, double hotScore, Instant publishedAt) {
+        return new double[] {
+                publishedAt.toEpochMilli(),
+                score + publishedAt.getEpochSecond() / 1e10,
+                hotScore
+        };
+    }
+
+    private void pipelined(Consumer<StringRedisConnection> commands) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                // 인덱스 갱신 실패가 이미 커밋된 쓰기를 실패시키지 않도록 기록만 한다. (재구성으로 복구)
+                log.warn("post ranking index update failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
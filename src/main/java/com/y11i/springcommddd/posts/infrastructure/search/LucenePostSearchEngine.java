@@ -0,0 +1,467 @@
+package com.y11i.springcommddd.posts.infrastructure.search;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchPort;
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.dto.internal.PostSearchCursor;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleFragmenter;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lucene 기반 게시글 검색 엔진 ({@link PostSearchPort}, {@link PostSearchIndexPort} 구현체).
+ *
+ * <p><b>구성</b></p>
+ * <ul>
+ *   <li>색인 위치: 로컬 디스크 {@code posts.search.index-dir} (기본 {@code ./data/post-search-index})</li>
+ *   <li>분석기: {@link CJKAnalyzer} — 한글/한자/가나는 2-gram, 그 외는 표준 토큰화 + 소문자화 + 영문 불용어 제거</li>
+ *   <li>랭킹: {@link BM25Similarity} (제목 가중치 {@value #TITLE_BOOST})</li>
+ *   <li>하이라이트: HTML 이스케이프 후 일치 구간을 {@code <em>} 으로 감싼 조각</li>
+ * </ul>
+ *
+ * <p><b>색인 갱신</b><br>
+ * 문서는 호출 시점에 만들어 두고, 트랜잭션 커밋 이후({@code afterCommit})에 반영한다.
+ * 반영 직후 검색기(near-real-time)를 새로 고치며, 디스크 커밋은 주기적으로 수행한다.
+ * </p>
+ *
+ * <p><b>색인 스키마</b><br>
+ * 커서 조회는 게시글 ID 를 동순위 tie-breaker 로 정렬하므로 ID 를 doc values 로도 색인한다.
+ * 커밋 데이터의 스키마 버전({@value #SCHEMA_VERSION})이 다른 기존 색인은 기동 시 비우고,
+ * 비어 있는 색인은 {@code PostSearchIndexInitializer} 가 다시 채운다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LucenePostSearchEngine implements PostSearchPort, PostSearchIndexPort {
+
+    static final String F_ID = "id";
+    static final String F_TITLE = "title";
+    static final String F_CONTENT = "content";
+    static final String F_COMMUNITY = "community_id";
+    static final String F_AUTHOR = "author_id";
+    static final String F_PUBLISHED_AT = "published_at";
+    static final String F_SCORE = "score";
+
+    private static final String SCHEMA_KEY = "schema";
+    private static final String SCHEMA_VERSION = "2";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int FRAGMENT_SIZE = 120;
+
+    /** 근사 개수 모드에서 정확히 세는 최대 건수 (이후로는 하한값) */
+    private static final int APPROXIMATE_TOTAL_HITS_THRESHOLD = 1000;
+
+    private final Path indexDir;
+    private final Analyzer analyzer = new CJKAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public LucenePostSearchEngine(@Value("${posts.search.index-dir:./data/post-search-index}") String indexDir) {
+        this.indexDir = Path.of(indexDir);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(indexDir);
+        this.directory = FSDirectory.open(indexDir);
+
+        this.writer = openWriter(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        if (!SCHEMA_VERSION.equals(schemaVersion(writer))) {
+            // 필드 구성이 다른 문서와 섞일 수 없으므로 필드 정보까지 새로 만든다. (재색인은 초기화기가 수행)
+            log.info("post search index schema changed, recreating: {}", indexDir.toAbsolutePath());
+            writer.close();
+            this.writer = openWriter(IndexWriterConfig.OpenMode.CREATE);
+            writer.setLiveCommitData(Map.of(SCHEMA_KEY, SCHEMA_VERSION).entrySet());
+            writer.commit();
+        }
+
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(org.apache.lucene.index.IndexReader reader,
+                                             org.apache.lucene.index.IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        log.info("post search index opened: {} ({} docs)", indexDir.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    private IndexWriter openWriter(IndexWriterConfig.OpenMode openMode) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(openMode)
+                .setSimilarity(new BM25Similarity());
+        return new IndexWriter(directory, config);
+    }
+
+    private static String schemaVersion(IndexWriter writer) {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) return null;
+        for (Map.Entry<String, String> entry : commitData) {
+            if (SCHEMA_KEY.equals(entry.getKey())) return entry.getValue();
+        }
+        return null;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (searcherManager != null) searcherManager.close();
+        if (writer != null) {
+            writer.commit();
+            writer.close();
+        }
+        if (directory != null) directory.close();
+    }
+
+    /**
+     * 색인된 문서가 하나도 없는지 (최초 기동 시 전체 색인 여부 판단용)
+     */
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    // ----------------------------------------------------
+    // 색인 갱신
+    // ----------------------------------------------------
+
+    @Override
+    public void index(Post post) {
+        Term idTerm = new Term(F_ID, post.postId().stringify());
+
+        if (post.status() != PostStatus.PUBLISHED) {
+            afterCommit(() -> writer.deleteDocuments(idTerm));
+            return;
+        }
+
+        Document doc = toDocument(post);
+        afterCommit(() -> writer.updateDocument(idTerm, doc));
+    }
+
+    @Override
+    public void updateScore(PostId postId, int score) {
+        Term idTerm = new Term(F_ID, postId.stringify());
+        afterCommit(() -> writer.updateNumericDocValue(idTerm, F_SCORE, score));
+    }
+
+    /**
+     * 게시글 묶음을 즉시 색인한다. (트랜잭션 동기화 없이, 검색기 새로 고침은 1회)
+     * <p>최초 기동 시 전체 색인 등 대량 색인 용도.</p>
+     */
+    public void indexAll(List<Post> posts) {
+        apply(() -> {
+            for (Post post : posts) {
+                if (post.status() != PostStatus.PUBLISHED) continue;
+                writer.updateDocument(new Term(F_ID, post.postId().stringify()), toDocument(post));
+            }
+        });
+    }
+
+    /**
+     * 디스크에 아직 커밋되지 않은 변경을 주기적으로 커밋한다.
+     * (검색 가시성은 NRT 새로 고침으로 즉시 반영되며, 이 커밋은 재기동 시 내구성 용도)
+     */
+    @Scheduled(fixedDelayString = "${posts.search.commit-delay-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) writer.commit();
+        } catch (IOException e) {
+            log.warn("post search index commit failed", e);
+        }
+    }
+
+    private Document toDocument(Post post) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, post.postId().stringify(), Field.Store.YES));
+        doc.add(new SortedDocValuesField(F_ID, new BytesRef(post.postId().stringify())));
+        doc.add(new StringField(F_COMMUNITY, post.communityId().stringify(), Field.Store.NO));
+        doc.add(new StringField(F_AUTHOR, post.authorId().stringify(), Field.Store.NO));
+        doc.add(new TextField(F_TITLE, post.title().value(), Field.Store.YES));
+        if (post.content() != null && post.content().value() != null) {
+            doc.add(new TextField(F_CONTENT, post.content().value(), Field.Store.YES));
+        }
+        doc.add(new NumericDocValuesField(F_PUBLISHED_AT, post.publishedAt().toEpochMilli()));
+        doc.add(new NumericDocValuesField(F_SCORE, post.score()));
+        return doc;
+    }
+
+    private void afterCommit(IndexAction action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(action);
+                }
+            });
+        } else {
+            apply(action);
+        }
+    }
+
+    private void apply(IndexAction action) {
+        try {
+            action.run();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            // 색인 실패가 이미 커밋된 쓰기 요청을 실패시키지 않도록 기록만 한다. (재색인으로 복구)
+            log.warn("post search index update failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+
+    // ----------------------------------------------------
+    // 검색
+    // ----------------------------------------------------
+
+    @Override
+    public Result search(String keyword,
+                         @Nullable CommunityId communityId,
+                         @Nullable MemberId authorId,
+                         String sortKey,
+                         Pageable pageable,
+                         boolean exactTotal) {
+        Query textQuery = buildTextQuery(keyword);
+        if (textQuery == null) return new Result(List.of(), 0, true);
+        Query query = withFilters(textQuery, communityId, authorId);
+
+        int from = (int) pageable.getOffset();
+        int limit = from + pageable.getPageSize();
+        int totalHitsThreshold = exactTotal
+                ? Integer.MAX_VALUE
+                : Math.max(limit, APPROXIMATE_TOTAL_HITS_THRESHOLD);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            Sort sort = resolveSort(sortKey);
+            TopDocs topDocs = (sort == null)
+                    ? searcher.search(query, new TopScoreDocCollectorManager(limit, totalHitsThreshold))
+                    : searcher.search(query, new TopFieldCollectorManager(sort, limit, null, totalHitsThreshold));
+
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            List<Hit> hits = toHits(searcher, textQuery, scoreDocs, from, scoreDocs.length);
+            boolean exact = topDocs.totalHits.relation() == TotalHits.Relation.EQUAL_TO;
+            return new Result(hits, topDocs.totalHits.value(), exact);
+        } catch (IOException e) {
+            throw new UncheckedIOException("post search failed", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 정렬 값 + 게시글 ID 를 커서로 {@code searchAfter} 한다.
+     * 앞 페이지 결과를 다시 모으지 않으므로 깊은 위치도 첫 페이지와 비용이 같다.
+     */
+    @Override
+    public ScrollResult scroll(String keyword,
+                               @Nullable CommunityId communityId,
+                               @Nullable MemberId authorId,
+                               String sortKey,
+                               @Nullable PostSearchCursor after,
+                               int size) {
+        Query textQuery = buildTextQuery(keyword);
+        if (textQuery == null) return new ScrollResult(List.of(), false, null);
+        Query query = withFilters(textQuery, communityId, authorId);
+
+        String sortName = PostSearchCursor.normalizeSort(sortKey);
+        Sort sort = resolveScrollSort(sortName);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            FieldDoc afterDoc = (after == null) ? null : toFieldDoc(after, searcher.getIndexReader().maxDoc());
+            TopFieldDocs topDocs = searcher.searchAfter(afterDoc, query, size + 1, sort, false);
+
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            boolean hasNext = scoreDocs.length > size;
+            int end = Math.min(scoreDocs.length, size);
+            List<Hit> hits = toHits(searcher, textQuery, scoreDocs, 0, end);
+            PostSearchCursor last = (end == 0) ? null : toCursor(sortName, (FieldDoc) scoreDocs[end - 1]);
+            return new ScrollResult(hits, hasNext, last);
+        } catch (IOException e) {
+            throw new UncheckedIOException("post search failed", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private void release(@Nullable IndexSearcher searcher) {
+        if (searcher == null) return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("failed to release post searcher", e);
+        }
+    }
+
+    private Query withFilters(Query textQuery, @Nullable CommunityId communityId, @Nullable MemberId authorId) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (communityId != null) {
+            builder.add(new TermQuery(new Term(F_COMMUNITY, communityId.stringify())), BooleanClause.Occur.FILTER);
+        }
+        if (authorId != null) {
+            builder.add(new TermQuery(new Term(F_AUTHOR, authorId.stringify())), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private List<Hit> toHits(IndexSearcher searcher, Query textQuery, ScoreDoc[] scoreDocs, int from, int to)
+            throws IOException {
+        Highlighter contentHighlighter = highlighter(textQuery, F_CONTENT);
+        Highlighter titleHighlighter = highlighter(textQuery, F_TITLE);
+        StoredFields storedFields = searcher.storedFields();
+
+        List<Hit> hits = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Document doc = storedFields.document(scoreDocs[i].doc);
+            PostId postId = new PostId(UUID.fromString(doc.get(F_ID)));
+            String highlight = highlight(contentHighlighter, F_CONTENT, doc.get(F_CONTENT));
+            if (highlight == null) highlight = highlight(titleHighlighter, F_TITLE, doc.get(F_TITLE));
+            hits.add(new Hit(postId, highlight));
+        }
+        return hits;
+    }
+
+    /**
+     * 제목(가중치) 또는 본문에 검색어의 모든 토큰이 있는 문서를 찾는 쿼리.
+     * 분석 결과 토큰이 없으면 null.
+     */
+    private Query buildTextQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+
+        QueryBuilder qb = new QueryBuilder(analyzer);
+        Query title = qb.createBooleanQuery(F_TITLE, keyword, BooleanClause.Occur.MUST);
+        Query content = qb.createBooleanQuery(F_CONTENT, keyword, BooleanClause.Occur.MUST);
+        if (title == null && content == null) return null;
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+        if (title != null) builder.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        if (content != null) builder.add(content, BooleanClause.Occur.SHOULD);
+        return builder.build();
+    }
+
+    /**
+     * 정렬 키 → Lucene 정렬. relevance 는 null (BM25 점수순).
+     */
+    private Sort resolveSort(String sortKey) {
+        String normalized = (sortKey == null) ? "new" : sortKey.toLowerCase();
+        return switch (normalized) {
+            case "relevance" -> null;
+            case "top" -> new Sort(
+                    new SortField(F_SCORE, SortField.Type.LONG, true),
+                    new SortField(F_PUBLISHED_AT, SortField.Type.LONG, true));
+            default -> new Sort(new SortField(F_PUBLISHED_AT, SortField.Type.LONG, true));
+        };
+    }
+
+    /**
+     * 커서 조회용 정렬. 모든 정렬의 마지막 키는 게시글 ID 라서 위치가 유일하다.
+     */
+    private Sort resolveScrollSort(String sortName) {
+        SortField id = new SortField(F_ID, SortField.Type.STRING, true);
+        SortField publishedAt = new SortField(F_PUBLISHED_AT, SortField.Type.LONG, true);
+        return switch (sortName) {
+            case "relevance" -> new Sort(SortField.FIELD_SCORE, id);
+            case "top" -> new Sort(new SortField(F_SCORE, SortField.Type.LONG, true), publishedAt, id);
+            default -> new Sort(publishedAt, id);
+        };
+    }
+
+    /**
+     * 커서 → {@code searchAfter} 기준 문서. 필드 값의 순서/타입은 {@link #resolveScrollSort} 와 같다.
+     * <p>
+     * 정렬 값이 같은 문서는 커서 자신(같은 ID)뿐이므로, 문서 번호를 가장 큰 값으로 두어 그 문서만 제외한다.
+     * </p>
+     */
+    private static FieldDoc toFieldDoc(PostSearchCursor cursor, int maxDoc) {
+        BytesRef id = new BytesRef(cursor.postId().toString());
+        Object[] fields = switch (cursor.sort()) {
+            case "relevance" -> new Object[]{cursor.relevance(), id};
+            case "top" -> new Object[]{cursor.score(), cursor.publishedAtMs(), id};
+            default -> new Object[]{cursor.publishedAtMs(), id};
+        };
+        return new FieldDoc(maxDoc - 1, Float.NaN, fields);
+    }
+
+    private static PostSearchCursor toCursor(String sortName, FieldDoc doc) {
+        Object[] f = doc.fields;
+        return switch (sortName) {
+            case "relevance" -> new PostSearchCursor(sortName, (Float) f[0], 0, 0, toUuid(f[1]));
+            case "top" -> new PostSearchCursor(sortName, 0f, (Long) f[0], (Long) f[1], toUuid(f[2]));
+            default -> new PostSearchCursor(sortName, 0f, 0, (Long) f[0], toUuid(f[1]));
+        };
+    }
+
+    private static UUID toUuid(Object sortValue) {
+        return UUID.fromString(((BytesRef) sortValue).utf8ToString());
+    }
+
+    private Highlighter highlighter(Query query, String field) {
+        Highlighter highlighter = new Highlighter(
+                new SimpleHTMLFormatter("<em>", "</em>"),
+                new SimpleHTMLEncoder(),
+                new QueryScorer(query, field));
+        highlighter.setTextFragmenter(new SimpleFragmenter(FRAGMENT_SIZE));
+        return highlighter;
+    }
+
+    private String highlight(Highlighter highlighter, String field, String text) {
+        if (text == null) return null;
+        try {
+            return highlighter.getBestFragment(analyzer, field, text);
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            log.debug("highlight failed for field {}", field, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.y11i.springcommddd.posts.infrastructure.search;
+
+import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.domain.PostStatus;
+import com.y11i.springcommddd.posts.infrastructure.JpaPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검색 색인이 비어 있으면 기동 직후 게시된 글 전체를 색인한다.
+ *
+ * <p>
+ * 색인 디렉터리를 새로 만들었거나 지운 경우(최초 배포, 색인 손상 복구)를 위한 것으로,
+ * 이미 문서가 있으면 아무 것도 하지 않는다. 게시글은 {@value #BATCH_SIZE}건씩 끊어서
+ * 읽기 전용 트랜잭션으로 조회한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final LucenePostSearchEngine searchEngine;
+    private final JpaPostRepository jpaPostRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!searchEngine.isEmpty()) return;
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        int page = 0;
+        long indexed = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest pageReq = PageRequest.of(page++, BATCH_SIZE, Sort.by("postId.id"));
+            Slice<Post> slice = tx.execute(status -> {
+                Slice<Post> s = jpaPostRepository.findByStatus(PostStatus.PUBLISHED, pageReq);
+                searchEngine.indexAll(s.getContent());
+                return s;
+            });
+            if (slice == null) break;
+            indexed += slice.getNumberOfElements();
+            hasNext = slice.hasNext();
+        }
+        searchEngine.commit();
+        log.info("post search index rebuilt: {} posts", indexed);
+    }
+}
@@ -4,6 +4,7 @@ import com.y11i.springcommddd.posts.domain.PostId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,12 @@ public interface PostAssetRepository {
      */
     List<PostAsset> findByPostIdOrderByDisplayOrder(PostId postId);
 
+    /**
+     * 여러 게시글의 자산을 한 번에 조회합니다. (variants 포함, 표시 순서 정렬)
+     * <p>피드 목록 조립 시 게시글마다 자산을 따로 조회하지 않도록 사용합니다.</p>
+     */
+    List<PostAsset> findByPostIdsOrderByDisplayOrder(Collection<PostId> postIds);
+
     /**
      * 목록 화면 등에서 첫 번째(대표) 자산만 필요할 때 사용합니다.
      */
@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,14 @@ public interface JpaPostAssetRepository extends JpaRepository<PostAsset, PostAss
 
     Optional<PostAsset> findFirstByPostIdOrderByDisplayOrderAsc(PostId postId);
 
+    // 피드 일괄 조회: variants(ElementCollection)까지 한 번에 fetch
+    @Query("""
+      select distinct a from PostAsset a left join fetch a.variants
+      where a.postId in :postIds
+      order by a.displayOrder asc
+    """)
+    List<PostAsset> findAllByPostIdsWithVariants(@Param("postIds") Collection<PostId> postIds);
+
     long countByPostId(PostId postId);
     boolean existsByPostIdAndDisplayOrder(PostId postId, int displayOrder);
 
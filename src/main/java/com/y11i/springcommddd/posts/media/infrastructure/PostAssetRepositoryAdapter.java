@@ -11,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +42,12 @@ public class PostAssetRepositoryAdapter implements PostAssetRepository {
         return jpaPostAssetRepository.findByPostIdOrderByDisplayOrder(postId);
     }
 
+    @Override
+    public List<PostAsset> findByPostIdsOrderByDisplayOrder(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        return jpaPostAssetRepository.findAllByPostIdsWithVariants(postIds);
+    }
+
     @Override
     public Optional<PostAsset> findFirstByPostId(PostId postId) {
         return jpaPostAssetRepository.findFirstByPostIdOrderByDisplayOrderAsc(postId);
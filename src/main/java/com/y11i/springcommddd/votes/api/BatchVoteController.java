@@ -0,0 +1,59 @@
+package com.y11i.springcommddd.votes.api;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.iam.api.support.AuthenticatedMember;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.in.BatchVoteUseCase;
+import com.y11i.springcommddd.votes.application.port.in.BatchVoteUseCase.BatchVoteCommand;
+import com.y11i.springcommddd.votes.application.port.in.VoteCommentUseCase.CommentVoteCommand;
+import com.y11i.springcommddd.votes.application.port.in.VotePostUseCase.PostVoteCommand;
+import com.y11i.springcommddd.votes.dto.request.BatchVoteRequestDTO;
+import com.y11i.springcommddd.votes.dto.response.BatchVoteResponseDTO;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/votes")
+@RequiredArgsConstructor
+@Validated
+public class BatchVoteController {
+
+    private final BatchVoteUseCase batchVoteUseCase;
+
+    /**
+     * 게시글/댓글 투표를 한 번에 반영한다.
+     *
+     * <p>
+     * - POST /api/votes/batch<br>
+     * - 항목은 요청 순서대로 단건 투표와 같은 토글 규칙으로 반영되며, 전체가 한 트랜잭션이다.<br>
+     * - 없거나 투표할 수 없는 대상은 건너뛰고 결과에 사유를 담는다.
+     * </p>
+     */
+    @PostMapping(path = "/batch", consumes = "application/json")
+    public BatchVoteResponseDTO vote(
+            @AuthenticatedMember MemberId voterId,
+            @Valid @RequestBody BatchVoteRequestDTO requestDTO
+    ) {
+        List<PostVoteCommand> postVotes = new ArrayList<>();
+        List<CommentVoteCommand> commentVotes = new ArrayList<>();
+        for (BatchVoteRequestDTO.Item item : requestDTO.votes()) {
+            int desired = switch (item.direction()) {
+                case "up" -> 1;
+                case "down" -> -1;
+                default -> 0;
+            };
+            if ("post".equals(item.targetType())) {
+                postVotes.add(new PostVoteCommand(PostId.objectify(item.targetId()), desired));
+            } else {
+                commentVotes.add(new CommentVoteCommand(CommentId.objectify(item.targetId()), desired));
+            }
+        }
+        return batchVoteUseCase.vote(new BatchVoteCommand(voterId, postVotes, commentVotes));
+    }
+}
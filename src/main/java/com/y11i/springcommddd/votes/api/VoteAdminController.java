@@ -0,0 +1,39 @@
+package com.y11i.springcommddd.votes.api;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.iam.api.support.AuthenticatedMember;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.votes.application.port.in.ReconcileVoteTalliesUseCase;
+import com.y11i.springcommddd.votes.dto.response.ReconcileVoteTalliesResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 투표 운영용 관리자 API.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/votes")
+public class VoteAdminController {
+    private final ReconcileVoteTalliesUseCase reconcileVoteTalliesUseCase;
+
+    /**
+     * 한 커뮤니티의 게시글/댓글 추천·비추천 수를 투표 행 기준으로 다시 세어 어긋난 것만 바로잡는다.
+     * <p>
+     * 예: POST /api/admin/votes/reconcile/communities/{communityId}
+     * <p>
+     * 요청 스레드에서 끝까지 수행하며(묶음 사이 대기 포함), 확인/수정 건수를 돌려준다.
+     */
+    @PostMapping("/reconcile/communities/{communityId}")
+    public ReconcileVoteTalliesResponseDTO reconcileCommunity(
+            @AuthenticatedMember MemberId actorId,
+            @PathVariable String communityId
+    ) {
+        ReconcileVoteTalliesUseCase.Result result =
+                reconcileVoteTalliesUseCase.reconcileCommunity(CommunityId.objectify(communityId));
+        log.info("Vote tally reconciliation for community {} requested by {}: {}", communityId, actorId, result);
+        return ReconcileVoteTalliesResponseDTO.from(result);
+    }
+}
@@ -0,0 +1,32 @@
+package com.y11i.springcommddd.votes.application.port.in;
+
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.votes.application.port.in.VoteCommentUseCase.CommentVoteCommand;
+import com.y11i.springcommddd.votes.application.port.in.VotePostUseCase.PostVoteCommand;
+import com.y11i.springcommddd.votes.dto.response.BatchVoteResponseDTO;
+
+import java.util.List;
+
+/**
+ * 게시글/댓글 투표 일괄 처리 유스케이스.
+ *
+ * <p>
+ * 모바일 클라이언트가 오프라인에서 쌓아 둔 투표를 재전송할 때처럼
+ * 여러 투표를 한 요청·한 트랜잭션으로 반영하고, 대상별 최종 집계를 돌려준다.
+ * </p>
+ */
+public interface BatchVoteUseCase {
+
+    BatchVoteResponseDTO vote(BatchVoteCommand cmd);
+
+    /**
+     * @param voterId      투표자 ID
+     * @param postVotes    게시글 투표 (요청 순서)
+     * @param commentVotes 댓글 투표 (요청 순서)
+     */
+    record BatchVoteCommand(
+            MemberId voterId,
+            List<PostVoteCommand> postVotes,
+            List<CommentVoteCommand> commentVotes
+    ) {}
+}
@@ -0,0 +1,12 @@
+package com.y11i.springcommddd.votes.application.port.in;
+
+/**
+ * 버퍼에 모인 게시글 투표 집계 증감분을 DB 에 반영하는 유스케이스.
+ */
+public interface FlushPostVoteCountsUseCase {
+
+    /**
+     * @return 반영한 게시글 수
+     */
+    int flush();
+}
@@ -0,0 +1,29 @@
+package com.y11i.springcommddd.votes.application.port.in;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 조회자의 투표값(myVote)을 대상 여러 건에 대해 한 번에 조회하는 유스케이스.
+ *
+ * <p>결과에는 투표한 대상(-1 / +1)만 담기며, 투표하지 않은 대상은 빠진다.</p>
+ */
+public interface LoadMyVotesUseCase {
+
+    /**
+     * @param viewerId 조회자 ID (비로그인이면 null → 빈 결과)
+     * @param postIds  게시글 ID 목록
+     */
+    Map<PostId, Integer> myPostVotes(@Nullable MemberId viewerId, Collection<PostId> postIds);
+
+    /**
+     * @param viewerId   조회자 ID (비로그인이면 null → 빈 결과)
+     * @param commentIds 댓글 ID 목록
+     */
+    Map<CommentId, Integer> myCommentVotes(@Nullable MemberId viewerId, Collection<CommentId> commentIds);
+}
@@ -0,0 +1,32 @@
+package com.y11i.springcommddd.votes.application.port.in;
+
+import com.y11i.springcommddd.communities.domain.CommunityId;
+
+/**
+ * 게시글/댓글에 저장된 추천/비추천 수를 투표 행 기준으로 다시 세어 어긋난 것만 바로잡는 유스케이스.
+ * (게시글 댓글 수도 댓글 행 기준으로 함께 바로잡는다)
+ */
+public interface ReconcileVoteTalliesUseCase {
+
+    /**
+     * 대사 결과.
+     *
+     * @param scannedPosts          확인한 게시글 수
+     * @param repairedPosts         추천/비추천 수를 바로잡은 게시글 수
+     * @param repairedCommentCounts 댓글 수를 바로잡은 게시글 수
+     * @param scannedComments       확인한 댓글 수
+     * @param repairedComments      바로잡은 댓글 수
+     */
+    record Result(long scannedPosts, long repairedPosts, long repairedCommentCounts,
+                  long scannedComments, long repairedComments) {}
+
+    /**
+     * 전체 게시글/댓글을 대사한다.
+     */
+    Result reconcileAll();
+
+    /**
+     * 한 커뮤니티의 게시글과 그 댓글만 대사한다.
+     */
+    Result reconcileCommunity(CommunityId communityId);
+}
@@ -1,8 +1,12 @@
 package com.y11i.springcommddd.votes.application.port.in;
 
 import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.common.api.ErrorCode;
 import com.y11i.springcommddd.iam.domain.MemberId;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 댓글에 대한 추천/비추천(투표) 유스케이스.
  *
@@ -59,4 +63,26 @@ public interface VoteCommentUseCase {
      */
 
     void cancelVote(CommentId commentId, MemberId voterId);
+
+    /**
+     * 여러 댓글 투표를 요청 순서대로 한 트랜잭션에서 반영한다. (오프라인 큐 재전송 등 일괄 처리용)
+     *
+     * <p>
+     * 대상 댓글은 한 번에 로드해 검증하고, 투표할 수 없는 댓글(없음/삭제됨)은 건너뛴다.
+     * 집계 컬럼은 댓글별 증감분을 합쳐 댓글당 한 번만 갱신한다.
+     * </p>
+     *
+     * @param voterId 투표자 ID
+     * @param votes   (댓글, 의도한 방향) 목록
+     * @return 건너뛴 댓글과 그 사유
+     */
+    Map<CommentId, ErrorCode> voteAll(MemberId voterId, List<CommentVoteCommand> votes);
+
+    /**
+     * 일괄 투표 항목.
+     *
+     * @param commentId 댓글 ID
+     * @param desired   의도한 방향: +1(up), -1(down), 0(cancel)
+     */
+    record CommentVoteCommand(CommentId commentId, int desired) {}
 }
@@ -1,8 +1,12 @@
 package com.y11i.springcommddd.votes.application.port.in;
 
+import com.y11i.springcommddd.common.api.ErrorCode;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.PostId;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 게시글에 대한 추천/비추천(투표) 유스케이스.
  *
@@ -59,4 +63,26 @@ public interface VotePostUseCase {
      */
 
     void cancelVote(PostId postId, MemberId voterId);
+
+    /**
+     * 여러 게시글 투표를 요청 순서대로 한 트랜잭션에서 반영한다. (오프라인 큐 재전송 등 일괄 처리용)
+     *
+     * <p>
+     * 대상 게시글은 한 번에 로드해 검증하고, 투표할 수 없는 게시글(없음/미게시)은 건너뛴다.
+     * 집계 컬럼은 게시글별 증감분을 합쳐 게시글당 한 번만 갱신한다.
+     * </p>
+     *
+     * @param voterId 투표자 ID
+     * @param votes   (게시글, 의도한 방향) 목록
+     * @return 건너뛴 게시글과 그 사유
+     */
+    Map<PostId, ErrorCode> voteAll(MemberId voterId, List<PostVoteCommand> votes);
+
+    /**
+     * 일괄 투표 항목.
+     *
+     * @param postId  게시글 ID
+     * @param desired 의도한 방향: +1(up), -1(down), 0(cancel)
+     */
+    record PostVoteCommand(PostId postId, int desired) {}
 }
@@ -0,0 +1,41 @@
+package com.y11i.springcommddd.votes.application.port.out;
+
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort.VoteCountDelta;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+import java.util.List;
+
+/**
+ * 게시글 추천/비추천 수 증감분을 모아 두었다가 한 번에 반영(write-behind)하기 위한 버퍼 포트.
+ *
+ * <p>
+ * 투표 트랜잭션은 {@code post_votes} 행만 동기로 쓰고, 집계 증감분은 이 버퍼에 더한다.
+ * 주기적인 flush 가 {@link #drain()} 으로 누적분을 꺼내 게시글별 UPDATE 한 번으로 반영한다.
+ * </p>
+ *
+ * <p>
+ * 버퍼는 내구성이 없다. flush 전 장애나 종료 시 flush 를 거치지 못한 종료(강제 종료 등)로 잃은 증감분은
+ * 투표 집계 대사가 투표 행을 다시 세어 복구한다. (그때까지 집계가 실제보다 적거나 많게 보일 수 있음)
+ * </p>
+ */
+public interface BufferPostVoteCountPort {
+
+    /**
+     * 증감분을 누적한다. 트랜잭션 안에서 호출되면 커밋 이후에 누적한다.
+     *
+     * @param postId    게시글 ID
+     * @param upDelta   추천 수 증감
+     * @param downDelta 비추천 수 증감
+     */
+    void add(PostId postId, int upDelta, int downDelta);
+
+    /**
+     * 지금까지 누적된 증감분을 꺼내고 그만큼 비운다. (0 인 항목은 제외)
+     */
+    List<VoteCountDelta> drain();
+
+    /**
+     * 아직 반영되지 않은 증감분이 있는지. (집계 대사가 반영 대기 중인 게시글을 건너뛰는 데 쓴다)
+     */
+    boolean hasPending(PostId postId);
+}
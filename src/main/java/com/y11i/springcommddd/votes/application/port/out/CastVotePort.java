@@ -0,0 +1,34 @@
+package com.y11i.springcommddd.votes.application.port.out;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.domain.VoteChange;
+
+/**
+ * 투표 행(post_votes / comment_votes)에 토글 규칙({@link VoteChange#decide})을 적용하는 포트.
+ *
+ * <p>
+ * 기존 투표를 먼저 읽지 않고, 대상/투표자 유니크 키에 대한 upsert/delete 로 바로 반영한 뒤
+ * 그 결과로부터 이전 값과 새 값을 돌려준다.
+ * 같은 투표자의 동시 요청은 유니크 키 행 잠금으로 직렬화되므로 중복 키 예외가 나지 않는다.
+ * </p>
+ */
+public interface CastVotePort {
+
+    /**
+     * 게시글 투표를 반영한다.
+     *
+     * @param desired 의도한 방향: +1(up), -1(down), 0(cancel)
+     * @return 이전 값과 새 값
+     */
+    VoteChange castPostVote(PostId postId, MemberId voterId, int desired);
+
+    /**
+     * 댓글 투표를 반영한다.
+     *
+     * @param desired 의도한 방향: +1(up), -1(down), 0(cancel)
+     * @return 이전 값과 새 값
+     */
+    VoteChange castCommentVote(CommentId commentId, MemberId voterId, int desired);
+}
@@ -0,0 +1,27 @@
+package com.y11i.springcommddd.votes.application.port.out;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.posts.domain.PostId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 투표 테이블에서 대상별 실제 추천/비추천 수를 다시 세는 포트. (집계 대사용)
+ *
+ * <p>대상 묶음마다 GROUP BY 한 번으로 센다. 투표가 없는 대상은 결과에 없다.</p>
+ */
+public interface CountVotesPort {
+
+    /**
+     * 대상 한 건의 실제 투표 수.
+     *
+     * @param up   추천(+1) 수
+     * @param down 비추천(-1) 수
+     */
+    record VoteCount(int up, int down) {}
+
+    Map<PostId, VoteCount> countPostVotes(Collection<PostId> postIds);
+
+    Map<CommentId, VoteCount> countCommentVotes(Collection<CommentId> commentIds);
+}
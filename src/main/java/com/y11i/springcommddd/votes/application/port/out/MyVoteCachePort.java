@@ -0,0 +1,58 @@
+package com.y11i.springcommddd.votes.application.port.out;
+
+import com.y11i.springcommddd.iam.domain.MemberId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회자별 "내 투표값" 캐시 포트.
+ *
+ * <p>
+ * 피드/상세/댓글 목록은 화면마다 조회자의 투표값(myVote)을 함께 내려주므로,
+ * 같은 조회자가 같은 대상을 반복해서 볼 때 {@code post_votes} / {@code comment_votes} 를
+ * 매번 읽지 않도록 (조회자, 대상) → 투표값을 캐시한다.
+ * 값 0 은 "투표하지 않았음이 확인됨"을 뜻한다.
+ * </p>
+ *
+ * <p>
+ * 캐시를 쓸 수 없는 경우(저장소 오류, 필터 미준비)에는 "모름"으로 응답해
+ * 호출 측이 DB 조회로 대체하도록 한다.
+ * </p>
+ */
+public interface MyVoteCachePort {
+
+    /** 투표 대상 종류 */
+    enum Target { POST, COMMENT }
+
+    /**
+     * 조회자가 한 번도 투표한 적이 없는 것이 확실한지.
+     *
+     * @return 투표자 필터에 없으면 true, 있거나 필터를 쓸 수 없으면 false
+     */
+    boolean hasNeverVoted(MemberId viewerId);
+
+    /**
+     * 캐시에 있는 투표값만 돌려준다. (없는 대상은 결과에서 빠진다)
+     *
+     * @param target    대상 종류
+     * @param viewerId  조회자 ID
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID → 투표값(-1 / 0 / +1)
+     */
+    Map<UUID, Integer> getAll(Target target, MemberId viewerId, Collection<UUID> targetIds);
+
+    /**
+     * DB 에서 읽은 투표값을 채운다.
+     * 그 사이 투표로 기록된 값을 덮어쓰지 않도록 이미 있는 항목은 건드리지 않는다.
+     */
+    void fill(Target target, MemberId viewerId, Map<UUID, Integer> values);
+
+    /**
+     * 투표 결과를 기록한다. 트랜잭션 안에서 호출되면 커밋 이후에 기록한다.
+     *
+     * @param value 변경 후 투표값 (-1 / 0 / +1)
+     */
+    void record(Target target, MemberId viewerId, UUID targetId, int value);
+}
@@ -0,0 +1,111 @@
+package com.y11i.springcommddd.votes.application.service;
+
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.common.api.ErrorCode;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.in.BatchVoteUseCase;
+import com.y11i.springcommddd.votes.application.port.in.VoteCommentUseCase;
+import com.y11i.springcommddd.votes.application.port.in.VoteCommentUseCase.CommentVoteCommand;
+import com.y11i.springcommddd.votes.application.port.in.VotePostUseCase;
+import com.y11i.springcommddd.votes.application.port.in.VotePostUseCase.PostVoteCommand;
+import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
+import com.y11i.springcommddd.votes.domain.MyCommentVote;
+import com.y11i.springcommddd.votes.domain.MyPostVote;
+import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import com.y11i.springcommddd.votes.dto.response.BatchVoteResponseDTO;
+import com.y11i.springcommddd.votes.dto.response.BatchVoteResponseDTO.Tally;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 투표 일괄 처리 서비스.
+ *
+ * <p>
+ * 전체를 한 트랜잭션으로 묶어 {@link VotePostUseCase#voteAll} / {@link VoteCommentUseCase#voteAll} 에 위임하고,
+ * 반영 후 대상들의 집계(추천/비추천 수 컬럼만 읽는 프로젝션)와 나의 투표값을 종류별로 한 번씩 조회해 돌려준다.
+ * (write-behind 모드에서는 게시글 집계가 flush 전까지 직전 값일 수 있다)
+ * </p>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BatchVoteService implements BatchVoteUseCase {
+    private final VotePostUseCase votePostUseCase;
+    private final VoteCommentUseCase voteCommentUseCase;
+    private final UpdatePostCountersPort updatePostCountersPort;
+    private final UpdateCommentCountersPort updateCommentCountersPort;
+    private final PostVoteRepository postVoteRepository;
+    private final CommentVoteRepository commentVoteRepository;
+
+    @Override
+    @Transactional
+    public BatchVoteResponseDTO vote(BatchVoteCommand cmd) {
+        List<Tally> results = new ArrayList<>();
+
+        if (!cmd.postVotes().isEmpty()) {
+            Map<PostId, ErrorCode> rejected = votePostUseCase.voteAll(cmd.voterId(), cmd.postVotes());
+            Set<PostId> ids = cmd.postVotes().stream()
+                    .map(PostVoteCommand::postId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            Map<PostId, UpdatePostCountersPort.VoteCounter> posts =
+                    updatePostCountersPort.loadVoteCountersByIds(ids).stream()
+                            .collect(Collectors.toMap(UpdatePostCountersPort.VoteCounter::postId, c -> c));
+            Map<PostId, Integer> myVotes = postVoteRepository.findMyVotesByPostIds(cmd.voterId(), ids).stream()
+                    .collect(Collectors.toMap(MyPostVote::id, MyPostVote::value));
+
+            for (PostId id : ids) {
+                UpdatePostCountersPort.VoteCounter post = posts.get(id);
+                ErrorCode error = rejected.get(id);
+                results.add(Tally.builder()
+                        .targetType("post")
+                        .targetId(id.stringify())
+                        .applied(error == null)
+                        .error(error != null ? error.code() : null)
+                        .upCount(post != null ? post.up() : null)
+                        .downCount(post != null ? post.down() : null)
+                        .myVote(myVotes.getOrDefault(id, 0))
+                        .build());
+            }
+        }
+
+        if (!cmd.commentVotes().isEmpty()) {
+            Map<CommentId, ErrorCode> rejected = voteCommentUseCase.voteAll(cmd.voterId(), cmd.commentVotes());
+            Set<CommentId> ids = cmd.commentVotes().stream()
+                    .map(CommentVoteCommand::commentId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            Map<CommentId, UpdateCommentCountersPort.VoteCounter> comments =
+                    updateCommentCountersPort.loadVoteCountersByIds(ids).stream()
+                            .collect(Collectors.toMap(UpdateCommentCountersPort.VoteCounter::commentId, c -> c));
+            Map<CommentId, Integer> myVotes = commentVoteRepository.findMyVotesByCommentIds(cmd.voterId(), ids).stream()
+                    .collect(Collectors.toMap(MyCommentVote::id, MyCommentVote::value));
+
+            for (CommentId id : ids) {
+                UpdateCommentCountersPort.VoteCounter comment = comments.get(id);
+                ErrorCode error = rejected.get(id);
+                results.add(Tally.builder()
+                        .targetType("comment")
+                        .targetId(id.stringify())
+                        .applied(error == null)
+                        .error(error != null ? error.code() : null)
+                        .upCount(comment != null ? comment.up() : null)
+                        .downCount(comment != null ? comment.down() : null)
+                        .myVote(myVotes.getOrDefault(id, 0))
+                        .build());
+            }
+        }
+
+        return new BatchVoteResponseDTO(results);
+    }
+}
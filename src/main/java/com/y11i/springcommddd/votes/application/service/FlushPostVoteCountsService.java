@@ -0,0 +1,61 @@
+package com.y11i.springcommddd.votes.application.service;
+
+import com.y11i.springcommddd.common.buffer.DeltaFlusher;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.SyncPostRankingPort;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort.VoteCountDelta;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
+import com.y11i.springcommddd.votes.application.port.in.FlushPostVoteCountsUseCase;
+import com.y11i.springcommddd.votes.application.port.out.BufferPostVoteCountPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 투표 집계 write-behind flush.
+ *
+ * <p>
+ * 버퍼에서 꺼낸 증감분을 {@link DeltaFlusher} 로 {@value #CHUNK_SIZE}건씩 한 트랜잭션으로 묶어
+ * 게시글별 UPDATE 한 번으로 반영하고, 같은 트랜잭션에서 기간별 랭킹 / 정렬 인덱스 / 검색 색인 점수를 맞춘다.
+ * 반영에 실패한 묶음은 버퍼에 되돌려 다음 주기에 다시 시도한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class FlushPostVoteCountsService implements FlushPostVoteCountsUseCase {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BufferPostVoteCountPort bufferPostVoteCountPort;
+    private final UpdatePostCountersPort updatePostCountersPort;
+    private final SyncPostRankingPort syncPostRankingPort;
+    private final PostRankingIndexPort postRankingIndexPort;
+    private final PostSearchIndexPort postSearchIndexPort;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flush() {
+        List<VoteCountDelta> deltas = bufferPostVoteCountPort.drain();
+        if (deltas.isEmpty()) return 0;
+
+        return DeltaFlusher.flushInChunks("post vote count", deltas, CHUNK_SIZE,
+                new TransactionTemplate(transactionManager), this::apply,
+                d -> bufferPostVoteCountPort.add(d.postId(), d.up(), d.down()));
+    }
+
+    private void apply(List<VoteCountDelta> chunk) {
+        for (PostScoreSnapshot post : updatePostCountersPort.applyVoteCountDeltas(chunk)) {
+            syncPostRankingPort.sync(post);
+            postRankingIndexPort.update(post);
+            postSearchIndexPort.updateScore(post.postId(), post.score());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.y11i.springcommddd.votes.application.service;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.in.LoadMyVotesUseCase;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort.Target;
+import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
+import com.y11i.springcommddd.votes.domain.MyCommentVote;
+import com.y11i.springcommddd.votes.domain.MyPostVote;
+import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 조회자의 투표값(myVote) 조회 서비스.
+ *
+ * <p><b>조회 순서</b></p>
+ * <ol>
+ *   <li>투표자 필터에 없는 조회자(한 번도 투표하지 않음) → 캐시/DB 조회 없이 빈 결과</li>
+ *   <li>캐시에 있는 대상은 캐시 값 사용</li>
+ *   <li>나머지만 DB 에서 일괄 조회하고, 투표하지 않은 대상은 0 으로 캐시에 채운다</li>
+ * </ol>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MyVoteQueryService implements LoadMyVotesUseCase {
+    private final MyVoteCachePort myVoteCachePort;
+    private final PostVoteRepository postVoteRepository;
+    private final CommentVoteRepository commentVoteRepository;
+
+    @Override
+    public Map<PostId, Integer> myPostVotes(MemberId viewerId, Collection<PostId> postIds) {
+        if (viewerId == null || postIds.isEmpty()) return Map.of();
+
+        Map<UUID, Integer> values = resolve(Target.POST, viewerId, postIds.stream().map(PostId::id).toList(),
+                missing -> {
+                    Map<UUID, Integer> found = new HashMap<>();
+                    List<PostId> ids = missing.stream().map(PostId::new).toList();
+                    for (MyPostVote v : postVoteRepository.findMyVotesByPostIds(viewerId, ids)) {
+                        found.put(v.id().id(), v.value());
+                    }
+                    return found;
+                });
+
+        Map<PostId, Integer> result = new HashMap<>();
+        values.forEach((id, value) -> result.put(new PostId(id), value));
+        return result;
+    }
+
+    @Override
+    public Map<CommentId, Integer> myCommentVotes(MemberId viewerId, Collection<CommentId> commentIds) {
+        if (viewerId == null || commentIds.isEmpty()) return Map.of();
+
+        Map<UUID, Integer> values = resolve(Target.COMMENT, viewerId, commentIds.stream().map(CommentId::id).toList(),
+                missing -> {
+                    Map<UUID, Integer> found = new HashMap<>();
+                    List<CommentId> ids = missing.stream().map(CommentId::new).toList();
+                    for (MyCommentVote v : commentVoteRepository.findMyVotesByCommentIds(viewerId, ids)) {
+                        found.put(v.id().id(), v.value());
+                    }
+                    return found;
+                });
+
+        Map<CommentId, Integer> result = new HashMap<>();
+        values.forEach((id, value) -> result.put(new CommentId(id), value));
+        return result;
+    }
+
+    /**
+     * 캐시 → DB 순으로 투표값을 모은다.
+     *
+     * @param dbLoader 캐시에 없는 대상의 투표값을 DB 에서 읽는다 (투표한 대상만 반환)
+     * @return 투표한 대상(-1 / +1)만 담은 맵
+     */
+    private Map<UUID, Integer> resolve(Target target, MemberId viewerId, List<UUID> targetIds,
+                                       Function<Collection<UUID>, Map<UUID, Integer>> dbLoader) {
+        if (myVoteCachePort.hasNeverVoted(viewerId)) return Map.of();
+
+        Set<UUID> ids = new LinkedHashSet<>(targetIds);
+        Map<UUID, Integer> cached = myVoteCachePort.getAll(target, viewerId, ids);
+
+        Map<UUID, Integer> result = new HashMap<>();
+        cached.forEach((id, value) -> {
+            if (value != 0) result.put(id, value);
+        });
+
+        ids.removeAll(cached.keySet());
+        if (ids.isEmpty()) return result;
+
+        Map<UUID, Integer> loaded = dbLoader.apply(ids);
+        result.putAll(loaded);
+
+        // 투표하지 않은 대상도 0 으로 채워 다음 조회에서 DB 를 다시 읽지 않도록 한다.
+        Map<UUID, Integer> fill = new HashMap<>();
+        ids.forEach(id -> fill.put(id, loaded.getOrDefault(id, 0)));
+        myVoteCachePort.fill(target, viewerId, fill);
+
+        return result;
+    }
+}
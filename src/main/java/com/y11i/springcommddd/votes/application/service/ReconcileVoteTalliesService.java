@@ -0,0 +1,295 @@
+package com.y11i.springcommddd.votes.application.service;
+
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.communities.domain.CommunityId;
+import com.y11i.springcommddd.posts.application.port.out.BufferPostCommentCountPort;
+import com.y11i.springcommddd.posts.application.port.out.LoadCommentCountPort;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.SyncPostRankingPort;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.in.ReconcileVoteTalliesUseCase;
+import com.y11i.springcommddd.votes.application.port.out.BufferPostVoteCountPort;
+import com.y11i.springcommddd.votes.application.port.out.CountVotesPort;
+import com.y11i.springcommddd.votes.application.port.out.CountVotesPort.VoteCount;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 집계 대사(reconciliation) 서비스.
+ *
+ * <p><b>동작</b></p>
+ * <ol>
+ *   <li>게시글(→ 댓글)을 ID 순 키셋으로 {@code votes.reconcile.chunk-size} 건씩 읽는다.</li>
+ *   <li>묶음의 대상들에 대해 투표 테이블을 GROUP BY 한 번으로 다시 센다.</li>
+ *   <li>저장된 값과 다른 대상만, 읽은 값이 그대로일 때만 바꾸는 조건부 UPDATE 로 바로잡는다.
+ *       (그 사이 투표가 반영됐으면 건너뛰고 다음 대사에 맡긴다)</li>
+ *   <li>묶음 사이에 {@code votes.reconcile.pause-ms} 만큼 쉬어 운영 중 DB 부하를 제한한다.</li>
+ * </ol>
+ *
+ * <p>
+ * write-behind 버퍼에 반영 대기 중인 증감분이 있는 게시글은 건너뛴다.
+ * (투표 행은 이미 반영됐지만 집계는 아직이므로 어긋나 보이는 것이 정상)
+ * 이 노드의 버퍼만으로는 다른 노드의 버퍼나 꺼내져 UPDATE 직전인 증감분을 알 수 없으므로,
+ * write-behind 모드에서는 어긋난 게시글을 {@code votes.reconcile.settle-ms} 동안 기다렸다가 다시 읽어
+ * 저장된 값과 투표 행 수가 둘 다 그대로인 게시글만 바로잡는다.
+ * 그 사이 flush 된 증감분은 저장된 값을, 새 투표는 투표 행 수를 바꾸므로 걸러지고,
+ * 끝내 반영되지 않은 증감분(노드 장애로 잃은 버퍼)만 투표 행 기준으로 복구된다.
+ * 바로잡기는 다시 읽은 값에 대한 조건부 UPDATE(compare-and-set)이다.
+ * </p>
+ *
+ * <p>
+ * 같은 게시글 묶음의 댓글 수({@code comment_count})도 보이는 댓글 행 수와 맞춰 본다.
+ * 댓글 수는 항상 write-behind 버퍼를 거치므로 어긋난 게시글은 늘 {@code votes.reconcile.settle-ms} 만큼 기다렸다가
+ * 저장된 값과 댓글 행 수가 둘 다 그대로인 것만 조건부 UPDATE 로 바로잡는다.
+ * (노드 장애로 flush 되지 못한 댓글 수 증감분을 복구한다)
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconcileVoteTalliesService implements ReconcileVoteTalliesUseCase {
+
+    private static final VoteCount NO_VOTES = new VoteCount(0, 0);
+
+    private final UpdatePostCountersPort updatePostCountersPort;
+    private final UpdateCommentCountersPort updateCommentCountersPort;
+    private final CountVotesPort countVotesPort;
+    private final BufferPostVoteCountPort bufferPostVoteCountPort;
+    private final LoadCommentCountPort loadCommentCountPort;
+    private final BufferPostCommentCountPort bufferPostCommentCountPort;
+    private final SyncPostRankingPort syncPostRankingPort;
+    private final PostRankingIndexPort postRankingIndexPort;
+    private final PostSearchIndexPort postSearchIndexPort;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 한 번에 읽고 다시 세는 대상 수 */
+    @Value("${votes.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    /** 묶음 사이 대기 시간 */
+    @Value("${votes.reconcile.pause-ms:200}")
+    private long pauseMs;
+
+    /** write-behind 모드에서 어긋난 게시글을 다시 읽기 전에 기다리는 시간 (flush 주기보다 충분히 길게) */
+    @Value("${votes.reconcile.settle-ms:10000}")
+    private long settleMs;
+
+    @Value("${votes.post-counter.write-behind:false}")
+    private boolean writeBehind;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Result reconcileAll() {
+        return reconcile(null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Result reconcileCommunity(CommunityId communityId) {
+        return reconcile(communityId);
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------------------------
+
+    private Result reconcile(@Nullable CommunityId communityId) {
+        long[] posts = reconcilePosts(communityId);
+        long[] comments = Thread.currentThread().isInterrupted() ? new long[2] : reconcileComments(communityId);
+        Result result = new Result(posts[0], posts[1], posts[2], comments[0], comments[1]);
+        log.info("vote tally reconciliation finished (community={}): {}",
+                communityId != null ? communityId.stringify() : "ALL", result);
+        return result;
+    }
+
+    /**
+     * @return {확인한 수, 투표 수를 바로잡은 수, 댓글 수를 바로잡은 수}
+     */
+    private long[] reconcilePosts(@Nullable CommunityId communityId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long scanned = 0;
+        long repaired = 0;
+        long commentCountsRepaired = 0;
+        PostId after = null;
+        while (true) {
+            List<UpdatePostCountersPort.VoteCounter> chunk =
+                    updatePostCountersPort.loadVoteCounters(communityId, after, chunkSize);
+            if (chunk.isEmpty()) break;
+            scanned += chunk.size();
+
+            List<PostId> ids = chunk.stream().map(UpdatePostCountersPort.VoteCounter::postId).toList();
+            Map<PostId, VoteCount> actual = countVotesPort.countPostVotes(ids);
+            List<UpdatePostCountersPort.VoteCounter> drifted = chunk.stream()
+                    .filter(c -> !matches(c.up(), c.down(), actual.getOrDefault(c.postId(), NO_VOTES)))
+                    .filter(c -> !bufferPostVoteCountPort.hasPending(c.postId()))
+                    .toList();
+            Map<PostId, Integer> storedComments = updatePostCountersPort.loadCommentCounts(ids);
+            Map<PostId, Integer> visibleComments = loadCommentCountPort.countVisibleByPostIds(ids);
+            List<PostId> commentDrifted = ids.stream()
+                    .filter(id -> !storedComments.getOrDefault(id, 0).equals(visibleComments.getOrDefault(id, 0)))
+                    .filter(id -> !bufferPostCommentCountPort.hasPending(id))
+                    .toList();
+
+            boolean settleVotes = writeBehind && !drifted.isEmpty();
+            if ((settleVotes || !commentDrifted.isEmpty()) && !pause(settleMs)) break;
+
+            List<UpdatePostCountersPort.VoteCounter> repairable = settleVotes ? settled(drifted, actual) : drifted;
+            if (!repairable.isEmpty()) {
+                Integer fixed = tx.execute(status -> repairPosts(repairable, actual));
+                repaired += fixed == null ? 0 : fixed;
+            }
+            List<PostId> commentRepairable = commentDrifted.isEmpty()
+                    ? List.of() : settledCommentCounts(commentDrifted, storedComments, visibleComments);
+            if (!commentRepairable.isEmpty()) {
+                Integer fixed = tx.execute(status ->
+                        repairCommentCounts(commentRepairable, storedComments, visibleComments));
+                commentCountsRepaired += fixed == null ? 0 : fixed;
+            }
+
+            if (chunk.size() < chunkSize || !pause()) break;
+            after = chunk.get(chunk.size() - 1).postId();
+        }
+        return new long[] {scanned, repaired, commentCountsRepaired};
+    }
+
+    /**
+     * ({@code settleMs} 만큼 기다린 뒤) 저장된 값과 투표 행 수를 다시 읽어, 둘 다 처음 읽은 값과 같은 게시글만 남긴다.
+     * (다른 노드 버퍼에 있거나 반영 중이던 증감분이 있었다면 그 사이 저장된 값이 바뀐다)
+     */
+    private List<UpdatePostCountersPort.VoteCounter> settled(List<UpdatePostCountersPort.VoteCounter> drifted,
+                                                             Map<PostId, VoteCount> actual) {
+        List<PostId> ids = drifted.stream().map(UpdatePostCountersPort.VoteCounter::postId).toList();
+        Map<PostId, UpdatePostCountersPort.VoteCounter> stored = updatePostCountersPort.loadVoteCountersByIds(ids).stream()
+                .collect(Collectors.toMap(UpdatePostCountersPort.VoteCounter::postId, c -> c));
+        Map<PostId, VoteCount> recounted = countVotesPort.countPostVotes(ids);
+        return drifted.stream()
+                .filter(c -> c.equals(stored.get(c.postId())))
+                .filter(c -> actual.getOrDefault(c.postId(), NO_VOTES).equals(recounted.getOrDefault(c.postId(), NO_VOTES)))
+                .toList();
+    }
+
+    private int repairPosts(List<UpdatePostCountersPort.VoteCounter> drifted, Map<PostId, VoteCount> actual) {
+        int repaired = 0;
+        for (UpdatePostCountersPort.VoteCounter c : drifted) {
+            VoteCount count = actual.getOrDefault(c.postId(), NO_VOTES);
+            var saved = updatePostCountersPort.replaceVoteCounts(c.postId(), c.up(), c.down(), count.up(), count.down());
+            if (saved.isEmpty()) continue;
+
+            log.debug("post {} vote counts repaired: {}/{} -> {}/{}",
+                    c.postId().stringify(), c.up(), c.down(), count.up(), count.down());
+            syncPostRankingPort.sync(saved.get());
+            postRankingIndexPort.update(saved.get());
+            postSearchIndexPort.updateScore(c.postId(), saved.get().score());
+            repaired++;
+        }
+        return repaired;
+    }
+
+    /**
+     * {@link #settled} 의 댓글 수 버전. 저장된 댓글 수와 보이는 댓글 행 수가 둘 다 처음 읽은 값과 같은 게시글만 남긴다.
+     */
+    private List<PostId> settledCommentCounts(List<PostId> drifted,
+                                              Map<PostId, Integer> stored,
+                                              Map<PostId, Integer> visible) {
+        Map<PostId, Integer> restored = updatePostCountersPort.loadCommentCounts(drifted);
+        Map<PostId, Integer> recounted = loadCommentCountPort.countVisibleByPostIds(drifted);
+        return drifted.stream()
+                .filter(id -> stored.get(id) != null && stored.get(id).equals(restored.get(id)))
+                .filter(id -> visible.getOrDefault(id, 0).equals(recounted.getOrDefault(id, 0)))
+                .toList();
+    }
+
+    private int repairCommentCounts(List<PostId> drifted, Map<PostId, Integer> stored, Map<PostId, Integer> visible) {
+        int repaired = 0;
+        for (PostId postId : drifted) {
+            int expected = stored.get(postId);
+            int count = visible.getOrDefault(postId, 0);
+            if (!updatePostCountersPort.replaceCommentCount(postId, expected, count)) continue;
+
+            log.debug("post {} comment count repaired: {} -> {}", postId.stringify(), expected, count);
+            repaired++;
+        }
+        return repaired;
+    }
+
+    /**
+     * @return {확인한 수, 바로잡은 수}
+     */
+    private long[] reconcileComments(@Nullable CommunityId communityId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long scanned = 0;
+        long repaired = 0;
+        CommentId after = null;
+        while (true) {
+            List<UpdateCommentCountersPort.VoteCounter> chunk =
+                    updateCommentCountersPort.loadVoteCounters(communityId, after, chunkSize);
+            if (chunk.isEmpty()) break;
+            scanned += chunk.size();
+
+            Map<CommentId, VoteCount> actual = countVotesPort.countCommentVotes(
+                    chunk.stream().map(UpdateCommentCountersPort.VoteCounter::commentId).toList());
+            List<UpdateCommentCountersPort.VoteCounter> drifted = chunk.stream()
+                    .filter(c -> !matches(c.up(), c.down(), actual.getOrDefault(c.commentId(), NO_VOTES)))
+                    .toList();
+            if (!drifted.isEmpty()) {
+                Integer fixed = tx.execute(status -> {
+                    int n = 0;
+                    for (UpdateCommentCountersPort.VoteCounter c : drifted) {
+                        VoteCount count = actual.getOrDefault(c.commentId(), NO_VOTES);
+                        if (updateCommentCountersPort.replaceVoteCounts(
+                                c.commentId(), c.up(), c.down(), count.up(), count.down())) {
+                            log.debug("comment {} vote counts repaired: {}/{} -> {}/{}",
+                                    c.commentId().stringify(), c.up(), c.down(), count.up(), count.down());
+                            n++;
+                        }
+                    }
+                    return n;
+                });
+                repaired += fixed == null ? 0 : fixed;
+            }
+
+            if (chunk.size() < chunkSize || !pause()) break;
+            after = chunk.get(chunk.size() - 1).commentId();
+        }
+        return new long[] {scanned, repaired};
+    }
+
+    private static boolean matches(int up, int down, VoteCount actual) {
+        return up == actual.up() && down == actual.down();
+    }
+
+    /**
+     * 묶음 사이에 쉰다.
+     *
+     * @return 계속 진행해도 되면 true (인터럽트되면 false)
+     */
+    private boolean pause() {
+        return pause(pauseMs);
+    }
+
+    private boolean pause(long millis) {
+        if (millis <= 0) return true;
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("vote tally reconciliation interrupted");
+            return false;
+        }
+    }
+}
@@ -1,29 +1,41 @@
 package com.y11i.springcommddd.votes.application.service;
 
+import com.y11i.springcommddd.comments.application.port.out.CommentTreeCachePort;
 import com.y11i.springcommddd.comments.application.port.out.LoadCommentPort;
-import com.y11i.springcommddd.comments.application.port.out.SaveCommentPort;
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort;
+import com.y11i.springcommddd.comments.application.port.out.UpdateCommentCountersPort.VoteTally;
 import com.y11i.springcommddd.comments.domain.Comment;
 import com.y11i.springcommddd.comments.domain.CommentId;
 import com.y11i.springcommddd.comments.domain.exception.CommentNotFound;
+import com.y11i.springcommddd.common.api.ErrorCode;
+import com.y11i.springcommddd.common.exception.BaseException;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.votes.application.port.in.VoteCommentUseCase;
-import com.y11i.springcommddd.votes.domain.CommentVote;
-import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
+import com.y11i.springcommddd.votes.application.port.out.CastVotePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort.Target;
+import com.y11i.springcommddd.votes.domain.VoteChange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class VoteCommentService implements VoteCommentUseCase {
-    private final CommentVoteRepository commentVoteRepository;
+    private final CastVotePort castVotePort;
     private final LoadCommentPort loadCommentPort;
-    private final SaveCommentPort saveCommentPort;
+    private final UpdateCommentCountersPort updateCommentCountersPort;
+    private final MyVoteCachePort myVoteCachePort;
+    private final CommentTreeCachePort commentTreeCachePort;
 
     // ----------------------------------------------------------------------
     // Public API
@@ -83,58 +95,107 @@ public class VoteCommentService implements VoteCommentUseCase {
         applyVote(commentId, voterId, 0);
     }
 
+    /**
+     * 여러 댓글 투표를 요청 순서대로 반영한다.
+     *
+     * <p>
+     * 대상 댓글은 한 번에 로드해 검증하고, 같은 댓글에 대한 여러 투표는
+     * 투표 행에는 순서대로 반영하되 집계 증감분은 합쳐서 댓글당 한 번만 갱신한다.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public Map<CommentId, ErrorCode> voteAll(MemberId voterId, List<CommentVoteCommand> votes) {
+        votes.forEach(v -> ensureDesired(v.desired()));
+
+        // 1. 대상 댓글 일괄 로드 + 검증
+        Set<CommentId> targetIds = votes.stream().map(CommentVoteCommand::commentId).collect(Collectors.toSet());
+        Map<CommentId, Comment> comments = loadCommentPort.loadAllByIds(targetIds).stream()
+                .collect(Collectors.toMap(Comment::commentId, c -> c));
+
+        Map<CommentId, ErrorCode> rejected = new LinkedHashMap<>();
+        for (CommentId id : targetIds) {
+            Comment comment = comments.get(id);
+            if (comment == null) {
+                rejected.put(id, ErrorCode.COMMENT_NOT_FOUND);
+                continue;
+            }
+            try {
+                comment.ensureNotDeleted("You cannot vote on deleted comment");
+            } catch (BaseException e) {
+                rejected.put(id, e.getErrorCode());
+            }
+        }
+
+        // 2. 투표 행 반영 (요청 순서대로) + 댓글별 증감분 합산
+        Map<CommentId, int[]> deltas = new LinkedHashMap<>();
+        for (CommentVoteCommand vote : votes) {
+            if (rejected.containsKey(vote.commentId())) continue;
+            VoteChange change = castVotePort.castCommentVote(vote.commentId(), voterId, vote.desired());
+            if (!change.changed()) continue;
+            myVoteCachePort.record(Target.COMMENT, voterId, vote.commentId().id(), change.newValue());
+            int[] sum = deltas.computeIfAbsent(vote.commentId(), id -> new int[2]);
+            sum[0] += change.upDelta();
+            sum[1] += change.downDelta();
+        }
+
+        // 3. 집계값 갱신 (댓글당 한 번) + 트리 캐시 노드 갱신
+        deltas.forEach((commentId, sum) -> {
+            if (sum[0] == 0 && sum[1] == 0) return;
+            updateCommentCountersPort.addVoteCounts(commentId, sum[0], sum[1]).ifPresentOrElse(
+                    tally -> patchTreeCache(tally, sum[0], sum[1]),
+                    () -> loadVotableComment(commentId) // 검증 이후 삭제된 경우 — 예외로 일괄 투표 전체를 롤백
+            );
+        });
+
+        return rejected;
+    }
+
     // ----------------------------------------------------------------------
     // 내부 헬퍼
     // ----------------------------------------------------------------------
     private void applyVote(CommentId commentId, MemberId voterId, int desired) {
-        if (desired != -1 && desired != 0 && desired != 1) {
-            log.error("desired vote must be -1, 0, or 1");
-            throw new IllegalArgumentException("desired vote must be -1, 0, or 1");
-        }
+        ensureDesired(desired);
 
-        // 1. 댓글 로드
-        Comment comment = loadCommentPort.loadById(commentId).orElseThrow(() -> new CommentNotFound("Comment not found"));
-        // 2. comment가 visible이어야만 투표가능
-        comment.ensureNotDeleted("You cannot vote on deleted comment");
-        // 3. 기존 투표 조회
-        Optional<CommentVote> existingOpt = commentVoteRepository.findByCommentIdAndVoterId(commentId, voterId);
-        int oldValue = existingOpt.map(CommentVote::value).orElse(0);
-
-        // 4. 새 값 결정(toggle)
-        int newValue = decideNewValue(oldValue, desired);
-
-        // CommentVote agg 처리
-        if(oldValue == 0 && newValue != 0) {
-            // 새 투표 생성
-            CommentVote vote = CommentVote.cast(commentId, voterId, newValue);
-            commentVoteRepository.save(vote);
-        } else if (oldValue != 0 && newValue == 0) {
-            // 투표 취소(삭제)
-            existingOpt.ifPresent(commentVoteRepository::delete);
-        } else if (oldValue != 0 && newValue != 0) {
-            // 방향 변경
-            CommentVote existing = existingOpt.orElseThrow();
-            existing.setValue(newValue);
-            commentVoteRepository.save(existing);
+        // 1. 투표 행 반영 (토글 규칙, 기존 투표 조회 없이 upsert/delete 한 번으로)
+        VoteChange change = castVotePort.castCommentVote(commentId, voterId, desired);
+        if (!change.changed()) {
+            // 변화가 없어도 대상 댓글에 대한 검증 결과는 동일하게 돌려준다.
+            loadVotableComment(commentId);
+            return;
         }
 
-        // 게시글 집계값 갱신
-        comment.applyVoteDelta(oldValue, newValue);
+        // 2. 댓글 집계값 갱신 — 댓글을 로드하지 않고 VISIBLE 인 경우에만 증감분을 더한다.
+        //    반영되지 않았다면(없음/삭제됨) 원인에 맞는 예외를 던져 투표 변경까지 롤백한다.
+        updateCommentCountersPort.addVoteCounts(commentId, change.upDelta(), change.downDelta()).ifPresentOrElse(
+                tally -> patchTreeCache(tally, change.upDelta(), change.downDelta()),
+                () -> loadVotableComment(commentId)
+        );
+        myVoteCachePort.record(Target.COMMENT, voterId, commentId.id(), change.newValue());
+    }
 
-        saveCommentPort.save(comment);
+    /**
+     * 게시글 댓글 트리 캐시에서 해당 노드의 추천/비추천 수에 증감분만 더한다. (커밋 이후 반영)
+     * 반영 후 값 대신 증감분을 보내 동시에 커밋된 투표의 patch 가 서로를 덮어쓰지 않게 한다.
+     */
+    private void patchTreeCache(VoteTally tally, int upDelta, int downDelta) {
+        commentTreeCachePort.updateVotes(tally.postId(), tally.commentId(), upDelta, downDelta);
     }
 
-    private int decideNewValue(int oldValue, int desired) {
-        if (desired == 0) {
-            return 0; // 무조건 취소
-        }
+    /**
+     * 투표 가능한(존재하고 삭제되지 않은) 댓글을 로드한다.
+     */
+    private Comment loadVotableComment(CommentId commentId) {
+        Comment comment = loadCommentPort.loadById(commentId).orElseThrow(() -> new CommentNotFound("Comment not found"));
+        // comment가 visible이어야만 투표가능
+        comment.ensureNotDeleted("You cannot vote on deleted comment");
+        return comment;
+    }
 
-        if (desired == 1) {
-            // upvote 요청
-            return (oldValue == 1) ? 0 : 1;
-        } else { // desired == -1
-            // downvote 요청
-            return (oldValue == -1) ? 0 : -1;
+    private static void ensureDesired(int desired) {
+        if (desired != -1 && desired != 0 && desired != 1) {
+            log.error("desired vote must be -1, 0, or 1");
+            throw new IllegalArgumentException("desired vote must be -1, 0, or 1");
         }
     }
 }
@@ -1,27 +1,59 @@
 package com.y11i.springcommddd.votes.application.service;
 
+import com.y11i.springcommddd.common.api.ErrorCode;
+import com.y11i.springcommddd.common.exception.BaseException;
 import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.application.port.out.LoadPostPort;
-import com.y11i.springcommddd.posts.application.port.out.SavePostPort;
-import com.y11i.springcommddd.posts.domain.Post;
+import com.y11i.springcommddd.posts.application.port.out.PostRankingIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.PostSearchIndexPort;
+import com.y11i.springcommddd.posts.application.port.out.SyncPostRankingPort;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort.VoteCountDelta;
+import com.y11i.springcommddd.posts.domain.PostScoreSnapshot;
 import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.posts.domain.PostRef;
 import com.y11i.springcommddd.posts.domain.exception.PostNotFound;
 import com.y11i.springcommddd.votes.application.port.in.VotePostUseCase;
-import com.y11i.springcommddd.votes.domain.PostVote;
-import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import com.y11i.springcommddd.votes.application.port.out.BufferPostVoteCountPort;
+import com.y11i.springcommddd.votes.application.port.out.CastVotePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort.Target;
+import com.y11i.springcommddd.votes.domain.VoteChange;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class VotePostService implements VotePostUseCase {
-    private final PostVoteRepository postVoteRepository;
+    private final CastVotePort castVotePort;
     private final LoadPostPort loadPostPort;
-    private final SavePostPort savePostPort;
+    private final UpdatePostCountersPort updatePostCountersPort;
+    private final SyncPostRankingPort syncPostRankingPort;
+    private final PostRankingIndexPort postRankingIndexPort;
+    private final PostSearchIndexPort postSearchIndexPort;
+    private final BufferPostVoteCountPort bufferPostVoteCountPort;
+    private final MyVoteCachePort myVoteCachePort;
+
+    /**
+     * 게시글 집계 반영 방식.
+     * false(기본) 면 투표마다 게시글 집계 컬럼을 바로 갱신하고, true 면 증감분을 버퍼에 모아 주기적으로 반영한다.
+     * <p>
+     * true 일 때 버퍼는 노드 메모리에만 있으므로, flush 전에 노드가 죽거나 종료 시 flush({@code @PreDestroy})를 거치지 못하면
+     * 그 사이의 증감분은 집계 컬럼에 반영되지 않는다. (투표 행은 이미 커밋돼 있음)
+     * 이렇게 어긋난 집계는 투표 집계 대사({@code votes.reconcile.cron})가 투표 행 기준으로 복구한다.
+     * </p>
+     */
+    @Value("${votes.post-counter.write-behind:false}")
+    private boolean writeBehind;
 
     // ----------------------------------------------------------------------
     // Public API
@@ -80,6 +112,59 @@ public class VotePostService implements VotePostUseCase {
         applyVote(postId, voterId, 0);
     }
 
+    /**
+     * 여러 게시글 투표를 요청 순서대로 반영한다.
+     *
+     * <p>
+     * 대상 게시글은 한 번에 로드해 검증하고, 같은 게시글에 대한 여러 투표는
+     * 투표 행에는 순서대로 반영하되 집계 증감분은 합쳐서 게시글당 한 번만 갱신한다.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public Map<PostId, ErrorCode> voteAll(MemberId voterId, List<PostVoteCommand> votes) {
+        votes.forEach(v -> ensureDesired(v.desired()));
+
+        // 1. 대상 게시글 일괄 로드 + 검증
+        Set<PostId> targetIds = votes.stream().map(PostVoteCommand::postId).collect(Collectors.toSet());
+        Map<PostId, PostRef> posts = loadPostPort.loadRefsByIds(targetIds).stream()
+                .collect(Collectors.toMap(PostRef::postId, p -> p));
+
+        Map<PostId, ErrorCode> rejected = new LinkedHashMap<>();
+        for (PostId id : targetIds) {
+            PostRef post = posts.get(id);
+            if (post == null) {
+                rejected.put(id, ErrorCode.POST_NOT_FOUND);
+                continue;
+            }
+            try {
+                post.ensureVotable();
+            } catch (BaseException e) {
+                rejected.put(id, e.getErrorCode());
+            }
+        }
+
+        // 2. 투표 행 반영 (요청 순서대로) + 게시글별 증감분 합산
+        Map<PostId, int[]> deltas = new LinkedHashMap<>();
+        for (PostVoteCommand vote : votes) {
+            if (rejected.containsKey(vote.postId())) continue;
+            VoteChange change = castVotePort.castPostVote(vote.postId(), voterId, vote.desired());
+            if (!change.changed()) continue;
+            myVoteCachePort.record(Target.POST, voterId, vote.postId().id(), change.newValue());
+            int[] sum = deltas.computeIfAbsent(vote.postId(), id -> new int[2]);
+            sum[0] += change.upDelta();
+            sum[1] += change.downDelta();
+        }
+
+        // 3. 집계값 갱신 (게시글당 한 번)
+        applyCounts(deltas.entrySet().stream()
+                .map(e -> new VoteCountDelta(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .filter(d -> d.up() != 0 || d.down() != 0)
+                .toList());
+
+        return rejected;
+    }
+
     // ----------------------------------------------------------------------
     // 내부 헬퍼
     // ----------------------------------------------------------------------
@@ -91,78 +176,48 @@ public class VotePostService implements VotePostUseCase {
      * @param desired  의도한 방향: +1(up), -1(down), 0(cancel)
      */
     private void applyVote(PostId postId, MemberId voterId, int desired) {
-        if (desired != -1 && desired != 0 && desired != 1) {
-            throw new IllegalArgumentException("desired vote must be -1, 0, or 1");
-        }
+        ensureDesired(desired);
 
-        // 1. 게시글 로드 (없으면 예외)
-        Post post = loadPostPort.loadById(postId)
+        // 1. 게시글 참조 로드 (없으면 예외, 본문은 읽지 않음)
+        PostRef post = loadPostPort.loadRefById(postId)
                 .orElseThrow(() -> new PostNotFound("Post not found"));
 
         // Post의 status가 PUBLISHED인 경우에만 투표를 할 수 있다.
         post.ensureVotable();
 
-        // 2. 기존 투표 조회
-        Optional<PostVote> existingOpt = postVoteRepository.findByPostIdAndVoterId(postId, voterId);
-        int oldValue = existingOpt.map(PostVote::value).orElse(0);
-
-        // 3. 새 값 결정 (toggle 규칙 적용)
-        int newValue = decideNewValue(oldValue, desired);
-
-        // 4. PostVote 애그리게잇 처리 (생성/변경/삭제)
-        if (oldValue == 0 && newValue != 0) {
-            // 새 투표 생성
-            PostVote vote = PostVote.cast(postId, voterId, newValue);
-            postVoteRepository.save(vote);
-        } else if (oldValue != 0 && newValue == 0) {
-            // 투표 취소(삭제)
-            existingOpt.ifPresent(postVoteRepository::delete);
-        } else if (oldValue != 0 && newValue != 0) {
-            // 방향 변경 (+1 ↔ -1)
-            PostVote existing = existingOpt.orElseThrow(); // oldValue != 0이면 반드시 존재
-            existing.setValue(newValue);
-            postVoteRepository.save(existing);
-        }
-        // old == new == 0 인 경우: 아무 변화 없음
-
-        // 5. 게시글 집계값 갱신
-        post.applyVoteDelta(oldValue, newValue);
+        // 2. 투표 행 반영 (토글 규칙, 기존 투표 조회 없이 upsert/delete 한 번으로)
+        VoteChange change = castVotePort.castPostVote(postId, voterId, desired);
+        if (!change.changed()) return;
+        myVoteCachePort.record(Target.POST, voterId, postId.id(), change.newValue());
 
-        // 6. 저장
-        savePostPort.save(post);
+        // 3. 게시글 집계값 갱신
+        applyCounts(List.of(new VoteCountDelta(postId, change.upDelta(), change.downDelta())));
     }
 
     /**
-     * 기존 투표값과 사용자의 의도(desired)로부터 실제 적용될 newValue를 결정한다.
-     *
-     * <p>규칙:</p>
-     * <ul>
-     *     <li>desired = +1 (upvote):</li>
-     *     <ul>
-     *         <li>old = +1 → 0 (토글: 추천 취소)</li>
-     *         <li>old = 0  → +1</li>
-     *         <li>old = -1 → +1 (비추천 → 추천)</li>
-     *     </ul>
-     *     <li>desired = -1 (downvote):</li>
-     *     <ul>
-     *         <li>old = -1 → 0 (토글: 비추천 취소)</li>
-     *         <li>old = 0  → -1</li>
-     *         <li>old = +1 → -1 (추천 → 비추천)</li>
-     *     </ul>
-     *     <li>desired = 0 (cancel): 항상 0</li>
-     * </ul>
+     * 게시글 집계값에 증감분을 더하고 랭킹 / 정렬 인덱스 / 검색 색인 점수를 맞춘다.
+     * (애그리게잇 저장 없이 증감분만 더한다 — 버전 충돌 없음)
      */
-    private int decideNewValue(int oldValue, int desired) {
-        if (desired == 0) {
-            return 0; // 무조건 취소
+    private void applyCounts(List<VoteCountDelta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        if (writeBehind) {
+            // write-behind: 증감분만 버퍼에 더하고, flush 가 모아서 반영한다.
+            deltas.forEach(d -> bufferPostVoteCountPort.add(d.postId(), d.up(), d.down()));
+            return;
+        }
+
+        // 기간별 top 랭킹 / 정렬 인덱스 / 검색 색인 점수 반영
+        for (PostScoreSnapshot saved : updatePostCountersPort.applyVoteCountDeltas(deltas)) {
+            syncPostRankingPort.sync(saved);
+            postRankingIndexPort.update(saved);
+            postSearchIndexPort.updateScore(saved.postId(), saved.score());
         }
+    }
 
-        if (desired == 1) {
-            // upvote 요청
-            return (oldValue == 1) ? 0 : 1;
-        } else { // desired == -1
-            // downvote 요청
-            return (oldValue == -1) ? 0 : -1;
+    private static void ensureDesired(int desired) {
+        if (desired != -1 && desired != 0 && desired != 1) {
+            throw new IllegalArgumentException("desired vote must be -1, 0, or 1");
         }
     }
 }
@@ -20,6 +20,7 @@ import java.util.Optional;
  *     <li>투표 정보의 생성 및 수정</li>
  *     <li>댓글 ID와 투표자 ID로 단건 조회</li>
  *     <li>투표 삭제(취소)</li>
+ *     <li>물리 삭제되는 댓글의 투표 일괄 삭제</li>
  * </ul>
  *
  * <p>
@@ -60,4 +61,12 @@ public interface CommentVoteRepository {
      * @return 존재하는 항목만 반환(미투표 대상은 없음). 각 항목은 -1 또는 +1을 가짐.
      */
     List<MyCommentVote> findMyVotesByCommentIds(MemberId voterId, Collection<CommentId> commentIds);
+
+    /**
+     * 주어진 댓글들의 투표를 모두 삭제합니다. (댓글을 물리 삭제할 때 함께 호출)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 삭제된 투표 수
+     */
+    int deleteAllByCommentIds(Collection<CommentId> commentIds);
 }
@@ -0,0 +1,67 @@
+package com.y11i.springcommddd.votes.domain;
+
+import com.y11i.springcommddd.shared.domain.ValueObject;
+import com.y11i.springcommddd.votes.domain.exception.InvalidVoteValue;
+
+/**
+ * 투표 한 번으로 생긴 변화(이전 값 → 새 값).
+ *
+ * <p>
+ * 값 ∈ {-1, 0, 1} 이며 0 은 "투표 없음"을 뜻한다.
+ * 집계 컬럼에 더할 증감분({@link #upDelta()}, {@link #downDelta()})을 함께 제공한다.
+ * </p>
+ *
+ * @param oldValue 이전 투표값
+ * @param newValue 새 투표값
+ */
+public record VoteChange(int oldValue, int newValue) implements ValueObject {
+
+    public VoteChange {
+        if (oldValue < -1 || oldValue > 1 || newValue < -1 || newValue > 1) {
+            throw new InvalidVoteValue("vote must be -1, 0, or 1");
+        }
+    }
+
+    /**
+     * 기존 투표값과 사용자의 의도(desired)로부터 실제 적용될 새 값을 결정한다.
+     *
+     * <p>규칙:</p>
+     * <ul>
+     *     <li>desired = +1 (upvote):</li>
+     *     <ul>
+     *         <li>old = +1 → 0 (토글: 추천 취소)</li>
+     *         <li>old = 0  → +1</li>
+     *         <li>old = -1 → +1 (비추천 → 추천)</li>
+     *     </ul>
+     *     <li>desired = -1 (downvote):</li>
+     *     <ul>
+     *         <li>old = -1 → 0 (토글: 비추천 취소)</li>
+     *         <li>old = 0  → -1</li>
+     *         <li>old = +1 → -1 (추천 → 비추천)</li>
+     *     </ul>
+     *     <li>desired = 0 (cancel): 항상 0</li>
+     * </ul>
+     */
+    public static VoteChange decide(int oldValue, int desired) {
+        if (desired == 0) {
+            return new VoteChange(oldValue, 0); // 무조건 취소
+        }
+        // 같은 방향을 다시 누르면 취소, 아니면 그 방향으로
+        return new VoteChange(oldValue, (oldValue == desired) ? 0 : desired);
+    }
+
+    /** 값이 바뀌었는지 여부 */
+    public boolean changed() {
+        return oldValue != newValue;
+    }
+
+    /** 추천 수 증감 */
+    public int upDelta() {
+        return (newValue == 1 ? 1 : 0) - (oldValue == 1 ? 1 : 0);
+    }
+
+    /** 비추천 수 증감 */
+    public int downDelta() {
+        return (newValue == -1 ? 1 : 0) - (oldValue == -1 ? 1 : 0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.y11i.springcommddd.votes.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 일괄 투표 요청.
+ *
+ * <p>
+ * 항목은 요청 순서대로 반영되며, 같은 대상이 여러 번 나오면 토글 규칙이 순서대로 적용된다.
+ * </p>
+ */
+public record BatchVoteRequestDTO(
+        @NotEmpty
+        @Size(max = 100)
+        List<@Valid @NotNull Item> votes
+) {
+    /**
+     * @param targetType 대상 종류 ("post" / "comment")
+     * @param targetId   대상 ID (UUID 문자열)
+     * @param direction  방향 ("up" / "down" / "cancel")
+     */
+    public record Item(
+            @NotNull
+            @Pattern(regexp = "post|comment", message = "targetType must be post or comment")
+            String targetType,
+
+            @NotNull
+            @Pattern(
+                    regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+                    message = "targetId must be a UUID string"
+            )
+            String targetId,
+
+            @NotNull
+            @Pattern(regexp = "up|down|cancel", message = "direction must be up, down or cancel")
+            String direction
+    ) {}
+}
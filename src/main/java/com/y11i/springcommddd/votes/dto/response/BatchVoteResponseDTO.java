@@ -0,0 +1,40 @@
+package com.y11i.springcommddd.votes.dto.response;
+
+import jakarta.annotation.Nullable;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 일괄 투표 결과.
+ *
+ * <p>
+ * 요청에 나온 대상마다 한 항목(게시글 → 댓글 순, 각 종류 안에서는 요청 순서)을 돌려준다.
+ * </p>
+ */
+public record BatchVoteResponseDTO(List<Tally> results) {
+
+    /**
+     * 대상별 반영 결과와 반영 후 집계.
+     *
+     * @param targetType 대상 종류 ("post" / "comment")
+     * @param targetId   대상 ID
+     * @param applied    반영 여부 (false 면 대상이 없거나 투표할 수 없는 상태)
+     * @param error      반영하지 않은 사유 코드 (applied = true 면 null)
+     * @param upCount    반영 후 추천 수 (대상이 없으면 null)
+     * @param downCount  반영 후 비추천 수 (대상이 없으면 null)
+     * @param myVote     반영 후 나의 투표값 (-1 / 0 / 1)
+     */
+    public record Tally(
+            String targetType,
+            String targetId,
+            boolean applied,
+            @Nullable String error,
+            @Nullable Integer upCount,
+            @Nullable Integer downCount,
+            int myVote
+    ) {
+        @Builder
+        public Tally {}
+    }
+}
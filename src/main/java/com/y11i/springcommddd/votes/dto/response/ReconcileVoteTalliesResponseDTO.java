@@ -0,0 +1,30 @@
+package com.y11i.springcommddd.votes.dto.response;
+
+import com.y11i.springcommddd.votes.application.port.in.ReconcileVoteTalliesUseCase;
+
+/**
+ * 투표 집계 대사 결과.
+ *
+ * @param scannedPosts          확인한 게시글 수
+ * @param repairedPosts         추천/비추천 수를 바로잡은 게시글 수
+ * @param repairedCommentCounts 댓글 수를 바로잡은 게시글 수
+ * @param scannedComments       확인한 댓글 수
+ * @param repairedComments      바로잡은 댓글 수
+ */
+public record ReconcileVoteTalliesResponseDTO(
+        long scannedPosts,
+        long repairedPosts,
+        long repairedCommentCounts,
+        long scannedComments,
+        long repairedComments
+) {
+    public static ReconcileVoteTalliesResponseDTO from(ReconcileVoteTalliesUseCase.Result result) {
+        return new ReconcileVoteTalliesResponseDTO(
+                result.scannedPosts(),
+                result.repairedPosts(),
+                result.repairedCommentCounts(),
+                result.scannedComments(),
+                result.repairedComments()
+        );
+    }
+}
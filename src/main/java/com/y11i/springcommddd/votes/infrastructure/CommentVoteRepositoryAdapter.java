@@ -73,4 +73,11 @@ public class CommentVoteRepositoryAdapter implements CommentVoteRepository {
                 .map(r -> new MyCommentVote(new CommentId(r.getId()), r.getValue()))
                 .toList();
     }
+
+    /** {@inheritDoc} */
+    @Override @Transactional
+    public int deleteAllByCommentIds(Collection<CommentId> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) return 0;
+        return jpaCommentVoteRepository.deleteAllByCommentIds(commentIds);
+    }
 }
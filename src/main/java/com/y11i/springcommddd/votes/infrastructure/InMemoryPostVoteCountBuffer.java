@@ -0,0 +1,49 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.common.buffer.DeltaBuffer;
+import com.y11i.springcommddd.posts.application.port.out.UpdatePostCountersPort.VoteCountDelta;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.out.BufferPostVoteCountPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 노드 메모리에 게시글별 투표 증감분을 모으는 {@link BufferPostVoteCountPort} 구현체.
+ *
+ * <p>
+ * 누적과 꺼내기는 {@link DeltaBuffer} 에 맡기고, 롤백된 투표가 섞이지 않도록 커밋 이후에 누적한다.
+ * </p>
+ */
+@Component
+public class InMemoryPostVoteCountBuffer implements BufferPostVoteCountPort {
+
+    private record Delta(int up, int down) {
+        Delta plus(Delta other) {
+            return new Delta(up + other.up, down + other.down);
+        }
+
+        boolean isZero() {
+            return up == 0 && down == 0;
+        }
+    }
+
+    private final DeltaBuffer<PostId, Delta> buffer = new DeltaBuffer<>(Delta::plus, Delta::isZero);
+
+    @Override
+    public void add(PostId postId, int upDelta, int downDelta) {
+        buffer.addAfterCommit(postId, new Delta(upDelta, downDelta));
+    }
+
+    @Override
+    public List<VoteCountDelta> drain() {
+        return buffer.drain().entrySet().stream()
+                .map(e -> new VoteCountDelta(e.getKey(), e.getValue().up(), e.getValue().down()))
+                .toList();
+    }
+
+    @Override
+    public boolean hasPending(PostId postId) {
+        return buffer.hasPending(postId);
+    }
+}
@@ -4,7 +4,9 @@ import com.y11i.springcommddd.iam.domain.MemberId;
 import com.y11i.springcommddd.posts.domain.PostId;
 import com.y11i.springcommddd.votes.domain.PostVote;
 import com.y11i.springcommddd.votes.domain.PostVoteId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -60,4 +62,85 @@ public interface JpaPostVoteRepository extends JpaRepository<PostVote, PostVoteI
         UUID getId();   // post_id
         int getValue(); // -1 or +1
     }
+
+    /**
+     * {@code after} 보다 큰 투표자 ID 를 ID 순으로 중복 없이 조회합니다. (키셋 페이지 단위 전체 순회용)
+     */
+    @Query("""
+        select distinct v.voterId.id
+        from PostVote v
+        where v.voterId.id > :after
+        order by v.voterId.id
+    """)
+    List<UUID> findVoterIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * 대상별 추천(+1) / 비추천(-1) 투표 수를 집계합니다. (투표가 없는 대상은 결과에 없음)
+     */
+    @Query("""
+        select v.postId.id as id,
+               sum(case when v.value = 1 then 1 else 0 end) as up,
+               sum(case when v.value = -1 then 1 else 0 end) as down
+        from PostVote v
+        where v.postId.id in :ids
+        group by v.postId.id
+    """)
+    List<VoteCountRow> countVotesByTargetIds(@Param("ids") Collection<UUID> ids);
+
+    interface VoteCountRow {
+        UUID getId();
+        long getUp();
+        long getDown();
+    }
+
+    // -------------------- 투표 엔진 (네이티브) --------------------
+
+    /**
+     * (대상, 투표자) 유니크 키로 투표를 upsert 합니다.
+     *
+     * <p>
+     * 영향 행 수: 새로 삽입 1, 다른 값에서 변경 2, 같은 값이면 0
+     * (드라이버가 found rows 를 돌려주는 경우 1).
+     * </p>
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        insert into post_votes (post_vote_id, post_id, voter_id, value)
+        values (:voteId, :postId, :voterId, :value)
+        on duplicate key update value = :value
+    """)
+    int upsertValue(@Param("voteId") UUID voteId,
+                    @Param("postId") UUID postId,
+                    @Param("voterId") UUID voterId,
+                    @Param("value") int value);
+
+    /**
+     * 값이 일치하는 투표를 삭제합니다.
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        delete from post_votes
+        where post_id = :postId and voter_id = :voterId and value = :value
+    """)
+    int deleteIfValue(@Param("postId") UUID postId,
+                      @Param("voterId") UUID voterId,
+                      @Param("value") int value);
+
+    /**
+     * 값이 일치하고 주어진 ID 가 아닌(= 방금 삽입한 행이 아닌) 투표를 삭제합니다.
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        delete from post_votes
+        where post_id = :postId and voter_id = :voterId and value = :value
+          and post_vote_id <> :keepVoteId
+    """)
+    int deleteIfValueExcept(@Param("postId") UUID postId,
+                            @Param("voterId") UUID voterId,
+                            @Param("value") int value,
+                            @Param("keepVoteId") UUID keepVoteId);
 }
@@ -0,0 +1,71 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * 기동 직후 투표자 필터가 준비되지 않았으면 재구성한다. (최초 배포, Redis 초기화 후)
+ * 운영 중 준비 표시가 사라진 경우에는 {@link VoterFilterRepairScheduler} 가 같은 재구성을 호출한다.
+ *
+ * <p>
+ * {@code post_votes} / {@code comment_votes} 의 투표자 ID 를 {@value #BATCH_SIZE}건씩 키셋으로 읽어
+ * 필터에 넣는다. 여러 노드가 동시에 떠도 재구성 잠금으로 한 노드만 수행하며,
+ * 끝나기 전까지 조회는 필터 없이 캐시/DB 를 사용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyVoteCacheInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final RedisMyVoteCache myVoteCache;
+    private final JpaPostVoteRepository jpaPostVoteRepository;
+    private final JpaCommentVoteRepository jpaCommentVoteRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildVoterFilterIfNotReady() {
+        try {
+            if (myVoteCache.isVoterFilterReady() || !myVoteCache.beginVoterFilterRebuild()) return;
+
+            long voters = addAll(jpaPostVoteRepository::findVoterIdsAfter)
+                    + addAll(jpaCommentVoteRepository::findVoterIdsAfter);
+            myVoteCache.finishVoterFilterRebuild();
+            log.info("voter filter rebuilt: {} ids", voters);
+        } catch (DataAccessException e) {
+            log.warn("voter filter initialization failed; my-vote lookups will skip the filter", e);
+        }
+    }
+
+    private long addAll(BiFunction<UUID, PageRequest, List<UUID>> findAfter) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        long added = 0;
+        UUID after = MIN_ID;
+        while (true) {
+            UUID cursor = after;
+            List<UUID> ids = tx.execute(status -> findAfter.apply(cursor, PageRequest.of(0, BATCH_SIZE)));
+            if (ids == null || ids.isEmpty()) return added;
+
+            myVoteCache.addVoters(ids);
+            added += ids.size();
+            if (ids.size() < BATCH_SIZE) return added;
+            after = ids.get(ids.size() - 1);
+        }
+    }
+}
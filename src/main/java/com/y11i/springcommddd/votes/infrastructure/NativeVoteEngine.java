@@ -0,0 +1,97 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.out.CastVotePort;
+import com.y11i.springcommddd.votes.domain.VoteChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 네이티브 upsert/delete 로 투표를 반영하는 {@link CastVotePort} 구현체 (MariaDB/MySQL).
+ *
+ * <p><b>방향 투표(desired = ±1)</b></p>
+ * <ol>
+ *   <li>{@code INSERT ... ON DUPLICATE KEY UPDATE value = d} — 행이 없으면 삽입, 반대 값이면 d 로 변경(영향 행 2).
+ *       유니크 키 행을 바로 잠그므로 같은 투표자의 동시 첫 투표도 중복 키 예외 없이 차례로 처리된다.</li>
+ *   <li>영향 행이 2 가 아니면(삽입이거나 이미 d) 방금 삽입한 행이 아닌 d 행을 삭제해 본다.
+ *       지워지면 토글 취소(d → 0), 아니면 새 투표(0 → d).</li>
+ * </ol>
+ *
+ * <p><b>취소(desired = 0)</b>: +1 행, -1 행 순서로 조건부 삭제.</p>
+ *
+ * <p>
+ * 어느 경우든 실제로 쓰는 행은 하나이고, 기존 투표를 먼저 조회하지 않는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NativeVoteEngine implements CastVotePort {
+    private final JpaPostVoteRepository jpaPostVoteRepository;
+    private final JpaCommentVoteRepository jpaCommentVoteRepository;
+
+    /** 한 대상 테이블(post_votes / comment_votes)에 대한 네이티브 연산 */
+    private interface VoteRows {
+        int upsert(UUID voteId, int value);
+        int deleteIfValue(int value);
+        int deleteIfValueExcept(int value, UUID keepVoteId);
+    }
+
+    @Override
+    @Transactional
+    public VoteChange castPostVote(PostId postId, MemberId voterId, int desired) {
+        UUID target = postId.id();
+        UUID voter = voterId.id();
+        return cast(desired, new VoteRows() {
+            @Override public int upsert(UUID voteId, int value) {
+                return jpaPostVoteRepository.upsertValue(voteId, target, voter, value);
+            }
+            @Override public int deleteIfValue(int value) {
+                return jpaPostVoteRepository.deleteIfValue(target, voter, value);
+            }
+            @Override public int deleteIfValueExcept(int value, UUID keepVoteId) {
+                return jpaPostVoteRepository.deleteIfValueExcept(target, voter, value, keepVoteId);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public VoteChange castCommentVote(CommentId commentId, MemberId voterId, int desired) {
+        UUID target = commentId.id();
+        UUID voter = voterId.id();
+        return cast(desired, new VoteRows() {
+            @Override public int upsert(UUID voteId, int value) {
+                return jpaCommentVoteRepository.upsertValue(voteId, target, voter, value);
+            }
+            @Override public int deleteIfValue(int value) {
+                return jpaCommentVoteRepository.deleteIfValue(target, voter, value);
+            }
+            @Override public int deleteIfValueExcept(int value, UUID keepVoteId) {
+                return jpaCommentVoteRepository.deleteIfValueExcept(target, voter, value, keepVoteId);
+            }
+        });
+    }
+
+    private VoteChange cast(int desired, VoteRows rows) {
+        if (desired == 0) {
+            if (rows.deleteIfValue(1) > 0) return new VoteChange(1, 0);
+            if (rows.deleteIfValue(-1) > 0) return new VoteChange(-1, 0);
+            return new VoteChange(0, 0);
+        }
+
+        UUID voteId = UUID.randomUUID();
+        if (rows.upsert(voteId, desired) == 2) {
+            return new VoteChange(-desired, desired); // 반대 값 → desired
+        }
+        if (rows.deleteIfValueExcept(desired, voteId) > 0) {
+            return new VoteChange(desired, 0);        // 같은 값 다시 누름 → 취소
+        }
+        return new VoteChange(0, desired);             // 새 투표
+    }
+}
@@ -0,0 +1,30 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.common.buffer.DeltaFlushScheduler;
+import com.y11i.springcommddd.votes.application.port.in.FlushPostVoteCountsUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버퍼에 모인 게시글 투표 집계를 주기적으로 DB 에 반영하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code votes.post-counter.flush-delay-ms} (기본 1초)<br>
+ * - 종료 시 남은 증감분을 한 번 더 반영한다.
+ * </p>
+ */
+@Component
+public class PostVoteCountFlushScheduler extends DeltaFlushScheduler {
+
+    public PostVoteCountFlushScheduler(FlushPostVoteCountsUseCase flushPostVoteCountsUseCase) {
+        super("post vote count", flushPostVoteCountsUseCase::flush);
+    }
+
+    @Scheduled(
+            initialDelayString = "${votes.post-counter.flush-delay-ms:1000}",
+            fixedDelayString = "${votes.post-counter.flush-delay-ms:1000}"
+    )
+    public void flush() {
+        runFlush();
+    }
+}
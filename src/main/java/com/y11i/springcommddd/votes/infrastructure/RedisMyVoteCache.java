@@ -0,0 +1,272 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Redis 해시 기반 "내 투표값" 캐시 ({@link MyVoteCachePort} 구현체).
+ *
+ * <p><b>키</b></p>
+ * <ul>
+ *   <li>{@code myVote:p:{memberId}} — 게시글 투표값 해시 (field = postId, value = -1/0/1)</li>
+ *   <li>{@code myVote:c:{memberId}} — 댓글 투표값 해시 (field = commentId)</li>
+ *   <li>{@code myVote:voters} — 한 번이라도 투표한 회원 ID 집합 (투표자 필터)</li>
+ *   <li>{@code myVote:meta:votersReady} — 투표자 필터 재구성이 끝났는지</li>
+ *   <li>{@code myVote:meta:rebuilding} — 재구성 잠금 (TTL)</li>
+ * </ul>
+ *
+ * <p>
+ * 조회자별 해시는 마지막으로 채우거나 기록한 시점부터 {@code votes.my-vote-cache.ttl-ms} 동안 유지된다.
+ * Redis 오류 시 조회는 "모름"(빈 결과 / 필터 미사용)으로 응답해 DB 조회로 대체된다.
+ * 투표 기록이 실패하면 조회자 해시를 지우고, 투표자 필터에 투표자를 다시 넣는다.
+ * 다시 넣지도 못하면(Redis 장애) 투표자를 노드 메모리에 남겨 두고 필터의 준비 표시를 지우려 한다.
+ * 남겨 둔 투표자는 이 노드에서 필터를 거치지 않고 DB 로 조회하며,
+ * {@code VoterFilterRepairScheduler} 가 Redis 가 돌아오는 대로 필터에 다시 넣는다.
+ * 준비 표시가 지워졌거나 사라졌으면 같은 스케줄러가 필터를 재구성한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMyVoteCache implements MyVoteCachePort {
+
+    private static final String POST_PREFIX = "myVote:p:";
+    private static final String COMMENT_PREFIX = "myVote:c:";
+    private static final String VOTERS_KEY = "myVote:voters";
+    private static final String VOTERS_READY_KEY = "myVote:meta:votersReady";
+    private static final String REBUILD_LOCK_KEY = "myVote:meta:rebuilding";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    /** 노드 메모리에 남겨 두는 최대 투표자 수 (넘으면 필터 자체를 끈다) */
+    private static final int MAX_UNRECORDED_VOTERS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /** 투표자 필터에 넣지 못한 투표자 (Redis 가 돌아오면 다시 넣는다) */
+    private final Set<String> unrecordedVoters = ConcurrentHashMap.newKeySet();
+    /** 넣지 못한 투표자가 너무 많아 필터의 준비 표시를 지워야 하는지 */
+    private final AtomicBoolean filterDisableRequired = new AtomicBoolean();
+
+    /** 조회자별 해시 유지 시간 */
+    @Value("${votes.my-vote-cache.ttl-ms:3600000}")
+    private long ttlMs;
+
+    // ----------------------------------------------------
+    // 조회
+    // ----------------------------------------------------
+
+    @Override
+    public boolean hasNeverVoted(MemberId viewerId) {
+        // 필터에 넣지 못한 투표가 있으면 필터를 믿지 않는다.
+        if (filterDisableRequired.get() || unrecordedVoters.contains(viewerId.stringify())) return false;
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(VOTERS_READY_KEY))) return false;
+            return !Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(VOTERS_KEY, viewerId.stringify()));
+        } catch (DataAccessException e) {
+            log.debug("voter filter read failed", e);
+            return false;
+        }
+    }
+
+    @Override
+    public Map<UUID, Integer> getAll(Target target, MemberId viewerId, Collection<UUID> targetIds) {
+        if (targetIds.isEmpty()) return Map.of();
+        List<UUID> ids = new ArrayList<>(targetIds);
+        List<Object> fields = new ArrayList<>(ids.size());
+        ids.forEach(id -> fields.add(id.toString()));
+
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(target, viewerId), fields);
+            Map<UUID, Integer> result = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Object v = values.get(i);
+                if (v != null) result.put(ids.get(i), Integer.parseInt(v.toString()));
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.debug("my vote cache read failed", e);
+            return Map.of();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 갱신
+    // ----------------------------------------------------
+
+    @Override
+    public void fill(Target target, MemberId viewerId, Map<UUID, Integer> values) {
+        if (values.isEmpty()) return;
+        String key = key(target, viewerId);
+        try {
+            pipelined(conn -> {
+                // HSETNX: 조회와 투표가 겹쳐도 투표가 기록한 값을 DB 에서 읽은 이전 값으로 덮어쓰지 않는다.
+                values.forEach((id, value) -> conn.hSetNX(key, id.toString(), value.toString()));
+                conn.pExpire(key, ttlMs);
+            });
+        } catch (DataAccessException e) {
+            log.debug("my vote cache fill failed", e);
+        }
+    }
+
+    @Override
+    public void record(Target target, MemberId viewerId, UUID targetId, int value) {
+        String key = key(target, viewerId);
+        String member = viewerId.stringify();
+        afterCommit(() -> {
+            try {
+                pipelined(conn -> {
+                    conn.sAdd(VOTERS_KEY, member);
+                    conn.hSet(key, targetId.toString(), Integer.toString(value));
+                    conn.pExpire(key, ttlMs);
+                });
+            } catch (DataAccessException e) {
+                // 파이프라인 중 어디까지 반영됐는지 모르므로 투표자 필터부터 맞춘다. (빠지면 "투표한 적 없음"으로 투표가 가려진다)
+                keepVoterFilterSafe(member);
+                // 이전 값이 남지 않도록 해당 조회자의 캐시를 지워 DB 에서 다시 읽게 한다.
+                redisTemplate.delete(key);
+                throw e;
+            }
+        });
+    }
+
+    // ----------------------------------------------------
+    // 투표자 필터 재구성
+    // ----------------------------------------------------
+
+    /**
+     * 필터에 넣지 못한 투표자를 다시 넣는다. 넣지 못한 투표자가 너무 많았으면 필터의 준비 표시를 지운다. (재구성 대상)
+     *
+     * @throws DataAccessException Redis 를 아직 쓸 수 없으면 (남겨 둔 투표자는 그대로 유지)
+     */
+    public void repairVoterFilter() {
+        if (filterDisableRequired.compareAndSet(true, false)) {
+            try {
+                redisTemplate.delete(VOTERS_READY_KEY);
+            } catch (DataAccessException e) {
+                filterDisableRequired.set(true);
+                throw e;
+            }
+            log.info("voter filter disabled until it is rebuilt");
+        }
+        if (unrecordedVoters.isEmpty()) return;
+
+        List<String> members = List.copyOf(unrecordedVoters);
+        redisTemplate.opsForSet().add(VOTERS_KEY, members.toArray(String[]::new));
+        members.forEach(unrecordedVoters::remove);
+        log.info("voter filter repaired: {} voters re-added", members.size());
+    }
+
+    /**
+     * 투표자 필터가 재구성되어 조회에 써도 되는지.
+     */
+    public boolean isVoterFilterReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(VOTERS_READY_KEY));
+    }
+
+    /**
+     * 재구성 잠금을 잡고 기존 필터를 비운다.
+     *
+     * @return 다른 노드가 이미 재구성 중이면 false
+     */
+    public boolean beginVoterFilterRebuild() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return false;
+
+        // 재구성 중에 들어온 투표는 record() 가 SADD 하므로 지운 뒤 다시 채워도 빠지지 않는다.
+        redisTemplate.delete(List.of(VOTERS_READY_KEY, VOTERS_KEY));
+        return true;
+    }
+
+    public void addVoters(List<UUID> voterIds) {
+        if (voterIds.isEmpty()) return;
+        String[] members = voterIds.stream().map(UUID::toString).toArray(String[]::new);
+        redisTemplate.opsForSet().add(VOTERS_KEY, members);
+    }
+
+    public void finishVoterFilterRebuild() {
+        redisTemplate.opsForValue().set(VOTERS_READY_KEY, Instant.now().toString());
+        redisTemplate.delete(REBUILD_LOCK_KEY);
+    }
+
+    // ----------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------
+
+    private static String key(Target target, MemberId viewerId) {
+        return (target == Target.POST ? POST_PREFIX : COMMENT_PREFIX) + viewerId.stringify();
+    }
+
+    /**
+     * 투표자를 필터에 다시 넣는다.
+     * 그것도 실패하면 투표자를 노드 메모리에 남겨 {@link #repairVoterFilter()} 가 다시 넣게 하고,
+     * 그 사이 다른 노드가 필터를 쓰지 않도록 준비 표시를 지워 본다.
+     */
+    private void keepVoterFilterSafe(String member) {
+        try {
+            redisTemplate.opsForSet().add(VOTERS_KEY, member);
+        } catch (DataAccessException e) {
+            log.warn("voter filter update failed, the voter is kept until Redis recovers", e);
+            if (unrecordedVoters.size() >= MAX_UNRECORDED_VOTERS) {
+                filterDisableRequired.set(true);
+                unrecordedVoters.clear();
+            } else {
+                unrecordedVoters.add(member);
+            }
+            try {
+                redisTemplate.delete(VOTERS_READY_KEY);
+            } catch (DataAccessException ignored) {
+                // Redis 를 전혀 쓸 수 없으면 다른 노드도 필터를 읽지 못해 DB 로 조회한다. 복구는 repairVoterFilter() 가 맡는다.
+            }
+        }
+    }
+
+    private void pipelined(Consumer<StringRedisConnection> commands) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                // 캐시 갱신 실패가 이미 커밋된 투표를 실패시키지 않도록 기록만 한다.
+                log.warn("my vote cache update failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.comments.domain.CommentId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.out.CountVotesPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CountVotesPort} 의 JPA 기반 구현체.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VoteCountAdapter implements CountVotesPort {
+    private final JpaPostVoteRepository jpaPostVoteRepository;
+    private final JpaCommentVoteRepository jpaCommentVoteRepository;
+
+    @Override
+    public Map<PostId, VoteCount> countPostVotes(Collection<PostId> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<PostId, VoteCount> result = new HashMap<>();
+        for (JpaPostVoteRepository.VoteCountRow row
+                : jpaPostVoteRepository.countVotesByTargetIds(postIds.stream().map(PostId::id).toList())) {
+            result.put(new PostId(row.getId()), new VoteCount((int) row.getUp(), (int) row.getDown()));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<CommentId, VoteCount> countCommentVotes(Collection<CommentId> commentIds) {
+        if (commentIds.isEmpty()) return Map.of();
+        Map<CommentId, VoteCount> result = new HashMap<>();
+        for (JpaCommentVoteRepository.VoteCountRow row
+                : jpaCommentVoteRepository.countVotesByTargetIds(commentIds.stream().map(CommentId::id).toList())) {
+            result.put(new CommentId(row.getId()), new VoteCount((int) row.getUp(), (int) row.getDown()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import com.y11i.springcommddd.common.lock.JobLock;
+import com.y11i.springcommddd.votes.application.port.in.ReconcileVoteTalliesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글/댓글 투표 집계를 주기적으로 대사하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code votes.reconcile.cron} (기본 매일 04:30, {@code "-"} 면 비활성화)<br>
+ * - 묶음 크기와 묶음 사이 대기 시간은 {@code votes.reconcile.chunk-size} / {@code votes.reconcile.pause-ms}<br>
+ * - 모든 노드에서 cron 이 돌지만 {@link JobLock} 을 잡은 한 노드만 대사한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyReconcileScheduler {
+    private static final String LOCK_NAME = "voteTallyReconcile";
+    private static final Duration LOCK_TTL = Duration.ofHours(3);
+
+    private final ReconcileVoteTalliesUseCase reconcileVoteTalliesUseCase;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${votes.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            jobLock.runExclusive(LOCK_NAME, LOCK_TTL, reconcileVoteTalliesUseCase::reconcileAll);
+        } catch (RuntimeException e) {
+            log.warn("vote tally reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.y11i.springcommddd.votes.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표자 필터를 주기적으로 점검해 복구하는 스케줄러.
+ *
+ * <p>
+ * - 주기: {@code votes.voter-filter.repair-delay-ms} (기본 1초)<br>
+ * - Redis 장애로 필터에 넣지 못하고 노드에 남겨 둔 투표자를 다시 넣는다. ({@link RedisMyVoteCache#repairVoterFilter()})<br>
+ * - 필터의 준비 표시가 없으면(기록 실패로 지웠거나 Redis 데이터가 사라짐) 재구성한다.
+ *   재구성 잠금을 잡은 한 노드만 수행하며, 그 전까지 조회는 필터 없이 캐시/DB 를 사용한다.<br>
+ * - Redis 를 쓸 수 없는 동안에는 아무것도 하지 않고 다음 주기에 다시 시도한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoterFilterRepairScheduler {
+    private final RedisMyVoteCache myVoteCache;
+    private final MyVoteCacheInitializer myVoteCacheInitializer;
+
+    @Scheduled(
+            initialDelayString = "${votes.voter-filter.repair-delay-ms:1000}",
+            fixedDelayString = "${votes.voter-filter.repair-delay-ms:1000}"
+    )
+    public void repair() {
+        try {
+            myVoteCache.repairVoterFilter();
+            if (!myVoteCache.isVoterFilterReady()) myVoteCacheInitializer.rebuildVoterFilterIfNotReady();
+        } catch (DataAccessException e) {
+            log.debug("voter filter repair skipped, Redis is unavailable", e);
+        }
+    }
+}
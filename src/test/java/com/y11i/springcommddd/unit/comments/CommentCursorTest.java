@@ -0,0 +1,49 @@
+package com.y11i.springcommddd.unit.comments;
+
+import com.y11i.springcommddd.comments.domain.exception.InvalidCommentCursor;
+import com.y11i.springcommddd.comments.dto.internal.CommentCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CommentCursorTest {
+
+    @Test
+    @DisplayName("given cursor, when encode then decode, then same values are restored")
+    void givenCursor_whenRoundTrip_thenRestored() {
+        // Given
+        var cursor = new CommentCursor("best", -2, 0.4458565743566374, 81.57874740046563,
+                Instant.parse("2025-01-02T03:04:05.123456Z"), UUID.randomUUID());
+
+        // When
+        var decoded = CommentCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("given malformed string, when decode, then InvalidCommentCursor")
+    void givenMalformed_whenDecode_thenThrow() {
+        assertThatThrownBy(() -> CommentCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCommentCursor.class);
+        assertThatThrownBy(() -> CommentCursor.decode("%%%"))
+                .isInstanceOf(InvalidCommentCursor.class);
+    }
+
+    @Test
+    @DisplayName("given cursor issued for top, when ensureSort controversial, then InvalidCommentCursor")
+    void givenSortMismatch_whenEnsureSort_thenThrow() {
+        // Given
+        var cursor = new CommentCursor("top", 3, 0d, 0d, Instant.now(), UUID.randomUUID());
+
+        // When/Then
+        assertThatCode(() -> cursor.ensureSort("TOP")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> cursor.ensureSort("controversial"))
+                .isInstanceOf(InvalidCommentCursor.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.y11i.springcommddd.unit.comments;
+
+import com.y11i.springcommddd.comments.domain.Comment;
+import com.y11i.springcommddd.comments.domain.CommentRanking;
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CommentRankingTest {
+
+    @Test
+    @DisplayName("best: 투표가 적은 높은 비율보다 투표가 많은 높은 비율이 앞선다")
+    void best_prefers_larger_sample() {
+        assertThat(CommentRanking.best(0, 0)).isZero();
+        assertThat(CommentRanking.best(100, 10)).isGreaterThan(CommentRanking.best(1, 0));
+        assertThat(CommentRanking.best(10, 0)).isGreaterThan(CommentRanking.best(10, 5));
+        assertThat(CommentRanking.best(1000, 0)).isBetween(0d, 1d);
+    }
+
+    @Test
+    @DisplayName("controversy: 한쪽 투표가 없으면 0, 팽팽하고 많을수록 크다")
+    void controversy_prefers_balanced_and_large() {
+        assertThat(CommentRanking.controversy(10, 0)).isZero();
+        assertThat(CommentRanking.controversy(50, 48)).isGreaterThan(CommentRanking.controversy(100, 10));
+        assertThat(CommentRanking.controversy(50, 50)).isGreaterThan(CommentRanking.controversy(5, 5));
+        assertThat(CommentRanking.controversy(3, 7)).isEqualTo(CommentRanking.controversy(7, 3));
+    }
+
+    @Test
+    @DisplayName("applyVoteDelta: 정렬 점수가 추천/비추천 수에 맞게 다시 계산된다")
+    void applyVoteDelta_recalculates_ranking() {
+        var c = Comment.createRoot(PostId.newId(), MemberId.newId(), "body");
+
+        c.applyVoteDelta(0, 1);
+
+        assertThat(c.score()).isEqualTo(1);
+        assertThat(c.bestScore()).isEqualTo(CommentRanking.best(1, 0));
+        assertThat(c.controversy()).isZero();
+    }
+}
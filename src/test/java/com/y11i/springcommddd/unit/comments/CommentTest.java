@@ -8,6 +8,8 @@ import com.y11i.springcommddd.posts.domain.PostId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
@@ -69,6 +71,35 @@ public class CommentTest {
 //        assertThat(c.depth()).isEqualTo(0);
 //    }
 //
+    // --- 경로: 자식 경로는 부모 경로로 시작하고 깊이와 일치 ---
+    @Test
+    @DisplayName("replyTo: path = 부모 path + 세그먼트, depthOf(path) == depth")
+    void replyTo_path_extends_parent_path() {
+        var postId = PostId.newId();
+        var root = Comment.createRoot(postId, MemberId.newId(), "root");
+        var child = Comment.replyTo(postId, MemberId.newId(), root, "child");
+        var grandChild = Comment.replyTo(postId, MemberId.newId(), child, "grand child");
+
+        assertSoftly(s -> {
+            s.assertThat(root.path()).hasSize(CommentPath.SEGMENT_LENGTH);
+            s.assertThat(child.path()).startsWith(root.path()).hasSize(CommentPath.SEGMENT_LENGTH * 2);
+            s.assertThat(grandChild.path()).startsWith(child.path());
+            s.assertThat(CommentPath.depthOf(grandChild.path())).isEqualTo(grandChild.depth());
+        });
+    }
+
+    // --- 경로: 형제는 작성 시각 순으로 정렬 ---
+    @Test
+    @DisplayName("CommentPath: 같은 부모 아래 형제 경로는 작성 시각 순으로 정렬된다")
+    void sibling_paths_sort_by_creation_time() {
+        var parentPath = CommentPath.childOf(null, Instant.parse("2025-01-01T00:00:00Z"), CommentId.newId());
+        var earlier = CommentPath.childOf(parentPath, Instant.parse("2025-01-01T00:00:01Z"), CommentId.newId());
+        var later = CommentPath.childOf(parentPath, Instant.parse("2025-01-01T00:00:02Z"), CommentId.newId());
+
+        assertThat(earlier).isLessThan(later);
+        assertThat(parentPath).isLessThan(earlier);
+    }
+
     // --- 수정: 삭제 상태가 아니면 edit 가능 ---
     @Test
     @DisplayName("edit: 삭제 상태가 아니면 본문 수정 가능")
@@ -0,0 +1,53 @@
+package com.y11i.springcommddd.unit.common;
+
+import com.y11i.springcommddd.common.buffer.DeltaBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("[Common] DeltaBuffer unit tests")
+class DeltaBufferTest {
+
+    private record Add(String key, int delta) {}
+
+    static Stream<Arguments> scenarios() {
+        return Stream.of(
+                Arguments.of("several deltas for one key are merged",
+                        List.of(new Add("a", 1), new Add("a", 1), new Add("a", -1), new Add("a", 1)),
+                        Map.of("a", 2)),
+                Arguments.of("a burst on one key is coalesced per key",
+                        List.of(new Add("hot", 1), new Add("hot", 1), new Add("hot", 1), new Add("other", 1)),
+                        Map.of("hot", 3, "other", 1)),
+                Arguments.of("deltas that cancel out are not drained",
+                        List.of(new Add("a", 1), new Add("a", -1), new Add("b", -1)),
+                        Map.of("b", -1)),
+                Arguments.of("zero deltas are ignored",
+                        List.of(new Add("a", 0)),
+                        Map.of())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    @DisplayName("given deltas, when drain, then merged non-zero deltas are returned and the buffer is emptied")
+    void givenDeltas_whenDrain_thenMergedAndEmptied(String scenario, List<Add> adds, Map<String, Integer> expected) {
+        // Given
+        var buffer = new DeltaBuffer<String, Integer>(Integer::sum, d -> d == 0);
+        adds.forEach(a -> buffer.add(a.key(), a.delta()));
+
+        // When
+        var drained = buffer.drain();
+
+        // Then
+        assertThat(drained).isEqualTo(expected);
+        assertThat(buffer.drain()).isEmpty();
+        adds.forEach(a -> assertThat(buffer.hasPending(a.key())).isFalse());
+    }
+}
@@ -0,0 +1,46 @@
+package com.y11i.springcommddd.unit.posts;
+
+import com.y11i.springcommddd.posts.domain.HotScore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HotScoreTest {
+
+    @Test
+    @DisplayName("given same publish time, when score is higher, then hot score is higher")
+    void givenSameTime_whenHigherScore_thenHigher() {
+        Instant t = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(HotScore.compute(100, t)).isGreaterThan(HotScore.compute(10, t));
+        assertThat(HotScore.compute(10, t)).isGreaterThan(HotScore.compute(0, t));
+        assertThat(HotScore.compute(0, t)).isGreaterThan(HotScore.compute(-10, t));
+    }
+
+    @Test
+    @DisplayName("given same score, when published later, then hot score is higher")
+    void givenSameScore_whenLater_thenHigher() {
+        Instant t = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(HotScore.compute(5, t.plus(Duration.ofHours(1)))).isGreaterThan(HotScore.compute(5, t));
+    }
+
+    @Test
+    @DisplayName("given 45000 seconds later, then equals a tenfold score")
+    void givenDecayWindow_thenEqualsTenfoldScore() {
+        Instant t = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(HotScore.compute(1, t.plusSeconds(45000)))
+                .isCloseTo(HotScore.compute(10, t), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("given unpublished post, then hot score is zero")
+    void givenUnpublished_thenZero() {
+        assertThat(HotScore.compute(42, null)).isZero();
+    }
+}
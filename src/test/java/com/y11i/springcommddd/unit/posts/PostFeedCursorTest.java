@@ -0,0 +1,48 @@
+package com.y11i.springcommddd.unit.posts;
+
+import com.y11i.springcommddd.posts.domain.exception.InvalidFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PostFeedCursorTest {
+
+    @Test
+    @DisplayName("given cursor, when encode then decode, then same values are restored")
+    void givenCursor_whenRoundTrip_thenRestored() {
+        // Given
+        var cursor = new PostFeedCursor("top", -3, 1234.56789, Instant.parse("2025-01-02T03:04:05.123456789Z"), UUID.randomUUID());
+
+        // When
+        var decoded = PostFeedCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("given malformed string, when decode, then InvalidFeedCursor")
+    void givenMalformed_whenDecode_thenThrow() {
+        assertThatThrownBy(() -> PostFeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidFeedCursor.class);
+        assertThatThrownBy(() -> PostFeedCursor.decode("%%%"))
+                .isInstanceOf(InvalidFeedCursor.class);
+    }
+
+    @Test
+    @DisplayName("given cursor issued for new, when ensureSort hot, then InvalidFeedCursor")
+    void givenSortMismatch_whenEnsureSort_thenThrow() {
+        // Given
+        var cursor = new PostFeedCursor("new", 0, 0d, Instant.now(), UUID.randomUUID());
+
+        // When/Then
+        assertThatCode(() -> cursor.ensureSort("rising")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> cursor.ensureSort("hot"))
+                .isInstanceOf(InvalidFeedCursor.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.y11i.springcommddd.unit.posts;
+
+import com.y11i.springcommddd.posts.domain.exception.InvalidFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostFeedCursor;
+import com.y11i.springcommddd.posts.dto.internal.PostSearchCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PostSearchCursorTest {
+
+    @Test
+    @DisplayName("given cursor, when encode then decode, then same values are restored")
+    void givenCursor_whenRoundTrip_thenRestored() {
+        // Given
+        var cursor = new PostSearchCursor("relevance", 3.1415927f, 0, 1735787045123L, UUID.randomUUID());
+
+        // When
+        var decoded = PostSearchCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("given feed cursor or malformed string, when decode, then InvalidFeedCursor")
+    void givenForeignOrMalformed_whenDecode_thenThrow() {
+        var feedCursor = new PostFeedCursor("new", 0, 0d, Instant.now(), UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> PostSearchCursor.decode(feedCursor))
+                .isInstanceOf(InvalidFeedCursor.class);
+        assertThatThrownBy(() -> PostSearchCursor.decode("%%%"))
+                .isInstanceOf(InvalidFeedCursor.class);
+    }
+
+    @Test
+    @DisplayName("given cursor issued for new, when ensureSort relevance, then InvalidFeedCursor")
+    void givenSortMismatch_whenEnsureSort_thenThrow() {
+        // Given
+        var cursor = new PostSearchCursor("new", 0f, 0, 0L, UUID.randomUUID());
+
+        // When/Then
+        assertThatCode(() -> cursor.ensureSort("hot")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> cursor.ensureSort("relevance"))
+                .isInstanceOf(InvalidFeedCursor.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.y11i.springcommddd.unit.votes;
+
+import com.y11i.springcommddd.iam.domain.MemberId;
+import com.y11i.springcommddd.posts.domain.PostId;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort;
+import com.y11i.springcommddd.votes.application.port.out.MyVoteCachePort.Target;
+import com.y11i.springcommddd.votes.application.service.MyVoteQueryService;
+import com.y11i.springcommddd.votes.domain.CommentVoteRepository;
+import com.y11i.springcommddd.votes.domain.MyPostVote;
+import com.y11i.springcommddd.votes.domain.PostVoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MyVoteQueryService 단위 테스트.
+ * <p>
+ * 검증 범위:
+ *  - 투표자 필터에 없는 조회자는 캐시/DB 를 읽지 않는다
+ *  - 캐시에 있는 대상은 DB 를 읽지 않고, 없는 대상만 DB 에서 읽어 0 포함으로 채운다
+ */
+class MyVoteQueryServiceTest {
+
+    private final MyVoteCachePort cache = mock(MyVoteCachePort.class);
+    private final PostVoteRepository postVoteRepository = mock(PostVoteRepository.class);
+    private final CommentVoteRepository commentVoteRepository = mock(CommentVoteRepository.class);
+    private final MyVoteQueryService service = new MyVoteQueryService(cache, postVoteRepository, commentVoteRepository);
+
+    private final MemberId viewer = MemberId.newId();
+
+    @Test
+    @DisplayName("투표한 적 없는 조회자는 캐시와 DB 를 읽지 않고 빈 결과를 돌려준다")
+    void neverVoted_skipsLookups() {
+        // given
+        when(cache.hasNeverVoted(viewer)).thenReturn(true);
+
+        // when
+        Map<PostId, Integer> result = service.myPostVotes(viewer, List.of(PostId.newId()));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(cache, never()).getAll(any(), any(), any());
+        verifyNoInteractions(postVoteRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 대상만 DB 에서 읽고, 투표하지 않은 대상은 0 으로 채운다")
+    void cacheMiss_loadsOnlyMissingAndFills() {
+        // given
+        PostId cachedUp = PostId.newId();
+        PostId cachedNone = PostId.newId();
+        PostId missingDown = PostId.newId();
+        PostId missingNone = PostId.newId();
+
+        when(cache.getAll(eq(Target.POST), eq(viewer), anyCollection()))
+                .thenReturn(Map.of(cachedUp.id(), 1, cachedNone.id(), 0));
+        when(postVoteRepository.findMyVotesByPostIds(eq(viewer), anyCollection()))
+                .thenReturn(List.of(new MyPostVote(missingDown, -1)));
+
+        // when
+        Map<PostId, Integer> result = service.myPostVotes(viewer, List.of(cachedUp, cachedNone, missingDown, missingNone));
+
+        // then
+        assertThat(result).containsOnly(entry(cachedUp, 1), entry(missingDown, -1));
+        verify(postVoteRepository).findMyVotesByPostIds(eq(viewer), argThat((Collection<PostId> ids) ->
+                ids.size() == 2 && ids.containsAll(List.of(missingDown, missingNone))));
+        verify(cache).fill(Target.POST, viewer, Map.of(missingDown.id(), -1, missingNone.id(), 0));
+    }
+
+    @Test
+    @DisplayName("비로그인 조회자는 빈 결과")
+    void anonymous_returnsEmpty() {
+        assertThat(service.myPostVotes(null, List.of(PostId.newId()))).isEmpty();
+        assertThat(service.myCommentVotes(null, List.of())).isEmpty();
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("전부 캐시에 있으면 DB 를 읽지 않는다")
+    void allCached_skipsDatabase() {
+        UUID id = UUID.randomUUID();
+        when(cache.getAll(eq(Target.POST), eq(viewer), anyCollection())).thenReturn(Map.of(id, -1));
+
+        assertThat(service.myPostVotes(viewer, List.of(new PostId(id)))).containsOnly(entry(new PostId(id), -1));
+        verifyNoInteractions(postVoteRepository);
+        verify(cache, never()).fill(any(), any(), any());
+    }
+}
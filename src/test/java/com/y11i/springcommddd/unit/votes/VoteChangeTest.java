@@ -0,0 +1,40 @@
+package com.y11i.springcommddd.unit.votes;
+
+import com.y11i.springcommddd.votes.domain.VoteChange;
+import com.y11i.springcommddd.votes.domain.exception.InvalidVoteValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class VoteChangeTest {
+
+    @Test
+    @DisplayName("given existing vote, when decide, then toggle rules are applied")
+    void givenExisting_whenDecide_thenToggleRules() {
+        assertThat(VoteChange.decide(0, 1)).isEqualTo(new VoteChange(0, 1));
+        assertThat(VoteChange.decide(1, 1)).isEqualTo(new VoteChange(1, 0));
+        assertThat(VoteChange.decide(-1, 1)).isEqualTo(new VoteChange(-1, 1));
+        assertThat(VoteChange.decide(-1, -1)).isEqualTo(new VoteChange(-1, 0));
+        assertThat(VoteChange.decide(1, 0)).isEqualTo(new VoteChange(1, 0));
+        assertThat(VoteChange.decide(0, 0).changed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("given flip from down to up, when deltas, then up +1 and down -1")
+    void givenFlip_whenDeltas_thenBothCountersMove() {
+        // Given
+        var change = new VoteChange(-1, 1);
+
+        // When/Then
+        assertThat(change.upDelta()).isEqualTo(1);
+        assertThat(change.downDelta()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("given out of range value, when create, then InvalidVoteValue")
+    void givenOutOfRange_whenCreate_thenThrow() {
+        assertThatThrownBy(() -> new VoteChange(0, 2))
+                .isInstanceOf(InvalidVoteValue.class);
+    }
+}